@@ -37,6 +37,7 @@ public class ApplicationConfiguration {
 
     private boolean productionMode;
     private boolean requestTiming;
+    private boolean clientRenderTiming;
     private boolean webComponentMode;
 
     private String servletVersion;
@@ -320,6 +321,29 @@ public class ApplicationConfiguration {
         this.requestTiming = requestTiming;
     }
 
+    /**
+     * Checks if the time spent handling responses should be reported to the
+     * server.
+     *
+     * @return {@code true} if timings should be reported, {@code false}
+     *         otherwise
+     */
+    public boolean isClientRenderTiming() {
+        return clientRenderTiming;
+    }
+
+    /**
+     * Sets whether the time spent handling responses should be reported to
+     * the server.
+     *
+     * @param clientRenderTiming
+     *            {@code true} if timings should be reported, {@code false}
+     *            otherwise
+     */
+    public void setClientRenderTiming(boolean clientRenderTiming) {
+        this.clientRenderTiming = clientRenderTiming;
+    }
+
     /**
      * Sets the exported web components.
      *
@@ -160,6 +160,8 @@ public class Bootstrapper implements EntryPoint {
         conf.setProductionMode(!jsoConfiguration.getConfigBoolean("debug"));
         conf.setRequestTiming(
                 jsoConfiguration.getConfigBoolean("requestTiming"));
+        conf.setClientRenderTiming(
+                jsoConfiguration.getConfigBoolean("clientRenderTiming"));
         conf.setExportedWebComponents(
                 jsoConfiguration.getConfigStringArray("webcomponents"));
 
@@ -393,7 +393,7 @@ public class AtmospherePushConnection implements PushConnection {
      */
     protected void onMessage(AtmosphereResponse response) {
         String message = response.getResponseBody();
-        ValueMap json = MessageHandler.parseWrappedJson(message);
+        ValueMap json = registry.getMessageHandler().parseMessage(message);
         if (json == null) {
             // Invalid string (not wrapped as expected)
             getConnectionStateHandler().pushInvalidContent(this, message);
@@ -44,6 +44,7 @@ import com.vaadin.flow.shared.ui.LoadMode;
 
 import elemental.client.Browser;
 import elemental.dom.Node;
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
@@ -97,6 +98,24 @@ public class MessageHandler {
      */
     protected int totalProcessingTime;
 
+    /**
+     * Maximum number of response timings kept while waiting for the next
+     * message to the server.
+     */
+    private static final int MAX_PENDING_RENDER_TIMINGS = 10;
+
+    /**
+     * Holds the time spent parsing the last received JSON, or -1 if not
+     * measured.
+     */
+    private double lastParseTime = -1;
+
+    /**
+     * Holds the response timings to report to the server with the next
+     * message, see {@link ApplicationConstants#CLIENT_RENDER_TIMINGS}.
+     */
+    private JsonArray pendingRenderTimings;
+
     /**
      * Holds the time it took to load the page and render the first view. -2
      * means that this value has not yet been calculated because the first view
@@ -320,6 +339,13 @@ public class MessageHandler {
         }
 
         double start = Duration.currentTimeMillis();
+        int parseTime = (int) lastParseTime;
+        lastParseTime = -1;
+        double lastSendTime = registry.getMessageSender().getLastSendTime();
+        int roundTripTime = registry.getRequestResponseTracker()
+                .hasActiveRequest() && lastSendTime != 0
+                        ? (int) (start - lastSendTime)
+                        : -1;
         /*
          * Lock response handling to avoid a situation where something pushed
          * from the server gets processed while waiting for e.g. lazily loaded
@@ -391,7 +417,8 @@ public class MessageHandler {
         DependencyLoader.runWhenEagerDependenciesLoaded(
                 DomApi::updateApiImplementation);
         DependencyLoader.runWhenEagerDependenciesLoaded(
-                () -> processMessage(valueMap, lock, start));
+                () -> processMessage(valueMap, lock, start, roundTripTime,
+                        parseTime));
     }
 
     private void handleDependencies(JsonObject inputJson) {
@@ -418,8 +445,14 @@ public class MessageHandler {
      *            the lock object for this response
      * @param start
      *            the time stamp when processing started
+     * @param roundTripTime
+     *            the time from sending the request to receiving this response,
+     *            or -1 if not known
+     * @param parseTime
+     *            the time spent parsing the response, or -1 if not known
      */
-    private void processMessage(ValueMap valueMap, Object lock, double start) {
+    private void processMessage(ValueMap valueMap, Object lock, double start,
+            int roundTripTime, int parseTime) {
         assert getServerId(valueMap) == -1
                 || getServerId(valueMap) == lastSeenServerSyncId;
 
@@ -434,9 +467,12 @@ public class MessageHandler {
                 constantPool.importFromJson(constants);
             }
 
+            double changesStart = Duration.currentTimeMillis();
             if (json.hasKey("changes")) {
                 processChanges(json);
             }
+            int changeProcessingTime = (int) (Duration.currentTimeMillis()
+                    - changesStart);
 
             if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
                 // Invoke JS only after all tree changes have been
@@ -454,7 +490,10 @@ public class MessageHandler {
                     + (Duration.currentTimeMillis() - processUidlStart)
                     + " ms");
 
+            double flushStart = Duration.currentTimeMillis();
             Reactive.flush();
+            int domUpdateTime = (int) (Duration.currentTimeMillis()
+                    - flushStart);
 
             ValueMap meta = valueMap.getValueMap("meta");
 
@@ -492,6 +531,12 @@ public class MessageHandler {
 
             lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
             totalProcessingTime += lastProcessingTime;
+            if (registry.getApplicationConfiguration()
+                    .isClientRenderTiming()) {
+                addRenderTiming(getServerId(valueMap), roundTripTime,
+                        parseTime, changeProcessingTime, domUpdateTime,
+                        lastProcessingTime);
+            }
             if (!initialMessageHandled) {
                 initialMessageHandled = true;
 
@@ -526,6 +571,37 @@ public class MessageHandler {
 
     }
 
+    private void addRenderTiming(int serverId, int roundTripTime,
+            int parseTime, int changeProcessingTime, int domUpdateTime,
+            int totalTime) {
+        if (pendingRenderTimings == null) {
+            pendingRenderTimings = Json.createArray();
+        } else if (pendingRenderTimings
+                .length() >= MAX_PENDING_RENDER_TIMINGS) {
+            pendingRenderTimings.remove(0);
+        }
+        JsonArray timing = Json.createArray();
+        timing.set(0, serverId);
+        timing.set(1, roundTripTime);
+        timing.set(2, parseTime);
+        timing.set(3, changeProcessingTime);
+        timing.set(4, domUpdateTime);
+        timing.set(5, totalTime);
+        pendingRenderTimings.set(pendingRenderTimings.length(), timing);
+    }
+
+    /**
+     * Gets the response timings collected since the previous call, to be sent
+     * to the server with the next message.
+     *
+     * @return the collected timings, or <code>null</code> if there are none
+     */
+    public JsonArray consumeRenderTimings() {
+        JsonArray timings = pendingRenderTimings;
+        pendingRenderTimings = null;
+        return timings;
+    }
+
     private void processChanges(JsonObject json) {
         StateTree tree = registry.getStateTree();
         JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
@@ -848,6 +924,23 @@ public class MessageHandler {
         return parseJson(stripJSONWrapping(wrappedJsonText));
     }
 
+    /**
+     * Parses the given wrapped JSON, originating from the server, and records
+     * the time spent for the render timings of the message.
+     *
+     * @param wrappedJsonText
+     *            the json, wrapped as done by the server
+     * @return a ValueMap, or null if the wrapping was not correct or json
+     *         could not be parsed
+     */
+    public ValueMap parseMessage(String wrappedJsonText) {
+        double start = Profiler.getRelativeTimeMillis();
+        ValueMap json = parseWrappedJson(wrappedJsonText);
+        lastParseTime = json == null ? -1
+                : Profiler.getRelativeTimeMillis() - start;
+        return json;
+    }
+
     private static final native double getFetchStartTime()
     /*-{
         if ($wnd.performance && $wnd.performance.timing && $wnd.performance.timing.fetchStart) {
@@ -18,6 +18,7 @@ package com.vaadin.client.communication;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.user.client.Timer;
 
@@ -75,6 +76,8 @@ public class MessageSender {
 
     private Timer resendMessageTimer;
 
+    private double lastSendTime;
+
     /**
      * Creates a new instance connected to the given registry.
      *
@@ -205,6 +208,12 @@ public class MessageSender {
             payload.put(ApplicationConstants.CSRF_TOKEN, csrfToken);
         }
         payload.put(ApplicationConstants.RPC_INVOCATIONS, reqInvocations);
+        JsonArray renderTimings = registry.getMessageHandler()
+                .consumeRenderTimings();
+        if (renderTimings != null) {
+            payload.put(ApplicationConstants.CLIENT_RENDER_TIMINGS,
+                    renderTimings);
+        }
         if (extraJson != null) {
             for (String key : extraJson.keys()) {
                 JsonValue value = extraJson.get(key);
@@ -264,6 +273,7 @@ public class MessageSender {
             // request.
             registry.getRequestResponseTracker().startRequest();
         }
+        lastSendTime = Duration.currentTimeMillis();
 
         if (push != null && push.isBidirectional()) {
             // When using bidirectional transport, the payload is not resent
@@ -303,6 +313,17 @@ public class MessageSender {
         }
     }
 
+    /**
+     * Gets the time when the last message was sent to the server.
+     *
+     * @return the time in milliseconds, as returned by
+     *         {@link Duration#currentTimeMillis()}, or 0 if no message has
+     *         been sent
+     */
+    double getLastSendTime() {
+        return lastSendTime;
+    }
+
     private void resetTimer() {
         if (resendMessageTimer != null) {
             resendMessageTimer.cancel();
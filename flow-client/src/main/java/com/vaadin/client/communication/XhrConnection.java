@@ -120,7 +120,8 @@ public class XhrConnection {
             // for(;;);["+ realJson +"]"
             String responseText = xhr.getResponseText();
 
-            ValueMap json = MessageHandler.parseWrappedJson(responseText);
+            ValueMap json = registry.getMessageHandler()
+                    .parseMessage(responseText);
             if (json == null) {
                 // Invalid string (not wrapped as expected or can't parse)
                 registry.getConnectionStateHandler().xhrInvalidContent(
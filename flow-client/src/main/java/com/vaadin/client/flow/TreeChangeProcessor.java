@@ -132,6 +132,9 @@ public class TreeChangeProcessor {
         case JsonConstants.CHANGE_TYPE_PUT:
             processPutChange(change, node);
             break;
+        case JsonConstants.CHANGE_TYPE_PUT_TEMPLATE:
+            processPutTemplateChange(change, node);
+            break;
         case JsonConstants.CHANGE_TYPE_REMOVE:
             processRemoveChange(change, node);
             break;
@@ -186,6 +189,23 @@ public class TreeChangeProcessor {
         }
     }
 
+    private static void processPutTemplateChange(JsonObject change,
+            StateNode node) {
+        int nsId = (int) change.getNumber(JsonConstants.CHANGE_FEATURE);
+        NodeMap map = node.getMap(nsId);
+        String templateId = change
+                .getString(JsonConstants.CHANGE_PUT_TEMPLATE);
+        JsonObject template = node.getTree().getRegistry().getConstantPool()
+                .get(templateId);
+        assert template != null : "No template found for id " + templateId;
+
+        for (String key : template.keys()) {
+            Object value = ClientJsonCodec
+                    .decodeWithoutTypeInfo(template.get(key));
+            map.getProperty(key).setValue(value);
+        }
+    }
+
     private static void processRemoveChange(JsonObject change, StateNode node) {
         MapProperty property = findProperty(change, node);
 
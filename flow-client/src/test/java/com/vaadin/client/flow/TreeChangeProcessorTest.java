@@ -26,6 +26,7 @@ import com.vaadin.client.Registry;
 import com.vaadin.client.flow.collection.JsSet;
 import com.vaadin.client.flow.nodefeature.MapProperty;
 import com.vaadin.client.flow.nodefeature.NodeList;
+import com.vaadin.client.flow.nodefeature.NodeMap;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.shared.JsonConstants;
@@ -41,6 +42,7 @@ public class TreeChangeProcessorTest {
             set(StateTree.class, new StateTree(this));
             set(InitialPropertiesHandler.class,
                     new InitialPropertiesHandler(this));
+            set(ConstantPool.class, new ConstantPool());
         }
     };
     private StateTree tree = registry.getStateTree();
@@ -78,6 +80,28 @@ public class TreeChangeProcessorTest {
         }
     }
 
+    @Test
+    public void testPutTemplateChange() {
+        JsonObject template = Json.createObject();
+        template.put(myKey, myValue);
+        template.put("other", true);
+        JsonObject constants = Json.createObject();
+        constants.put("templateId", template);
+        registry.getConstantPool().importFromJson(constants);
+
+        JsonObject change = baseChange(rootId,
+                JsonConstants.CHANGE_TYPE_PUT_TEMPLATE);
+        change.put(JsonConstants.CHANGE_FEATURE, ns);
+        change.put(JsonConstants.CHANGE_PUT_TEMPLATE, "templateId");
+
+        StateNode node = TreeChangeProcessor.processChange(tree, change);
+
+        NodeMap map = tree.getRootNode().getMap(ns);
+        Assert.assertEquals(myValue, map.getProperty(myKey).getValue());
+        Assert.assertEquals(Boolean.TRUE, map.getProperty("other").getValue());
+        Assert.assertEquals(tree.getRootNode(), node);
+    }
+
     @Test
     public void testMapRemoveChange() {
         MapProperty property = tree.getRootNode().getMap(ns).getProperty(myKey);
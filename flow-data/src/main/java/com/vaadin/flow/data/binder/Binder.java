@@ -1893,6 +1893,10 @@ public class Binder<BEAN> implements Serializable {
 
     private final List<Validator<? super BEAN>> validators = new ArrayList<>();
 
+    private final Map<Validator<? super BEAN>, Set<HasValue<?, ?>>> validatorDependencies = new IdentityHashMap<>();
+
+    private final Map<Validator<? super BEAN>, ValidationResult> beanValidationResults = new IdentityHashMap<>();
+
     private final Map<HasValue<?, ?>, ConverterDelegate<?>> initialConverters = new IdentityHashMap<>(
             4);
 
@@ -2421,6 +2425,7 @@ public class Binder<BEAN> implements Serializable {
                 }
             });
             changedBindings.clear();
+            beanValidationResults.clear();
             getValidationStatusHandler().statusChange(
                     BinderValidationStatus.createUnresolvedStatus(this));
             fireStatusChangeEvent(false);
@@ -2791,7 +2796,9 @@ public class Binder<BEAN> implements Serializable {
             setValidatorsDisabled(validatorsDisabledStatus);
 
             // Now run bean level validation against the updated bean
-            binderResults = validateBean(bean);
+            binderResults = bean == getBean()
+                    ? validateBean(bean, currentBindings)
+                    : validateBean(bean);
             if (binderResults.stream().anyMatch(ValidationResult::isError)) {
                 // Bean validator failed, revert values
                 restoreBeanState(bean, oldValues);
@@ -2910,6 +2917,50 @@ public class Binder<BEAN> implements Serializable {
      * @return this binder, for chaining
      */
     public Binder<BEAN> withValidator(Validator<? super BEAN> validator) {
+        addValidator(validator);
+        return this;
+    }
+
+    /**
+     * Adds a bean level validator which only depends on the values of the
+     * given fields.
+     * <p>
+     * Bean level validators are applied on the bean instance after the bean is
+     * updated. If the validators fail, the bean instance is reverted to its
+     * previous state.
+     * <p>
+     * When a field value changes in a binder bound to a bean using
+     * {@link #setBean(Object)}, the validator is only run again if the value of
+     * one of the given fields is written to the bean. Otherwise the previous
+     * result of the validator is reused. This avoids running expensive
+     * cross-field validators on every change of unrelated fields in large
+     * forms. The validator must therefore not depend on other bean properties
+     * that may change while the bean is set.
+     *
+     * @see #withValidator(Validator)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param dependencies
+     *            the fields whose values the validator depends on, not null
+     * @return this binder, for chaining
+     */
+    public Binder<BEAN> withValidator(Validator<? super BEAN> validator,
+            HasValue<?, ?>... dependencies) {
+        Objects.requireNonNull(dependencies, "dependencies cannot be null");
+        Validator<? super BEAN> wrappedValidator = addValidator(validator);
+        Set<HasValue<?, ?>> fields = Collections
+                .newSetFromMap(new IdentityHashMap<>());
+        for (HasValue<?, ?> dependency : dependencies) {
+            fields.add(Objects.requireNonNull(dependency,
+                    "dependency cannot be null"));
+        }
+        validatorDependencies.put(wrappedValidator, fields);
+        return this;
+    }
+
+    private Validator<? super BEAN> addValidator(
+            Validator<? super BEAN> validator) {
         Objects.requireNonNull(validator, "validator cannot be null");
         Validator<? super BEAN> wrappedValidator = ((value, context) -> {
             if (isValidatorsDisabled()) {
@@ -2919,7 +2970,7 @@ public class Binder<BEAN> implements Serializable {
             }
         });
         validators.add(wrappedValidator);
-        return this;
+        return wrappedValidator;
     }
 
     /**
@@ -2983,6 +3034,7 @@ public class Binder<BEAN> implements Serializable {
             fireStatusChangeEvent(false);
         }
         changedBindings.clear();
+        beanValidationResults.clear();
     }
 
     /**
@@ -3100,11 +3152,54 @@ public class Binder<BEAN> implements Serializable {
      *         succeeded
      */
     private List<ValidationResult> validateBean(BEAN bean) {
+        return validateBean(bean, null);
+    }
+
+    /**
+     * Validates the {@code bean} after the given bindings have been written to
+     * it. Validators added using
+     * {@link #withValidator(Validator, HasValue...)} are skipped if none of
+     * their dependencies is among the written bindings and they have been run
+     * before, in which case their previous result is used.
+     *
+     * @param bean
+     *            the bean to validate
+     * @param writtenBindings
+     *            the bindings written to the bean, or {@code null} to run all
+     *            validators
+     * @return a list of validation errors or an empty list if validation
+     *         succeeded
+     */
+    private List<ValidationResult> validateBean(BEAN bean,
+            Collection<Binding<BEAN, ?>> writtenBindings) {
         Objects.requireNonNull(bean, "bean cannot be null");
-        return validators.stream()
-                .map(validator -> validator.apply(bean, new ValueContext(this)))
-                .collect(Collectors.collectingAndThen(Collectors.toList(),
-                        Collections::unmodifiableList));
+        if (isValidatorsDisabled()) {
+            // Validators return ok without being run, nothing to cache
+            return validators.stream()
+                    .map(validator -> validator.apply(bean,
+                            new ValueContext(this)))
+                    .collect(Collectors.collectingAndThen(Collectors.toList(),
+                            Collections::unmodifiableList));
+        }
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        for (Validator<? super BEAN> validator : validators) {
+            Set<HasValue<?, ?>> dependencies = validatorDependencies
+                    .get(validator);
+            ValidationResult result = null;
+            if (dependencies != null && writtenBindings != null
+                    && writtenBindings.stream().map(Binding::getField)
+                            .noneMatch(dependencies::contains)) {
+                result = beanValidationResults.get(validator);
+            }
+            if (result == null) {
+                result = validator.apply(bean, new ValueContext(this));
+                if (dependencies != null) {
+                    beanValidationResults.put(validator, result);
+                }
+            }
+            results.add(result);
+        }
+        return Collections.unmodifiableList(results);
     }
 
     /**
@@ -3558,6 +3653,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        beanValidationResults.clear();
         if (bean != null) {
             bean = null;
         }
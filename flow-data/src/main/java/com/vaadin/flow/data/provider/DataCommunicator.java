@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.provider;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -26,10 +27,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +51,7 @@ import com.vaadin.flow.function.SerializableComparator;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.internal.ExecutionContext;
+import com.vaadin.flow.internal.HeapFootprint;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.NodeOwner;
 import com.vaadin.flow.internal.NullOwner;
@@ -70,13 +76,26 @@ import elemental.json.JsonValue;
  *            the bean type
  * @since 1.0
  */
-public class DataCommunicator<T> implements Serializable {
+public class DataCommunicator<T>
+        implements Serializable, HeapFootprint.Contributor {
     public static final int DEFAULT_PAGE_INCREASE_COUNT = 4;
 
     private static final int DEFAULT_PAGE_SIZE = 50;
     private static final int MAXIMUM_ALLOWED_PAGES = 10;
     private static final int MAXIMUM_ALLOWED_ITEMS_LOWER_LIMIT = 500;
 
+    private static final ClassValue<Boolean> DATA_PROVIDER_SIZE_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getDataProviderSize")
+                        .getDeclaringClass() != DataCommunicator.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     private final DataGenerator<T> dataGenerator;
     private final ArrayUpdater arrayUpdater;
     private final SerializableConsumer<JsonArray> dataUpdater;
@@ -138,6 +157,14 @@ public class DataCommunicator<T> implements Serializable {
     private transient Executor executor = null;
     private transient CompletableFuture<Activation> future;
 
+    private int readAheadPages;
+    private transient ReadAheadCache<T> readAheadCache;
+
+    private transient Executor countExecutor;
+    private transient List<T> speculativeItems;
+    private transient Range speculativeRange;
+    private long parallelQueryNanosSaved;
+
     /**
      * In-memory data provider with no items.
      * <p>
@@ -332,7 +359,11 @@ public class DataCommunicator<T> implements Serializable {
      *            the end of the requested range
      */
     public void setRequestedRange(int start, int length) {
+        Range previousRange = requestedRange;
         requestedRange = computeRequestedRange(start, length);
+        if (readAheadCache != null) {
+            readAhead(previousRange, requestedRange);
+        }
         requestFlush();
     }
 
@@ -378,6 +409,106 @@ public class DataCommunicator<T> implements Serializable {
         this.executor = executor;
     }
 
+    /**
+     * Enables fetching pages ahead of the requested range in the background.
+     * <p>
+     * When enabled, every time a new range is requested the following
+     * {@code pages} pages in the scrolling direction are fetched from the data
+     * provider using the given executor, outside of the session lock. The
+     * pages are kept in a bounded cache keyed by the filter, sorting and
+     * offset, from which the following requests are served. The cache is
+     * cleared when the data is reset, e.g. when the filter or sorting changes
+     * or the data provider signals a change.
+     * <p>
+     * This is meant for data providers backed by a slow backend. The data
+     * provider must be thread safe and must not depend on the session or
+     * other thread local state, since pages are fetched from the threads of
+     * the executor. Read-ahead only applies to paged queries, see
+     * {@link #setPagingEnabled(boolean)}.
+     *
+     * @param executor
+     *            the executor to fetch pages with, or <code>null</code> to
+     *            disable read-ahead
+     * @param pages
+     *            the number of pages to fetch ahead, at least 1
+     * @see #getReadAheadStatistics()
+     * @since
+     */
+    public void enableReadAhead(Executor executor, int pages) {
+        if (readAheadCache != null) {
+            readAheadCache.clear();
+            readAheadCache = null;
+        }
+        readAheadPages = 0;
+        if (executor == null) {
+            return;
+        }
+        if (pages < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of pages to read ahead cannot be less than 1, got %d",
+                    pages));
+        }
+        readAheadPages = pages;
+        // Room for the largest requested range and the pages read ahead in
+        // both directions
+        readAheadCache = new ReadAheadCache<>(executor,
+                MAXIMUM_ALLOWED_PAGES + 2 * pages);
+    }
+
+    /**
+     * Gets the statistics of the read-ahead page cache, including the hit
+     * rate and the time spent fetching pages.
+     *
+     * @return the current statistics, or an empty optional if read-ahead is
+     *         not enabled
+     * @see #enableReadAhead(Executor, int)
+     * @since
+     */
+    public Optional<ReadAheadStatistics> getReadAheadStatistics() {
+        return Optional.ofNullable(readAheadCache)
+                .map(ReadAheadCache::getStatistics);
+    }
+
+    /**
+     * Enables running the count query concurrently with the first fetch query
+     * when both are needed, e.g. after the filter or sorting has changed.
+     * <p>
+     * With defined size, the item count is needed to limit the range to fetch,
+     * so the count and fetch queries are normally run one after the other. When
+     * enabled, the count query is run on the given executor while the
+     * requested range is fetched, and the result is limited to the item count
+     * once both have completed. Both complete before the response is written.
+     * <p>
+     * The data provider or count callback must be thread safe and must not
+     * depend on the session or other thread local state, since the count query
+     * is run from the threads of the executor. Queries are always run
+     * sequentially by subclasses that override {@link #getDataProviderSize()},
+     * since the overridden count might depend on the state of the instance.
+     *
+     * @param executor
+     *            the executor to run count queries with, or <code>null</code>
+     *            to run the queries sequentially
+     * @see #getParallelQueryTimeSaved()
+     * @since
+     */
+    public void enableParallelCountAndFetch(Executor executor) {
+        countExecutor = executor;
+    }
+
+    /**
+     * Gets the total wall-clock time saved by running count and fetch queries
+     * concurrently, i.e. the sum of the query durations minus the time spent
+     * waiting for both to complete.
+     *
+     * @return the time saved, zero if the queries have not been run in
+     *         parallel
+     * @see #enableParallelCountAndFetch(Executor)
+     * @since
+     */
+    public Duration getParallelQueryTimeSaved() {
+        return Duration.ofNanos(parallelQueryNanosSaved);
+    }
+
     /**
      * Resets all the data.
      * <p>
@@ -389,6 +520,9 @@ public class DataCommunicator<T> implements Serializable {
         resendEntireRange = true;
         dataGenerator.destroyAllData();
         updatedData.clear();
+        if (readAheadCache != null) {
+            readAheadCache.clear();
+        }
         requestFlush();
     }
 
@@ -403,6 +537,10 @@ public class DataCommunicator<T> implements Serializable {
                 "DataCommunicator can not refresh null object");
         getKeyMapper().refresh(data);
         dataGenerator.refreshData(data);
+        if (readAheadCache != null) {
+            // Cached pages may contain an outdated instance of the item
+            readAheadCache.clear();
+        }
         updatedData.add(data);
         requestFlushUpdatedData();
     }
@@ -644,6 +782,9 @@ public class DataCommunicator<T> implements Serializable {
                     "Page size cannot be less than 1, got %d", pageSize));
         }
         this.pageSize = pageSize;
+        if (readAheadCache != null) {
+            readAheadCache.clear();
+        }
     }
 
     /**
@@ -807,6 +948,37 @@ public class DataCommunicator<T> implements Serializable {
         return keyMapper;
     }
 
+    /**
+     * Estimates the heap memory retained by this data communicator, including
+     * the key mapper if it supports estimation, the keys of the items which
+     * are active on the client and any items fetched ahead of time.
+     *
+     * @return the estimated number of bytes
+     * @see HeapFootprint
+     */
+    @Override
+    public long estimateRetainedSize() {
+        long size = HeapFootprint.estimateObjectSize(45);
+        if (keyMapper instanceof HeapFootprint.Contributor contributor) {
+            size += contributor.estimateRetainedSize();
+        }
+        // The active keys are shared with the key mapper
+        size += HeapFootprint.estimateListSize(activeKeyOrder.size());
+        size += HeapFootprint.estimateHashMapSize(passivatedByUpdate.size());
+        for (Set<String> keys : passivatedByUpdate.values()) {
+            size += HeapFootprint.estimateHashMapSize(keys.size());
+        }
+        size += HeapFootprint.estimateHashMapSize(confirmedUpdates.size());
+        if (readAheadCache != null) {
+            size += readAheadCache.estimateRetainedSize();
+        }
+        List<T> speculative = speculativeItems;
+        if (speculative != null) {
+            size += HeapFootprint.estimateListSize(speculative.size());
+        }
+        return size;
+    }
+
     /**
      * Sets the {@link DataKeyMapper} used in this {@link DataCommunicator}. Key
      * mapper can be used to map keys sent to the client-side back to their
@@ -934,10 +1106,17 @@ public class DataCommunicator<T> implements Serializable {
     public int getDataProviderSize() {
         assert definedSize
                 : "This method should never be called when using undefined size";
+        return count(countCallback, getDataProvider(),
+                new Query(getFilter()));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int count(CallbackDataProvider.CountCallback countCallback,
+            DataProvider dataProvider, Query query) {
         if (countCallback != null) {
-            return countCallback.count(new Query(getFilter()));
+            return countCallback.count(query);
         } else {
-            return getDataProvider().size(new Query(getFilter()));
+            return dataProvider.size(query);
         }
     }
 
@@ -1012,8 +1191,7 @@ public class DataCommunicator<T> implements Serializable {
                 int page = 0;
                 do {
                     final int newOffset = offset + page * pageSize;
-                    try (Stream<T> dataProviderStream = doFetchFromDataProvider(
-                            newOffset, pageSize)) {
+                    try (Stream<T> dataProviderStream = fetchPage(newOffset)) {
                         // Stream.Builder is not thread safe, so for parallel
                         // stream we need to first collect items before adding
                         // them
@@ -1032,6 +1210,8 @@ public class DataCommunicator<T> implements Serializable {
                         && fetchedPerPage.getAndSet(0) == pageSize);
 
                 stream = streamBuilder.build();
+            } else if (limit == pageSize) {
+                stream = fetchPage(offset);
             } else {
                 stream = doFetchFromDataProvider(offset, limit);
             }
@@ -1063,6 +1243,71 @@ public class DataCommunicator<T> implements Serializable {
         return stream;
     }
 
+    /**
+     * Fetches a full page, from the read-ahead cache if enabled.
+     */
+    private Stream<T> fetchPage(int offset) {
+        if (readAheadCache == null) {
+            return doFetchFromDataProvider(offset, pageSize);
+        }
+        return readAheadCache
+                .get(createPageKey(offset), createPageFetcher()).stream();
+    }
+
+    /**
+     * Starts fetching the pages following the requested range in the
+     * direction the range moved to.
+     */
+    private void readAhead(Range previousRange, Range range) {
+        if (!pagingEnabled || !fetchEnabled || range.isEmpty()) {
+            return;
+        }
+        boolean backwards = range.getStart() < previousRange.getStart();
+        int firstOffset;
+        if (backwards) {
+            firstOffset = (range.getStart() / pageSize - readAheadPages)
+                    * pageSize;
+        } else {
+            firstOffset = ((range.getEnd() - 1) / pageSize + 1) * pageSize;
+        }
+        Function<ReadAheadCache.PageKey, List<T>> fetcher = createPageFetcher();
+        for (int page = 0; page < readAheadPages; page++) {
+            int offset = firstOffset + page * pageSize;
+            if (offset < 0) {
+                continue;
+            }
+            if (definedSize && assumedSize > 0 && offset >= assumedSize) {
+                break;
+            }
+            readAheadCache.prefetch(createPageKey(offset), fetcher);
+        }
+    }
+
+    private ReadAheadCache.PageKey createPageKey(int offset) {
+        return new ReadAheadCache.PageKey(getFilter(),
+                List.copyOf(backEndSorting), inMemorySorting, offset,
+                pageSize);
+    }
+
+    /**
+     * Creates a function fetching pages from the current data provider. The
+     * function only uses the given key and the captured data provider, so
+     * that it can be run without holding the session lock.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Function<ReadAheadCache.PageKey, List<T>> createPageFetcher() {
+        DataProvider provider = getDataProvider();
+        return key -> {
+            QueryTrace query = new QueryTrace(key.offset(), key.pageSize(),
+                    key.sorting(), key.inMemorySorting(), key.filter());
+            try (Stream<T> stream = provider.fetch(query)) {
+                List<T> items = (List<T>) stream.collect(Collectors.toList());
+                verifyQueryContract(query);
+                return items;
+            }
+        };
+    }
+
     @SuppressWarnings("rawtypes")
     private void verifyQueryContract(QueryTrace query) {
         /*
@@ -1190,7 +1435,9 @@ public class DataCommunicator<T> implements Serializable {
 
         // With defined size the backend is only queried when necessary
         if (definedSize && (resendEntireRange || sizeReset)) {
-            assumedSize = getDataProviderSize();
+            if (!countAndFetchInParallel()) {
+                assumedSize = getDataProviderSize();
+            }
         } else if (!definedSize
                 && (!skipCountIncreaseUntilReset || sizeReset)) {
             // with undefined size, size estimate is checked when scrolling down
@@ -1227,14 +1474,112 @@ public class DataCommunicator<T> implements Serializable {
             });
         } else {
 
-            Activation activation = collectKeysToFlush(previousActive,
-                    effectiveRequested);
+            Activation activation;
+            try {
+                activation = collectKeysToFlush(previousActive,
+                        effectiveRequested);
+            } finally {
+                speculativeItems = null;
+                speculativeRange = null;
+            }
 
             performUpdate(oldActive, effectiveRequested, previousActive,
                     activation);
         }
     }
 
+    /**
+     * Runs the count query on the count executor while fetching the requested
+     * range in the current thread, if enabled and the whole range is going to
+     * be resent. The fetched items are used by {@link #activate(Range)}.
+     *
+     * @return <code>true</code> if the queries were run and the assumed size
+     *         updated, <code>false</code> if the count query still needs to be
+     *         run
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean countAndFetchInParallel() {
+        if (countExecutor == null || executor != null || !resendEntireRange
+                || requestedRange.isEmpty()
+                || DATA_PROVIDER_SIZE_OVERRIDDEN.get(getClass())) {
+            return false;
+        }
+        // Build the count query up front so that the count does not read any
+        // state of this instance from the other thread
+        Query countQuery = new Query(getFilter());
+        CallbackDataProvider.CountCallback callback = countCallback;
+        DataProvider provider = getDataProvider();
+        long start = System.nanoTime();
+        CompletableFuture<Long> countDuration;
+        AtomicInteger size = new AtomicInteger();
+        try {
+            countDuration = CompletableFuture.supplyAsync(() -> {
+                long countStart = System.nanoTime();
+                size.set(count(callback, provider, countQuery));
+                return System.nanoTime() - countStart;
+            }, countExecutor);
+        } catch (RejectedExecutionException e) {
+            getLogger().debug("Count query rejected by the executor", e);
+            return false;
+        }
+
+        Range range = requestedRange;
+        List<T> items;
+        long fetchStart = System.nanoTime();
+        try (Stream<T> stream = fetchFromProvider(range.getStart(),
+                range.length())) {
+            items = stream.collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            countDuration.cancel(true);
+            throw e;
+        }
+        long fetchNanos = System.nanoTime() - fetchStart;
+
+        long countNanos;
+        try {
+            countNanos = countDuration.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        assumedSize = size.get();
+        speculativeItems = items;
+        speculativeRange = range;
+
+        long saved = countNanos + fetchNanos - (System.nanoTime() - start);
+        if (saved > 0) {
+            parallelQueryNanosSaved += saved;
+        }
+        getLogger().debug(
+                "Count ({} ms) and fetch ({} ms) run in parallel, saving {} ms",
+                TimeUnit.NANOSECONDS.toMillis(countNanos),
+                TimeUnit.NANOSECONDS.toMillis(fetchNanos),
+                TimeUnit.NANOSECONDS.toMillis(Math.max(saved, 0)));
+        return true;
+    }
+
+    /**
+     * Gets the items fetched while counting for the given range, if any.
+     */
+    private Stream<T> getSpeculativeItems(Range range) {
+        if (speculativeItems == null
+                || range.getStart() != speculativeRange.getStart()
+                || range.length() > speculativeRange.length()) {
+            return null;
+        }
+        List<T> items = speculativeItems;
+        boolean limited = range.length() < speculativeRange.length();
+        speculativeItems = null;
+        speculativeRange = null;
+        if (limited) {
+            // The range was limited to the item count
+            return items.stream().limit(range.length());
+        }
+        return items.stream();
+    }
+
     private void performUpdate(Set<String> oldActive, Range effectiveRequested,
             final Range previousActive, Activation activation) {
         // In case received less items than what was expected, adjust size
@@ -1495,8 +1840,9 @@ public class DataCommunicator<T> implements Serializable {
 
         // XXX Explicitly refresh anything that is updated
         List<String> activeKeys = new ArrayList<>(range.length());
-        try (Stream<T> stream = fetchFromProvider(range.getStart(),
-                range.length())) {
+        Stream<T> speculative = getSpeculativeItems(range);
+        try (Stream<T> stream = speculative != null ? speculative
+                : fetchFromProvider(range.getStart(), range.length())) {
             stream.forEach(bean -> {
                 boolean mapperHasKey = keyMapper.has(bean);
                 String key = keyMapper.key(bean);
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.vaadin.flow.function.ValueProvider;
+import com.vaadin.flow.internal.HeapFootprint;
 
 /**
  * <code>KeyMapper</code> is the simple two-way map for generating textual keys
@@ -31,7 +32,8 @@ import com.vaadin.flow.function.ValueProvider;
  * @author Vaadin Ltd
  * @since 1.0.
  */
-public class KeyMapper<V> implements DataKeyMapper<V> {
+public class KeyMapper<V>
+        implements DataKeyMapper<V>, HeapFootprint.Contributor {
 
     private int lastKey = 0;
 
@@ -173,4 +175,28 @@ public class KeyMapper<V> implements DataKeyMapper<V> {
             }
         }
     }
+
+    /**
+     * Estimates the heap memory retained by the mappings, including the keys
+     * and the shallow size of the mapped objects and their identifiers.
+     *
+     * @return the estimated number of bytes
+     */
+    @Override
+    public long estimateRetainedSize() {
+        long size = HeapFootprint.estimateObjectSize(4)
+                + HeapFootprint.estimateHashMapSize(objectIdKeyMap.size())
+                + HeapFootprint.estimateHashMapSize(keyObjectMap.size());
+        for (Map.Entry<String, V> entry : keyObjectMap.entrySet()) {
+            size += HeapFootprint.estimateValueSize(entry.getKey())
+                    + HeapFootprint.estimateValueSize(entry.getValue());
+        }
+        for (Map.Entry<Object, String> entry : objectIdKeyMap.entrySet()) {
+            // The identifier is often the object itself
+            if (entry.getKey() != keyObjectMap.get(entry.getValue())) {
+                size += HeapFootprint.estimateValueSize(entry.getKey());
+            }
+        }
+        return size;
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.internal.HeapFootprint;
+
+/**
+ * A bounded cache of pages fetched from a data provider, used by
+ * {@link DataCommunicator} to serve pages fetched ahead of time in the
+ * background.
+ * <p>
+ * The cache is accessed both while holding the session lock and from the
+ * threads fetching pages, so all access to the pages is synchronized.
+ *
+ * @param <T>
+ *            the bean type
+ * @author Vaadin Ltd
+ * @since
+ */
+final class ReadAheadCache<T> {
+
+    /**
+     * Identifies a page by everything that affects its contents.
+     *
+     * @param filter
+     *            the filter object
+     * @param sorting
+     *            the back end sorting
+     * @param inMemorySorting
+     *            the in-memory sorting
+     * @param offset
+     *            the index of the first item of the page
+     * @param pageSize
+     *            the number of items in a page
+     */
+    record PageKey(Object filter, List<QuerySortOrder> sorting,
+            Comparator<?> inMemorySorting, int offset, int pageSize) {
+    }
+
+    private final Executor executor;
+    private final Map<PageKey, CompletableFuture<List<T>>> pages;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fetches = new LongAdder();
+    private final LongAdder totalFetchNanos = new LongAdder();
+    private final LongAccumulator maxFetchNanos = new LongAccumulator(
+            Math::max, 0);
+
+    /**
+     * Creates a new cache.
+     *
+     * @param executor
+     *            the executor to fetch pages ahead of time with
+     * @param capacity
+     *            the maximum number of pages to keep
+     */
+    ReadAheadCache(Executor executor, int capacity) {
+        this.executor = executor;
+        pages = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<PageKey, CompletableFuture<List<T>>> eldest) {
+                if (size() > capacity) {
+                    eldest.getValue().cancel(false);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a page from the cache, fetching it in the calling thread if it is
+     * not available. A page which is still being fetched in the background is
+     * waited for.
+     *
+     * @param key
+     *            the page to get
+     * @param fetcher
+     *            the function fetching the page from the data provider
+     * @return the items of the page
+     */
+    List<T> get(PageKey key, Function<PageKey, List<T>> fetcher) {
+        CompletableFuture<List<T>> page;
+        synchronized (pages) {
+            page = pages.get(key);
+        }
+        if (page != null && !page.isCompletedExceptionally()) {
+            try {
+                List<T> items = page.join();
+                hits.increment();
+                return items;
+            } catch (CompletionException | CancellationException e) {
+                getLogger().debug("Fetching page {} ahead of time failed",
+                        key.offset(), e);
+            }
+        }
+        misses.increment();
+        List<T> items = fetch(key, fetcher);
+        synchronized (pages) {
+            pages.put(key, CompletableFuture.completedFuture(items));
+        }
+        return items;
+    }
+
+    /**
+     * Starts fetching the given page in the background, unless it is already
+     * cached.
+     *
+     * @param key
+     *            the page to fetch
+     * @param fetcher
+     *            the function fetching the page from the data provider
+     */
+    void prefetch(PageKey key, Function<PageKey, List<T>> fetcher) {
+        synchronized (pages) {
+            CompletableFuture<List<T>> existing = pages.get(key);
+            if (existing != null && !existing.isCompletedExceptionally()) {
+                return;
+            }
+            try {
+                CompletableFuture<List<T>> page = CompletableFuture
+                        .supplyAsync(() -> fetch(key, fetcher), executor);
+                pages.put(key, page);
+            } catch (RejectedExecutionException e) {
+                getLogger().debug("Fetching page {} ahead of time rejected",
+                        key.offset(), e);
+            }
+        }
+    }
+
+    /**
+     * Removes all pages from the cache, cancelling pending fetches.
+     */
+    void clear() {
+        synchronized (pages) {
+            pages.values().forEach(page -> page.cancel(false));
+            pages.clear();
+        }
+    }
+
+    /**
+     * Gets the current statistics of the cache.
+     *
+     * @return the statistics
+     */
+    ReadAheadStatistics getStatistics() {
+        return new ReadAheadStatistics(hits.sum(), misses.sum(), fetches.sum(),
+                totalFetchNanos.sum(), maxFetchNanos.get());
+    }
+
+    /**
+     * Estimates the heap memory retained by the fetched pages.
+     *
+     * @return the estimated number of bytes
+     */
+    long estimateRetainedSize() {
+        long size = HeapFootprint.estimateHashMapSize(0);
+        synchronized (pages) {
+            size += HeapFootprint.estimateHashMapSize(pages.size());
+            for (CompletableFuture<List<T>> page : pages.values()) {
+                size += HeapFootprint.estimateObjectSize(3);
+                List<T> items = page.isDone() && !page.isCompletedExceptionally()
+                        ? page.getNow(null)
+                        : null;
+                if (items != null) {
+                    size += HeapFootprint.estimateListSize(items.size());
+                    for (T item : items) {
+                        size += HeapFootprint.estimateValueSize(item);
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private List<T> fetch(PageKey key, Function<PageKey, List<T>> fetcher) {
+        long start = System.nanoTime();
+        List<T> items = fetcher.apply(key);
+        long duration = System.nanoTime() - start;
+        fetches.increment();
+        totalFetchNanos.add(duration);
+        maxFetchNanos.accumulate(duration);
+        return items;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(ReadAheadCache.class);
+    }
+}
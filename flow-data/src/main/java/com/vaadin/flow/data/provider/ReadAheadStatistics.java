@@ -0,0 +1,113 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * A snapshot of the page cache statistics of a {@link DataCommunicator} with
+ * read-ahead enabled.
+ *
+ * @see DataCommunicator#enableReadAhead(java.util.concurrent.Executor, int)
+ * @author Vaadin Ltd
+ * @since
+ */
+public final class ReadAheadStatistics implements Serializable {
+
+    private final long hits;
+    private final long misses;
+    private final long fetches;
+    private final long totalFetchNanos;
+    private final long maxFetchNanos;
+
+    ReadAheadStatistics(long hits, long misses, long fetches,
+            long totalFetchNanos, long maxFetchNanos) {
+        this.hits = hits;
+        this.misses = misses;
+        this.fetches = fetches;
+        this.totalFetchNanos = totalFetchNanos;
+        this.maxFetchNanos = maxFetchNanos;
+    }
+
+    /**
+     * Gets the number of pages served from the cache, including pages which
+     * were still being fetched when requested.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of pages that had to be fetched from the data provider
+     * while handling a request.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the ratio of requested pages served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no pages have been
+     *         requested
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Gets the number of pages fetched from the data provider, both read ahead
+     * and on cache misses.
+     *
+     * @return the number of fetched pages
+     */
+    public long getFetchCount() {
+        return fetches;
+    }
+
+    /**
+     * Gets the average time it took to fetch a page from the data provider.
+     *
+     * @return the average fetch time, zero if no pages have been fetched
+     */
+    public Duration getAverageFetchTime() {
+        return fetches == 0 ? Duration.ZERO
+                : Duration.ofNanos(totalFetchNanos / fetches);
+    }
+
+    /**
+     * Gets the longest time it took to fetch a page from the data provider.
+     *
+     * @return the maximum fetch time, zero if no pages have been fetched
+     */
+    public Duration getMaxFetchTime() {
+        return Duration.ofNanos(maxFetchNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ReadAheadStatistics[hits=%d, misses=%d, fetches=%d, averageFetchTime=%s, maxFetchTime=%s]",
+                hits, misses, fetches, getAverageFetchTime(),
+                getMaxFetchTime());
+    }
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -185,6 +186,39 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return mapper.fetchRootItems(Range.withLength(offset, limit));
     }
 
+    /**
+     * Read-ahead is not supported for hierarchical data, since the items are
+     * fetched through the {@link HierarchyMapper}. Disabling it with a
+     * <code>null</code> executor does nothing.
+     *
+     * @throws UnsupportedOperationException
+     *             if the executor is not <code>null</code>
+     */
+    @Override
+    public void enableReadAhead(Executor executor, int pages) {
+        if (executor != null) {
+            throw new UnsupportedOperationException(
+                    "Read-ahead is not supported for hierarchical data");
+        }
+    }
+
+    /**
+     * Running count and fetch queries in parallel is not supported for
+     * hierarchical data, since the items are fetched through the
+     * {@link HierarchyMapper}. Disabling it with a <code>null</code> executor
+     * does nothing.
+     *
+     * @throws UnsupportedOperationException
+     *             if the executor is not <code>null</code>
+     */
+    @Override
+    public void enableParallelCountAndFetch(Executor executor) {
+        if (executor != null) {
+            throw new UnsupportedOperationException(
+                    "Parallel count and fetch is not supported for hierarchical data");
+        }
+    }
+
     public void setParentRequestedRange(int start, int length, T parentItem) {
         String parentKey = getKeyMapper().key(parentItem);
         HierarchicalCommunicationController<T> controller = dataControllers
@@ -16,6 +16,7 @@
 
 package com.vaadin.flow.data.validator;
 
+import java.beans.IntrospectionException;
 import java.io.Serializable;
 import java.util.Locale;
 import java.util.Objects;
@@ -27,6 +28,7 @@ import jakarta.validation.MessageInterpolator.Context;
 import jakarta.validation.Validation;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.binder.Validator;
@@ -79,6 +81,13 @@ public class BeanValidator implements Validator<Object> {
     private String propertyName;
     private Class<?> beanType;
 
+    /*
+     * Whether the property has any constraints, resolved from the bean
+     * metadata on first use. Values of unconstrained properties are always
+     * valid, so they don't need to be run through the JSR-303 validator.
+     */
+    private transient Boolean constrained;
+
     /**
      * Creates a new JSR-303 {@code BeanValidator} that validates values of the
      * specified property. Localizes validation messages using the
@@ -122,6 +131,12 @@ public class BeanValidator implements Validator<Object> {
      */
     @Override
     public ValidationResult apply(final Object value, ValueContext context) {
+        if (constrained == null) {
+            constrained = isPropertyConstrained();
+        }
+        if (!constrained) {
+            return ValidationResult.ok();
+        }
         Set<? extends ConstraintViolation<?>> violations = getJavaxBeanValidator()
                 .validateValue(beanType, propertyName, value);
 
@@ -134,6 +149,27 @@ public class BeanValidator implements Validator<Object> {
         return result.orElse(ValidationResult.ok());
     }
 
+    private boolean isPropertyConstrained() {
+        if (propertyName.contains(".")) {
+            // The metadata API does not support nested property paths
+            return true;
+        }
+        PropertyDescriptor descriptor = getJavaxBeanValidator()
+                .getConstraintsForClass(beanType)
+                .getConstraintsForProperty(propertyName);
+        if (descriptor != null) {
+            return descriptor.hasConstraints() || !descriptor
+                    .getConstrainedContainerElementTypes().isEmpty();
+        }
+        try {
+            // Let the validator report properties which don't exist
+            return BeanUtil.getPropertyDescriptor(beanType,
+                    propertyName) == null;
+        } catch (IntrospectionException e) {
+            return true;
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("%s[%s.%s]", getClass().getSimpleName(),
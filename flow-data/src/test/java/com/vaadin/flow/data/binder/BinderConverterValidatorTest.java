@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -324,6 +325,60 @@ public class BinderConverterValidatorTest
         Assert.assertTrue(nameField.isInvalid());
     }
 
+    @Test
+    public void beanValidatorWithDependencies_unrelatedFieldChanged_previousResultReused() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        binder.forField(ageField).withConverter(stringToInteger)
+                .bind(Person::getAge, Person::setAge);
+
+        AtomicInteger invocations = new AtomicInteger();
+        binder.withValidator((bean, context) -> {
+            invocations.incrementAndGet();
+            return "bad".equals(bean.getFirstName())
+                    ? ValidationResult.error("bad name")
+                    : ValidationResult.ok();
+        }, nameField);
+        binder.setBean(new Person());
+
+        nameField.setValue("foo");
+        assertEquals(1, invocations.get());
+
+        ageField.setValue("12");
+        assertEquals(1, invocations.get());
+        assertEquals(12, binder.getBean().getAge());
+
+        nameField.setValue("bad");
+        assertEquals(2, invocations.get());
+        assertEquals("foo", binder.getBean().getFirstName());
+
+        // The failed name is still pending, so the validator is run again
+        ageField.setValue("13");
+        assertEquals(3, invocations.get());
+        assertEquals(12, binder.getBean().getAge());
+    }
+
+    @Test
+    public void beanValidatorWithDependencies_beanChanged_validatorRunAgain() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        binder.forField(ageField).withConverter(stringToInteger)
+                .bind(Person::getAge, Person::setAge);
+
+        AtomicInteger invocations = new AtomicInteger();
+        binder.withValidator((bean, context) -> {
+            invocations.incrementAndGet();
+            return ValidationResult.ok();
+        }, nameField);
+        binder.setBean(new Person());
+        nameField.setValue("foo");
+        assertEquals(1, invocations.get());
+
+        binder.setBean(new Person());
+        ageField.setValue("12");
+        assertEquals(2, invocations.get());
+    }
+
     @Test
     public void validate_okBeanValidatorWithoutFieldValidators() {
         binder.forField(nameField).bind(Person::getFirstName,
@@ -15,10 +15,14 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1707,6 +1711,184 @@ public class DataCommunicatorTest {
                 Range.withLength(0, 50), lastSet);
     }
 
+    @Test
+    public void readAheadEnabled_scrollForward_nextPageServedFromCache() {
+        List<Integer> fetchedOffsets = new CopyOnWriteArrayList<>();
+        dataCommunicator.setDataProvider(
+                createDataProviderRecordingOffsets(1000, fetchedOffsets),
+                null);
+        dataCommunicator.setRequestedRange(0, pageSize);
+        fakeClientCommunication();
+        fetchedOffsets.clear();
+        dataCommunicator.enableReadAhead(Runnable::run, 2);
+
+        dataCommunicator.setRequestedRange(pageSize, pageSize);
+        fakeClientCommunication();
+
+        Assert.assertEquals(List.of(pageSize * 2, pageSize * 3, pageSize),
+                fetchedOffsets);
+        ReadAheadStatistics statistics = dataCommunicator
+                .getReadAheadStatistics().get();
+        Assert.assertEquals(0, statistics.getHits());
+        Assert.assertEquals(1, statistics.getMisses());
+
+        dataCommunicator.setRequestedRange(pageSize * 2, pageSize);
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(pageSize * 2, pageSize),
+                lastSet);
+        Assert.assertEquals(
+                List.of(pageSize * 2, pageSize * 3, pageSize, pageSize * 4),
+                fetchedOffsets);
+        statistics = dataCommunicator.getReadAheadStatistics().get();
+        Assert.assertEquals(1, statistics.getHits());
+        Assert.assertEquals(1, statistics.getMisses());
+        Assert.assertEquals(0.5, statistics.getHitRate(), 0);
+        Assert.assertEquals(4, statistics.getFetchCount());
+    }
+
+    @Test
+    public void readAheadEnabled_scrollBackward_previousPagesRead() {
+        List<Integer> fetchedOffsets = new CopyOnWriteArrayList<>();
+        dataCommunicator.setDataProvider(
+                createDataProviderRecordingOffsets(1000, fetchedOffsets),
+                null);
+        dataCommunicator.setRequestedRange(pageSize * 5, pageSize);
+        fakeClientCommunication();
+        fetchedOffsets.clear();
+        dataCommunicator.enableReadAhead(Runnable::run, 2);
+
+        dataCommunicator.setRequestedRange(pageSize * 4, pageSize);
+
+        Assert.assertEquals(List.of(pageSize * 2, pageSize * 3),
+                fetchedOffsets);
+    }
+
+    @Test
+    public void readAheadEnabled_reset_cacheCleared() {
+        List<Integer> fetchedOffsets = new CopyOnWriteArrayList<>();
+        dataCommunicator.setDataProvider(
+                createDataProviderRecordingOffsets(1000, fetchedOffsets),
+                null);
+        dataCommunicator.setRequestedRange(0, pageSize);
+        fakeClientCommunication();
+        dataCommunicator.enableReadAhead(Runnable::run, 1);
+        dataCommunicator.setRequestedRange(pageSize, pageSize);
+        fakeClientCommunication();
+
+        dataCommunicator.reset();
+        dataCommunicator.setRequestedRange(pageSize * 2, pageSize);
+        fakeClientCommunication();
+
+        Assert.assertEquals(0,
+                dataCommunicator.getReadAheadStatistics().get().getHits());
+    }
+
+    @Test
+    public void readAheadDisabled_noStatistics() {
+        Assert.assertFalse(
+                dataCommunicator.getReadAheadStatistics().isPresent());
+        dataCommunicator.enableReadAhead(Runnable::run, 1);
+        dataCommunicator.enableReadAhead(null, 0);
+        Assert.assertFalse(
+                dataCommunicator.getReadAheadStatistics().isPresent());
+    }
+
+    @Test
+    public void parallelCountAndFetch_countRunOnExecutor_rangeFetchedOnce() {
+        ExecutorService countExecutor = Executors.newSingleThreadExecutor();
+        try {
+            List<Integer> fetchedOffsets = new CopyOnWriteArrayList<>();
+            AtomicReference<Thread> countThread = new AtomicReference<>();
+            AbstractDataProvider<Item, Object> dataProvider = createDataProviderRecordingOffsets(
+                    30, fetchedOffsets);
+            dataCommunicator.setDataProvider(dataProvider, null);
+            dataCommunicator.setCountCallback(query -> {
+                countThread.set(Thread.currentThread());
+                return dataProvider.size(query);
+            });
+            dataCommunicator.enableParallelCountAndFetch(countExecutor);
+
+            dataCommunicator.setRequestedRange(0, pageSize);
+            fakeClientCommunication();
+
+            Assert.assertNotNull(countThread.get());
+            Assert.assertNotSame(Thread.currentThread(), countThread.get());
+            Assert.assertEquals(List.of(0), fetchedOffsets);
+            Assert.assertEquals("Range should be limited to the item count",
+                    Range.withLength(0, 30), lastSet);
+            Assert.assertEquals(30, dataCommunicator.getItemCount());
+        } finally {
+            countExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parallelCountAndFetch_dataProviderSizeOverridden_overrideUsedSequentially() {
+        ExecutorService countExecutor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<Thread> countThread = new AtomicReference<>();
+            dataCommunicator = new DataCommunicator<>(dataGenerator,
+                    arrayUpdater, data -> {
+                    }, element.getNode()) {
+                @Override
+                public int getDataProviderSize() {
+                    countThread.set(Thread.currentThread());
+                    return 20;
+                }
+            };
+            dataCommunicator.setDataProvider(
+                    createDataProviderRecordingOffsets(30,
+                            new CopyOnWriteArrayList<>()),
+                    null);
+            dataCommunicator.enableParallelCountAndFetch(countExecutor);
+
+            dataCommunicator.setRequestedRange(0, pageSize);
+            fakeClientCommunication();
+
+            Assert.assertSame(Thread.currentThread(), countThread.get());
+            Assert.assertEquals(20, dataCommunicator.getItemCount());
+            Assert.assertEquals(Range.withLength(0, 20), lastSet);
+            Assert.assertEquals(Duration.ZERO,
+                    dataCommunicator.getParallelQueryTimeSaved());
+        } finally {
+            countExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parallelCountAndFetch_notEnabled_noTimeSaved() {
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        dataCommunicator.setRequestedRange(0, pageSize);
+        fakeClientCommunication();
+
+        Assert.assertEquals(Duration.ZERO,
+                dataCommunicator.getParallelQueryTimeSaved());
+    }
+
+    private AbstractDataProvider<Item, Object> createDataProviderRecordingOffsets(
+            int size, List<Integer> fetchedOffsets) {
+        return new AbstractDataProvider<Item, Object>() {
+            @Override
+            public boolean isInMemory() {
+                return false;
+            }
+
+            @Override
+            public int size(Query<Item, Object> query) {
+                return size;
+            }
+
+            @Override
+            public Stream<Item> fetch(Query<Item, Object> query) {
+                fetchedOffsets.add(query.getOffset());
+                return asParallelIfRequired(IntStream.range(query.getOffset(),
+                        Math.min(size, query.getLimit() + query.getOffset())))
+                        .mapToObj(Item::new);
+            }
+        };
+    }
+
     @Tag("test-component")
     private static class TestComponent extends Component {
 
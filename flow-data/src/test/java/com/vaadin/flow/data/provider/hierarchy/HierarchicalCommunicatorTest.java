@@ -176,6 +176,26 @@ public class HierarchicalCommunicatorTest {
         testItemRemove(LEAF, false);
     }
 
+    @Test
+    public void enableReadAhead_nullExecutor_ignored() {
+        communicator.enableReadAhead(null, 1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void enableReadAhead_executor_throws() {
+        communicator.enableReadAhead(Runnable::run, 1);
+    }
+
+    @Test
+    public void enableParallelCountAndFetch_nullExecutor_ignored() {
+        communicator.enableParallelCountAndFetch(null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void enableParallelCountAndFetch_executor_throws() {
+        communicator.enableParallelCountAndFetch(Runnable::run);
+    }
+
     private void testItemRemove(String item, boolean refreshAll) {
         communicator.expand(ROOT);
         communicator.expand(FOLDER);
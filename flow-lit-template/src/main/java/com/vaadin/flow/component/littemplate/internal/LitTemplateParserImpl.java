@@ -36,6 +36,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.littemplate.BundleLitParser;
 import com.vaadin.flow.component.littemplate.LitTemplate;
 import com.vaadin.flow.component.littemplate.LitTemplateParser;
+import com.vaadin.flow.component.template.internal.TemplateMetadataIndex;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.di.ResourceProvider;
 import com.vaadin.flow.internal.AnnotationReader;
@@ -85,6 +86,14 @@ public class LitTemplateParserImpl implements LitTemplateParser {
     public TemplateData getTemplateContent(Class<? extends LitTemplate> clazz,
             String tag, VaadinService service) {
 
+        if (service.getDeploymentConfiguration().isProductionMode()) {
+            TemplateData indexed = getTemplateContentFromIndex(clazz, tag,
+                    service);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         List<Dependency> dependencies = AnnotationReader
                 .getAnnotationsFor(clazz, JsModule.class).stream()
                 .map(jsModule -> new Dependency(Dependency.Type.JS_MODULE,
@@ -124,13 +133,7 @@ public class LitTemplateParserImpl implements LitTemplateParser {
                     chosenDep.getFirst().getUrl(), chosenDep.getSecond());
         }
         if (templateElement != null) {
-            // Template needs to be wrapped in an element with id, to look
-            // like a P2 template
-            Element parent = new Element(tag);
-            parent.attr("id", tag);
-            templateElement.appendTo(parent);
-
-            return new TemplateData(chosenDep.getFirst().getUrl(),
+            return createTemplateData(chosenDep.getFirst().getUrl(), tag,
                     templateElement);
         }
 
@@ -149,6 +152,45 @@ public class LitTemplateParserImpl implements LitTemplateParser {
         return null;
     }
 
+    /**
+     * Gets the template content from the index created by the production
+     * build, which avoids locating and parsing the template sources.
+     *
+     * @param clazz
+     *            the template class
+     * @param tag
+     *            the tag name of the template
+     * @param service
+     *            the Vaadin service
+     * @return the template data, or <code>null</code> if the template is not
+     *         in the index
+     */
+    private TemplateData getTemplateContentFromIndex(
+            Class<? extends LitTemplate> clazz, String tag,
+            VaadinService service) {
+        TemplateMetadataIndex index = TemplateMetadataIndex.get(service);
+        return index.createTemplateElement(clazz.getName())
+                .map(templateElement -> {
+                    getLogger().debug(
+                            "Using indexed template metadata for the tag '{}'",
+                            tag);
+                    return createTemplateData(
+                            index.getModulePath(clazz.getName()).orElse(null),
+                            tag, templateElement);
+                }).orElse(null);
+    }
+
+    private static TemplateData createTemplateData(String modulePath,
+            String tag, Element templateElement) {
+        // Template needs to be wrapped in an element with id, to look
+        // like a P2 template
+        Element parent = new Element(tag);
+        parent.attr("id", tag);
+        templateElement.appendTo(parent);
+
+        return new TemplateData(modulePath, templateElement);
+    }
+
     /**
      * Dependency should match the tag name ignoring the extension of the file.
      *
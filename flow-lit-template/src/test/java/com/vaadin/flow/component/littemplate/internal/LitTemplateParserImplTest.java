@@ -15,13 +15,20 @@
  */
 package com.vaadin.flow.component.littemplate.internal;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import org.hamcrest.CoreMatchers;
+import org.jsoup.nodes.Element;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -31,14 +38,19 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.littemplate.LitTemplate;
 import com.vaadin.flow.component.littemplate.LitTemplateParser;
 import com.vaadin.flow.component.littemplate.LitTemplateParser.TemplateData;
+import com.vaadin.flow.component.template.internal.TemplateMetadataIndex;
 import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.di.ResourceProvider;
 import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.MockVaadinServletService;
 
 public class LitTemplateParserImplTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private MockVaadinServletService service;
     @Mock
     DeploymentConfiguration configuration;
@@ -250,6 +262,53 @@ public class LitTemplateParserImplTest {
                         "Tag name doesn't match the JS module name")));
     }
 
+    @Test
+    public void getTemplateContent_productionModeAndTemplateInIndex_indexUsed()
+            throws IOException {
+        Mockito.when(configuration.isProductionMode()).thenReturn(true);
+        Element template = new Element("template");
+        template.appendElement("div").appendElement("vaadin-button")
+                .attr("id", "save").attr("disabled", true);
+        TemplateMetadataIndex index = new TemplateMetadataIndex();
+        index.addTemplate(FooView.class.getName(), "./foo-view.js", template);
+        File indexFile = temporaryFolder.newFile();
+        Files.writeString(indexFile.toPath(), index.toJson().toString());
+        mockIndexResource(indexFile.toURI().toURL());
+
+        TemplateData templateContent = LitTemplateParserImpl.getInstance()
+                .getTemplateContent(FooView.class, "foo-view", service);
+
+        Assert.assertEquals("./foo-view.js", templateContent.getModulePath());
+        Assert.assertEquals("foo-view",
+                templateContent.getTemplateElement().parent().id());
+        Element button = templateContent.getTemplateElement()
+                .getElementById("save");
+        Assert.assertEquals("vaadin-button", button.tagName());
+        Assert.assertTrue(button.hasAttr("disabled"));
+    }
+
+    @Test
+    public void getTemplateContent_developmentMode_indexNotUsed()
+            throws IOException {
+        TemplateMetadataIndex index = new TemplateMetadataIndex();
+        index.addTemplate(FooView.class.getName(), "./foo-view.js",
+                new Element("template"));
+        File indexFile = temporaryFolder.newFile();
+        Files.writeString(indexFile.toPath(), index.toJson().toString());
+        mockIndexResource(indexFile.toURI().toURL());
+
+        Assert.assertNull(LitTemplateParserImpl.getInstance()
+                .getTemplateContent(FooView.class, "foo-view", service));
+    }
+
+    private void mockIndexResource(URL url) {
+        ResourceProvider resourceProvider = service.getContext()
+                .getAttribute(Lookup.class).lookup(ResourceProvider.class);
+        Mockito.when(resourceProvider.getApplicationResource(
+                Constants.VAADIN_SERVLET_RESOURCES + Constants.TEMPLATE_INDEX))
+                .thenReturn(url);
+    }
+
     @Tag("my-element")
     @JsModule("./frontend/MyLitElement.js")
     public class MyLitElement extends LitTemplate {
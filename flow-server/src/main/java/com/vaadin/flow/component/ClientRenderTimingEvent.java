@@ -0,0 +1,151 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component;
+
+import java.util.EventObject;
+
+/**
+ * Event created when the client reports how long it took to handle a response
+ * from the server.
+ * <p>
+ * The timings are reported together with the next message the client sends,
+ * so they always describe an earlier response. All durations are in
+ * milliseconds, or <code>-1</code> if the client could not measure them.
+ *
+ * @since
+ */
+public class ClientRenderTimingEvent extends EventObject {
+
+    private final String route;
+    private final int syncId;
+    private final int roundTripTime;
+    private final int parseTime;
+    private final int changeProcessingTime;
+    private final int domUpdateTime;
+    private final int totalTime;
+
+    /**
+     * Constructs a client render timing event.
+     *
+     * @param ui
+     *            UI for which the event occurred
+     * @param route
+     *            the route template of the active view when the timings
+     *            were received, or its path if the view is not a registered
+     *            route
+     * @param syncId
+     *            the server sync id of the handled response
+     * @param roundTripTime
+     *            time from sending the request to receiving the response, or
+     *            <code>-1</code> for messages pushed by the server
+     * @param parseTime
+     *            time spent parsing the response JSON
+     * @param changeProcessingTime
+     *            time spent applying state tree changes
+     * @param domUpdateTime
+     *            time spent updating the DOM through bindings and running
+     *            JavaScript invocations
+     * @param totalTime
+     *            total time from receiving the response until it had been
+     *            handled, including waiting for dependencies
+     */
+    public ClientRenderTimingEvent(UI ui, String route, int syncId,
+            int roundTripTime, int parseTime, int changeProcessingTime,
+            int domUpdateTime, int totalTime) {
+        super(ui);
+        this.route = route;
+        this.syncId = syncId;
+        this.roundTripTime = roundTripTime;
+        this.parseTime = parseTime;
+        this.changeProcessingTime = changeProcessingTime;
+        this.domUpdateTime = domUpdateTime;
+        this.totalTime = totalTime;
+    }
+
+    @Override
+    public UI getSource() {
+        return (UI) super.getSource();
+    }
+
+    /**
+     * Gets the route template, e.g. <code>orders/:id</code>, of the view that
+     * was active when the timings were received. The path of the view is used
+     * if it is not a registered route.
+     *
+     * @return the route template, not <code>null</code>
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Gets the server sync id of the response the timings describe.
+     *
+     * @return the server sync id
+     */
+    public int getSyncId() {
+        return syncId;
+    }
+
+    /**
+     * Gets the time from sending a request until its response was received,
+     * including the time the server spent handling it.
+     *
+     * @return the round trip time, or <code>-1</code> if the response was
+     *         pushed by the server
+     */
+    public int getRoundTripTime() {
+        return roundTripTime;
+    }
+
+    /**
+     * Gets the time spent parsing the response JSON.
+     *
+     * @return the parse time
+     */
+    public int getParseTime() {
+        return parseTime;
+    }
+
+    /**
+     * Gets the time spent applying the state tree changes of the response.
+     *
+     * @return the change processing time
+     */
+    public int getChangeProcessingTime() {
+        return changeProcessingTime;
+    }
+
+    /**
+     * Gets the time spent updating the DOM through bindings and running the
+     * JavaScript invocations of the response.
+     *
+     * @return the DOM update time
+     */
+    public int getDomUpdateTime() {
+        return domUpdateTime;
+    }
+
+    /**
+     * Gets the total time from receiving the response until it had been
+     * handled, including waiting for dependencies to load.
+     *
+     * @return the total handling time
+     */
+    public int getTotalTime() {
+        return totalTime;
+    }
+}
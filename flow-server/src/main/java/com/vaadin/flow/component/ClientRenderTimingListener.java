@@ -0,0 +1,38 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component;
+
+import java.io.Serializable;
+
+/**
+ * Listener for the time the browser spent handling server responses, as
+ * reported by the client.
+ *
+ * @see com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_CLIENT_RENDER_TIMING
+ * @since
+ */
+@FunctionalInterface
+public interface ClientRenderTimingListener extends Serializable {
+
+    /**
+     * Notifies about the timings of a response handled by the client.
+     *
+     * @param event
+     *            event containing the timings and the UI that reported them
+     */
+    void clientRenderTiming(ClientRenderTimingEvent event);
+
+}
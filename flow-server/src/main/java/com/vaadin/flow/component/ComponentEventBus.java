@@ -16,6 +16,7 @@
 package com.vaadin.flow.component;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -28,8 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
+import com.vaadin.flow.component.ComponentEventBusUtil.EventDataDecoder;
 import com.vaadin.flow.dom.DebouncePhase;
 import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.dom.DomEvent;
@@ -37,14 +37,8 @@ import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.AnnotationReader;
 import com.vaadin.flow.internal.JacksonCodec;
-import com.vaadin.flow.internal.JacksonUtils;
-import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.shared.Registration;
 
-import elemental.json.Json;
-import elemental.json.JsonNull;
-import elemental.json.JsonValue;
-
 /**
  * An event bus for {@link Component}s.
  * <p>
@@ -343,50 +337,7 @@ public class ComponentEventBus implements Serializable {
         }
     }
 
-    /**
-     * Creates a list of data objects which can be passed to the constructor
-     * returned by {@link ComponentEventBusUtil#getEventConstructor(Class)} as
-     * parameters 3+.
-     *
-     * @param domEvent
-     *            the DOM event containing the data
-     * @param eventType
-     *            the component event type
-     * @return a list of event data objects in the same order as defined in the
-     *         component event constructor
-     */
-    private List<Object> createEventDataObjects(DomEvent domEvent,
-            Class<? extends ComponentEvent<?>> eventType) {
-        List<Object> eventDataObjects = new ArrayList<>();
-
-        LinkedHashMap<String, Class<?>> expressions = ComponentEventBusUtil
-                .getEventDataExpressions(eventType);
-        expressions.forEach((expression, type) -> {
-            if (Component.class.isAssignableFrom(type)
-                    || type == Element.class) {
-                eventDataObjects.add(parseStateNodeIdToComponentReference(
-                        domEvent, type, expression));
-            } else if (JsonNode.class.isAssignableFrom(type)) {
-                // TODO: Decode and remove if when domEvent uses jackson.
-                JsonValue eventValue = domEvent.getEventData().get(expression);
-                if (eventValue == null || eventValue instanceof JsonNull) {
-                    eventDataObjects.add(null);
-                } else {
-                    eventDataObjects.add(JacksonUtils.mapElemental(eventValue));
-                }
-            } else {
-                JsonValue jsonValue = domEvent.getEventData().get(expression);
-                if (jsonValue == null) {
-                    jsonValue = Json.createNull();
-                }
-                Object value = JsonCodec.decodeAs(jsonValue, type);
-                eventDataObjects.add(value);
-            }
-        });
-        return eventDataObjects;
-    }
-
-    private Object parseStateNodeIdToComponentReference(DomEvent event,
+    Object parseStateNodeIdToComponentReference(DomEvent event,
             Class<?> expectedEventDataType, String eventDataExpression) {
         assert Component.class.isAssignableFrom(expectedEventDataType)
                 || Element.class == expectedEventDataType;
@@ -526,15 +477,21 @@ public class ComponentEventBus implements Serializable {
                         source.getClass().getName()));
             }
 
-            List<Object> eventData = createEventDataObjects(domEvent,
-                    eventType);
-            Object[] params = new Object[eventData.size() + 2];
+            EventDataDecoder[] decoders = ComponentEventBusUtil
+                    .getEventDataDecoders(eventType);
+            Object[] params = new Object[decoders.length + 2];
             params[0] = source;
             params[1] = Boolean.TRUE; // From client
-            for (int i = 0; i < eventData.size(); i++) {
-                params[i + 2] = eventData.get(i);
+            for (int i = 0; i < decoders.length; i++) {
+                params[i + 2] = decoders[i].decode(this, domEvent);
             }
-            return c.newInstance(params);
+
+            MethodHandle handle = ComponentEventBusUtil
+                    .getEventConstructorHandle(eventType);
+            if (handle == null) {
+                return c.newInstance(params);
+            }
+            return eventType.cast(invokeConstructor(handle, params));
         } catch (InstantiationException | IllegalAccessException
                 | IllegalArgumentException | InvocationTargetException
                 | SecurityException e) {
@@ -544,4 +501,14 @@ public class ComponentEventBus implements Serializable {
                     e);
         }
     }
+
+    private static Object invokeConstructor(MethodHandle handle,
+            Object[] params) throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(params);
+        } catch (Throwable e) { // NOSONAR
+            // Report the same way as Constructor.newInstance would
+            throw new InvocationTargetException(e);
+        }
+    }
 }
@@ -15,16 +15,29 @@
  */
 package com.vaadin.flow.component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
 
+import elemental.json.Json;
+import elemental.json.JsonNull;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
 /**
  * Static helpers and caching functionality for {@link ComponentEventBus}.
  *
@@ -47,13 +60,43 @@ public class ComponentEventBusUtil {
     private static class EventTypeInfo {
         private final LinkedHashMap<String, Class<?>> dataExpressions;
         private final Constructor<? extends ComponentEvent<?>> eventConstructor;
+        private final EventDataDecoder[] dataDecoders;
+        private final MethodHandle constructorHandle;
 
         public EventTypeInfo(Class<? extends ComponentEvent<?>> type) {
             eventConstructor = findEventConstructor(type);
             dataExpressions = findEventDataExpressions(eventConstructor);
+            dataDecoders = dataExpressions.entrySet().stream()
+                    .map(entry -> createDecoder(entry.getKey(),
+                            entry.getValue()))
+                    .toArray(EventDataDecoder[]::new);
+            constructorHandle = createConstructorHandle(eventConstructor);
         }
     }
 
+    /**
+     * Extracts the value of a single event data expression from a DOM event
+     * and converts it to the type of the corresponding constructor parameter.
+     * <p>
+     * Decoders are resolved once per event type so that firing an event does
+     * not need to look up the conversion based on the parameter type again.
+     */
+    @FunctionalInterface
+    interface EventDataDecoder {
+
+        /**
+         * Decodes the event data value from the given DOM event.
+         *
+         * @param bus
+         *            the event bus handling the DOM event, used for resolving
+         *            element and component references
+         * @param domEvent
+         *            the DOM event containing the data
+         * @return the decoded value, may be <code>null</code>
+         */
+        Object decode(ComponentEventBus bus, DomEvent domEvent);
+    }
+
     private ComponentEventBusUtil() {
         // Static methods and static/shared cache only
     }
@@ -76,6 +119,101 @@ public class ComponentEventBusUtil {
         return cache.get(eventType).dataExpressions;
     }
 
+    /**
+     * Gets the decoders for the event data of the given event type, in the
+     * same order as the event data parameters of the constructor returned by
+     * {@link #getEventConstructor(Class)}.
+     *
+     * @param eventType
+     *            the component event type
+     * @return an array of decoders, one for each event data expression
+     */
+    static EventDataDecoder[] getEventDataDecoders(
+            Class<? extends ComponentEvent<?>> eventType) {
+        return cache.get(eventType).dataDecoders;
+    }
+
+    /**
+     * Gets a method handle for the constructor returned by
+     * {@link #getEventConstructor(Class)}, adapted to take all constructor
+     * arguments as a single {@code Object[]} and to return {@code Object}.
+     *
+     * @param eventType
+     *            the component event type
+     * @return the constructor method handle, or <code>null</code> if the
+     *         constructor is not accessible through a method handle and
+     *         reflection should be used instead
+     */
+    static MethodHandle getEventConstructorHandle(
+            Class<? extends ComponentEvent<?>> eventType) {
+        return cache.get(eventType).constructorHandle;
+    }
+
+    private static MethodHandle createConstructorHandle(
+            Constructor<?> constructor) {
+        try {
+            return MethodHandles.publicLookup()
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class,
+                            constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class,
+                            Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static EventDataDecoder createDecoder(String expression,
+            Class<?> type) {
+        if (Component.class.isAssignableFrom(type) || type == Element.class) {
+            return (bus, domEvent) -> bus.parseStateNodeIdToComponentReference(
+                    domEvent, type, expression);
+        } else if (JsonNode.class.isAssignableFrom(type)) {
+            // TODO: Decode directly when domEvent uses jackson.
+            return (bus, domEvent) -> {
+                JsonValue value = domEvent.getEventData().get(expression);
+                if (value == null || value instanceof JsonNull) {
+                    return null;
+                }
+                return JacksonUtils.mapElemental(value);
+            };
+        }
+        Function<JsonValue, Object> valueDecoder = createValueDecoder(type);
+        return (bus, domEvent) -> {
+            JsonValue value = domEvent.getEventData().get(expression);
+            if (value == null) {
+                value = Json.createNull();
+            }
+            if (value.getType() == JsonType.NULL) {
+                return JsonCodec.decodeAs(value, type);
+            }
+            return valueDecoder.apply(value);
+        };
+    }
+
+    /**
+     * Resolves the conversion done by
+     * {@link JsonCodec#decodeAs(JsonValue, Class)} for the given type up
+     * front. Only used for non-null values.
+     */
+    private static Function<JsonValue, Object> createValueDecoder(
+            Class<?> type) {
+        Class<?> convertedType = ReflectTools.convertPrimitiveType(type);
+        if (type == String.class) {
+            return JsonValue::asString;
+        } else if (convertedType == Boolean.class) {
+            return value -> Boolean.valueOf(value.asBoolean());
+        } else if (convertedType == Double.class) {
+            return value -> Double.valueOf(value.asNumber());
+        } else if (convertedType == Integer.class) {
+            return value -> Integer.valueOf((int) value.asNumber());
+        } else if (JsonValue.class.isAssignableFrom(type)) {
+            return type::cast;
+        }
+        // Unsupported types fail when decoded, like before
+        return value -> JsonCodec.decodeAs(value, type);
+    }
+
     /**
      * Scans the event type and forms a map of event data expression (for
      * {@link com.vaadin.flow.dom.DomListenerRegistration#addEventData(String)}
@@ -37,6 +37,8 @@ import com.fasterxml.jackson.databind.node.BaseJsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.ClientRenderTimingListener;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.HasElement;
@@ -78,7 +80,9 @@ import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.internal.AfterNavigationHandler;
 import com.vaadin.flow.router.internal.BeforeEnterHandler;
 import com.vaadin.flow.router.internal.BeforeLeaveHandler;
+import com.vaadin.flow.router.internal.NavigationMetricsRecorder;
 import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.PushConnection;
@@ -183,6 +187,8 @@ public class UIInternals implements Serializable {
      */
     private long lastHeartbeatTimestamp = System.currentTimeMillis();
 
+    private long lastActivityTimestamp = System.currentTimeMillis();
+
     private List<PendingJavaScriptInvocation> pendingJsInvocations = new ArrayList<>();
 
     private final HashMap<StateNode, PendingJavaScriptInvocationDetachListener> pendingJsInvocationDetachListeners = new HashMap<>();
@@ -207,6 +213,8 @@ public class UIInternals implements Serializable {
 
     private Location lastHandledNavigation = null;
 
+    private transient NavigationMetricsRecorder navigationMetricsRecorder;
+
     private Location locationForRefresh = null;
 
     private ContinueNavigationAction continueNavigationAction = null;
@@ -404,6 +412,31 @@ public class UIInternals implements Serializable {
                 .forEach(listener -> listener.heartbeat(heartbeatEvent));
     }
 
+    /**
+     * Returns the timestamp of the last UIDL request received for the related
+     * UI, i.e. the last time the user interacted with the UI.
+     *
+     * @return the time of the last UIDL request, in milliseconds since the
+     *         epoch
+     * @see com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_UI_SPILL_TIMEOUT
+     */
+    public long getLastActivityTimestamp() {
+        return lastActivityTimestamp;
+    }
+
+    /**
+     * Sets the timestamp of the last UIDL request received for the related UI.
+     * Called by the framework whenever the application receives a UIDL request
+     * for the UI.
+     *
+     * @param lastActivity
+     *            the time of the last UIDL request, in milliseconds since the
+     *            epoch
+     */
+    public void setLastActivityTimestamp(long lastActivity) {
+        lastActivityTimestamp = lastActivity;
+    }
+
     @SuppressWarnings("unchecked")
     private static Class<? extends NodeFeature>[] getRootNodeFeatures() {
         // Start with all element features
@@ -469,6 +502,21 @@ public class UIInternals implements Serializable {
         }
     }
 
+    /**
+     * Disconnects the related UI from its session without detaching it. Used
+     * when the UI has been written to disk because of inactivity, in which case
+     * this instance is replaced by the copy restored from disk when the UI is
+     * used again. Any further attempt to access this instance fails with a
+     * {@link com.vaadin.flow.component.UIDetachedException}.
+     * <p>
+     * This method should only be called by the framework.
+     *
+     * @see com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_UI_SPILL_TIMEOUT
+     */
+    public void disconnectSpilledUI() {
+        session = null;
+    }
+
     /**
      * Returns the internal push connection object used by the related UI. This
      * method should only be called by the framework.
@@ -553,6 +601,40 @@ public class UIInternals implements Serializable {
         return addListener(HeartbeatListener.class, listener);
     }
 
+    /**
+     * Adds a listener that is notified when the client reports how long it
+     * took to handle a response for this UI.
+     * <p>
+     * Timings are only reported when
+     * {@link InitParameters#SERVLET_PARAMETER_CLIENT_RENDER_TIMING} is
+     * enabled. Listeners added to
+     * {@link VaadinService#addClientRenderTimingListener(ClientRenderTimingListener)}
+     * are notified for all UIs.
+     *
+     * @param listener
+     *            the client render timing listener
+     * @return handler to remove the event listener
+     */
+    public Registration addClientRenderTimingListener(
+            ClientRenderTimingListener listener) {
+        return addListener(ClientRenderTimingListener.class, listener);
+    }
+
+    /**
+     * Notifies the listeners of this UI and of the service about timings
+     * reported by the client.
+     *
+     * @param event
+     *            the event to fire
+     */
+    public void fireClientRenderTiming(ClientRenderTimingEvent event) {
+        getListeners(ClientRenderTimingListener.class)
+                .forEach(listener -> listener.clientRenderTiming(event));
+        if (session != null) {
+            session.getService().fireClientRenderTimingListeners(event);
+        }
+    }
+
     private <E> Registration addListener(Class<E> handler, E listener) {
         session.checkHasLock();
         List<E> list = (List<E>) listeners.computeIfAbsent(handler,
@@ -1132,6 +1214,32 @@ public class UIInternals implements Serializable {
         }
     }
 
+    /**
+     * Gets the recorder of the ongoing navigation.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @return the navigation metrics recorder, or {@code null} if no
+     *         navigation is being recorded
+     */
+    public NavigationMetricsRecorder getNavigationMetricsRecorder() {
+        return navigationMetricsRecorder;
+    }
+
+    /**
+     * Sets the recorder of the ongoing navigation.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param navigationMetricsRecorder
+     *            the navigation metrics recorder, or {@code null} once the
+     *            navigation is complete
+     */
+    public void setNavigationMetricsRecorder(
+            NavigationMetricsRecorder navigationMetricsRecorder) {
+        this.navigationMetricsRecorder = navigationMetricsRecorder;
+    }
+
     /**
      * Store refresh location for refreshCurrentRoute.
      *
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.template.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.io.IOUtils;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.di.ResourceProvider;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.JsonDecodingException;
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+
+/**
+ * Precomputed metadata of the elements with an id in each template.
+ * <p>
+ * The production build parses the template sources once and stores the tag
+ * and attributes of every element with an id, per template class, in
+ * {@link Constants#TEMPLATE_INDEX}. At runtime the metadata is used instead of
+ * locating, fetching and parsing the template source, which is what
+ * {@link IdCollector} would otherwise need for the first instance of every
+ * template class.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public final class TemplateMetadataIndex {
+
+    private static final String MODULE = "module";
+    private static final String ELEMENTS = "elements";
+    private static final String TAG = "tag";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String TEMPLATE_TAG_NAME = "template";
+
+    /**
+     * The metadata of an element with an id.
+     *
+     * @param tag
+     *            the tag name of the element
+     * @param attributes
+     *            the attributes of the element, with <code>null</code> values
+     *            for boolean attributes
+     */
+    private record ElementMetadata(String tag, Map<String, String> attributes) {
+    }
+
+    /**
+     * The metadata of a template.
+     *
+     * @param modulePath
+     *            the path of the module containing the template
+     * @param elements
+     *            the elements of the template by id
+     */
+    private record TemplateMetadata(String modulePath,
+            Map<String, ElementMetadata> elements) {
+    }
+
+    private final Map<String, TemplateMetadata> templates = new LinkedHashMap<>();
+
+    /**
+     * Wrapper used to store the index in the {@link VaadinContext}, an empty
+     * index is stored if no index resource is available.
+     */
+    private record Holder(TemplateMetadataIndex index) {
+    }
+
+    /**
+     * Adds the metadata of the given template, replacing any previous metadata
+     * of the template class.
+     *
+     * @param templateClassName
+     *            the fully qualified name of the template class
+     * @param modulePath
+     *            the path of the module containing the template
+     * @param templateRoot
+     *            the parsed template, not <code>null</code>
+     */
+    public void addTemplate(String templateClassName, String modulePath,
+            Element templateRoot) {
+        Map<String, ElementMetadata> elements = new LinkedHashMap<>();
+        for (Element element : templateRoot.select("[id]")) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (Attribute attribute : element.attributes()) {
+                // Same check as used by IdCollector for boolean attributes
+                boolean booleanAttribute = attribute.getKey()
+                        .equals(attribute.toString());
+                attributes.put(attribute.getKey(),
+                        booleanAttribute ? null : attribute.getValue());
+            }
+            // The first element wins, like Element.getElementById
+            elements.putIfAbsent(element.id(),
+                    new ElementMetadata(element.tagName(), attributes));
+        }
+        templates.put(templateClassName,
+                new TemplateMetadata(modulePath, elements));
+    }
+
+    /**
+     * Checks whether the index contains any templates.
+     *
+     * @return <code>true</code> if there are no templates in the index
+     */
+    public boolean isEmpty() {
+        return templates.isEmpty();
+    }
+
+    /**
+     * Gets the path of the module containing the template of the given class.
+     *
+     * @param templateClassName
+     *            the fully qualified name of the template class
+     * @return the module path, or an empty optional if the template is not in
+     *         the index
+     */
+    public Optional<String> getModulePath(String templateClassName) {
+        return Optional.ofNullable(templates.get(templateClassName))
+                .map(TemplateMetadata::modulePath);
+    }
+
+    /**
+     * Creates a template element containing the elements with an id of the
+     * given template.
+     * <p>
+     * The elements are added as direct children of the returned element, only
+     * their tag names and attributes are retained.
+     *
+     * @param templateClassName
+     *            the fully qualified name of the template class
+     * @return a new template element, or an empty optional if the template is
+     *         not in the index
+     */
+    public Optional<Element> createTemplateElement(String templateClassName) {
+        TemplateMetadata metadata = templates.get(templateClassName);
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        Element template = new Element(TEMPLATE_TAG_NAME);
+        metadata.elements().values().forEach(elementMetadata -> {
+            Element element = template.appendElement(elementMetadata.tag());
+            elementMetadata.attributes().forEach((key, value) -> {
+                if (value == null) {
+                    element.attributes().put(key, true);
+                } else {
+                    element.attr(key, value);
+                }
+            });
+        });
+        return Optional.of(template);
+    }
+
+    /**
+     * Converts the index into JSON.
+     *
+     * @return the index as JSON
+     */
+    public ObjectNode toJson() {
+        ObjectNode json = JacksonUtils.createObjectNode();
+        templates.forEach((className, metadata) -> {
+            ObjectNode template = json.putObject(className);
+            template.put(MODULE, metadata.modulePath());
+            ObjectNode elements = template.putObject(ELEMENTS);
+            metadata.elements().forEach((id, elementMetadata) -> {
+                ObjectNode element = elements.putObject(id);
+                element.put(TAG, elementMetadata.tag());
+                ObjectNode attributes = element.putObject(ATTRIBUTES);
+                elementMetadata.attributes().forEach((key, value) -> {
+                    if (value == null) {
+                        attributes.put(key, true);
+                    } else {
+                        attributes.put(key, value);
+                    }
+                });
+            });
+        });
+        return json;
+    }
+
+    /**
+     * Reads an index from JSON created using {@link #toJson()}.
+     *
+     * @param json
+     *            the JSON to read
+     * @return the index
+     */
+    public static TemplateMetadataIndex fromJson(JsonNode json) {
+        TemplateMetadataIndex index = new TemplateMetadataIndex();
+        json.properties().forEach(template -> {
+            Map<String, ElementMetadata> elements = new LinkedHashMap<>();
+            template.getValue().path(ELEMENTS).properties()
+                    .forEach(element -> {
+                        Map<String, String> attributes = new LinkedHashMap<>();
+                        element.getValue().path(ATTRIBUTES).properties()
+                                .forEach(attribute -> attributes.put(
+                                        attribute.getKey(),
+                                        attribute.getValue().isBoolean() ? null
+                                                : attribute.getValue()
+                                                        .asText()));
+                        elements.put(element.getKey(), new ElementMetadata(
+                                element.getValue().path(TAG).asText(),
+                                Collections.unmodifiableMap(attributes)));
+                    });
+            index.templates.put(template.getKey(),
+                    new TemplateMetadata(
+                            template.getValue().path(MODULE).asText(),
+                            Collections.unmodifiableMap(elements)));
+        });
+        return index;
+    }
+
+    /**
+     * Gets the index created by the production build for the application of
+     * the given service.
+     * <p>
+     * The index is read once and then kept in the {@link VaadinContext}.
+     *
+     * @param service
+     *            the related service
+     * @return the index, empty if no index is available
+     */
+    public static TemplateMetadataIndex get(VaadinService service) {
+        VaadinContext context = service.getContext();
+        return context.getAttribute(Holder.class,
+                () -> new Holder(load(context))).index();
+    }
+
+    private static TemplateMetadataIndex load(VaadinContext context) {
+        Lookup lookup = context.getAttribute(Lookup.class);
+        ResourceProvider resourceProvider = lookup == null ? null
+                : lookup.lookup(ResourceProvider.class);
+        URL url = resourceProvider == null ? null
+                : resourceProvider.getApplicationResource(
+                        Constants.VAADIN_SERVLET_RESOURCES
+                                + Constants.TEMPLATE_INDEX);
+        if (url == null) {
+            return new TemplateMetadataIndex();
+        }
+        try (InputStream stream = url.openStream()) {
+            TemplateMetadataIndex index = fromJson(JacksonUtils.readTree(
+                    IOUtils.toString(stream, StandardCharsets.UTF_8)));
+            getLogger().debug("Loaded metadata of {} templates from {}",
+                    index.templates.size(), url);
+            return index;
+        } catch (IOException | JsonDecodingException e) {
+            getLogger().warn("Unable to read the template index {}", url, e);
+            return new TemplateMetadataIndex();
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(TemplateMetadataIndex.class);
+    }
+}
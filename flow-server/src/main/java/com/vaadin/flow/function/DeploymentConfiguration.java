@@ -50,6 +50,56 @@ public interface DeploymentConfiguration
      */
     boolean isRequestTiming();
 
+    /**
+     * Returns whether the client reports how long it took to handle each
+     * response from the server.
+     *
+     * @return <code>true</code> if the client reports timings,
+     *         <code>false</code> otherwise
+     */
+    default boolean isClientRenderTiming() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_CLIENT_RENDER_TIMING, false);
+    }
+
+    /**
+     * Returns whether the time spent waiting for and holding session locks is
+     * recorded.
+     *
+     * @return <code>true</code> if session locks are profiled,
+     *         <code>false</code> otherwise
+     */
+    default boolean isSessionLockProfiling() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_LOCK_PROFILING, false);
+    }
+
+    /**
+     * Returns the number of seconds without UIDL requests after which a UI is
+     * written to disk and removed from memory until it is used again. UIs
+     * using push are never spilled.
+     *
+     * @return the spill timeout in seconds, or a negative number if UIs are
+     *         always kept in memory
+     */
+    default int getUISpillTimeout() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_UI_SPILL_TIMEOUT, -1,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns the directory where inactive UIs are written to.
+     *
+     * @return the directory path, or <code>null</code> to use a temporary
+     *         directory
+     * @see #getUISpillTimeout()
+     */
+    default String getUISpillDirectory() {
+        return getStringProperty(
+                InitParameters.SERVLET_PARAMETER_UI_SPILL_DIRECTORY, null);
+    }
+
     /**
      * Returns whether sync id checking is enabled. The sync id is used to
      * gracefully handle situations when the client sends a message to a
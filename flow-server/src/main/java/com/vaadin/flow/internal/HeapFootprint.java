@@ -0,0 +1,337 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.internal.nodefeature.ComponentMapping;
+import com.vaadin.flow.internal.nodefeature.NodeFeature;
+
+/**
+ * An estimate of the heap memory retained by the state tree of a UI, broken
+ * down by node feature type and by component type.
+ * <p>
+ * The estimate is computed from the known shallow sizes of the internal data
+ * structures of the state nodes and their features, assuming a 64-bit JVM with
+ * compressed object pointers. Values which are not part of the state tree, such
+ * as the fields of components, are only included if a component provides them
+ * through a {@link Contributor}. The estimate is thus a lower bound suitable
+ * for finding the views and components which are heavy, not an exact
+ * measurement.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class HeapFootprint implements Serializable {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int HASH_MAP_ENTRY = 32;
+
+    private final Map<Class<? extends NodeFeature>, Long> bytesByFeature = new HashMap<>();
+    private final Map<Class<? extends Component>, Long> bytesByComponentType = new HashMap<>();
+    private long totalBytes;
+    private int nodeCount;
+
+    /**
+     * Provides an estimate of heap memory retained outside of the state tree,
+     * e.g. by the data communication of a component.
+     * <p>
+     * The estimate of a component is included if the component implements
+     * this interface, or if a contributor has been set for the component using
+     * {@link ComponentUtil#setData(Component, Class, Object)} with
+     * <code>Contributor.class</code> as the key.
+     */
+    @FunctionalInterface
+    public interface Contributor extends Serializable {
+        /**
+         * Estimates the number of bytes retained by this instance that are not
+         * part of the state tree.
+         *
+         * @return the estimated number of bytes
+         */
+        long estimateRetainedSize();
+    }
+
+    private HeapFootprint() {
+        // Instances are created by estimate
+    }
+
+    /**
+     * Estimates the heap memory retained by the state tree of the given UI.
+     * <p>
+     * The session of the UI must be locked. The estimate walks all nodes of
+     * the UI, so prefer {@link #estimateAsync(UI)} when estimating from a
+     * background thread in production.
+     *
+     * @param ui
+     *            the UI to estimate, not <code>null</code>
+     * @return the estimate
+     */
+    public static HeapFootprint estimate(UI ui) {
+        assert ui.getSession() == null || ui.getSession().hasLock();
+
+        HeapFootprint footprint = new HeapFootprint();
+        Deque<StateNode> nodes = new ArrayDeque<>();
+        Deque<Class<? extends Component>> owners = new ArrayDeque<>();
+        nodes.push(ui.getInternals().getStateTree().getRootNode());
+        owners.push(UI.class);
+
+        while (!nodes.isEmpty()) {
+            StateNode node = nodes.pop();
+            Class<? extends Component> owner = owners.pop();
+
+            Component component = null;
+            if (node.hasFeature(ComponentMapping.class)) {
+                component = node.getFeatureIfInitialized(ComponentMapping.class)
+                        .flatMap(ComponentMapping::getComponent).orElse(null);
+            }
+            if (component != null) {
+                owner = component.getClass();
+            }
+
+            long[] featureBytes = new long[1];
+            long nodeBytes = node.estimateRetainedSize((feature, bytes) -> {
+                footprint.addFeature(feature, bytes);
+                featureBytes[0] += bytes;
+            });
+            // Features count towards the component owning the node
+            nodeBytes += featureBytes[0];
+            if (component != null) {
+                nodeBytes += estimateContributors(component);
+            }
+            footprint.addNode(owner, nodeBytes);
+
+            Class<? extends Component> childOwner = owner;
+            node.forEachChild(child -> {
+                nodes.push(child);
+                owners.push(childOwner);
+            });
+        }
+        return footprint;
+    }
+
+    /**
+     * Estimates the heap memory retained by the state tree of the given UI
+     * once the session of the UI is available, without blocking the calling
+     * thread.
+     * <p>
+     * The estimate is run as a {@link UI#access(com.vaadin.flow.server.Command)
+     * UI access task}, i.e. after any request currently being handled for the
+     * session, so it does not delay user interaction.
+     *
+     * @param ui
+     *            the UI to estimate, not <code>null</code>
+     * @return a future completed with the estimate, or completed
+     *         exceptionally if the estimate fails or the UI is detached
+     */
+    public static CompletableFuture<HeapFootprint> estimateAsync(UI ui) {
+        CompletableFuture<HeapFootprint> result = new CompletableFuture<>();
+        // The detach handler also covers a UI detached while the task is
+        // waiting for the session lock
+        ui.accessLater(() -> {
+            try {
+                result.complete(estimate(ui));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, () -> result.completeExceptionally(new UIDetachedException()))
+                .run();
+        return result;
+    }
+
+    private static long estimateContributors(Component component) {
+        long bytes = 0;
+        if (component instanceof Contributor contributor) {
+            bytes += contributor.estimateRetainedSize();
+        }
+        Contributor contributor = ComponentUtil.getData(component,
+                Contributor.class);
+        if (contributor != null && contributor != component) {
+            bytes += contributor.estimateRetainedSize();
+        }
+        return bytes;
+    }
+
+    private void addFeature(NodeFeature feature, long bytes) {
+        bytesByFeature.merge(feature.getClass(), bytes, Long::sum);
+    }
+
+    private void addNode(Class<? extends Component> owner, long bytes) {
+        bytesByComponentType.merge(owner, bytes, Long::sum);
+        totalBytes += bytes;
+        nodeCount++;
+    }
+
+    /**
+     * Gets the estimated total number of bytes retained by the state tree.
+     *
+     * @return the estimated number of bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Gets the number of state nodes included in the estimate.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the estimated number of bytes retained by the features of each
+     * type, summed over all nodes.
+     *
+     * @return an unmodifiable map from feature type to estimated bytes
+     */
+    public Map<Class<? extends NodeFeature>, Long> getBytesByFeature() {
+        return Collections.unmodifiableMap(bytesByFeature);
+    }
+
+    /**
+     * Gets the estimated number of bytes retained by the nodes of each
+     * component type, including their features. Nodes which are not mapped to
+     * a component, such as the inner elements of a component, are attributed
+     * to the closest ancestor component. The values add up to
+     * {@link #getTotalBytes()}.
+     *
+     * @return an unmodifiable map from component type to estimated bytes
+     */
+    public Map<Class<? extends Component>, Long> getBytesByComponentType() {
+        return Collections.unmodifiableMap(bytesByComponentType);
+    }
+
+    /**
+     * Estimates the shallow size of an object with the given number of
+     * fields, counting each field as a reference.
+     *
+     * @param fields
+     *            the number of fields
+     * @return the estimated number of bytes
+     */
+    public static long estimateObjectSize(int fields) {
+        return align(OBJECT_HEADER + (long) REFERENCE * fields);
+    }
+
+    /**
+     * Estimates the size of a reference array with the given length.
+     *
+     * @param length
+     *            the length of the array
+     * @return the estimated number of bytes
+     */
+    public static long estimateArraySize(int length) {
+        return align(ARRAY_HEADER + (long) REFERENCE * length);
+    }
+
+    /**
+     * Estimates the size of an array list with the given number of items,
+     * excluding the items themselves.
+     *
+     * @param size
+     *            the number of items
+     * @return the estimated number of bytes
+     */
+    public static long estimateListSize(int size) {
+        return estimateObjectSize(3) + estimateArraySize(size);
+    }
+
+    /**
+     * Estimates the size of a hash map or hash set with the given number of
+     * entries, excluding the keys and values themselves.
+     *
+     * @param size
+     *            the number of entries
+     * @return the estimated number of bytes
+     */
+    public static long estimateHashMapSize(int size) {
+        int tableLength = 0;
+        if (size > 0) {
+            // Default load factor 0.75 and minimum capacity 16
+            tableLength = Math.max(16,
+                    Integer.highestOneBit((int) (size / 0.75f)) << 1);
+        }
+        return estimateObjectSize(9) + estimateArraySize(tableLength)
+                + (long) HASH_MAP_ENTRY * size;
+    }
+
+    /**
+     * Estimates the size of a value stored in a node feature. State nodes are
+     * not included as they are estimated separately.
+     *
+     * @param value
+     *            the value, may be <code>null</code>
+     * @return the estimated number of bytes
+     */
+    public static long estimateValueSize(Object value) {
+        if (value == null || value instanceof StateNode
+                || value instanceof Boolean) {
+            return 0;
+        } else if (value instanceof String string) {
+            // Compact strings store latin-1 characters in one byte each
+            return estimateObjectSize(3) + align(ARRAY_HEADER + string.length());
+        } else if (value instanceof Integer) {
+            return estimateObjectSize(1);
+        } else if (value instanceof Long || value instanceof Double) {
+            return estimateObjectSize(2);
+        } else if (value instanceof JsonNode json) {
+            return estimateJsonSize(json);
+        }
+        return estimateObjectSize(2);
+    }
+
+    private static long estimateJsonSize(JsonNode json) {
+        if (json.isObject()) {
+            long bytes = estimateObjectSize(1) + estimateHashMapSize(json.size());
+            for (Map.Entry<String, JsonNode> entry : json.properties()) {
+                bytes += estimateValueSize(entry.getKey())
+                        + estimateJsonSize(entry.getValue());
+            }
+            return bytes;
+        } else if (json.isArray()) {
+            long bytes = estimateObjectSize(1) + estimateListSize(json.size());
+            for (JsonNode item : json) {
+                bytes += estimateJsonSize(item);
+            }
+            return bytes;
+        } else if (json.isTextual()) {
+            return estimateObjectSize(1) + estimateValueSize(json.textValue());
+        }
+        return estimateObjectSize(2);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -125,6 +126,19 @@ public class StateNode implements Serializable {
          */
         private final Map<Class<? extends NodeFeature>, Integer> mappings = new HashMap<>();
 
+        /**
+         * The same information as in {@link #mappings}, but indexed by the
+         * feature priority from {@link NodeFeatureRegistry#getPriority(Class)}
+         * so that the hot feature lookup doesn't need to hash the type. The
+         * value is <code>-1</code> for features not in this set.
+         */
+        private final int[] indexesByPriority;
+
+        /**
+         * Bitmask of the indexes of {@link #reportedFeatures}.
+         */
+        private final long reportedFeaturesMask;
+
         public FeatureSet(FeatureSetKey featureSetKey) {
             reportedFeatures = featureSetKey.reportedFeatures;
 
@@ -132,6 +146,31 @@ public class StateNode implements Serializable {
                     .sorted(NodeFeatureRegistry.PRIORITY_COMPARATOR)
                     .forEach(key -> mappings.put(key,
                             Integer.valueOf(mappings.size())));
+
+            indexesByPriority = new int[NodeFeatureRegistry.getFeatures()
+                    .size()];
+            Arrays.fill(indexesByPriority, -1);
+            mappings.forEach((type, index) -> {
+                int priority = NodeFeatureRegistry.getPriority(type);
+                indexesByPriority[priority] = index.intValue();
+            });
+
+            assert mappings.size() <= Long.SIZE
+                    : "Change tracking supports at most " + Long.SIZE
+                            + " features per node";
+            long mask = 0;
+            for (Class<? extends NodeFeature> type : reportedFeatures) {
+                mask |= 1L << mappings.get(type).intValue();
+            }
+            reportedFeaturesMask = mask;
+        }
+
+        private int getIndex(Class<? extends NodeFeature> featureType) {
+            int priority = NodeFeatureRegistry.getPriority(featureType);
+            if (priority < 0 || priority >= indexesByPriority.length) {
+                return -1;
+            }
+            return indexesByPriority[priority];
         }
     }
 
@@ -152,7 +191,29 @@ public class StateNode implements Serializable {
      */
     private Serializable features;
 
-    private Map<Class<? extends NodeFeature>, Serializable> changes;
+    /**
+     * Change trackers for the features, using the same indexes as the
+     * {@link #features} array. <code>null</code> if there are no changes.
+     */
+    private Serializable[] changeTrackers;
+
+    /**
+     * Bitmask of the feature indexes which have a change tracker in
+     * {@link #changeTrackers}.
+     */
+    private long changedFeatures;
+
+    /**
+     * Change trackers for feature instances which are not part of the feature
+     * set of this node. Such changes are never collected by the node itself.
+     */
+    private Map<Class<? extends NodeFeature>, Serializable> unmappedChangeTrackers;
+
+    /**
+     * The state tree which has this node in its dirty nodes, used by
+     * {@link StateTree} to mark nodes dirty without hashing them.
+     */
+    StateTree markedDirtyIn;
 
     private List<Command> attachListeners;
 
@@ -162,6 +223,20 @@ public class StateNode implements Serializable {
 
     private StateNode parent;
 
+    /*
+     * State inherited from the ancestors, kept up to date whenever the parent
+     * or the relevant state of an ancestor changes so that the getters don't
+     * need to walk up the tree.
+     */
+
+    /**
+     * The topmost ancestor of this node, or <code>null</code> if this node
+     * doesn't have a parent.
+     */
+    private StateNode root;
+    private boolean ancestorsEnabled = true;
+    private boolean ancestorInactive;
+
     private int id = -1;
 
     // Only the root node is attached at this point
@@ -259,6 +334,7 @@ public class StateNode implements Serializable {
     public void setParent(StateNode parent) {
         if (hasDetached()) {
             this.parent = null;
+            updateInheritedState();
             return;
         }
         boolean attachedBefore = isRegistered();
@@ -284,15 +360,64 @@ public class StateNode implements Serializable {
 
         if (!attachedBefore && attachedAfter) {
             this.parent = parent;
+            updateInheritedState();
             onAttach();
         } else if (attachedBefore && !attachedAfter) {
             onDetach();
             this.parent = parent;
+            updateInheritedState();
         } else {
             this.parent = parent;
+            updateInheritedState();
+        }
+    }
+
+    /**
+     * Updates the state inherited from the ancestors for this node and, if it
+     * changed, for its descendants.
+     */
+    private void updateInheritedState() {
+        LinkedList<StateNode> stack = new LinkedList<>();
+        stack.add(this);
+        while (!stack.isEmpty()) {
+            StateNode node = stack.removeFirst();
+            if (node.refreshInheritedState()) {
+                node.forEachChild(child -> {
+                    if (child.parent == node) {
+                        stack.add(0, child);
+                    }
+                });
+            }
         }
     }
 
+    private void updateChildrenInheritedState() {
+        forEachChild(child -> {
+            if (child.parent == this) {
+                child.updateInheritedState();
+            }
+        });
+    }
+
+    private boolean refreshInheritedState() {
+        StateNode newRoot = null;
+        boolean newAncestorsEnabled = true;
+        boolean newAncestorInactive = false;
+        if (parent != null) {
+            newRoot = parent.root == null ? parent : parent.root;
+            newAncestorsEnabled = parent.isEnabled();
+            newAncestorInactive = parent.isInactive();
+        }
+        if (newRoot == root && newAncestorsEnabled == ancestorsEnabled
+                && newAncestorInactive == ancestorInactive) {
+            return false;
+        }
+        root = newRoot;
+        ancestorsEnabled = newAncestorsEnabled;
+        ancestorInactive = newAncestorInactive;
+        return true;
+    }
+
     private boolean hasDetached() {
         return isAttached() && !owner.hasNode(this);
     }
@@ -377,6 +502,43 @@ public class StateNode implements Serializable {
         getInitializedFeatures().forEach(action::accept);
     }
 
+    /**
+     * Estimates the heap memory retained by this node, excluding the child
+     * nodes.
+     *
+     * @param featureSizes
+     *            a consumer accepting the estimated number of bytes retained
+     *            by each initialized feature of this node
+     * @return the estimated number of bytes retained by the node itself,
+     *         excluding its features
+     */
+    long estimateRetainedSize(ObjLongConsumer<NodeFeature> featureSizes) {
+        long size = HeapFootprint.estimateObjectSize(24);
+        if (features instanceof NodeFeature[] array) {
+            size += HeapFootprint.estimateArraySize(array.length);
+        }
+        if (changeTrackers != null) {
+            size += HeapFootprint.estimateArraySize(changeTrackers.length);
+        }
+        if (unmappedChangeTrackers != null) {
+            size += HeapFootprint
+                    .estimateHashMapSize(unmappedChangeTrackers.size());
+        }
+        if (attachListeners != null) {
+            size += HeapFootprint.estimateListSize(attachListeners.size());
+        }
+        if (detachListeners != null) {
+            size += HeapFootprint.estimateListSize(detachListeners.size());
+        }
+        if (beforeClientResponseEntries != null) {
+            size += HeapFootprint
+                    .estimateListSize(beforeClientResponseEntries.size());
+        }
+        forEachFeature(feature -> featureSizes.accept(feature,
+                feature.estimateRetainedSize()));
+        return size;
+    }
+
     private Stream<NodeFeature> getInitializedFeatures() {
         if (features == null) {
             return Stream.empty();
@@ -525,13 +687,13 @@ public class StateNode implements Serializable {
     private <T extends NodeFeature> int getFeatureIndex(Class<T> featureType) {
         assert featureType != null;
 
-        Integer featureIndex = featureSet.mappings.get(featureType);
-        if (featureIndex == null) {
+        int featureIndex = featureSet.getIndex(featureType);
+        if (featureIndex < 0) {
             throw new IllegalStateException(
                     "Node does not have the feature " + featureType);
         }
 
-        return featureIndex.intValue();
+        return featureIndex;
     }
 
     /**
@@ -583,7 +745,7 @@ public class StateNode implements Serializable {
     public boolean hasFeature(Class<? extends NodeFeature> featureType) {
         assert featureType != null;
 
-        return featureSet.mappings.containsKey(featureType);
+        return featureSet.getIndex(featureType) >= 0;
     }
 
     /**
@@ -615,15 +777,7 @@ public class StateNode implements Serializable {
      *         this node is not attached
      */
     public boolean isAttached() {
-        if (getParent() == null) {
-            return false;
-        } else {
-            StateNode root = getParent();
-            while (root.getParent() != null) {
-                root = root.getParent();
-            }
-            return root.isAttached();
-        }
+        return root != null && root.isAttached();
     }
 
     /**
@@ -676,7 +830,7 @@ public class StateNode implements Serializable {
         if (isInitialChanges && !isVisible()) {
             if (hasFeature(ElementData.class)) {
                 doCollectChanges(collector,
-                        Stream.of(getFeature(ElementData.class)));
+                        1L << getFeatureIndex(ElementData.class));
             }
             return;
         }
@@ -684,33 +838,41 @@ public class StateNode implements Serializable {
         if (isInactive()) {
             if (isInitialChanges) {
                 // send only required (reported) features updates
-                Stream<NodeFeature> initialFeatures = Stream
-                        .concat(featureSet.mappings.keySet().stream()
-                                .filter(this::isReportedFeature)
-                                .map(this::getFeature), getDisallowFeatures());
-                doCollectChanges(collector, initialFeatures);
+                doCollectChanges(collector, featureSet.reportedFeaturesMask
+                        | getDisallowFeaturesMask());
             } else {
-                doCollectChanges(collector, getDisallowFeatures());
+                doCollectChanges(collector, getDisallowFeaturesMask());
             }
         } else {
-            doCollectChanges(collector, getInitializedFeatures());
+            doCollectChanges(collector, -1L);
         }
     }
 
     private void doCollectChanges(Consumer<NodeChange> collector,
-            Stream<NodeFeature> features) {
-        features.filter(this::hasChangeTracker).forEach(feature -> {
-            feature.collectChanges(collector);
-            changes.remove(feature.getClass());
-        });
+            long featuresMask) {
+        long pending = changedFeatures & featuresMask;
+        while (pending != 0) {
+            int index = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            NodeFeature feature = getFeatureAt(index);
+            if (feature != null) {
+                feature.collectChanges(collector);
+                changeTrackers[index] = null;
+                changedFeatures &= ~(1L << index);
+            }
+        }
         isInitialChanges = false;
-        if (changes != null && changes.isEmpty()) {
-            changes = null;
+        if (changedFeatures == 0) {
+            changeTrackers = null;
         }
     }
 
-    private boolean hasChangeTracker(NodeFeature nodeFeature) {
-        return changes != null && changes.containsKey(nodeFeature.getClass());
+    private NodeFeature getFeatureAt(int index) {
+        if (features instanceof NodeFeature[] featuresArray) {
+            return index < featuresArray.length ? featuresArray[index] : null;
+        }
+        return index == 0 ? (NodeFeature) features : null;
     }
 
     /**
@@ -718,7 +880,9 @@ public class StateNode implements Serializable {
      * testing purposes.
      */
     public void clearChanges() {
-        changes = null;
+        changeTrackers = null;
+        changedFeatures = 0;
+        unmappedChangeTrackers = null;
     }
 
     /**
@@ -959,12 +1123,26 @@ public class StateNode implements Serializable {
     @SuppressWarnings("unchecked")
     public <T extends Serializable> T getChangeTracker(NodeFeature feature,
             Supplier<T> factory) {
-        if (changes == null) {
-            changes = new HashMap<>();
+        Integer index = featureSet.mappings.get(feature.getClass());
+        if (index == null) {
+            if (unmappedChangeTrackers == null) {
+                unmappedChangeTrackers = new HashMap<>();
+            }
+            return (T) unmappedChangeTrackers
+                    .computeIfAbsent(feature.getClass(), k -> factory.get());
         }
 
-        return (T) changes.computeIfAbsent(feature.getClass(),
-                k -> factory.get());
+        int featureIndex = index.intValue();
+        if (changeTrackers == null) {
+            changeTrackers = new Serializable[featureSet.mappings.size()];
+        }
+        Serializable tracker = changeTrackers[featureIndex];
+        if (tracker == null) {
+            tracker = factory.get();
+            changeTrackers[featureIndex] = tracker;
+            changedFeatures |= 1L << featureIndex;
+        }
+        return (T) tracker;
     }
 
     /**
@@ -1026,7 +1204,7 @@ public class StateNode implements Serializable {
      * @see NodeFeature#allowsChanges()
      */
     public void updateActiveState() {
-        setInactive(getDisallowFeatures().count() != 0);
+        setInactive(getDisallowFeaturesMask() != 0);
     }
 
     /**
@@ -1037,10 +1215,7 @@ public class StateNode implements Serializable {
      * @return {@code true} if the node is inactive
      */
     public boolean isInactive() {
-        if (isInactiveSelf || getParent() == null) {
-            return isInactiveSelf;
-        }
-        return getParent().isInactive();
+        return isInactiveSelf || ancestorInactive;
     }
 
     /**
@@ -1086,14 +1261,26 @@ public class StateNode implements Serializable {
         return getParent() != null && getParent().isInert();
     }
 
-    private Stream<NodeFeature> getDisallowFeatures() {
-        return getInitializedFeatures()
-                .filter(feature -> !feature.allowsChanges());
+    private long getDisallowFeaturesMask() {
+        if (features instanceof NodeFeature feature) {
+            return feature.allowsChanges() ? 0 : 1L;
+        } else if (features == null) {
+            return 0;
+        }
+        NodeFeature[] featuresArray = (NodeFeature[]) features;
+        long mask = 0;
+        for (int i = 0; i < featuresArray.length; i++) {
+            if (featuresArray[i] != null && !featuresArray[i].allowsChanges()) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
     }
 
     private void setInactive(boolean inactive) {
         if (isInactiveSelf != inactive) {
             isInactiveSelf = inactive;
+            updateChildrenInheritedState();
 
             visitNodeTree(child -> {
                 if (!equals(child) && !child.isInactiveSelf) {
@@ -1210,7 +1397,10 @@ public class StateNode implements Serializable {
      *            a new enabled state
      */
     public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            updateChildrenInheritedState();
+        }
     }
 
     /**
@@ -1229,11 +1419,7 @@ public class StateNode implements Serializable {
      * @return enabled state respecting ascendants state
      */
     public boolean isEnabled() {
-        boolean isEnabledSelf = isEnabledSelf();
-        if (getParent() != null && isEnabledSelf) {
-            return getParent().isEnabled();
-        }
-        return isEnabledSelf;
+        return isEnabledSelf() && ancestorsEnabled;
     }
 
     /**
@@ -17,6 +17,7 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -157,7 +158,12 @@ public class StateTree implements NodeOwner {
         void remove();
     }
 
-    private Set<StateNode> dirtyNodes = new LinkedHashSet<>();
+    /**
+     * The dirty nodes in the order they were marked dirty. A node is in the
+     * list at most once, which is tracked by {@link StateNode#markedDirtyIn}
+     * instead of hashing the nodes.
+     */
+    private List<StateNode> dirtyNodes = new ArrayList<>();
 
     private final Map<Integer, StateNode> idToNode = new HashMap<>();
 
@@ -258,6 +264,15 @@ public class StateTree implements NodeOwner {
         return idToNode.containsKey(node.getId());
     }
 
+    /**
+     * Gets the number of nodes currently attached to this tree.
+     *
+     * @return the number of attached nodes
+     */
+    public int getNodeCount() {
+        return idToNode.size();
+    }
+
     /**
      * Finds a node with the given id.
      *
@@ -285,20 +300,19 @@ public class StateTree implements NodeOwner {
      *            a consumer accepting node changes
      */
     public void collectChanges(Consumer<NodeChange> collector) {
-        Set<StateNode> allDirtyNodes = new LinkedHashSet<>();
-        boolean evaluateNewDirtyNodes = true;
-
         // The updateActiveState method can create new dirty nodes, so they need
-        // to be collected as well
-        while (evaluateNewDirtyNodes) {
-            Set<StateNode> dirtyNodesSet = doCollectDirtyNodes(true);
-            dirtyNodesSet.forEach(StateNode::updateActiveState);
-            evaluateNewDirtyNodes = allDirtyNodes.addAll(dirtyNodesSet);
+        // to be collected as well. They are appended to the list while it's
+        // being iterated since the nodes remain marked until reset.
+        for (int i = 0; i < dirtyNodes.size(); i++) {
+            dirtyNodes.get(i).updateActiveState();
         }
+        List<StateNode> allDirtyNodes = resetDirtyNodes();
 
         // TODO fire preCollect events
 
-        allDirtyNodes.forEach(node -> node.collectChanges(collector));
+        for (StateNode node : allDirtyNodes) {
+            node.collectChanges(collector);
+        }
     }
 
     @Override
@@ -306,7 +320,10 @@ public class StateTree implements NodeOwner {
         assert node.getOwner() == this;
         checkHasLock();
 
-        dirtyNodes.add(node);
+        if (node.markedDirtyIn != this) {
+            node.markedDirtyIn = this;
+            dirtyNodes.add(node);
+        }
     }
 
     /**
@@ -315,7 +332,7 @@ public class StateTree implements NodeOwner {
      * @return a set of dirty nodes, in the order they were marked dirty
      */
     public Set<StateNode> collectDirtyNodes() {
-        return doCollectDirtyNodes(false);
+        return Collections.unmodifiableSet(new LinkedHashSet<>(dirtyNodes));
     }
 
     /**
@@ -457,22 +474,15 @@ public class StateTree implements NodeOwner {
         }
     }
 
-    /**
-     * Gets all the nodes that have been marked as dirty.
-     * <p>
-     * If {@code reset} is {@code true} then dirty nodes collection is reset.
-     *
-     * @return a set of dirty nodes, in the order they were marked dirty
-     */
-    private Set<StateNode> doCollectDirtyNodes(boolean reset) {
-        if (reset) {
-            Set<StateNode> collectedNodes = dirtyNodes;
-            dirtyNodes = new LinkedHashSet<>();
-            return collectedNodes;
-        } else {
-            return Collections.unmodifiableSet(dirtyNodes);
+    private List<StateNode> resetDirtyNodes() {
+        List<StateNode> collectedNodes = dirtyNodes;
+        dirtyNodes = new ArrayList<>();
+        for (StateNode node : collectedNodes) {
+            if (node.markedDirtyIn == this) {
+                node.markedDirtyIn = null;
+            }
         }
-
+        return collectedNodes;
     }
 
     /**
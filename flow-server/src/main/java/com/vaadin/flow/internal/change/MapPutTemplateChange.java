@@ -0,0 +1,118 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal.change;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.ConstantPoolKey;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.NodeFeature;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.JsonObject;
+
+/**
+ * Change describing several values put into a map feature at once.
+ * <p>
+ * The values are sent to the client as a template in the constant pool, so
+ * that nodes which are attached with identical values, such as the rows of a
+ * form or a list, only reference the same template instead of repeating every
+ * value.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class MapPutTemplateChange extends NodeFeatureChange {
+
+    private final Map<String, Object> values = new TreeMap<>();
+
+    /**
+     * Creates a new put template change combining the given put changes.
+     *
+     * @param map
+     *            the changed map
+     * @param changes
+     *            the put changes to combine, all for the given map and with
+     *            values accepted by {@link #isTemplateValue(Object)}
+     */
+    public MapPutTemplateChange(NodeFeature map,
+            Collection<MapPutChange> changes) {
+        super(map);
+
+        for (MapPutChange change : changes) {
+            assert change.getNode() == map.getNode()
+                    && change.getFeature() == map.getClass();
+            assert isTemplateValue(change.getValue());
+            values.put(change.getKey(), change.getValue());
+        }
+    }
+
+    /**
+     * Checks whether the given value can be a part of a template.
+     *
+     * @param value
+     *            the value to check
+     * @return <code>true</code> if the value is a string, a boolean or a
+     *         finite number, <code>false</code> otherwise
+     */
+    public static boolean isTemplateValue(Object value) {
+        return value instanceof String || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long
+                || value instanceof Double number && Double.isFinite(number);
+    }
+
+    /**
+     * Gets the put values, ordered by key.
+     *
+     * @return an unmodifiable map of the values
+     */
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    protected void populateJson(JsonObject json, ConstantPool constantPool) {
+        json.put(JsonConstants.CHANGE_TYPE,
+                JsonConstants.CHANGE_TYPE_PUT_TEMPLATE);
+
+        super.populateJson(json, constantPool);
+
+        ObjectNode template = JacksonUtils.createObjectNode();
+        values.forEach((key, value) -> {
+            if (value instanceof String string) {
+                template.put(key, string);
+            } else if (value instanceof Boolean bool) {
+                template.put(key, bool.booleanValue());
+            } else if (value instanceof Integer integer) {
+                template.put(key, integer.intValue());
+            } else if (value instanceof Long longValue) {
+                template.put(key, longValue.longValue());
+            } else {
+                template.put(key, ((Double) value).doubleValue());
+            }
+        });
+        json.put(JsonConstants.CHANGE_PUT_TEMPLATE,
+                constantPool.getConstantId(new ConstantPoolKey(template)));
+    }
+}
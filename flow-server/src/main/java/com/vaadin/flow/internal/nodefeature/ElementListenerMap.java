@@ -42,6 +42,7 @@ import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.internal.ConstantPoolKey;
 import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.HeapFootprint;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.shared.JsonConstants;
 
@@ -533,4 +534,27 @@ public class ElementListenerMap extends NodeMap {
                 .filter(wrapper -> wrapper.isPropertySynchronized(propertyName))
                 .anyMatch(wrapper -> wrapper.allowInert);
     }
+
+    @Override
+    public long estimateRetainedSize() {
+        long size = super.estimateRetainedSize();
+        if (listeners != null) {
+            size += HeapFootprint.estimateHashMapSize(listeners.size());
+            for (List<DomEventListenerWrapper> wrappers : listeners.values()) {
+                size += HeapFootprint.estimateListSize(wrappers.size());
+                for (DomEventListenerWrapper wrapper : wrappers) {
+                    size += HeapFootprint.estimateObjectSize(11);
+                    if (wrapper.eventDataExpressions != null) {
+                        size += HeapFootprint.estimateHashMapSize(
+                                wrapper.eventDataExpressions.size());
+                        for (String expression : wrapper.eventDataExpressions) {
+                            size += HeapFootprint
+                                    .estimateValueSize(expression);
+                        }
+                    }
+                }
+            }
+        }
+        return size;
+    }
 }
@@ -19,6 +19,7 @@ package com.vaadin.flow.internal.nodefeature;
 import java.io.Serializable;
 import java.util.function.Consumer;
 
+import com.vaadin.flow.internal.HeapFootprint;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.internal.change.NodeChange;
@@ -68,6 +69,17 @@ public abstract class NodeFeature implements Serializable {
      */
     public abstract void generateChangesFromEmpty();
 
+    /**
+     * Estimates the heap memory retained by this feature, excluding any child
+     * nodes.
+     *
+     * @return the estimated number of bytes
+     * @see HeapFootprint
+     */
+    public long estimateRetainedSize() {
+        return HeapFootprint.estimateObjectSize(1);
+    }
+
     /**
      * Attaches an object if it is a {@link StateNode}.
      *
@@ -41,6 +41,19 @@ public class NodeFeatureRegistry {
     static final Map<Class<? extends NodeFeature>, NodeFeatureData> nodeFeatures = new HashMap<>();
     private static final Map<Integer, Class<? extends NodeFeature>> idToFeature = new HashMap<>();
 
+    /**
+     * Priorities by feature type, resolved without hashing for the frequent
+     * feature lookups in {@link StateNode}. Unregistered types get
+     * <code>-1</code>.
+     */
+    private static final ClassValue<Integer> priorities = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            NodeFeatureData data = nodeFeatures.get(type);
+            return Integer.valueOf(data == null ? -1 : data.priority);
+        }
+    };
+
     /**
      * Comparator for finding the priority order between node feature types.
      */
@@ -174,6 +187,22 @@ public class NodeFeatureRegistry {
         return getData(nodeFeature).id;
     }
 
+    /**
+     * Gets the priority of a node feature type. Priorities are consecutive
+     * numbers starting from <code>0</code>, in the order the features have
+     * been registered.
+     *
+     * @param nodeFeature
+     *            the node feature type
+     * @return the priority of the node feature type, or <code>-1</code> if the
+     *         type has not been registered
+     */
+    public static int getPriority(Class<? extends NodeFeature> nodeFeature) {
+        assert nodeFeature != null;
+
+        return priorities.get(nodeFeature).intValue();
+    }
+
     /**
      * Gets all registered feature types.
      *
@@ -21,12 +21,15 @@ import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import com.vaadin.flow.internal.HeapFootprint;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.change.AbstractListChange;
 import com.vaadin.flow.internal.change.EmptyChange;
@@ -140,8 +143,34 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         }
     }
 
+    /**
+     * Number of tracked changes after which changes to a list of nodes are no
+     * longer tracked one by one but computed as a diff when collected.
+     */
+    private static final int MAX_TRACKED_CHANGES = 100;
+
     private List<T> values;
 
+    /**
+     * The items as known by the client (after any clear change kept in the
+     * change tracker) when changes are tracked as a diff instead of as
+     * individual changes, otherwise <code>null</code>.
+     */
+    private ArrayList<T> clientValues;
+
+    /**
+     * The change tracker in use when the diff tracking was started, to detect
+     * if the node has discarded the changes since then.
+     */
+    private List<AbstractListChange<T>> diffTracker;
+
+    /**
+     * Whether a pending add change in the change tracker has been adjusted
+     * because of a later remove, in which case the tracked changes are not
+     * used for restoring the items known by the client.
+     */
+    private boolean isChangeTrackerPruned;
+
     private boolean isRemoveAllCalled;
 
     private boolean isPopulated;
@@ -278,6 +307,17 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
     private void addChange(AbstractListChange<T> change) {
         getNode().markAsDirty();
 
+        if (isTrackingAsDiff()) {
+            if (!(change instanceof ListClearChange)) {
+                // The change is included in the diff when collected
+                return;
+            }
+            stopTrackingAsDiff();
+        } else if (shouldTrackAsDiff(change)) {
+            startTrackingAsDiff(change);
+            return;
+        }
+
         // If removing pending "add" change, prune it from "ListAddChange"
         // instead
         if (change instanceof ListRemoveChange) {
@@ -300,6 +340,7 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
                         int indexToCorrect = removeFromListAddChange(addChange,
                                 item);
+                        isChangeTrackerPruned = true;
 
                         // indexToCorrect shows where to start the re-indexing,
                         // i.e. from where to shift all items by one position
@@ -315,6 +356,7 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         // If clearing, previous pending changes can be pruned
         if (change instanceof ListClearChange) {
             getChangeTracker().clear();
+            isChangeTrackerPruned = false;
         }
 
         getChangeTracker().add(change);
@@ -322,6 +364,179 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         // TODO Fire some listeners
     }
 
+    /**
+     * Checks whether the changes should from now on be tracked as a diff
+     * between the items known by the client and the current items instead of
+     * as a log of individual changes.
+     * <p>
+     * Pruning a removed item from the log is linear in the size of the log,
+     * which makes bulk operations like re-sorting a large number of children
+     * quadratic. A diff is computed only once when collecting the changes.
+     * Only lists of nodes are diffed since their items are guaranteed to be
+     * unique.
+     */
+    private boolean shouldTrackAsDiff(AbstractListChange<T> change) {
+        if (!isNodeValues() || isChangeTrackerPruned
+                || change instanceof ListClearChange) {
+            return false;
+        }
+        List<AbstractListChange<T>> tracker = getChangeTracker();
+        if (tracker.size() >= MAX_TRACKED_CHANGES) {
+            return true;
+        }
+        return change instanceof ListRemoveChange && !tracker.isEmpty()
+                && values != null && values.size() >= MAX_TRACKED_CHANGES;
+    }
+
+    /**
+     * Starts tracking changes as a diff by restoring the items known by the
+     * client from the current items and the tracked changes, including the
+     * given change which has already been applied to the items.
+     */
+    private void startTrackingAsDiff(AbstractListChange<T> change) {
+        List<AbstractListChange<T>> tracker = getChangeTracker();
+        // A clear change is always the first one and it is kept as is
+        int firstUndoneChange = !tracker.isEmpty()
+                && tracker.get(0) instanceof ListClearChange ? 1 : 0;
+
+        ArrayList<T> items = values == null ? new ArrayList<>()
+                : new ArrayList<>(values);
+        undoChange(items, change);
+        for (int i = tracker.size() - 1; i >= firstUndoneChange; i--) {
+            undoChange(items, tracker.get(i));
+        }
+        tracker.subList(firstUndoneChange, tracker.size()).clear();
+
+        clientValues = items;
+        diffTracker = tracker;
+    }
+
+    private boolean isTrackingAsDiff() {
+        if (clientValues == null) {
+            return false;
+        }
+        if (diffTracker != getChangeTracker()) {
+            // Changes have been discarded, e.g. to be generated from empty
+            stopTrackingAsDiff();
+            return false;
+        }
+        return true;
+    }
+
+    private void stopTrackingAsDiff() {
+        clientValues = null;
+        diffTracker = null;
+    }
+
+    private void undoChange(List<T> items, AbstractListChange<T> change) {
+        int index = change.getIndex();
+        if (change instanceof ListAddChange<T> addChange) {
+            items.subList(index, index + addChange.getNewItems().size())
+                    .clear();
+        } else if (change instanceof ListRemoveChange<T> removeChange) {
+            items.add(index, removeChange.getRemovedItem());
+        } else {
+            throw new IllegalStateException(
+                    "Unexpected change type " + change.getClass().getName());
+        }
+    }
+
+    /**
+     * Replaces the diff tracking with the minimal set of remove and add
+     * changes which turn the items known by the client into the current
+     * items.
+     * <p>
+     * Items kept in place are found as the longest increasing subsequence of
+     * the current positions of the previous items, which takes O(n log n)
+     * time. All other previous items are removed and all other current items
+     * are added in runs of consecutive items.
+     */
+    private void flushDiff() {
+        List<T> previous = clientValues;
+        List<T> current = values == null ? Collections.emptyList() : values;
+        stopTrackingAsDiff();
+
+        Map<T, Integer> currentIndexes = new IdentityHashMap<>(
+                current.size());
+        for (int i = 0; i < current.size(); i++) {
+            currentIndexes.put(current.get(i), Integer.valueOf(i));
+        }
+        int[] positions = new int[previous.size()];
+        for (int i = 0; i < previous.size(); i++) {
+            Integer index = currentIndexes.get(previous.get(i));
+            positions[i] = index == null ? -1 : index.intValue();
+        }
+        boolean[] keptPrevious = findLongestIncreasingSubsequence(positions);
+
+        List<AbstractListChange<T>> tracker = getChangeTracker();
+        boolean[] keptCurrent = new boolean[current.size()];
+        int removed = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            if (keptPrevious[i]) {
+                keptCurrent[positions[i]] = true;
+            } else {
+                tracker.add(new ListRemoveChange<>(this, i - removed,
+                        previous.get(i)));
+                removed++;
+            }
+        }
+
+        int runStart = -1;
+        for (int i = 0; i <= current.size(); i++) {
+            boolean added = i < current.size() && !keptCurrent[i];
+            if (added && runStart < 0) {
+                runStart = i;
+            } else if (!added && runStart >= 0) {
+                tracker.add(new ListAddChange<>(this, isNodeValues(), runStart,
+                        new ArrayList<>(current.subList(runStart, i))));
+                runStart = -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the longest strictly increasing subsequence of the non-negative
+     * values in the given array.
+     *
+     * @return an array with <code>true</code> for the positions that are part
+     *         of the subsequence
+     */
+    private static boolean[] findLongestIncreasingSubsequence(int[] values) {
+        // tails[k] is the position of the smallest tail value of all found
+        // subsequences with length k + 1
+        int[] tails = new int[values.length];
+        int[] predecessors = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[tails[middle]] < values[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] result = new boolean[values.length];
+        int position = length > 0 ? tails[length - 1] : -1;
+        while (position >= 0) {
+            result[position] = true;
+            position = predecessors[position];
+        }
+        return result;
+    }
+
     private void reindexChanges(List<AbstractListChange<T>> tracker,
             int startFrom, int indexToCorrect) {
         // Shift (re-index) all the changes back by 1 position, starting from a
@@ -358,6 +573,11 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
     @Override
     public void collectChanges(Consumer<NodeChange> collector) {
+        if (isTrackingAsDiff()) {
+            flushDiff();
+        }
+        // The change tracker is discarded after the changes are collected
+        isChangeTrackerPruned = false;
         Collection<AbstractListChange<T>> changes = new LinkedList<>();
         for (AbstractListChange<T> change : getChangeTracker()) {
             if (acceptChange(change)) {
@@ -391,8 +611,31 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
     public void forEachChild(Consumer<StateNode> action) {
     }
 
+    @Override
+    public long estimateRetainedSize() {
+        long size = HeapFootprint.estimateObjectSize(7);
+        if (values != null) {
+            size += HeapFootprint.estimateListSize(values.size());
+            for (T value : values) {
+                size += HeapFootprint.estimateValueSize(value);
+            }
+        }
+        if (clientValues != null) {
+            // The values themselves are shared with or were in values
+            size += HeapFootprint.estimateListSize(clientValues.size());
+        }
+        if (diffTracker != null) {
+            size += HeapFootprint.estimateListSize(diffTracker.size())
+                    + diffTracker.size() * HeapFootprint.estimateObjectSize(4);
+        }
+        return size;
+    }
+
     @Override
     public void generateChangesFromEmpty() {
+        // All changes are generated from scratch
+        stopTrackingAsDiff();
+        isChangeTrackerPruned = false;
         if (isRemoveAllCalled) {
             // if list ever had "clear" change then it
             // should be stored in the tracker
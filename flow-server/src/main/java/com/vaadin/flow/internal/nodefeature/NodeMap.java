@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.internal.HeapFootprint;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.change.EmptyChange;
 import com.vaadin.flow.internal.change.MapPutChange;
@@ -453,6 +454,21 @@ public abstract class NodeMap extends NodeFeature {
         values.keySet().forEach(k -> changes.put(k, REMOVED_MARKER));
     }
 
+    @Override
+    public long estimateRetainedSize() {
+        long size = HeapFootprint.estimateObjectSize(3);
+        if (values instanceof HashMapValues hashMapValues) {
+            size += HeapFootprint.estimateHashMapSize(hashMapValues.size());
+        } else if (values != null) {
+            size += HeapFootprint.estimateObjectSize(2);
+        }
+        if (values != null) {
+            size += values.streamValues()
+                    .mapToLong(HeapFootprint::estimateValueSize).sum();
+        }
+        return size;
+    }
+
     @Override
     public void forEachChild(Consumer<StateNode> action) {
         if (values == null) {
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EventObject;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+
+/**
+ * Event with the time spent in the different phases of a server side
+ * navigation.
+ * <p>
+ * Phases are timed exclusively: when a phase starts, the previous one is
+ * paused, so the phase times add up to the total time. The time spent in
+ * forwards and reroutes is included in the phases of the navigation which
+ * triggered them.
+ *
+ * @see NavigationMetricsListener
+ * @since
+ */
+public class NavigationMetricsEvent extends EventObject {
+
+    /**
+     * The phases of a navigation.
+     */
+    public enum Phase {
+        /**
+         * Resolving the navigation target of the location.
+         */
+        RESOLVE,
+        /**
+         * Running the before leave listeners and observers.
+         */
+        BEFORE_LEAVE,
+        /**
+         * Running the navigation access control.
+         */
+        ACCESS_CONTROL,
+        /**
+         * Creating the navigation target and the router layouts.
+         */
+        INSTANTIATION,
+        /**
+         * Running the before enter listeners and observers.
+         */
+        BEFORE_ENTER,
+        /**
+         * Attaching the navigation target and the layouts to the UI.
+         */
+        ATTACH,
+        /**
+         * Running the after navigation listeners and observers.
+         */
+        AFTER_NAVIGATION
+    }
+
+    private final Location location;
+    private final NavigationTrigger trigger;
+    private final Class<? extends Component> navigationTarget;
+    private final String routeTemplate;
+    private final int statusCode;
+    private final Map<Phase, Duration> phaseTimes;
+    private final Duration totalTime;
+    private final int instantiatedComponentCount;
+    private final int reusedLayoutCount;
+
+    /**
+     * Creates a new event.
+     *
+     * @param ui
+     *            the UI that navigated, not <code>null</code>
+     * @param location
+     *            the location navigated to, not <code>null</code>
+     * @param trigger
+     *            the type of user action that triggered the navigation, not
+     *            <code>null</code>
+     * @param navigationTarget
+     *            the navigation target that was shown, or <code>null</code> if
+     *            no target was shown
+     * @param routeTemplate
+     *            the route template of the navigation target, or
+     *            <code>null</code> if the target is not a registered route
+     * @param statusCode
+     *            the HTTP status code resulting from the navigation
+     * @param phaseTimes
+     *            the time spent in each phase, not <code>null</code>
+     * @param totalTime
+     *            the total time of the navigation, not <code>null</code>
+     * @param instantiatedComponentCount
+     *            the number of navigation targets and router layouts that were
+     *            instantiated
+     * @param reusedLayoutCount
+     *            the number of router layouts reused from the previous route
+     *            chain
+     */
+    public NavigationMetricsEvent(UI ui, Location location,
+            NavigationTrigger trigger,
+            Class<? extends Component> navigationTarget, String routeTemplate,
+            int statusCode, Map<Phase, Duration> phaseTimes,
+            Duration totalTime, int instantiatedComponentCount,
+            int reusedLayoutCount) {
+        super(ui);
+        this.location = location;
+        this.trigger = trigger;
+        this.navigationTarget = navigationTarget;
+        this.routeTemplate = routeTemplate;
+        this.statusCode = statusCode;
+        this.phaseTimes = phaseTimes.isEmpty() ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(phaseTimes));
+        this.totalTime = totalTime;
+        this.instantiatedComponentCount = instantiatedComponentCount;
+        this.reusedLayoutCount = reusedLayoutCount;
+    }
+
+    @Override
+    public UI getSource() {
+        return (UI) super.getSource();
+    }
+
+    /**
+     * Gets the location the navigation was started for.
+     *
+     * @return the location, not <code>null</code>
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the type of user action that triggered the navigation.
+     *
+     * @return the navigation trigger, not <code>null</code>
+     */
+    public NavigationTrigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * Gets the navigation target that was shown, which is different from the
+     * target of the location if the navigation was forwarded or rerouted.
+     *
+     * @return the navigation target, or <code>null</code> if the navigation
+     *         was postponed or did not show any target
+     */
+    public Class<? extends Component> getNavigationTarget() {
+        return navigationTarget;
+    }
+
+    /**
+     * Gets the route template of the navigation target that was shown.
+     *
+     * @return the route template, or <code>null</code> if no target was shown
+     *         or the target is not a registered route, such as an error view
+     */
+    public String getRouteTemplate() {
+        return routeTemplate;
+    }
+
+    /**
+     * Gets the HTTP status code resulting from the navigation.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the time spent in the given phase.
+     *
+     * @param phase
+     *            the phase, not <code>null</code>
+     * @return the time spent in the phase, {@link Duration#ZERO} if the phase
+     *         was not entered
+     */
+    public Duration getPhaseTime(Phase phase) {
+        return phaseTimes.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Gets the time spent in each of the phases that were entered.
+     *
+     * @return an unmodifiable map of phase times
+     */
+    public Map<Phase, Duration> getPhaseTimes() {
+        return phaseTimes;
+    }
+
+    /**
+     * Gets the total time of the navigation.
+     *
+     * @return the total time
+     */
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Gets the number of navigation targets and router layouts that were
+     * instantiated during the navigation, including the ones instantiated for
+     * forwards and reroutes.
+     *
+     * @return the number of instantiated route chain components
+     */
+    public int getInstantiatedComponentCount() {
+        return instantiatedComponentCount;
+    }
+
+    /**
+     * Gets the number of router layouts that were reused from the route chain
+     * shown before the navigation.
+     *
+     * @return the number of reused layouts
+     */
+    public int getReusedLayoutCount() {
+        return reusedLayoutCount;
+    }
+
+    /**
+     * Checks whether any router layout was reused from the route chain shown
+     * before the navigation.
+     *
+     * @return <code>true</code> if at least one layout was reused,
+     *         <code>false</code> otherwise
+     */
+    public boolean isLayoutReused() {
+        return reusedLayoutCount > 0;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.io.Serializable;
+
+/**
+ * Listener for the time spent in the different phases of server side
+ * navigation.
+ * <p>
+ * Register a listener using
+ * {@link com.vaadin.flow.server.VaadinService#addNavigationMetricsListener(NavigationMetricsListener)},
+ * e.g. from a {@link com.vaadin.flow.server.VaadinServiceInitListener}.
+ *
+ * @see com.vaadin.flow.server.NavigationMetricsStatistics
+ * @since
+ */
+@FunctionalInterface
+public interface NavigationMetricsListener extends Serializable {
+
+    /**
+     * Notifies about the timings of a completed navigation.
+     *
+     * @param event
+     *            event containing the timings and the UI that navigated
+     */
+    void navigationCompleted(NavigationMetricsEvent event);
+
+}
@@ -25,6 +25,7 @@ import com.vaadin.flow.router.internal.DefaultRouteResolver;
 import com.vaadin.flow.router.internal.ErrorStateRenderer;
 import com.vaadin.flow.router.internal.ErrorTargetEntry;
 import com.vaadin.flow.router.internal.InternalRedirectHandler;
+import com.vaadin.flow.router.internal.NavigationMetricsRecorder;
 import com.vaadin.flow.router.internal.NavigationStateRenderer;
 import com.vaadin.flow.router.internal.ResolveRequest;
 import com.vaadin.flow.server.ErrorRouteRegistry;
@@ -235,15 +236,22 @@ public class Router implements Serializable {
 
         if (handleNavigationForLocation(ui, location)) {
             ui.getInternals().setLastHandledNavigation(location);
+            NavigationMetricsRecorder metricsRecorder = NavigationMetricsRecorder
+                    .start(ui, location, trigger);
+            int statusCode = HttpStatusCode.INTERNAL_SERVER_ERROR.getCode();
             try {
-                return handleNavigation(ui, location, trigger, state,
+                statusCode = handleNavigation(ui, location, trigger, state,
                         forceInstantiation, recreateLayoutChain);
             } catch (Exception exception) {
-                return handleExceptionNavigation(ui, location, exception,
-                        trigger, state);
+                statusCode = handleExceptionNavigation(ui, location,
+                        exception, trigger, state);
             } finally {
                 ui.getInternals().clearLastHandledNavigation();
+                if (metricsRecorder != null) {
+                    metricsRecorder.finish(statusCode);
+                }
             }
+            return statusCode;
         }
         return HttpStatusCode.NOT_MODIFIED.getCode();
     }
@@ -323,6 +331,8 @@ public class Router implements Serializable {
     private int handleNavigation(UI ui, Location location,
             NavigationTrigger trigger, BaseJsonNode state,
             boolean forceInstantiation, boolean recreateLayoutChain) {
+        NavigationMetricsRecorder.enterPhase(ui,
+                NavigationMetricsEvent.Phase.RESOLVE);
         NavigationState newState = getRouteResolver()
                 .resolve(new ResolveRequest(this, location));
         if (newState != null) {
@@ -55,6 +55,7 @@ import com.vaadin.flow.router.EventUtil;
 import com.vaadin.flow.router.Location;
 import com.vaadin.flow.router.LocationChangeEvent;
 import com.vaadin.flow.router.NavigationEvent;
+import com.vaadin.flow.router.NavigationMetricsEvent.Phase;
 import com.vaadin.flow.router.NavigationHandler;
 import com.vaadin.flow.router.NavigationState;
 import com.vaadin.flow.router.NavigationTrigger;
@@ -151,6 +152,7 @@ public abstract class AbstractNavigationStateRenderer
     public int handle(NavigationEvent event) {
         UI ui = event.getUI();
         ui.getInternals().setLocationForRefresh(event.getLocation());
+        NavigationMetricsRecorder.enterPhase(ui, Phase.RESOLVE);
 
         final Class<? extends Component> routeTargetType = navigationState
                 .getNavigationTarget();
@@ -170,6 +172,7 @@ public abstract class AbstractNavigationStateRenderer
         clearContinueNavigationAction(ui);
         checkForDuplicates(routeTargetType, routeLayoutTypes);
 
+        NavigationMetricsRecorder.enterPhase(ui, Phase.BEFORE_LEAVE);
         Optional<Integer> result = handleBeforeLeaveEvents(event,
                 routeTargetType, parameters);
 
@@ -205,6 +208,7 @@ public abstract class AbstractNavigationStateRenderer
         // See https://github.com/vaadin/flow/issues/3619 for more info.
         pushHistoryStateIfNeeded(event, ui);
 
+        NavigationMetricsRecorder.enterPhase(ui, Phase.BEFORE_ENTER);
         result = handleBeforeNavigationEvents(event, routeTargetType,
                 parameters, chain);
         if (result.isPresent()) {
@@ -223,16 +227,20 @@ public abstract class AbstractNavigationStateRenderer
         List<RouterLayout> routerLayouts = (List<RouterLayout>) (List<?>) chain
                 .subList(1, chain.size());
 
+        NavigationMetricsRecorder.enterPhase(ui, Phase.ATTACH);
         cleanModalComponents(event);
 
         // Change the UI according to the navigation Component chain.
         ui.getInternals().showRouteTarget(event.getLocation(),
                 componentInstance, routerLayouts);
+        NavigationMetricsRecorder.targetShown(ui, routeTargetType,
+                event.getSource().getRegistry());
 
         int statusCode = locationChangeEvent.getStatusCode();
         validateStatusCode(statusCode, routeTargetType);
 
         // After navigation event
+        NavigationMetricsRecorder.enterPhase(ui, Phase.AFTER_NAVIGATION);
         handleAfterNavigationEvents(ui, parameters);
 
         updatePageTitle(event, componentInstance, route);
@@ -678,8 +686,17 @@ public abstract class AbstractNavigationStateRenderer
 
         try {
             for (int i = 0; i < typesChain.size(); i++) {
+                final boolean lastType = i == typesChain.size() - 1;
+                Phase phase = NavigationMetricsRecorder
+                        .enterPhase(event.getUI(), Phase.INSTANTIATION);
                 HasElement element = getRouteTarget(typesChain.get(i), event,
-                        i == typesChain.size() - 1);
+                        lastType);
+                if (phase != null) {
+                    NavigationMetricsRecorder.routeChainComponentResolved(
+                            event.getUI(), !oldChain.contains(element),
+                            !lastType);
+                    NavigationMetricsRecorder.enterPhase(event.getUI(), phase);
+                }
 
                 if (!beforeNavigation.isErrorEvent()) {
                     UsageStatistics.markAsUsed(Constants.STATISTICS_FLOW_ROUTER,
@@ -1234,16 +1251,8 @@ public abstract class AbstractNavigationStateRenderer
         if (cache != null && !cache.isEmpty()) {
             StateNode uiNode = inactiveUI.getElement().getNode();
             Set<String> inactiveWindows = cache.entrySet().stream()
-                    .filter(e -> {
-                        ArrayList<HasElement> chain = e.getValue().getSecond();
-                        // chain is never empty
-                        StateNode chainNode = chain.get(0).getElement()
-                                .getNode();
-                        while (chainNode.getParent() != null) {
-                            chainNode = chainNode.getParent();
-                        }
-                        return uiNode == chainNode;
-                    }).map(Map.Entry::getKey).collect(Collectors.toSet());
+                    .filter(e -> isChainOf(e.getValue().getSecond(), uiNode))
+                    .map(Map.Entry::getKey).collect(Collectors.toSet());
             if (!inactiveWindows.isEmpty()) {
                 LoggerFactory.getLogger(AbstractNavigationStateRenderer.class)
                         .debug("Removing preserved chain cache for inactive UI {} on VaadinSession {} (windows: {})",
@@ -1254,4 +1263,34 @@ public abstract class AbstractNavigationStateRenderer
         }
     }
 
+    /**
+     * Checks whether components attached to the given UI are preserved in the
+     * session because of {@link PreserveOnRefresh}.
+     *
+     * @param ui
+     *            the UI to check
+     * @return {@code true} if a preserved chain is attached to the UI,
+     *         {@code false} otherwise
+     */
+    public static boolean hasPreservedChain(UI ui) {
+        final PreservedComponentCache cache = ui.getSession()
+                .getAttribute(PreservedComponentCache.class);
+        if (cache == null || cache.isEmpty()) {
+            return false;
+        }
+        StateNode uiNode = ui.getElement().getNode();
+        return cache.values().stream()
+                .anyMatch(entry -> isChainOf(entry.getSecond(), uiNode));
+    }
+
+    private static boolean isChainOf(ArrayList<HasElement> chain,
+            StateNode uiNode) {
+        // chain is never empty
+        StateNode chainNode = chain.get(0).getElement().getNode();
+        while (chainNode.getParent() != null) {
+            chainNode = chainNode.getParent();
+        }
+        return uiNode == chainNode;
+    }
+
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationMetricsEvent;
+import com.vaadin.flow.router.NavigationMetricsEvent.Phase;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.server.RouteRegistry;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * Collects the timings of a navigation and reports them to the
+ * {@link com.vaadin.flow.router.NavigationMetricsListener}s of the service
+ * once the navigation is complete.
+ * <p>
+ * A recorder is only created when there are listeners, and all the static
+ * methods do nothing if no navigation of the UI is being recorded.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class NavigationMetricsRecorder implements Serializable {
+
+    private final UI ui;
+    private final Location location;
+    private final NavigationTrigger trigger;
+    private final long startTime;
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private Phase currentPhase;
+    private long phaseStartTime;
+
+    private Class<? extends Component> navigationTarget;
+    private String routeTemplate;
+    private int instantiatedComponentCount;
+    private int reusedLayoutCount;
+
+    private NavigationMetricsRecorder(UI ui, Location location,
+            NavigationTrigger trigger) {
+        this.ui = ui;
+        this.location = location;
+        this.trigger = trigger;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Starts recording a navigation of the given UI, unless another navigation
+     * of the UI is already being recorded or there are no listeners.
+     *
+     * @param ui
+     *            the navigating UI, not <code>null</code>
+     * @param location
+     *            the location to navigate to, not <code>null</code>
+     * @param trigger
+     *            the type of user action that triggered the navigation, not
+     *            <code>null</code>
+     * @return the recorder which must be {@link #finish(int) finished} once
+     *         the navigation is complete, or <code>null</code> if the
+     *         navigation is not recorded
+     */
+    public static NavigationMetricsRecorder start(UI ui, Location location,
+            NavigationTrigger trigger) {
+        if (ui.getInternals().getNavigationMetricsRecorder() != null) {
+            // Counted as a part of the ongoing navigation
+            return null;
+        }
+        VaadinService service = getService(ui);
+        if (service == null || !service.hasNavigationMetricsListeners()) {
+            return null;
+        }
+        NavigationMetricsRecorder recorder = new NavigationMetricsRecorder(ui,
+                location, trigger);
+        ui.getInternals().setNavigationMetricsRecorder(recorder);
+        return recorder;
+    }
+
+    /**
+     * Enters the given phase in the navigation of the given UI. The time spent
+     * in the previous phase is recorded.
+     *
+     * @param ui
+     *            the navigating UI, not <code>null</code>
+     * @param phase
+     *            the phase to enter, not <code>null</code>
+     * @return the previous phase, to enter again once the given phase is done,
+     *         or <code>null</code> if there was no previous phase or the
+     *         navigation is not recorded
+     */
+    public static Phase enterPhase(UI ui, Phase phase) {
+        NavigationMetricsRecorder recorder = getRecorder(ui);
+        if (recorder == null) {
+            return null;
+        }
+        Phase previous = recorder.currentPhase;
+        recorder.switchPhase(phase);
+        return previous;
+    }
+
+    /**
+     * Records that a component of the route chain has been resolved for the
+     * navigation of the given UI.
+     *
+     * @param ui
+     *            the navigating UI, not <code>null</code>
+     * @param instantiated
+     *            <code>true</code> if the component was instantiated,
+     *            <code>false</code> if it was reused from the previous chain
+     * @param layout
+     *            <code>true</code> if the component is a router layout,
+     *            <code>false</code> if it is the navigation target
+     */
+    public static void routeChainComponentResolved(UI ui, boolean instantiated,
+            boolean layout) {
+        NavigationMetricsRecorder recorder = getRecorder(ui);
+        if (recorder == null) {
+            return;
+        }
+        if (instantiated) {
+            recorder.instantiatedComponentCount++;
+        } else if (layout) {
+            recorder.reusedLayoutCount++;
+        }
+    }
+
+    /**
+     * Records the navigation target shown by the navigation of the given UI.
+     *
+     * @param ui
+     *            the navigating UI, not <code>null</code>
+     * @param navigationTarget
+     *            the shown navigation target, not <code>null</code>
+     * @param registry
+     *            the registry to look up the route template of the target
+     *            from, not <code>null</code>
+     */
+    public static void targetShown(UI ui,
+            Class<? extends Component> navigationTarget,
+            RouteRegistry registry) {
+        NavigationMetricsRecorder recorder = getRecorder(ui);
+        if (recorder != null) {
+            recorder.navigationTarget = navigationTarget;
+            recorder.routeTemplate = registry.getTemplate(navigationTarget)
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * Finishes recording and notifies the listeners of the service.
+     *
+     * @param statusCode
+     *            the HTTP status code resulting from the navigation
+     */
+    public void finish(int statusCode) {
+        switchPhase(null);
+        Duration totalTime = Duration.ofNanos(System.nanoTime() - startTime);
+        ui.getInternals().setNavigationMetricsRecorder(null);
+
+        Map<Phase, Duration> phaseTimes = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            if (phaseNanos[phase.ordinal()] > 0) {
+                phaseTimes.put(phase,
+                        Duration.ofNanos(phaseNanos[phase.ordinal()]));
+            }
+        }
+        VaadinService service = getService(ui);
+        if (service != null) {
+            service.fireNavigationMetricsListeners(new NavigationMetricsEvent(
+                    ui, location, trigger, navigationTarget, routeTemplate,
+                    statusCode, phaseTimes, totalTime,
+                    instantiatedComponentCount, reusedLayoutCount));
+        }
+    }
+
+    private void switchPhase(Phase phase) {
+        long now = System.nanoTime();
+        if (currentPhase != null) {
+            phaseNanos[currentPhase.ordinal()] += now - phaseStartTime;
+        }
+        currentPhase = phase;
+        phaseStartTime = now;
+    }
+
+    private static NavigationMetricsRecorder getRecorder(UI ui) {
+        if (ui == null || ui.getInternals() == null) {
+            return null;
+        }
+        return ui.getInternals().getNavigationMetricsRecorder();
+    }
+
+    private static VaadinService getService(UI ui) {
+        VaadinSession session = ui.getSession();
+        return session == null ? null : session.getService();
+    }
+}
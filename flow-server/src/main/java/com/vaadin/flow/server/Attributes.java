@@ -16,6 +16,8 @@
 package com.vaadin.flow.server;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 
 /**
@@ -142,4 +144,13 @@ public class Attributes implements Serializable {
         return attributes.isEmpty();
     }
 
+    /**
+     * Gets all stored values.
+     *
+     * @return an unmodifiable view of the values
+     */
+    Collection<Object> getValues() {
+        return Collections.unmodifiableCollection(attributes.values());
+    }
+
 }
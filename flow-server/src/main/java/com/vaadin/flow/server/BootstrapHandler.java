@@ -79,8 +79,10 @@ import com.vaadin.flow.router.LocationUtil;
 import com.vaadin.flow.router.QueryParameters;
 import com.vaadin.flow.server.communication.AtmospherePushConnection;
 import com.vaadin.flow.server.communication.IndexHtmlRequestHandler;
+import com.vaadin.flow.server.communication.JSR356WebsocketInitializer;
 import com.vaadin.flow.server.communication.PushConnectionFactory;
 import com.vaadin.flow.server.communication.UidlWriter;
+import com.vaadin.flow.server.communication.WebSocketPushConnection;
 import com.vaadin.flow.server.frontend.CssBundler;
 import com.vaadin.flow.server.frontend.DevBundleUtils;
 import com.vaadin.flow.server.frontend.FrontendUtils;
@@ -91,6 +93,7 @@ import com.vaadin.flow.shared.VaadinUriResolver;
 import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
+import com.vaadin.flow.shared.ui.Transport;
 
 import static com.vaadin.flow.server.Constants.VAADIN_MAPPING;
 import static com.vaadin.flow.server.frontend.FrontendUtils.EXPORT_CHUNK;
@@ -1311,6 +1314,10 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                 appConfig.put("requestTiming", true);
             }
 
+            if (deploymentConfiguration.isClientRenderTiming()) {
+                appConfig.put("clientRenderTiming", true);
+            }
+
             appConfig.put("heartbeatInterval",
                     deploymentConfiguration.getHeartbeatInterval());
 
@@ -1390,6 +1397,15 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                 BootstrapHandlerHelper.determinePushServletMapping(session));
 
         push.map(Push::transport).ifPresent(pushConfiguration::setTransport);
+        if (request.getUserPrincipal() != null
+                && pushConfiguration.getTransport() == Transport.WEBSOCKET
+                && ui.getInternals()
+                        .getPushConnection() instanceof WebSocketPushConnection) {
+            // Role checks need the servlet request, which is not available
+            // for messages received through a websocket. Send client messages
+            // as regular requests instead.
+            pushConfiguration.setTransport(Transport.WEBSOCKET_XHR);
+        }
 
         // Set thread local here so it is available in init
         UI.setCurrent(ui);
@@ -1442,6 +1458,14 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                         "Multiple " + PushConnectionFactory.class.getName()
                                 + " implementations found");
             }
+        } else if (service.getDeploymentConfiguration().getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_PUSH_NATIVE_WEBSOCKET, false)
+                && service instanceof VaadinServletService servletService
+                && JSR356WebsocketInitializer.isNativeWebSocketDeployed(
+                        servletService.getServlet().getServletContext(),
+                        servletService.getServlet().getServletName())) {
+            pushConfiguration
+                    .setPushConnectionFactory(WebSocketPushConnection::new);
         }
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link StreamVariable} that receives uploaded data through a
+ * {@link WritableByteChannel} instead of an {@link OutputStream}.
+ * <p>
+ * When the channel is a {@link FileChannel}, received data is written directly
+ * to the given file position using a large reusable buffer.
+ * <p>
+ * Uploads posted as a plain request body (not as multipart) may be split into
+ * chunks using the {@code Content-Range} request header, e.g.
+ * {@code Content-Range: bytes 0-1048575/10485760}. Each chunk must start at
+ * the {@link #getCommittedOffset() committed offset}. Otherwise the chunk is
+ * rejected with status 416 and a {@code Range} response header telling the
+ * client which bytes have already been received, so that an interrupted upload
+ * can be resumed from that offset.
+ * {@link #streamingStarted(StreamingStartEvent)} is called for the first chunk
+ * and {@link #streamingFinished(StreamingEndEvent)} for the last one.
+ * Interrupted chunks are not reported through
+ * {@link #streamingFailed(StreamingErrorEvent)} since the upload may still be
+ * resumed.
+ *
+ * @author Vaadin Ltd
+ */
+public interface ChannelStreamVariable extends StreamVariable {
+
+    /**
+     * Invoked for each received upload request, after
+     * {@link #streamingStarted(StreamingStartEvent)} for the first one. The
+     * received data is written to the returned channel, which is closed when
+     * the request has been handled.
+     * <p>
+     * Data for a {@link FileChannel} is written at the given offset, other
+     * channels receive the data sequentially.
+     *
+     * @param offset
+     *            the offset of the first received byte within the whole upload
+     * @return the channel to which the uploaded data should be written
+     * @throws IOException
+     *             if the channel cannot be opened
+     */
+    WritableByteChannel getChannel(long offset) throws IOException;
+
+    /**
+     * Gets the number of bytes of the current upload that have been stored,
+     * typically the size of the target file. The next chunk of a chunked
+     * upload must start at this offset.
+     *
+     * @return the committed offset of the current upload
+     */
+    long getCommittedOffset();
+
+    @Override
+    default OutputStream getOutputStream() {
+        try {
+            return Channels.newOutputStream(getChannel(0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
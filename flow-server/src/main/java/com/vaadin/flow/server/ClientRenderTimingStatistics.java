@@ -0,0 +1,191 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.ClientRenderTimingListener;
+
+/**
+ * Aggregates the total client side handling time of responses into a
+ * histogram per route.
+ * <p>
+ * Register an instance using
+ * {@link VaadinService#addClientRenderTimingListener(ClientRenderTimingListener)}
+ * to find the views which are slow to render in the browser. The histograms
+ * use fixed, exponentially growing buckets so recording a timing never
+ * allocates and can be done concurrently from any number of sessions.
+ *
+ * @since
+ */
+public class ClientRenderTimingStatistics
+        implements ClientRenderTimingListener {
+
+    private static final int[] BUCKET_LIMITS = { 16, 32, 64, 128, 256, 512,
+            1024, 2048, 4096, 8192 };
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * A histogram of handling times, in milliseconds.
+     */
+    public static class Histogram implements Serializable {
+
+        private final LongAdder[] counts = new LongAdder[BUCKET_LIMITS.length
+                + 1];
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(int millis) {
+            int bucket = Arrays.binarySearch(BUCKET_LIMITS, millis);
+            if (bucket < 0) {
+                bucket = -bucket - 1;
+            }
+            counts[bucket].increment();
+            sum.add(millis);
+            max.accumulateAndGet(millis, Math::max);
+        }
+
+        /**
+         * Gets the upper limits of the buckets, in milliseconds. The last
+         * bucket returned by {@link #getBucketCounts()} has no upper limit.
+         *
+         * @return the bucket limits
+         */
+        public int[] getBucketLimits() {
+            return BUCKET_LIMITS.clone();
+        }
+
+        /**
+         * Gets the number of recorded timings in each bucket.
+         *
+         * @return the bucket counts, one more than the number of limits
+         */
+        public long[] getBucketCounts() {
+            return Arrays.stream(counts).mapToLong(LongAdder::sum).toArray();
+        }
+
+        /**
+         * Gets the number of recorded timings.
+         *
+         * @return the number of timings
+         */
+        public long getCount() {
+            return Arrays.stream(counts).mapToLong(LongAdder::sum).sum();
+        }
+
+        /**
+         * Gets the mean of the recorded timings.
+         *
+         * @return the mean in milliseconds, or <code>0</code> if nothing has
+         *         been recorded
+         */
+        public double getMean() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) sum.sum() / count;
+        }
+
+        /**
+         * Gets the longest recorded timing.
+         *
+         * @return the maximum in milliseconds
+         */
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Gets an upper bound for the given percentile, i.e. the limit of the
+         * bucket containing the percentile.
+         *
+         * @param percentile
+         *            the percentile, between 0 and 100
+         * @return the upper bound in milliseconds, or <code>0</code> if nothing
+         *         has been recorded
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException(
+                        "Percentile must be between 0 and 100");
+            }
+            long[] bucketCounts = getBucketCounts();
+            long total = Arrays.stream(bucketCounts).sum();
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_LIMITS.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= target && seen > 0) {
+                    return Math.min(BUCKET_LIMITS[i], getMax());
+                }
+            }
+            return getMax();
+        }
+    }
+
+    @Override
+    public void clientRenderTiming(ClientRenderTimingEvent event) {
+        if (event.getTotalTime() >= 0) {
+            histograms.computeIfAbsent(event.getRoute(), key -> new Histogram())
+                    .record(event.getTotalTime());
+        }
+    }
+
+    /**
+     * Gets the histogram of the given route.
+     *
+     * @param route
+     *            the route template, as returned by
+     *            {@link ClientRenderTimingEvent#getRoute()}
+     * @return the histogram, or an empty optional if no timings have been
+     *         recorded for the route
+     */
+    public Optional<Histogram> getHistogram(String route) {
+        return Optional.ofNullable(histograms.get(route));
+    }
+
+    /**
+     * Gets the histograms of all routes for which timings have been recorded.
+     *
+     * @return an unmodifiable view of the histograms by route
+     */
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+}
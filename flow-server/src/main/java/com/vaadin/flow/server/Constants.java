@@ -64,6 +64,14 @@ public final class Constants implements Serializable {
     public static final String TEMPLATE_DIRECTORY = Constants.VAADIN_CONFIGURATION
             + "templates/";
 
+    /**
+     * Default resource to place the precomputed template metadata in. Written
+     * by the production build so that templates don't need to be parsed at
+     * runtime.
+     */
+    public static final String TEMPLATE_INDEX = Constants.VAADIN_CONFIGURATION
+            + "template-index.json";
+
     /**
      * Name of the <code>npm</code> main file.
      */
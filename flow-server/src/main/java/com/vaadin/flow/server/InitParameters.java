@@ -49,6 +49,13 @@ public class InitParameters implements Serializable {
     public static final String SERVLET_PARAMETER_ENABLE_DEV_SERVER = "enableDevServer";
     public static final String SERVLET_PARAMETER_REUSE_DEV_SERVER = "reuseDevServer";
     public static final String SERVLET_PARAMETER_REQUEST_TIMING = "requestTiming";
+
+    /**
+     * Boolean parameter for making the client report how long it took to
+     * handle each response, see
+     * {@link VaadinService#addClientRenderTimingListener(com.vaadin.flow.component.ClientRenderTimingListener)}.
+     */
+    public static final String SERVLET_PARAMETER_CLIENT_RENDER_TIMING = "clientRenderTiming";
     // Javadocs for VaadinService should be updated if this value is changed
     public static final String SERVLET_PARAMETER_DISABLE_XSRF_PROTECTION = "disable-xsrf-protection";
     public static final String SERVLET_PARAMETER_HEARTBEAT_INTERVAL = "heartbeatInterval";
@@ -56,10 +63,44 @@ public class InitParameters implements Serializable {
     public static final String SERVLET_PARAMETER_CLOSE_IDLE_SESSIONS = "closeIdleSessions";
     public static final String SERVLET_PARAMETER_PUSH_MODE = "pushMode";
     public static final String SERVLET_PARAMETER_SESSION_LOCK_CHECK_STRATEGY = "sessionLockCheckStrategy";
+
+    /**
+     * Boolean parameter for recording the time spent waiting for and holding
+     * session locks, see {@link VaadinService#getSessionLockStatistics()}.
+     */
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_PROFILING = "sessionLockProfiling";
+
+    /**
+     * Number of seconds without UIDL requests after which a UI that does not
+     * use push is serialized to disk and removed from memory until it is used
+     * again. Negative to keep all UIs in memory, which is the default.
+     * <p>
+     * The UI is restored as a copy, so UIs referencing other UIs or session
+     * attributes, or showing a {@link com.vaadin.flow.router.PreserveOnRefresh}
+     * route, are kept in memory. Components should not reference
+     * application scoped objects when this is enabled, as the restored UI
+     * would get its own copies of them.
+     */
+    public static final String SERVLET_PARAMETER_UI_SPILL_TIMEOUT = "uiSpillTimeout";
+
+    /**
+     * Directory where inactive UIs are written to, see
+     * {@link #SERVLET_PARAMETER_UI_SPILL_TIMEOUT}. Defaults to a new temporary
+     * directory.
+     */
+    public static final String SERVLET_PARAMETER_UI_SPILL_DIRECTORY = "uiSpillDirectory";
     public static final String SERVLET_PARAMETER_PUSH_SERVLET_MAPPING = "pushServletMapping";
     public static final String SERVLET_PARAMETER_SYNC_ID_CHECK = "syncIdCheck";
     public static final String SERVLET_PARAMETER_SEND_URLS_AS_PARAMETERS = "sendUrlsAsParameters";
     public static final String SERVLET_PARAMETER_PUSH_SUSPEND_TIMEOUT_LONGPOLLING = "pushLongPollingSuspendTimeout";
+
+    /**
+     * Boolean parameter for serving websocket push connections with a plain
+     * Jakarta WebSocket endpoint instead of Atmosphere. Long polling fallback
+     * connections are still handled by Atmosphere. Only used in production
+     * mode.
+     */
+    public static final String SERVLET_PARAMETER_PUSH_NATIVE_WEBSOCKET = "pushNativeWebSocket";
     public static final String SERVLET_PARAMETER_MAX_MESSAGE_SUSPEND_TIMEOUT = "maxMessageSuspendTimeout";
     public static final String SERVLET_PARAMETER_JSBUNDLE = "module.bundle";
     public static final String SERVLET_PARAMETER_POLYFILLS = "module.polyfills";
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vaadin.flow.router.NavigationMetricsEvent;
+import com.vaadin.flow.router.NavigationMetricsEvent.Phase;
+import com.vaadin.flow.router.NavigationMetricsListener;
+import com.vaadin.flow.server.ClientRenderTimingStatistics.Histogram;
+
+/**
+ * Aggregates the server side navigation times into histograms per route.
+ * <p>
+ * Register an instance using
+ * {@link VaadinService#addNavigationMetricsListener(NavigationMetricsListener)},
+ * e.g. from a {@link VaadinServiceInitListener}, to find the views which are
+ * slow to navigate to and the phase the time is spent in. Navigations are
+ * grouped by the route template of the shown view, or by the class name of the
+ * view if it is not a registered route, such as an error view. Navigations
+ * which did not show any view, e.g. because they were postponed, are ignored.
+ *
+ * @since
+ */
+public class NavigationMetricsStatistics implements NavigationMetricsListener {
+
+    private final Map<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+
+    /**
+     * The navigation times of a route, in milliseconds.
+     */
+    public static class RouteStatistics implements Serializable {
+
+        private final Histogram totalTime = new Histogram();
+        private final Map<Phase, Histogram> phaseTimes = new EnumMap<>(
+                Phase.class);
+        private final LongAdder instantiatedComponents = new LongAdder();
+        private final LongAdder layoutReuses = new LongAdder();
+
+        private RouteStatistics() {
+            for (Phase phase : Phase.values()) {
+                phaseTimes.put(phase, new Histogram());
+            }
+        }
+
+        private void record(NavigationMetricsEvent event) {
+            totalTime.record(toMillis(event.getTotalTime()));
+            for (Phase phase : Phase.values()) {
+                phaseTimes.get(phase)
+                        .record(toMillis(event.getPhaseTime(phase)));
+            }
+            instantiatedComponents.add(event.getInstantiatedComponentCount());
+            if (event.isLayoutReused()) {
+                layoutReuses.increment();
+            }
+        }
+
+        /**
+         * Gets the histogram of the total navigation times.
+         *
+         * @return the total time histogram
+         */
+        public Histogram getTotalTime() {
+            return totalTime;
+        }
+
+        /**
+         * Gets the histogram of the times spent in the given phase. Phases
+         * that were not entered in a navigation are recorded as zero.
+         *
+         * @param phase
+         *            the phase, not <code>null</code>
+         * @return the phase time histogram
+         */
+        public Histogram getPhaseTime(Phase phase) {
+            return phaseTimes.get(phase);
+        }
+
+        /**
+         * Gets the number of recorded navigations.
+         *
+         * @return the number of navigations
+         */
+        public long getNavigationCount() {
+            return totalTime.getCount();
+        }
+
+        /**
+         * Gets the total number of navigation targets and router layouts
+         * instantiated by the recorded navigations.
+         *
+         * @return the number of instantiated route chain components
+         */
+        public long getInstantiatedComponentCount() {
+            return instantiatedComponents.sum();
+        }
+
+        /**
+         * Gets the number of recorded navigations which reused at least one
+         * router layout.
+         *
+         * @return the number of navigations reusing layouts
+         */
+        public long getLayoutReuseCount() {
+            return layoutReuses.sum();
+        }
+
+        private static int toMillis(Duration duration) {
+            return (int) Math.min(Integer.MAX_VALUE, duration.toMillis());
+        }
+    }
+
+    @Override
+    public void navigationCompleted(NavigationMetricsEvent event) {
+        String route = event.getRouteTemplate();
+        if (route == null && event.getNavigationTarget() != null) {
+            route = event.getNavigationTarget().getName();
+        }
+        if (route != null) {
+            routes.computeIfAbsent(route, key -> new RouteStatistics())
+                    .record(event);
+        }
+    }
+
+    /**
+     * Gets the statistics of the given route.
+     *
+     * @param route
+     *            the route template, as returned by
+     *            {@link NavigationMetricsEvent#getRouteTemplate()}, or the
+     *            class name of a view which is not a registered route
+     * @return the statistics, or an empty optional if no navigations have been
+     *         recorded for the route
+     */
+    public Optional<RouteStatistics> getStatistics(String route) {
+        return Optional.ofNullable(routes.get(route));
+    }
+
+    /**
+     * Gets the statistics of all routes for which navigations have been
+     * recorded.
+     *
+     * @return an unmodifiable view of the statistics by route
+     */
+    public Map<String, RouteStatistics> getStatistics() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * Removes all recorded navigations.
+     */
+    public void reset() {
+        routes.clear();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.SessionLockStatistics.Category;
+
+/**
+ * A session lock recording the time spent waiting for and holding it into
+ * {@link SessionLockStatistics}.
+ * <p>
+ * Only the outermost acquisition of a thread is recorded. The statistics are
+ * not serialized with the session, so a deserialized lock works as a plain
+ * {@link ReentrantLock}.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+class ProfiledSessionLock extends ReentrantLock {
+
+    private final transient SessionLockStatistics statistics;
+    private final transient boolean reportLongHolds;
+
+    // Only accessed by the thread holding the lock
+    private transient Category holdCategory;
+    private transient long holdStartTime;
+
+    ProfiledSessionLock(SessionLockStatistics statistics,
+            boolean reportLongHolds) {
+        this.statistics = statistics;
+        this.reportLongHolds = reportLongHolds;
+    }
+
+    @Override
+    public void lock() {
+        if (statistics == null || isHeldByCurrentThread()) {
+            super.lock();
+            return;
+        }
+        Category category = SessionLockStatistics.getCurrentCategory();
+        long start = System.nanoTime();
+        if (!super.tryLock()) {
+            if (reportLongHolds) {
+                lockReportingHolder();
+            } else {
+                super.lock();
+            }
+        }
+        acquired(category, start);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (statistics == null || isHeldByCurrentThread()) {
+            super.lockInterruptibly();
+            return;
+        }
+        long start = System.nanoTime();
+        super.lockInterruptibly();
+        acquired(SessionLockStatistics.getCurrentCategory(), start);
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (statistics == null || isHeldByCurrentThread()) {
+            return super.tryLock();
+        }
+        long start = System.nanoTime();
+        if (super.tryLock()) {
+            acquired(SessionLockStatistics.getCurrentCategory(), start);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        if (statistics == null || isHeldByCurrentThread()) {
+            return super.tryLock(timeout, unit);
+        }
+        long start = System.nanoTime();
+        if (super.tryLock(timeout, unit)) {
+            acquired(SessionLockStatistics.getCurrentCategory(), start);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void unlock() {
+        if (holdCategory != null && getHoldCount() == 1
+                && isHeldByCurrentThread()) {
+            long holdTime = System.nanoTime() - holdStartTime;
+            Category category = holdCategory;
+            holdCategory = null;
+            statistics.recordHold(category, holdTime);
+            long thresholdMillis = statistics.getLongHoldThreshold()
+                    .toMillis();
+            if (reportLongHolds && TimeUnit.NANOSECONDS
+                    .toMillis(holdTime) > thresholdMillis) {
+                getLogger().warn(
+                        "Session lock was held for {} ms by {} in thread {}",
+                        TimeUnit.NANOSECONDS.toMillis(holdTime), category,
+                        Thread.currentThread().getName());
+            }
+        }
+        super.unlock();
+    }
+
+    private void acquired(Category category, long start) {
+        long now = System.nanoTime();
+        statistics.recordWait(category, now - start);
+        holdCategory = category;
+        holdStartTime = now;
+    }
+
+    private void lockReportingHolder() {
+        long thresholdMillis = statistics.getLongHoldThreshold().toMillis();
+        boolean interrupted = false;
+        try {
+            if (super.tryLock(thresholdMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        Thread owner = getOwner();
+        if (owner != null && !interrupted) {
+            Throwable holderStack = new Throwable(
+                    "Stack of thread " + owner.getName());
+            holderStack.setStackTrace(owner.getStackTrace());
+            getLogger().warn(
+                    "Thread {} has waited for the session lock for more than {} ms",
+                    Thread.currentThread().getName(), thresholdMillis,
+                    holderStack);
+        }
+        super.lock();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(ProfiledSessionLock.class);
+    }
+}
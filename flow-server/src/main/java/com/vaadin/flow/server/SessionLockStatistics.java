@@ -0,0 +1,198 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.ClientRenderTimingStatistics.Histogram;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
+
+/**
+ * Aggregates the time spent waiting for and holding session locks into
+ * histograms per category of the code acquiring the lock.
+ * <p>
+ * Statistics are only recorded when
+ * {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_PROFILING} is enabled,
+ * and are available through {@link VaadinService#getSessionLockStatistics()}.
+ * In development mode, the stack of the thread holding a lock is logged when
+ * another thread has waited for the lock longer than the
+ * {@link #setLongHoldThreshold(Duration) long hold threshold}, and locks held
+ * longer than the threshold are logged when released.
+ *
+ * @since
+ */
+public class SessionLockStatistics implements Serializable {
+
+    /**
+     * The category of the code acquiring a session lock.
+     */
+    public enum Category {
+        /**
+         * Handling a UIDL request.
+         */
+        UIDL,
+        /**
+         * Handling a push connection or message.
+         */
+        PUSH,
+        /**
+         * Handling a heartbeat request.
+         */
+        HEARTBEAT,
+        /**
+         * Handling a file upload.
+         */
+        UPLOAD,
+        /**
+         * Running a task outside of any request, e.g. from
+         * {@link com.vaadin.flow.component.UI#access(com.vaadin.flow.server.Command)}
+         * in a background thread.
+         */
+        ACCESS_TASK,
+        /**
+         * Handling any other request.
+         */
+        OTHER
+    }
+
+    private volatile Histogram[] waitTimes = createHistograms();
+    private volatile Histogram[] holdTimes = createHistograms();
+    private volatile Duration longHoldThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Gets the histogram of the time spent waiting for session locks by the
+     * given category, in milliseconds.
+     *
+     * @param category
+     *            the category, not <code>null</code>
+     * @return the wait time histogram
+     */
+    public Histogram getWaitTime(Category category) {
+        return waitTimes[category.ordinal()];
+    }
+
+    /**
+     * Gets the histogram of the time session locks were held by the given
+     * category, in milliseconds. Reentrant acquisitions are included in the
+     * outermost hold.
+     *
+     * @param category
+     *            the category, not <code>null</code>
+     * @return the hold time histogram
+     */
+    public Histogram getHoldTime(Category category) {
+        return holdTimes[category.ordinal()];
+    }
+
+    /**
+     * Sets the time after which waiting for or holding a lock is reported in
+     * development mode. The default is one second.
+     *
+     * @param longHoldThreshold
+     *            the threshold, not <code>null</code>
+     */
+    public void setLongHoldThreshold(Duration longHoldThreshold) {
+        this.longHoldThreshold = Objects.requireNonNull(longHoldThreshold,
+                "Threshold cannot be null");
+    }
+
+    /**
+     * Gets the time after which waiting for or holding a lock is reported in
+     * development mode.
+     *
+     * @return the threshold
+     */
+    public Duration getLongHoldThreshold() {
+        return longHoldThreshold;
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    public void reset() {
+        waitTimes = createHistograms();
+        holdTimes = createHistograms();
+    }
+
+    void recordWait(Category category, long nanos) {
+        getWaitTime(category).record(toMillis(nanos));
+    }
+
+    void recordHold(Category category, long nanos) {
+        getHoldTime(category).record(toMillis(nanos));
+    }
+
+    /**
+     * Sets the category of the session locks acquired by the current thread.
+     * The previous category should be restored when done.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param category
+     *            the category, or <code>null</code> to determine the category
+     *            from the current request
+     * @return the previously set category, or <code>null</code> if none was
+     *         set
+     */
+    public static Category setCurrentCategory(Category category) {
+        Category previous = CurrentInstance.get(Category.class);
+        CurrentInstance.set(Category.class, category);
+        return previous;
+    }
+
+    /**
+     * Gets the category of the session locks acquired by the current thread,
+     * as set by {@link #setCurrentCategory(Category)} or determined from the
+     * type of the current request.
+     *
+     * @return the category, not <code>null</code>
+     */
+    static Category getCurrentCategory() {
+        Category category = CurrentInstance.get(Category.class);
+        if (category != null) {
+            return category;
+        }
+        VaadinRequest request = VaadinRequest.getCurrent();
+        if (request == null) {
+            return Category.ACCESS_TASK;
+        } else if (HandlerHelper.isRequestType(request, RequestType.UIDL)) {
+            return Category.UIDL;
+        } else if (HandlerHelper.isRequestType(request, RequestType.PUSH)) {
+            return Category.PUSH;
+        } else if (HandlerHelper.isRequestType(request,
+                RequestType.HEARTBEAT)) {
+            return Category.HEARTBEAT;
+        }
+        return Category.OTHER;
+    }
+
+    private static int toMillis(long nanos) {
+        return (int) Math.min(Integer.MAX_VALUE,
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    private static Histogram[] createHistograms() {
+        Histogram[] histograms = new Histogram[Category.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+        return histograms;
+    }
+}
@@ -16,7 +16,11 @@
 package com.vaadin.flow.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +34,7 @@ import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.RoutesChangedEvent;
 import com.vaadin.flow.router.RoutesChangedListener;
 import com.vaadin.flow.router.internal.AbstractRouteRegistry;
+import com.vaadin.flow.router.internal.ConfigureRoutes;
 import com.vaadin.flow.router.internal.ConfiguredRoutes;
 import com.vaadin.flow.router.internal.NavigationRouteTarget;
 import com.vaadin.flow.router.internal.PathUtil;
@@ -48,6 +53,69 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     private final VaadinSession session;
 
+    /**
+     * The routes of this and the parent registry, cached until the
+     * configuration of either registry changes.
+     */
+    private transient volatile RouteLayers routeLayers;
+
+    /**
+     * The routes of the session and application layers, derived from the
+     * given configurations.
+     *
+     * @param configuration
+     *            the configuration of this registry
+     * @param parentConfiguration
+     *            the configuration of the parent registry, or
+     *            <code>null</code> if the parent doesn't expose one
+     * @param mergedRoutes
+     *            the routes of this registry followed by the unmasked routes
+     *            of the parent
+     * @param localTemplates
+     *            the templates of the routes only in this registry
+     * @param parentTemplates
+     *            the templates of the parent routes
+     * @param localSegments
+     *            the segments of the templates only in this registry
+     * @param parentSegments
+     *            the segments of the parent templates
+     */
+    private record RouteLayers(ConfiguredRoutes configuration,
+            ConfiguredRoutes parentConfiguration, List<RouteData> mergedRoutes,
+            Set<String> localTemplates, Set<String> parentTemplates,
+            SegmentTree localSegments, SegmentTree parentSegments) {
+    }
+
+    /**
+     * A tree of literal template segments, used to find the longest common
+     * prefix of a URL and any of the templates in one walk.
+     */
+    private static class SegmentTree {
+
+        private final Map<String, SegmentTree> children = new HashMap<>();
+
+        private void add(List<String> segments) {
+            SegmentTree tree = this;
+            for (String segment : segments) {
+                tree = tree.children.computeIfAbsent(segment,
+                        key -> new SegmentTree());
+            }
+        }
+
+        private int getMatchLength(List<String> segments) {
+            SegmentTree tree = this;
+            int matches = 0;
+            for (String segment : segments) {
+                tree = tree.children.get(segment);
+                if (tree == null) {
+                    break;
+                }
+                matches++;
+            }
+            return matches;
+        }
+    }
+
     /**
      * Package protected constructor for the session route registry.
      * <p>
@@ -87,19 +155,67 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     @Override
     public List<RouteData> getRegisteredRoutes() {
-        List<RouteData> routes = new ArrayList<>(super.getRegisteredRoutes());
+        return new ArrayList<>(getRouteLayers().mergedRoutes());
+    }
+
+    private RouteLayers getRouteLayers() {
+        ConfiguredRoutes configuration = getConfiguration();
+        ConfiguredRoutes parentConfiguration = getParentRegistry() instanceof AbstractRouteRegistry parent
+                ? parent.getConfiguration()
+                : null;
+
+        RouteLayers layers = routeLayers;
+        if (layers != null && parentConfiguration != null
+                && layers.configuration() == configuration
+                && layers.parentConfiguration() == parentConfiguration) {
+            return layers;
+        }
+
+        layers = createRouteLayers(configuration, parentConfiguration);
+        // Configurations being edited are mutable and can't be cached
+        if (parentConfiguration != null
+                && !(configuration instanceof ConfigureRoutes)
+                && !(parentConfiguration instanceof ConfigureRoutes)
+                && configuration == getConfiguration()) {
+            routeLayers = layers;
+        }
+        return layers;
+    }
 
-        List<RouteData> registeredRoutes = getParentRegistry()
+    private RouteLayers createRouteLayers(ConfiguredRoutes configuration,
+            ConfiguredRoutes parentConfiguration) {
+        List<RouteData> routes = super.getRegisteredRoutes();
+        List<RouteData> parentRoutes = getParentRegistry()
                 .getRegisteredRoutes();
-        if (!registeredRoutes.isEmpty()) {
-            Set<String> collect = routes.stream().map(RouteData::getTemplate)
-                    .collect(Collectors.toSet());
-            registeredRoutes.stream()
-                    .filter(data -> !collect.contains(data.getTemplate()))
-                    .forEach(routes::add);
+
+        List<RouteData> mergedRoutes = new ArrayList<>(routes);
+        if (!parentRoutes.isEmpty()) {
+            Set<String> templates = routes.stream()
+                    .map(RouteData::getTemplate).collect(Collectors.toSet());
+            parentRoutes.stream()
+                    .filter(data -> !templates.contains(data.getTemplate()))
+                    .forEach(mergedRoutes::add);
         }
 
-        return routes;
+        Set<String> localTemplates = new HashSet<>();
+        SegmentTree localSegments = new SegmentTree();
+        routes.stream().filter(data -> !parentRoutes.contains(data))
+                .map(RouteData::getTemplate).forEach(template -> {
+                    localTemplates.add(template);
+                    localSegments.add(PathUtil.getSegmentsList(template));
+                });
+
+        Set<String> parentTemplates = new HashSet<>();
+        SegmentTree parentSegments = new SegmentTree();
+        parentRoutes.stream().map(RouteData::getTemplate)
+                .forEach(template -> {
+                    parentTemplates.add(template);
+                    parentSegments.add(PathUtil.getSegmentsList(template));
+                });
+
+        return new RouteLayers(configuration, parentConfiguration,
+                Collections.unmodifiableList(mergedRoutes), localTemplates,
+                parentTemplates, localSegments, parentSegments);
     }
 
     /**
@@ -188,55 +304,15 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
      * @return true if parent has exact match, but this registry doesn't
      */
     private boolean parentContainsExactMatch(String url) {
-        final List<RouteData> parentRoutes = getParentRegistry()
-                .getRegisteredRoutes();
-        final List<RouteData> registeredRoutes = getRegisteredRoutes();
-
-        // Remove any routes coming from parent registry
-        registeredRoutes.removeAll(parentRoutes);
-
-        boolean noLocalMatch = registeredRoutes.stream()
-                .noneMatch(data -> data.getTemplate().equals(url));
-        boolean parentMatch = parentRoutes.stream()
-                .anyMatch(data -> data.getTemplate().equals(url));
-
-        final boolean parentExactMatch = noLocalMatch && parentMatch;
-        if (!parentExactMatch) {
-            final List<String> segments = PathUtil.getSegmentsList(url);
-            final int parentHighestMatch = parentRoutes.stream()
-                    .mapToInt(data -> equalParts(segments,
-                            PathUtil.getSegmentsList(data.getTemplate())))
-                    .max().orElse(0);
-
-            final int registryHighestMatch = registeredRoutes.stream()
-                    .mapToInt(data -> equalParts(segments,
-                            PathUtil.getSegmentsList(data.getTemplate())))
-                    .max().orElse(0);
-            return parentHighestMatch > registryHighestMatch;
-        }
-        return parentExactMatch;
-    }
+        RouteLayers layers = getRouteLayers();
 
-    /**
-     * Check for how many parts match.
-     *
-     * @param urlParts
-     *            url segment parts list
-     * @param target
-     *            route target segments list
-     * @return amount of matching segments from the start
-     */
-    private int equalParts(List<String> urlParts, List<String> target) {
-        int maxSize = Math.min(urlParts.size(), target.size());
-        int matches = 0;
-        for (int i = 0; i < maxSize; i++) {
-            if (urlParts.get(i).equals(target.get(i))) {
-                matches++;
-            } else {
-                break;
-            }
+        if (!layers.localTemplates().contains(url)
+                && layers.parentTemplates().contains(url)) {
+            return true;
         }
-        return matches;
+        List<String> segments = PathUtil.getSegmentsList(url);
+        return layers.parentSegments().getMatchLength(segments) > layers
+                .localSegments().getMatchLength(segments);
     }
 
     @Override
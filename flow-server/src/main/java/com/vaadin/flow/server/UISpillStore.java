@@ -0,0 +1,313 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+
+/**
+ * Stores serialized UIs on the local disk while they are inactive, see
+ * {@link InitParameters#SERVLET_PARAMETER_UI_SPILL_TIMEOUT}.
+ * <p>
+ * A UI is serialized in the same way as when its session is serialized, except
+ * that references to the session and the service are replaced with
+ * placeholders so that only the UI itself ends up in the stored data. The
+ * placeholders are resolved to the current session and service when the UI is
+ * restored.
+ * <p>
+ * Everything else reachable from the UI is copied into the stored data and
+ * restored as a new instance, which would silently split objects shared with
+ * the rest of the application. UIs referencing other UIs or other sessions, or
+ * values stored as attributes of the session or the HTTP session, are thus
+ * not written. UIs with components preserved in the session by
+ * {@link com.vaadin.flow.router.PreserveOnRefresh} are not passed to the store
+ * at all. Objects shared in other ways, such as application scoped
+ * services or static registries, cannot be detected. Applications holding
+ * references to such objects in their components should not enable spilling.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+final class UISpillStore {
+
+    private enum Placeholder {
+        SESSION, SERVICE
+    }
+
+    /**
+     * A UI which has been written to the store.
+     *
+     * @param file
+     *            the file containing the serialized UI
+     * @param size
+     *            the size of the serialized UI in bytes
+     * @param lastHeartbeat
+     *            the time of the last heartbeat received for the UI
+     */
+    record SpilledUI(Path file, int size,
+            long lastHeartbeat) implements Serializable {
+
+        SpilledUI withHeartbeat(long heartbeat) {
+            return new SpilledUI(file, size, heartbeat);
+        }
+    }
+
+    private final Path directory;
+
+    /**
+     * Creates a store writing to the given directory.
+     *
+     * @param directory
+     *            the directory to write to, created if it does not exist
+     * @throws IOException
+     *             if the directory cannot be created
+     */
+    UISpillStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Creates a store writing to a new temporary directory.
+     *
+     * @return the store
+     * @throws IOException
+     *             if the directory cannot be created
+     */
+    static UISpillStore createTemporary() throws IOException {
+        return new UISpillStore(Files.createTempDirectory("vaadin-ui-spill"));
+    }
+
+    /**
+     * Serializes the given UI and writes it to a new file in the store.
+     *
+     * @param ui
+     *            the UI to write
+     * @param session
+     *            the session of the UI
+     * @return the spilled UI
+     * @throws IOException
+     *             if the UI cannot be serialized or written
+     */
+    SpilledUI write(UI ui, VaadinSession session) throws IOException {
+        byte[] data = serialize(ui, session);
+        Path file = Files.createTempFile(directory, "ui-" + ui.getUIId(),
+                ".ser");
+        try {
+            Files.write(file, data);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new SpilledUI(file, data.length,
+                ui.getInternals().getLastHeartbeatTimestamp());
+    }
+
+    /**
+     * Reads a spilled UI and removes it from the store.
+     *
+     * @param spilled
+     *            the spilled UI
+     * @param session
+     *            the session to restore the UI into
+     * @return the restored UI
+     * @throws IOException
+     *             if the UI cannot be read or deserialized
+     */
+    UI read(SpilledUI spilled, VaadinSession session) throws IOException {
+        try {
+            return deserialize(Files.readAllBytes(spilled.file()), session);
+        } finally {
+            delete(spilled);
+        }
+    }
+
+    /**
+     * Removes a spilled UI from the store without restoring it.
+     *
+     * @param spilled
+     *            the spilled UI
+     */
+    void delete(SpilledUI spilled) {
+        try {
+            Files.deleteIfExists(spilled.file());
+        } catch (IOException e) {
+            getLogger().debug("Unable to delete spilled UI {}", spilled.file(),
+                    e);
+        }
+    }
+
+    /**
+     * Removes all spilled UIs and the directory of the store.
+     */
+    void destroy() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> file.toFile().delete());
+            Files.deleteIfExists(directory);
+        } catch (IOException | UncheckedIOException e) {
+            getLogger().debug("Unable to delete UI spill directory {}",
+                    directory, e);
+        }
+    }
+
+    /**
+     * Serializes the given UI without its session.
+     *
+     * @param ui
+     *            the UI to serialize
+     * @param session
+     *            the session of the UI
+     * @return the serialized UI
+     * @throws IOException
+     *             if the UI cannot be serialized, or if it references state
+     *             shared outside of the UI
+     */
+    static byte[] serialize(UI ui, VaadinSession session) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new PlaceholderOutputStream(bytes, ui,
+                session)) {
+            out.writeObject(ui);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a UI serialized with {@link #serialize(UI, VaadinSession)}.
+     *
+     * @param data
+     *            the serialized UI
+     * @param session
+     *            the session to restore the UI into
+     * @return the deserialized UI
+     * @throws IOException
+     *             if the UI cannot be deserialized
+     */
+    static UI deserialize(byte[] data, VaadinSession session)
+            throws IOException {
+        try (ObjectInputStream in = new PlaceholderInputStream(
+                new ByteArrayInputStream(data), session)) {
+            return (UI) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unable to deserialize spilled UI", e);
+        }
+    }
+
+    private static class PlaceholderOutputStream extends ObjectOutputStream {
+        private final UI ui;
+        private final VaadinSession session;
+        private final Set<Object> sharedValues = Collections
+                .newSetFromMap(new IdentityHashMap<>());
+
+        private PlaceholderOutputStream(OutputStream out, UI ui,
+                VaadinSession session) throws IOException {
+            super(out);
+            this.ui = ui;
+            this.session = session;
+            session.getAttributeValues().forEach(this::addSharedValue);
+            WrappedSession wrappedSession = session.getSession();
+            if (wrappedSession != null) {
+                wrappedSession.getAttributeNames()
+                        .forEach(name -> addSharedValue(
+                                wrappedSession.getAttribute(name)));
+            }
+            enableReplaceObject(true);
+        }
+
+        private void addSharedValue(Object value) {
+            // Immutable values can be copied without changing behavior
+            if (value != null && !(value instanceof String
+                    || value instanceof Number || value instanceof Boolean
+                    || value instanceof Enum || value instanceof Class)) {
+                sharedValues.add(value);
+            }
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj == session) {
+                return Placeholder.SESSION;
+            } else if (obj instanceof VaadinService) {
+                return Placeholder.SERVICE;
+            } else if (obj instanceof UI && obj != ui
+                    || obj instanceof VaadinSession
+                    || sharedValues.contains(obj)) {
+                throw new IOException("UI " + ui.getUIId() + " references "
+                        + obj.getClass().getName()
+                        + " shared outside of the UI");
+            }
+            return obj;
+        }
+    }
+
+    private static class PlaceholderInputStream extends ObjectInputStream {
+        private final VaadinSession session;
+
+        private PlaceholderInputStream(InputStream in, VaadinSession session)
+                throws IOException {
+            super(in);
+            this.session = session;
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            if (obj == Placeholder.SESSION) {
+                return session;
+            } else if (obj == Placeholder.SERVICE) {
+                return session.getService();
+            }
+            return obj;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+                throws IOException, ClassNotFoundException {
+            VaadinService service = session.getService();
+            ClassLoader classLoader = service == null ? null
+                    : service.getClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution, e.g. for primitives
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(UISpillStore.class);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+
+/**
+ * Receives measurements of the request handling, client-server communication
+ * and session state of a {@link VaadinService}.
+ * <p>
+ * An implementation is typically an adapter which forwards the measurements to
+ * a metrics library, such as Micrometer. It can be registered using
+ * {@link VaadinService#setMetrics(VaadinMetrics)}, e.g. from a
+ * {@link VaadinServiceInitListener}, or provided as a service through the
+ * {@link com.vaadin.flow.di.Lookup} of the application, in which case it is
+ * picked up when the service is initialized.
+ * <p>
+ * All methods have empty default implementations so an implementation only
+ * needs to override the measurements it is interested in. The methods are
+ * called from request handling threads, often while holding the session lock,
+ * so they must be thread safe and return quickly.
+ * <p>
+ * By default the {@link #NO_OP} instance is used. It reports itself as
+ * {@link #isEnabled() disabled}, which makes the framework skip also computing
+ * the measurements.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public interface VaadinMetrics extends Serializable {
+
+    /**
+     * Metrics which ignore all measurements.
+     */
+    VaadinMetrics NO_OP = new VaadinMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Gets the metrics of the given service.
+     *
+     * @param service
+     *            the service, or <code>null</code>
+     * @return the metrics of the service, or {@link #NO_OP} if there is no
+     *         service
+     */
+    static VaadinMetrics get(VaadinService service) {
+        VaadinMetrics metrics = service == null ? null : service.getMetrics();
+        return metrics == null ? NO_OP : metrics;
+    }
+
+    /**
+     * Checks whether measurements should be collected at all. If this method
+     * returns <code>false</code>, the other methods are not called.
+     *
+     * @return <code>true</code> to collect measurements, <code>false</code> to
+     *         skip them
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called when a request has been handled by a request handler.
+     *
+     * @param handlerType
+     *            the type of the request handler which handled the request
+     * @param nanos
+     *            the time spent in the request handler, in nanoseconds
+     */
+    default void requestHandled(Class<? extends RequestHandler> handlerType,
+            long nanos) {
+    }
+
+    /**
+     * Called when a UIDL message has been created for a UI, either as a
+     * response to a client request or to be pushed.
+     *
+     * @param changeCount
+     *            the number of state tree changes in the message
+     * @param nodeCount
+     *            the number of state nodes attached to the UI
+     */
+    default void uidlCreated(int changeCount, int nodeCount) {
+    }
+
+    /**
+     * Called when a UIDL response has been written to a client request.
+     *
+     * @param length
+     *            the length of the response, in characters
+     */
+    default void uidlResponseWritten(int length) {
+    }
+
+    /**
+     * Called when an RPC invocation from the client is about to be handled.
+     *
+     * @param type
+     *            the type of the invocation, one of the
+     *            <code>JsonConstants.RPC_TYPE_*</code> values
+     */
+    default void rpcInvoked(String type) {
+    }
+
+    /**
+     * Called when a message is pushed to the client.
+     *
+     * @param length
+     *            the length of the message, in characters
+     */
+    default void pushMessageSent(int length) {
+    }
+
+    /**
+     * Called when a session has been started.
+     */
+    default void sessionStarted() {
+    }
+
+    /**
+     * Called when a session has been destroyed.
+     */
+    default void sessionDestroyed() {
+    }
+
+    /**
+     * Called when a UI has been added to a session.
+     */
+    default void uiAdded() {
+    }
+
+    /**
+     * Called when a UI has been removed from a session.
+     */
+    default void uiRemoved() {
+    }
+
+    /**
+     * Called when an inactive UI has been written to disk and removed from
+     * its session.
+     *
+     * @param bytes
+     *            the size of the serialized UI, in bytes
+     * @see InitParameters#SERVLET_PARAMETER_UI_SPILL_TIMEOUT
+     */
+    default void uiSpilled(int bytes) {
+    }
+
+    /**
+     * Called when a UI which was written to disk has been restored into its
+     * session.
+     *
+     * @param nanos
+     *            the time spent restoring the UI, in nanoseconds
+     */
+    default void uiRestored(long nanos) {
+    }
+
+    /**
+     * Called when the pending access tasks of a session are about to be run.
+     * <p>
+     * This includes the queue run while a session is destroyed, where the
+     * framework's own cleanup task is counted together with any tasks still
+     * queued by the application, before {@link #sessionDestroyed()} is
+     * called.
+     *
+     * @param depth
+     *            the number of tasks in the access queue
+     */
+    default void pendingAccessTasks(int depth) {
+    }
+}
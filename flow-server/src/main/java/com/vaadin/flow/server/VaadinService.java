@@ -26,6 +26,7 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -53,6 +55,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.ClientRenderTimingListener;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.di.DefaultInstantiator;
 import com.vaadin.flow.di.Instantiator;
@@ -65,6 +69,8 @@ import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.LocaleUtil;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.router.NavigationMetricsEvent;
+import com.vaadin.flow.router.NavigationMetricsListener;
 import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.Router;
 import com.vaadin.flow.router.internal.AbstractNavigationStateRenderer;
@@ -133,6 +139,19 @@ public abstract class VaadinService implements Serializable {
 
     private static final String REQUEST_START_TIME_ATTRIBUTE = "requestStartTime";
 
+    /*
+     * Monitors guarding the creation of session locks, striped by session id
+     * so that sessions being created concurrently don't contend on a single
+     * global monitor.
+     */
+    private static final Object[] SESSION_LOCK_CREATION_MONITORS = new Object[64];
+
+    static {
+        for (int i = 0; i < SESSION_LOCK_CREATION_MONITORS.length; i++) {
+            SESSION_LOCK_CREATION_MONITORS[i] = new Object();
+        }
+    }
+
     /**
      * Should never be used directly, always use
      * {@link #getDeploymentConfiguration()}.
@@ -151,6 +170,17 @@ public abstract class VaadinService implements Serializable {
     private final List<SessionInitListener> sessionInitListeners = new CopyOnWriteArrayList<>();
     private final List<UIInitListener> uiInitListeners = new CopyOnWriteArrayList<>();
     private final List<SessionDestroyListener> sessionDestroyListeners = new CopyOnWriteArrayList<>();
+    private final List<ClientRenderTimingListener> clientRenderTimingListeners = new CopyOnWriteArrayList<>();
+
+    private final List<NavigationMetricsListener> navigationMetricsListeners = new CopyOnWriteArrayList<>();
+
+    private final SessionLockStatistics sessionLockStatistics = new SessionLockStatistics();
+
+    private volatile VaadinMetrics metrics = VaadinMetrics.NO_OP;
+
+    private transient volatile UISpillStore uiSpillStore;
+
+    private transient volatile boolean uiSpillStoreUnavailable;
 
     private SystemMessagesProvider systemMessagesProvider = DefaultSystemMessagesProvider
             .get();
@@ -261,6 +291,15 @@ public abstract class VaadinService implements Serializable {
             dauInterceptorWrapper = null;
         }
 
+        Lookup lookup = getContext().getAttribute(Lookup.class);
+        if (lookup != null) {
+            // lookup may be null in tests
+            VaadinMetrics lookupMetrics = lookup.lookup(VaadinMetrics.class);
+            if (lookupMetrics != null) {
+                setMetrics(lookupMetrics);
+            }
+        }
+
         // allow service init listeners and DI to use thread local access to
         // e.g. application scoped route registry
         runWithServiceContext(() -> {
@@ -641,6 +680,53 @@ public abstract class VaadinService implements Serializable {
         return Registration.addAndRemove(uiInitListeners, listener);
     }
 
+    /**
+     * Adds a listener that gets notified when the client of any UI reports how
+     * long it took to handle a response. Timings are only reported when
+     * {@link InitParameters#SERVLET_PARAMETER_CLIENT_RENDER_TIMING} is
+     * enabled.
+     * <p>
+     * The listener is called with the session of the reporting UI locked.
+     *
+     * @param listener
+     *            the client render timing listener
+     * @return a handle that can be used for removing the listener
+     * @see ClientRenderTimingStatistics
+     */
+    public Registration addClientRenderTimingListener(
+            ClientRenderTimingListener listener) {
+        return Registration.addAndRemove(clientRenderTimingListeners,
+                listener);
+    }
+
+    /**
+     * Adds a listener that gets notified with the time spent in each phase of
+     * server side navigation whenever any UI has navigated.
+     * <p>
+     * The listener is called with the session of the navigating UI locked.
+     * Navigations are only timed while there is at least one listener.
+     *
+     * @param listener
+     *            the navigation metrics listener
+     * @return a handle that can be used for removing the listener
+     * @see NavigationMetricsStatistics
+     */
+    public Registration addNavigationMetricsListener(
+            NavigationMetricsListener listener) {
+        return Registration.addAndRemove(navigationMetricsListeners, listener);
+    }
+
+    /**
+     * Checks whether there are any navigation metrics listeners added to this
+     * service.
+     *
+     * @return <code>true</code> if there are listeners, <code>false</code>
+     *         otherwise
+     */
+    public boolean hasNavigationMetricsListeners() {
+        return !navigationMetricsListeners.isEmpty();
+    }
+
     /**
      * Adds a listener that gets notified when a Vaadin service session that has
      * been initialized for this service is destroyed.
@@ -697,6 +783,8 @@ public abstract class VaadinService implements Serializable {
             if (session.getState() == VaadinSessionState.OPEN) {
                 closeSession(session);
             }
+            // Spilled UIs are detached like the UIs kept in memory
+            session.discardSpilledUIs();
             List<UI> uis = new ArrayList<>(session.getUIs());
             for (final UI ui : uis) {
                 try {
@@ -733,6 +821,9 @@ public abstract class VaadinService implements Serializable {
                     });
 
             session.setState(VaadinSessionState.CLOSED);
+            if (metrics.isEnabled()) {
+                metrics.sessionDestroyed();
+            }
         });
     }
 
@@ -854,10 +945,10 @@ public abstract class VaadinService implements Serializable {
              * the CPU flushes its caches and reads the value directly from main
              * memory).
              */
-            synchronized (VaadinService.class) {
+            synchronized (getSessionLockCreationMonitor(wrappedSession)) {
                 lock = getSessionLock(wrappedSession);
                 if (lock == null) {
-                    lock = new ReentrantLock();
+                    lock = createSessionLock();
                     setSessionLock(wrappedSession, lock);
                 }
             }
@@ -877,6 +968,61 @@ public abstract class VaadinService implements Serializable {
         return lock;
     }
 
+    private static Object getSessionLockCreationMonitor(
+            WrappedSession wrappedSession) {
+        return SESSION_LOCK_CREATION_MONITORS[Math.floorMod(
+                Objects.hashCode(wrappedSession.getId()),
+                SESSION_LOCK_CREATION_MONITORS.length)];
+    }
+
+    private ReentrantLock createSessionLock() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        if (configuration != null && configuration.isSessionLockProfiling()) {
+            return new ProfiledSessionLock(sessionLockStatistics,
+                    !configuration.isProductionMode());
+        }
+        return new ReentrantLock();
+    }
+
+    /**
+     * Sets the metrics which receive measurements of the request handling and
+     * client-server communication of this service. Replaces any metrics found
+     * using the {@link Lookup} when the service was initialized.
+     *
+     * @param metrics
+     *            the metrics to use, or <code>null</code> to stop collecting
+     *            measurements
+     */
+    public void setMetrics(VaadinMetrics metrics) {
+        this.metrics = metrics == null ? VaadinMetrics.NO_OP : metrics;
+    }
+
+    /**
+     * Gets the metrics which receive measurements of the request handling and
+     * client-server communication of this service.
+     *
+     * @return the metrics, {@link VaadinMetrics#NO_OP} if none have been set
+     */
+    public VaadinMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the statistics of the time spent waiting for and holding the locks
+     * of the sessions of this service.
+     *
+     * @return the session lock statistics, or an empty optional if
+     *         {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_PROFILING}
+     *         is not enabled
+     */
+    public Optional<SessionLockStatistics> getSessionLockStatistics() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        if (configuration != null && configuration.isSessionLockProfiling()) {
+            return Optional.of(sessionLockStatistics);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Releases the lock for the given session for this service instance.
      * Typically, you want to call {@link VaadinSession#unlock()} instead of
@@ -1061,6 +1207,9 @@ public abstract class VaadinService implements Serializable {
 
     private void onVaadinSessionStarted(VaadinRequest request,
             VaadinSession session) {
+        if (metrics.isEnabled()) {
+            metrics.sessionStarted();
+        }
         SessionInitEvent event = new SessionInitEvent(this, session, request);
         for (SessionInitListener listener : sessionInitListeners) {
             try {
@@ -1360,6 +1509,7 @@ public abstract class VaadinService implements Serializable {
         if (isSessionActive(session)) {
             closeInactiveUIs(session);
             removeClosedUIs(session);
+            spillInactiveUIs(session);
         } else {
             if (session.getState() == VaadinSessionState.OPEN) {
                 closeSession(session);
@@ -1424,6 +1574,78 @@ public abstract class VaadinService implements Serializable {
 
     }
 
+    /**
+     * Writes those UIs of the given session which have not received a UIDL
+     * request within the spill timeout to the spill store, and discards
+     * spilled UIs which no longer receive heartbeats. UIs using push are never
+     * spilled as server side updates may be pushed to them at any time.
+     *
+     * @see DeploymentConfiguration#getUISpillTimeout()
+     */
+    private void spillInactiveUIs(VaadinSession session) {
+        int spillTimeout = getDeploymentConfiguration().getUISpillTimeout();
+        if (spillTimeout < 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int heartbeatTimeout = getHeartbeatTimeout();
+        if (heartbeatTimeout >= 0) {
+            session.discardInactiveSpilledUIs(now - 1000L * heartbeatTimeout);
+        }
+
+        Lock lockInstance = session.getLockInstance();
+        if (lockInstance instanceof ReentrantLock reentrantLock
+                && reentrantLock.hasQueuedThreads()) {
+            // Someone is about to use the session, possibly one of its UIs
+            return;
+        }
+        long activityDeadline = now - 1000L * spillTimeout;
+        for (UI ui : new ArrayList<>(session.getUIs())) {
+            if (!ui.isClosing()
+                    && ui.getInternals()
+                            .getLastActivityTimestamp() < activityDeadline
+                    && !ui.getPushConfiguration().getPushMode().isEnabled()) {
+                ui.accessSynchronously(() -> {
+                    if (session.spillUI(ui)) {
+                        getLogger().debug("Spilled inactive UI #{}",
+                                ui.getUIId());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Gets the store for the inactive UIs of the sessions of this service,
+     * creating it if needed.
+     *
+     * @return the spill store, or <code>null</code> if spilling UIs is not
+     *         enabled or the store cannot be created
+     * @see DeploymentConfiguration#getUISpillTimeout()
+     */
+    UISpillStore getUISpillStore() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        if (uiSpillStore == null && !uiSpillStoreUnavailable
+                && configuration.getUISpillTimeout() >= 0) {
+            synchronized (this) {
+                if (uiSpillStore == null && !uiSpillStoreUnavailable) {
+                    String directory = configuration.getUISpillDirectory();
+                    try {
+                        uiSpillStore = directory == null
+                                ? UISpillStore.createTemporary()
+                                : new UISpillStore(Paths.get(directory));
+                    } catch (IOException e) {
+                        getLogger().warn(
+                                "Unable to create the UI spill store, inactive UIs are kept in memory",
+                                e);
+                        uiSpillStoreUnavailable = true;
+                    }
+                }
+            }
+        }
+        return uiSpillStore;
+    }
+
     /**
      * Returns the number of seconds that must pass without a valid heartbeat or
      * UIDL request being received from a UI before that UI is removed from its
@@ -1657,8 +1879,15 @@ public abstract class VaadinService implements Serializable {
                 return;
             }
 
+            VaadinMetrics currentMetrics = metrics;
+            boolean measure = currentMetrics.isEnabled();
             for (RequestHandler handler : getRequestHandlers()) {
+                long start = measure ? System.nanoTime() : 0;
                 if (handler.handleRequest(vaadinSession, request, response)) {
+                    if (measure) {
+                        currentMetrics.requestHandled(handler.getClass(),
+                                System.nanoTime() - start);
+                    }
                     return;
                 }
             }
@@ -2155,6 +2384,10 @@ public abstract class VaadinService implements Serializable {
         if (session.getPendingAccessQueue().isEmpty()) {
             return;
         }
+        if (metrics.isEnabled()) {
+            // size() traverses the queue so it is only called when needed
+            metrics.pendingAccessTasks(session.getPendingAccessQueue().size());
+        }
 
         FutureAccess pendingAccess;
 
@@ -2215,6 +2448,9 @@ public abstract class VaadinService implements Serializable {
      * @see jakarta.servlet.Servlet#destroy()
      */
     public void destroy() {
+        if (uiSpillStore != null) {
+            uiSpillStore.destroy();
+        }
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         RuntimeException exception = null;
         for (ServiceDestroyListener listener : serviceDestroyListeners) {
@@ -2378,6 +2614,31 @@ public abstract class VaadinService implements Serializable {
         uiInitListeners.forEach(listener -> listener.uiInit(initEvent));
     }
 
+    /**
+     * Fires the given client render timing event to the listeners added to
+     * this service.
+     *
+     * @param event
+     *            the event to fire
+     */
+    public void fireClientRenderTimingListeners(
+            ClientRenderTimingEvent event) {
+        clientRenderTimingListeners
+                .forEach(listener -> listener.clientRenderTiming(event));
+    }
+
+    /**
+     * Fires the given navigation metrics event to the listeners added to this
+     * service.
+     *
+     * @param event
+     *            the event to fire
+     */
+    public void fireNavigationMetricsListeners(NavigationMetricsEvent event) {
+        navigationMetricsListeners
+                .forEach(listener -> listener.navigationCompleted(event));
+    }
+
     /**
      * Returns a URL to the static resource at the given URI or null if no file
      * found.
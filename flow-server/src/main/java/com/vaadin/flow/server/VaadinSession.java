@@ -20,9 +20,13 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingEvent;
 import jakarta.servlet.http.HttpSessionBindingListener;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.OptionalDataException;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -52,6 +56,8 @@ import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.i18n.I18NProvider;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.router.internal.AbstractNavigationStateRenderer;
+import com.vaadin.flow.server.UISpillStore.SpilledUI;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.shared.communication.PushMode;
@@ -103,6 +109,18 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     private int nextUIId = 0;
     private transient Map<Integer, UI> uIs = new HashMap<>();
 
+    /*
+     * Inactive UIs which have been written to the spill store of the service,
+     * by UI id. Restored when requested through getUIById.
+     */
+    private transient Map<Integer, SpilledUI> spilledUIs = new HashMap<>();
+
+    /*
+     * Ids of UIs which could not be written to the spill store, e.g. because
+     * they are not serializable, so that spilling is not attempted again.
+     */
+    private transient Set<Integer> unspillableUIs = new HashSet<>();
+
     protected WebBrowser browser = new WebBrowser();
 
     private long cumulativeRequestDuration = 0;
@@ -581,7 +599,158 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
      */
     public UI getUIById(int uiId) {
         checkHasLock();
-        return uIs.get(uiId);
+        UI ui = uIs.get(uiId);
+        if (ui == null && spilledUIs.containsKey(uiId)) {
+            ui = restoreUI(uiId);
+        }
+        return ui;
+    }
+
+    /**
+     * Records a heartbeat for a UI which has been spilled to disk because of
+     * inactivity, without restoring the UI.
+     * <p>
+     * This is meant for framework internal use.
+     *
+     * @param uiId
+     *            the UI id
+     * @return <code>true</code> if a spilled UI with the given id was found,
+     *         <code>false</code> otherwise
+     * @see InitParameters#SERVLET_PARAMETER_UI_SPILL_TIMEOUT
+     */
+    public boolean heartbeatSpilledUI(int uiId) {
+        checkHasLock();
+        SpilledUI spilled = spilledUIs.get(uiId);
+        if (spilled == null) {
+            return false;
+        }
+        spilledUIs.put(uiId,
+                spilled.withHeartbeat(System.currentTimeMillis()));
+        return true;
+    }
+
+    /**
+     * Writes the given UI to the spill store of the service and removes it
+     * from this session. The UI is restored as a new instance when it is next
+     * requested using {@link #getUIById(int)}.
+     * <p>
+     * The given instance is disconnected from the session without running
+     * detach listeners, as the UI lives on in the store. Accessing it
+     * afterwards fails with a
+     * {@link com.vaadin.flow.component.UIDetachedException}. Detach listeners
+     * are run for the restored instance if the spilled UI is discarded.
+     * <p>
+     * UIs showing a {@link com.vaadin.flow.router.PreserveOnRefresh} route are
+     * not spilled, as the preserved components are also referenced from this
+     * session and restoring the UI would create a second copy of them.
+     *
+     * @param ui
+     *            the UI to spill
+     * @return <code>true</code> if the UI was spilled, <code>false</code> if
+     *         it could not be written to the store, e.g. because it references
+     *         state shared outside of the UI
+     */
+    boolean spillUI(UI ui) {
+        checkHasLock();
+        int uiId = ui.getUIId();
+        UISpillStore store = getService().getUISpillStore();
+        if (store == null || unspillableUIs.contains(uiId)
+                || AbstractNavigationStateRenderer.hasPreservedChain(ui)) {
+            return false;
+        }
+        SpilledUI spilled;
+        try {
+            spilled = store.write(ui, this);
+        } catch (IOException e) {
+            getLogger().debug("Unable to spill UI {}", uiId, e);
+            unspillableUIs.add(uiId);
+            return false;
+        }
+        uIs.remove(uiId);
+        ui.getInternals().disconnectSpilledUI();
+        spilledUIs.put(uiId, spilled);
+
+        VaadinMetrics metrics = VaadinMetrics.get(getService());
+        if (metrics.isEnabled()) {
+            metrics.uiSpilled(spilled.size());
+        }
+        return true;
+    }
+
+    private UI restoreUI(int uiId) {
+        SpilledUI spilled = spilledUIs.remove(uiId);
+        long start = System.nanoTime();
+        UI ui;
+        try {
+            ui = getService().getUISpillStore().read(spilled, this);
+        } catch (IOException e) {
+            getLogger().warn("Unable to restore spilled UI {}", uiId, e);
+            return null;
+        }
+        if (spilled.lastHeartbeat() > ui.getInternals()
+                .getLastHeartbeatTimestamp()) {
+            ui.getInternals().setLastHeartbeatTimestamp(spilled.lastHeartbeat());
+        }
+        uIs.put(uiId, ui);
+
+        VaadinMetrics metrics = VaadinMetrics.get(getService());
+        if (metrics.isEnabled()) {
+            metrics.uiRestored(System.nanoTime() - start);
+        }
+        return ui;
+    }
+
+    /**
+     * Discards spilled UIs which have not received a heartbeat since the given
+     * time.
+     *
+     * @param heartbeatDeadline
+     *            the time of the oldest accepted heartbeat, in milliseconds
+     *            since the epoch
+     */
+    void discardInactiveSpilledUIs(long heartbeatDeadline) {
+        checkHasLock();
+        List<Integer> inactive = spilledUIs.entrySet().stream()
+                .filter(entry -> entry.getValue()
+                        .lastHeartbeat() < heartbeatDeadline)
+                .map(Map.Entry::getKey).toList();
+        for (Integer uiId : inactive) {
+            getLogger().debug("Discarding inactive spilled UI #{}", uiId);
+            discardSpilledUI(uiId);
+        }
+    }
+
+    /**
+     * Discards all spilled UIs of this session.
+     */
+    void discardSpilledUIs() {
+        checkHasLock();
+        new ArrayList<>(spilledUIs.keySet()).forEach(this::discardSpilledUI);
+    }
+
+    /*
+     * The UI is restored so that it is closed and detached the same way as UIs
+     * kept in memory, running its detach listeners.
+     */
+    private void discardSpilledUI(int uiId) {
+        SpilledUI spilled = spilledUIs.remove(uiId);
+        UI ui;
+        try {
+            ui = getService().getUISpillStore().read(spilled, this);
+        } catch (IOException e) {
+            getLogger().warn("Unable to restore spilled UI {} to detach it",
+                    uiId, e);
+            return;
+        }
+        uIs.put(uiId, ui);
+        try {
+            ui.accessSynchronously(() -> {
+                ui.close();
+                removeUI(ui);
+            });
+        } catch (Exception e) {
+            getErrorHandler().error(new ErrorEvent(e));
+        }
     }
 
     /**
@@ -662,7 +831,12 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         assert ui != null : "Removed UI cannot be null";
         assert UI.getCurrent().getUIId() == ui.getUIId() : "UIs don't match";
         ui.getInternals().setSession(null);
-        uIs.remove(ui.getUIId());
+        if (uIs.remove(ui.getUIId()) != null) {
+            VaadinMetrics metrics = VaadinMetrics.get(getService());
+            if (metrics.isEnabled()) {
+                metrics.uiRemoved();
+            }
+        }
     }
 
     /**
@@ -846,6 +1020,16 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return attributes.getAttribute(name);
     }
 
+    /**
+     * Gets the values of all attributes stored in this session.
+     *
+     * @return an unmodifiable view of the values
+     */
+    Collection<Object> getAttributeValues() {
+        checkHasLock();
+        return attributes.getValues();
+    }
+
     /**
      * Gets a stored attribute value. If a value has been stored for the
      * session, that value is returned. If no value is stored for the name,
@@ -898,7 +1082,12 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
                     "The UI belongs to a different session");
         }
 
-        uIs.put(ui.getUIId(), ui);
+        if (uIs.put(ui.getUIId(), ui) == null) {
+            VaadinMetrics metrics = VaadinMetrics.get(getService());
+            if (metrics.isEnabled()) {
+                metrics.uiAdded();
+            }
+        }
     }
 
     public VaadinService getService() {
@@ -1108,6 +1297,14 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
 
             uIs = (Map<Integer, UI>) stream.readObject();
             resourceRegistry = (StreamResourceRegistry) stream.readObject();
+            // Spilled UIs are restored as the spill store is local
+            Map<Integer, byte[]> spilled = readSpilledUIs(stream);
+            for (Map.Entry<Integer, byte[]> entry : spilled.entrySet()) {
+                uIs.put(entry.getKey(),
+                        UISpillStore.deserialize(entry.getValue(), this));
+            }
+            spilledUIs = new HashMap<>();
+            unspillableUIs = new HashSet<>();
             pendingAccessQueue = new ConcurrentLinkedQueue<>();
         } finally {
             CurrentInstance.clearAll();
@@ -1115,6 +1312,34 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         }
     }
 
+    /**
+     * Reads the spilled UIs written when the session is serialized. Sessions
+     * serialized before UIs could be spilled end without them.
+     *
+     * @param stream
+     *            the stream to read from
+     * @return the serialized spilled UIs by UI id
+     * @throws IOException
+     *             if an IO error occurred
+     * @throws ClassNotFoundException
+     *             if the class of the stream object could not be found
+     */
+    @SuppressWarnings("unchecked")
+    static Map<Integer, byte[]> readSpilledUIs(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        try {
+            return (Map<Integer, byte[]>) stream.readObject();
+        } catch (OptionalDataException e) {
+            if (e.eof) {
+                // Written by a version which did not spill UIs
+                return Map.of();
+            }
+            throw e;
+        } catch (EOFException e) {
+            return Map.of();
+        }
+    }
+
     private void writeObject(java.io.ObjectOutputStream stream)
             throws IOException {
         Map<Class<?>, CurrentInstance> instanceMap = CurrentInstance
@@ -1138,9 +1363,17 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
             if (serializeUIs) {
                 stream.writeObject(uIs);
                 stream.writeObject(resourceRegistry);
+                HashMap<Integer, byte[]> spilled = new HashMap<>();
+                for (Map.Entry<Integer, SpilledUI> entry : spilledUIs
+                        .entrySet()) {
+                    spilled.put(entry.getKey(),
+                            Files.readAllBytes(entry.getValue().file()));
+                }
+                stream.writeObject(spilled);
             } else {
                 stream.writeObject(new HashMap<>());
                 stream.writeObject(new StreamResourceRegistry(this));
+                stream.writeObject(new HashMap<>());
             }
         } finally {
             CurrentInstance.clearAll();
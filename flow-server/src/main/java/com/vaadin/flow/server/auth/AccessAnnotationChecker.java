@@ -28,6 +28,7 @@ import java.security.Principal;
 import java.util.Objects;
 import java.util.function.Function;
 
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.server.VaadinServletRequest;
 
 /**
@@ -55,6 +56,28 @@ import com.vaadin.flow.server.VaadinServletRequest;
  */
 public class AccessAnnotationChecker implements Serializable {
 
+    private static final ReflectionCache<Object, AnnotatedElement> securityTargets = new ReflectionCache<>(
+            AccessAnnotationChecker::findSecurityTarget);
+
+    private static final ReflectionCache<Object, AccessRule> classAccessRules = new ReflectionCache<>(
+            AccessRule::of);
+
+    /**
+     * The access annotations present on a class or a method.
+     */
+    private record AccessRule(boolean denyAll, boolean anonymousAllowed,
+            boolean permitAll, String[] rolesAllowed) {
+
+        private static AccessRule of(AnnotatedElement element) {
+            RolesAllowed rolesAllowed = element
+                    .getAnnotation(RolesAllowed.class);
+            return new AccessRule(element.isAnnotationPresent(DenyAll.class),
+                    element.isAnnotationPresent(AnonymousAllowed.class),
+                    element.isAnnotationPresent(PermitAll.class),
+                    rolesAllowed == null ? null : rolesAllowed.value());
+        }
+    }
+
     /**
      * Checks if the user defined by the current active servlet request (using
      * {@link HttpServletRequest#getUserPrincipal()} and
@@ -228,6 +251,10 @@ public class AccessAnnotationChecker implements Serializable {
     static AnnotatedElement securityTarget(Class<?> cls) {
         Objects.requireNonNull(cls, "The input Class must not be null.");
 
+        return securityTargets.get(cls);
+    }
+
+    private static AnnotatedElement findSecurityTarget(Class<?> cls) {
         Class<?> clazz = cls;
         while (clazz != null && clazz != Object.class) {
             if (hasSecurityAnnotation(clazz)) {
@@ -240,28 +267,28 @@ public class AccessAnnotationChecker implements Serializable {
 
     private boolean hasAccess(AnnotatedElement annotatedClassOrMethod,
             Principal principal, Function<String, Boolean> roleChecker) {
-        if (annotatedClassOrMethod.isAnnotationPresent(DenyAll.class)) {
+        AccessRule rule = annotatedClassOrMethod instanceof Class<?> cls
+                ? classAccessRules.get(cls)
+                : AccessRule.of(annotatedClassOrMethod);
+        if (rule.denyAll()) {
             return false;
         }
-        if (annotatedClassOrMethod
-                .isAnnotationPresent(AnonymousAllowed.class)) {
+        if (rule.anonymousAllowed()) {
             return true;
         }
         if (principal == null) {
             return false;
         }
-        RolesAllowed rolesAllowed = annotatedClassOrMethod
-                .getAnnotation(RolesAllowed.class);
-        if (rolesAllowed == null) {
-            return annotatedClassOrMethod.isAnnotationPresent(PermitAll.class);
+        if (rule.rolesAllowed() == null) {
+            return rule.permitAll();
         } else {
-            return roleAllowed(rolesAllowed, roleChecker);
+            return roleAllowed(rule.rolesAllowed(), roleChecker);
         }
     }
 
-    private boolean roleAllowed(RolesAllowed rolesAllowed,
+    private boolean roleAllowed(String[] rolesAllowed,
             Function<String, Boolean> roleChecker) {
-        for (String role : rolesAllowed.value()) {
+        for (String role : rolesAllowed) {
             if (roleChecker.apply(role)) {
                 return true;
             }
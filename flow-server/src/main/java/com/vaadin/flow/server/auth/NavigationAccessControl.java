@@ -16,11 +16,18 @@
 
 package com.vaadin.flow.server.auth;
 
+import java.io.Serializable;
 import java.lang.reflect.AnnotatedElement;
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
@@ -31,8 +38,10 @@ import com.vaadin.flow.router.AccessDeniedException;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterListener;
 import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationMetricsEvent.Phase;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.router.RouteParameters;
+import com.vaadin.flow.router.internal.NavigationMetricsRecorder;
 import com.vaadin.flow.router.internal.PathUtil;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.HandlerHelper;
@@ -113,6 +122,65 @@ public class NavigationAccessControl implements BeforeEnterListener {
 
     private boolean enabled = true;
 
+    private final Map<Class<? extends NavigationAccessChecker>, CheckerTiming> checkerTimings = new ConcurrentHashMap<>();
+
+    /**
+     * Time spent in the checks of a {@link NavigationAccessChecker}.
+     */
+    public static final class CheckerTiming implements Serializable {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private CheckerTiming() {
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Gets the number of checks.
+         *
+         * @return the number of checks
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the total time spent in the checks.
+         *
+         * @return the total time
+         */
+        public Duration getTotalTime() {
+            return Duration.ofNanos(totalNanos.sum());
+        }
+
+        /**
+         * Gets the average time of a check.
+         *
+         * @return the average time, or zero if no checks have been done
+         */
+        public Duration getAverageTime() {
+            long checks = count.sum();
+            return checks == 0 ? Duration.ZERO
+                    : Duration.ofNanos(totalNanos.sum() / checks);
+        }
+
+        /**
+         * Gets the time of the slowest check.
+         *
+         * @return the maximum time
+         */
+        public Duration getMaxTime() {
+            return Duration.ofNanos(maxNanos.get());
+        }
+    }
+
     /**
      * Create a new instance with the default view annotation checker and
      * decision resolver.
@@ -251,8 +319,16 @@ public class NavigationAccessControl implements BeforeEnterListener {
 
         NavigationContext context = new NavigationContext(event,
                 getPrincipal(request), getRolesChecker(request));
-        AccessCheckResult result = checkAccess(context,
-                isProductionMode(event));
+        Phase phase = NavigationMetricsRecorder.enterPhase(event.getUI(),
+                Phase.ACCESS_CONTROL);
+        AccessCheckResult result;
+        try {
+            result = checkAccess(context, isProductionMode(event));
+        } finally {
+            if (phase != null) {
+                NavigationMetricsRecorder.enterPhase(event.getUI(), phase);
+            }
+        }
         if (result.decision() != AccessCheckDecision.ALLOW) {
             if (context.getPrincipal() == null) {
                 storeRedirectURL(event, request);
@@ -305,7 +381,7 @@ public class NavigationAccessControl implements BeforeEnterListener {
         }
 
         List<AccessCheckResult> results = checkerList.stream()
-                .map(checker -> checker.check(context)).toList();
+                .map(checker -> timedCheck(checker, context)).toList();
         AccessCheckResult decision = decisionResolver.resolve(results, context);
         getLogger().debug("Decision against {} checker results: {}",
                 results.size(), decision);
@@ -417,6 +493,30 @@ public class NavigationAccessControl implements BeforeEnterListener {
                 .isProductionMode();
     }
 
+    private AccessCheckResult timedCheck(NavigationAccessChecker checker,
+            NavigationContext context) {
+        long start = System.nanoTime();
+        try {
+            return checker.check(context);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            checkerTimings.computeIfAbsent(checker.getClass(),
+                    type -> new CheckerTiming()).record(nanos);
+            getLogger().trace("Access checker {} took {} ns",
+                    checker.getClass().getName(), nanos);
+        }
+    }
+
+    /**
+     * Gets the time spent in the checks of each access checker, to see the
+     * cost of access control in navigation.
+     *
+     * @return an unmodifiable map of the timings by checker type
+     */
+    public Map<Class<? extends NavigationAccessChecker>, CheckerTiming> getCheckerTimings() {
+        return Collections.unmodifiableMap(checkerTimings);
+    }
+
     private static Logger getLogger() {
         return LoggerFactory.getLogger(NavigationAccessControl.class);
     }
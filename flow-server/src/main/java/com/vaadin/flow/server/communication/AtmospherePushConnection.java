@@ -35,6 +35,8 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.server.VaadinMetrics;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.communication.PushConstants;
 
 /**
@@ -222,6 +224,12 @@ public class AtmospherePushConnection
      */
     protected void sendMessage(String message) {
         assert (isConnected());
+        VaadinSession session = ui.getSession();
+        VaadinMetrics metrics = VaadinMetrics
+                .get(session == null ? null : session.getService());
+        if (metrics.isEnabled()) {
+            metrics.pushMessageSent(message.length());
+        }
         // "Broadcast" the changes to the single client only
         outgoingMessage = getResource().getBroadcaster().broadcast(
                 new PushMessage(ui.getInternals().getServerSyncId() - 1,
@@ -62,10 +62,18 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
-        UI ui = session.getService().findUI(request);
-        if (ui != null) {
-            ui.getInternals()
-                    .setLastHeartbeatTimestamp(System.currentTimeMillis());
+        // A UI which has been spilled because of inactivity is kept alive
+        // without restoring it
+        String uiId = request
+                .getParameter(ApplicationConstants.UI_ID_PARAMETER);
+        boolean spilled = uiId != null
+                && session.heartbeatSpilledUI(Integer.parseInt(uiId));
+        UI ui = spilled ? null : session.getService().findUI(request);
+        if (spilled || ui != null) {
+            if (ui != null) {
+                ui.getInternals()
+                        .setLastHeartbeatTimestamp(System.currentTimeMillis());
+            }
             // Ensure that the browser does not cache heartbeat responses.
             // iOS 6 Safari requires this
             // (https://github.com/vaadin/framework/issues/3226)
@@ -31,7 +31,10 @@ import org.atmosphere.cpr.AtmosphereFramework;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.VaadinServlet;
+import com.vaadin.flow.server.VaadinServletContext;
+import com.vaadin.flow.server.startup.ApplicationConfiguration;
 
 /**
  * Initializer class for JSR 356 websockets.
@@ -182,9 +185,14 @@ public class JSR356WebsocketInitializer implements ServletContextListener {
             getLogger().warn("Atmosphere already initialized");
             return;
         }
+        FakeServletConfig servletConfig = new FakeServletConfig(
+                servletRegistration, servletContext);
+        if (isNativeWebSocketEnabled(servletConfig)) {
+            deployNativeWebSocket(servletConfig);
+        }
         getLogger().debug("Creating AtmosphereFramework for {}", servletName);
-        AtmosphereFramework framework = PushRequestHandler.initAtmosphere(
-                new FakeServletConfig(servletRegistration, servletContext));
+        AtmosphereFramework framework = PushRequestHandler
+                .initAtmosphere(servletConfig);
         servletContext.setAttribute(attributeName, framework);
         getLogger().debug("Created AtmosphereFramework for {}", servletName);
 
@@ -203,6 +211,80 @@ public class JSR356WebsocketInitializer implements ServletContextListener {
         return JSR356WebsocketInitializer.class.getName() + "." + servletName;
     }
 
+    /**
+     * Returns the name of the attribute in the servlet context which tells
+     * whether websocket push connections for the given servlet are served by
+     * {@link WebSocketPushEndpoint}.
+     *
+     * @param servletName
+     *            The name of the servlet
+     * @return The attribute name for the native websocket endpoint
+     */
+    static String getNativeWebSocketAttributeName(String servletName) {
+        return getAttributeName(servletName) + ".nativeWebSocket";
+    }
+
+    /**
+     * Checks if a {@link WebSocketPushEndpoint} has been deployed for the
+     * given servlet.
+     *
+     * @param servletContext
+     *            the servlet context
+     * @param servletName
+     *            the name of the servlet
+     * @return <code>true</code> if websocket push connections are served
+     *         without Atmosphere, <code>false</code> otherwise
+     */
+    public static boolean isNativeWebSocketDeployed(
+            ServletContext servletContext, String servletName) {
+        return servletContext.getAttribute(
+                getNativeWebSocketAttributeName(servletName)) != null;
+    }
+
+    private static boolean isNativeWebSocketEnabled(
+            ServletConfig servletConfig) {
+        String parameter = InitParameters.SERVLET_PARAMETER_PUSH_NATIVE_WEBSOCKET;
+        ServletContext servletContext = servletConfig.getServletContext();
+        String value = servletConfig.getInitParameter(parameter);
+        if (value == null) {
+            value = servletContext.getInitParameter(parameter);
+        }
+        if (!Boolean.parseBoolean(value)) {
+            return false;
+        }
+        try {
+            ApplicationConfiguration configuration = ApplicationConfiguration
+                    .get(new VaadinServletContext(servletContext));
+            if (configuration != null && !configuration.isProductionMode()) {
+                // The development tools connection needs Atmosphere
+                getLogger().info("Ignoring {} in development mode", parameter);
+                return false;
+            }
+        } catch (IllegalStateException e) {
+            getLogger().debug("Unable to check the production mode for {}",
+                    servletConfig.getServletName(), e);
+        }
+        return true;
+    }
+
+    private static void deployNativeWebSocket(ServletConfig servletConfig) {
+        String servletName = servletConfig.getServletName();
+        ServletContext servletContext = servletConfig.getServletContext();
+        try {
+            if (WebSocketPushEndpoint.deploy(servletConfig,
+                    PushRequestHandler.getPushMappingPath(servletConfig))) {
+                servletContext.setAttribute(
+                        getNativeWebSocketAttributeName(servletName),
+                        Boolean.TRUE);
+            }
+        } catch (Exception | LinkageError e) {
+            getLogger().warn(
+                    "Failed to deploy the websocket push endpoint for {}, "
+                            + "using Atmosphere instead",
+                    servletName, e);
+        }
+    }
+
     /**
      * Checks if the given attribute name matches the convention used for
      * storing AtmosphereFramework references.
@@ -127,6 +127,13 @@ public class PushHandler {
         suspend(resource);
 
         AtmospherePushConnection connection = getConnectionForUI(ui);
+        if (connection == null && ui.getInternals()
+                .getPushConnection() instanceof WebSocketPushConnection) {
+            // The websocket connection is served by WebSocketPushEndpoint, so
+            // this is a fallback transport which must go through Atmosphere
+            connection = new AtmospherePushConnection(ui);
+            ui.getInternals().setPushConnection(connection);
+        }
         assert (connection != null);
         connection.connect(resource);
     };
@@ -304,14 +311,14 @@ public class PushHandler {
                         vaadinRequest);
 
                 AtmosphereResource errorResource = resource;
-                if (ui != null
-                        && ui.getInternals().getPushConnection() != null) {
+                PushConnection uiConnection = ui == null ? null
+                        : ui.getInternals().getPushConnection();
+                if (uiConnection instanceof AtmospherePushConnection pushConnection) {
                     // We MUST use the opened push connection if there is one.
                     // Otherwise we will write the response to the wrong request
                     // when using streaming (the client -> server request
                     // instead of the opened push channel)
-                    errorResource = ((AtmospherePushConnection) ui
-                            .getInternals().getPushConnection()).getResource();
+                    errorResource = pushConnection.getResource();
                 }
 
                 sendNotificationAndDisconnect(errorResource,
@@ -591,7 +598,7 @@ public class PushHandler {
      *            the push id provided in the request
      * @return {@code true} if the id is valid, {@code false} otherwise
      */
-    private static boolean isPushIdValid(VaadinSession session,
+    static boolean isPushIdValid(VaadinSession session,
             String requestPushId) {
 
         String sessionPushId = session.getPushId();
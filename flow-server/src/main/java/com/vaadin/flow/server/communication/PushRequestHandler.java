@@ -17,12 +17,11 @@
 package com.vaadin.flow.server.communication;
 
 import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
 
 import java.io.IOException;
-import java.util.Optional;
 
-import jakarta.servlet.ServletRegistration;
 import org.atmosphere.cache.UUIDBroadcasterCache;
 import org.atmosphere.client.TrackMessageSizeInterceptor;
 import org.atmosphere.cpr.ApplicationConfig;
@@ -88,6 +87,20 @@ public class PushRequestHandler
 
         pushHandler = createPushHandler(service);
 
+        ServletContext servletContext = vaadinServletConfig.getServletContext();
+        String servletName = vaadinServletConfig.getServletName();
+        if (JSR356WebsocketInitializer.isNativeWebSocketDeployed(servletContext,
+                servletName)) {
+            // Connect the endpoint deployed in the context init phase to this
+            // service
+            String attributeName = JSR356WebsocketInitializer
+                    .getNativeWebSocketAttributeName(servletName);
+            servletContext.setAttribute(attributeName,
+                    new WebSocketPushHandler(service));
+            service.addServiceDestroyListener(event -> servletContext
+                    .setAttribute(attributeName, Boolean.TRUE));
+        }
+
         atmosphere = getPreInitializedAtmosphere(vaadinServletConfig);
         if (atmosphere == null) {
             // Not initialized by JSR356WebsocketInitializer
@@ -229,29 +242,23 @@ public class PushRequestHandler
         atmosphere.addInitParameter("org.atmosphere.cpr.showSupportMessage",
                 "false");
 
-        String pushServletMapping = BootstrapHandlerHelper
-                .getCleanedPushServletMapping(
-                        vaadinServletConfig.getInitParameter(
-                                InitParameters.SERVLET_PARAMETER_PUSH_SERVLET_MAPPING));
-
-        if (pushServletMapping != null) {
+        String pushMappingPath = getPushMappingPath(vaadinServletConfig);
+        if (pushMappingPath != null) {
             atmosphere.addInitParameter(ApplicationConfig.JSR356_MAPPING_PATH,
-                    pushServletMapping + Constants.PUSH_MAPPING);
+                    pushMappingPath);
         } else {
-            Optional<ServletRegistration> servletRegistration = BootstrapHandlerHelper
-                    .getServletRegistration(vaadinServletConfig);
-            if (servletRegistration.isPresent()) {
-                atmosphere.addInitParameter(
-                        ApplicationConfig.JSR356_MAPPING_PATH,
-                        BootstrapHandlerHelper
-                                .findFirstUrlMapping(servletRegistration.get())
-                                + Constants.PUSH_MAPPING);
-            } else {
-                getLogger().debug(
-                        "Unable to determine servlet registration for {}. "
-                                + "Using root mapping for push",
-                        vaadinServletConfig.getServletName());
-            }
+            getLogger().debug(
+                    "Unable to determine servlet registration for {}. "
+                            + "Using root mapping for push",
+                    vaadinServletConfig.getServletName());
+        }
+        if (JSR356WebsocketInitializer.isNativeWebSocketDeployed(
+                vaadinServletConfig.getServletContext(),
+                vaadinServletConfig.getServletName())) {
+            // Websocket connections are served by WebSocketPushEndpoint,
+            // Atmosphere only handles the long polling fallback
+            atmosphere.addInitParameter(
+                    "org.atmosphere.websocket.suppressJSR356", "true");
         }
 
         atmosphere.addInitParameter(
@@ -272,6 +279,30 @@ public class PushRequestHandler
         return atmosphere;
     }
 
+    /**
+     * Gets the path where push connections for the given servlet are
+     * accepted.
+     *
+     * @param vaadinServletConfig
+     *            the servlet configuration for the servlet
+     * @return the push path, or <code>null</code> if the servlet registration
+     *         cannot be determined
+     */
+    static String getPushMappingPath(ServletConfig vaadinServletConfig) {
+        String pushServletMapping = BootstrapHandlerHelper
+                .getCleanedPushServletMapping(
+                        vaadinServletConfig.getInitParameter(
+                                InitParameters.SERVLET_PARAMETER_PUSH_SERVLET_MAPPING));
+        if (pushServletMapping != null) {
+            return pushServletMapping + Constants.PUSH_MAPPING;
+        }
+        return BootstrapHandlerHelper.getServletRegistration(vaadinServletConfig)
+                .map(registration -> BootstrapHandlerHelper
+                        .findFirstUrlMapping(registration)
+                        + Constants.PUSH_MAPPING)
+                .orElse(null);
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -33,13 +33,18 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasElement;
 import com.vaadin.flow.component.PollEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.router.PreserveOnRefresh;
+import com.vaadin.flow.router.Router;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
+import com.vaadin.flow.server.VaadinMetrics;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.communication.rpc.AttachExistingElementRpcHandler;
@@ -56,6 +61,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 import elemental.json.impl.JsonUtil;
 
@@ -69,6 +75,8 @@ import elemental.json.impl.JsonUtil;
  */
 public class ServerRpcHandler implements Serializable {
 
+    private static final int MAX_CLIENT_RENDER_TIMINGS = 20;
+
     /**
      * A data transfer object representing an RPC request sent by the client
      * side.
@@ -290,7 +298,9 @@ public class ServerRpcHandler implements Serializable {
      */
     public void handleRpc(UI ui, String message, VaadinRequest request)
             throws InvalidUIDLSecurityKeyException {
-        ui.getSession().setLastRequestTimestamp(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        ui.getSession().setLastRequestTimestamp(now);
+        ui.getInternals().setLastActivityTimestamp(now);
 
         if (message == null || message.isEmpty()) {
             // The client sometimes sends empty messages, this is probably a bug
@@ -373,6 +383,7 @@ public class ServerRpcHandler implements Serializable {
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
             enforceIfNeeded(request, rpcRequest);
+            fireClientRenderTimings(ui, rpcRequest, request);
             handleInvocations(ui, rpcRequest.getRpcInvocationsData());
         }
 
@@ -416,6 +427,84 @@ public class ServerRpcHandler implements Serializable {
         }
     }
 
+    private static void fireClientRenderTimings(UI ui, RpcRequest rpcRequest,
+            VaadinRequest request) {
+        JsonObject json = rpcRequest.getRawJson();
+        if (!json.hasKey(ApplicationConstants.CLIENT_RENDER_TIMINGS)
+                || !request.getService().getDeploymentConfiguration()
+                        .isClientRenderTiming()) {
+            return;
+        }
+        JsonValue timings = json
+                .get(ApplicationConstants.CLIENT_RENDER_TIMINGS);
+        if (!(timings instanceof JsonArray timingsArray)) {
+            getLogger().debug("Ignoring client render timings of type {}",
+                    timings.getType());
+            return;
+        }
+        String route = getActiveRouteTemplate(ui);
+        // The client never keeps more than a few entries, ignore the rest
+        int count = Math.min(timingsArray.length(), MAX_CLIENT_RENDER_TIMINGS);
+        for (int i = 0; i < count; i++) {
+            int[] values = getClientRenderTiming(timingsArray.get(i));
+            if (values == null) {
+                getLogger().debug("Ignoring malformed client render timing {}",
+                        timingsArray.get(i).toJson());
+                continue;
+            }
+            try {
+                ui.getInternals().fireClientRenderTiming(
+                        new ClientRenderTimingEvent(ui, route, values[0],
+                                values[1], values[2], values[3], values[4],
+                                values[5]));
+            } catch (RuntimeException e) {
+                // Timings are diagnostics, they must not prevent the
+                // invocations in the same request from being handled
+                getLogger().warn("Client render timing listener failed", e);
+            }
+        }
+    }
+
+    /*
+     * The timings come from the client, so anything else than an array of at
+     * least six numbers is ignored.
+     */
+    private static int[] getClientRenderTiming(JsonValue timing) {
+        if (!(timing instanceof JsonArray timingArray)
+                || timingArray.length() < 6) {
+            return null;
+        }
+        int[] values = new int[6];
+        for (int i = 0; i < values.length; i++) {
+            if (timingArray.get(i).getType() != JsonType.NUMBER) {
+                return null;
+            }
+            values[i] = (int) timingArray.getNumber(i);
+        }
+        return values;
+    }
+
+    /*
+     * Timings are grouped by the route template rather than the path so that
+     * views with parameters, e.g. "orders/:id", don't produce one group per
+     * parameter value.
+     */
+    private static String getActiveRouteTemplate(UI ui) {
+        List<HasElement> chain = ui.getInternals()
+                .getActiveRouterTargetsChain();
+        Router router = ui.getInternals().getRouter();
+        if (router != null && !chain.isEmpty()
+                && chain.get(0) instanceof Component target) {
+            Optional<String> template = router.getRegistry()
+                    .getTemplate(target.getClass());
+            if (template.isPresent()) {
+                return template.get();
+            }
+        }
+        // Not a registered route, e.g. an embedded UI
+        return ui.getInternals().getActiveViewLocation().getPath();
+    }
+
     private void enforceIfNeeded(VaadinRequest request, RpcRequest rpcRequest) {
         if (DAUUtils.isDauEnabled(request.getService())) {
             FlowDauIntegration.applyEnforcement(request,
@@ -525,11 +614,17 @@ public class ServerRpcHandler implements Serializable {
 
         RpcInvocationHandler mapSyncHandler = getInvocationHandlers()
                 .get(JsonConstants.RPC_TYPE_MAP_SYNC);
+        VaadinMetrics metrics = VaadinMetrics
+                .get(ui.getSession().getService());
+        boolean measure = metrics.isEnabled();
 
         for (int i = 0; i < invocationsData.length(); i++) {
             JsonObject invocationJson = invocationsData.getObject(i);
             String type = invocationJson.getString(JsonConstants.RPC_TYPE);
             assert type != null;
+            if (measure) {
+                metrics.rpcInvoked(type);
+            }
             if (JsonConstants.RPC_TYPE_MAP_SYNC.equals(type)) {
                 // Handle these before any RPC invocations.
                 mapSyncHandler.handle(ui, invocationJson)
@@ -22,14 +22,24 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.fileupload2.core.FileItemInput;
 import org.apache.commons.fileupload2.core.FileItemInputIterator;
@@ -46,10 +56,13 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.Pair;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.ChannelStreamVariable;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.NoInputStreamException;
 import com.vaadin.flow.server.NoOutputStreamException;
+import com.vaadin.flow.server.SessionLockStatistics;
+import com.vaadin.flow.server.SessionLockStatistics.Category;
 import com.vaadin.flow.server.StreamReceiver;
 import com.vaadin.flow.server.StreamVariable;
 import com.vaadin.flow.server.UploadException;
@@ -77,6 +90,13 @@ public class StreamReceiverHandler implements Serializable {
 
     private static final int MAX_UPLOAD_BUFFER_SIZE = 4 * 1024;
 
+    private static final int CHANNEL_UPLOAD_BUFFER_SIZE = 256 * 1024;
+
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern
+            .compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
     static final long DEFAULT_SIZE_MAX = -1;
 
     static final long DEFAULT_FILE_SIZE_MAX = -1;
@@ -115,6 +135,48 @@ public class StreamReceiverHandler implements Serializable {
         OK, ERROR
     }
 
+    /**
+     * Byte range of a chunk of a resumable upload, as given by the
+     * {@code Content-Range} request header.
+     */
+    record ContentRange(long start, long end,
+            long total) implements Serializable {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        boolean isLast() {
+            return end + 1 == total;
+        }
+
+        static ContentRange parse(String header) {
+            if (header == null) {
+                return null;
+            }
+            Matcher matcher = CONTENT_RANGE_PATTERN.matcher(header.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException(
+                        "Unsupported Content-Range header: " + header);
+            }
+            ContentRange range = new ContentRange(
+                    Long.parseLong(matcher.group(1)),
+                    Long.parseLong(matcher.group(2)),
+                    Long.parseLong(matcher.group(3)));
+            if (range.end() < range.start() || range.end() >= range.total()) {
+                throw new IllegalArgumentException(
+                        "Invalid Content-Range header: " + header);
+            }
+            return range;
+        }
+    }
+
+    /*
+     * Receivers whose stream variable was disposed when the first chunk of a
+     * chunked upload started. They are unregistered after the last chunk.
+     */
+    private transient Set<StreamReceiver> disposeAfterLastChunk = createDisposeAfterLastChunk();
+
     /**
      * Handle reception of incoming stream from the client.
      *
@@ -137,6 +199,19 @@ public class StreamReceiverHandler implements Serializable {
     public void handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response, StreamReceiver streamReceiver, String uiId,
             String securityKey) throws IOException {
+        Category previousCategory = SessionLockStatistics
+                .setCurrentCategory(Category.UPLOAD);
+        try {
+            doHandleRequest(session, request, response, streamReceiver, uiId,
+                    securityKey);
+        } finally {
+            SessionLockStatistics.setCurrentCategory(previousCategory);
+        }
+    }
+
+    private void doHandleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response, StreamReceiver streamReceiver, String uiId,
+            String securityKey) throws IOException {
         StateNode source;
 
         session.lock();
@@ -360,18 +435,62 @@ public class StreamReceiverHandler implements Serializable {
         // is accessible in portlets
         final String filename = "unknown";
         final String mimeType = filename;
+
+        ContentRange range = null;
+        if (streamReceiver
+                .getStreamVariable() instanceof ChannelStreamVariable channelVariable) {
+            try {
+                range = ContentRange
+                        .parse(request.getHeader(CONTENT_RANGE_HEADER));
+            } catch (IllegalArgumentException e) {
+                getLogger().warn("File upload rejected.", e);
+                response.setStatus(HttpStatusCode.BAD_REQUEST.getCode());
+                return;
+            }
+            if (range != null) {
+                long committedOffset;
+                session.lock();
+                try {
+                    committedOffset = channelVariable.getCommittedOffset();
+                } finally {
+                    session.unlock();
+                }
+                if (range.start() != committedOffset) {
+                    getLogger().debug(
+                            "Rejected upload chunk starting at {}, expected offset {}",
+                            range.start(), committedOffset);
+                    setCommittedRange(response, committedOffset);
+                    response.setStatus(
+                            HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE
+                                    .getCode());
+                    return;
+                }
+            }
+        }
+
         final InputStream stream = request.getInputStream();
 
         boolean success = false;
         try {
             success = handleFileUploadValidationAndData(session, stream,
-                    streamReceiver, filename, mimeType, contentLength, owner);
+                    streamReceiver, filename, mimeType, contentLength, owner,
+                    range);
         } catch (UploadException e) {
             session.getErrorHandler().error(new ErrorEvent(e));
         }
+        if (success && range != null && !range.isLast()) {
+            setCommittedRange(response, range.end() + 1);
+        }
         sendUploadResponse(response, success);
     }
 
+    private static void setCommittedRange(VaadinResponse response,
+            long committedOffset) {
+        if (committedOffset > 0) {
+            response.setHeader("Range", "bytes=0-" + (committedOffset - 1));
+        }
+    }
+
     /**
      * Validate that stream target is in a valid state for receiving data and
      * send stream to receiver. Handles cleanup and error in reading stream
@@ -398,6 +517,14 @@ public class StreamReceiverHandler implements Serializable {
             InputStream inputStream, StreamReceiver streamReceiver,
             String filename, String mimeType, long contentLength,
             StateNode node) throws UploadException {
+        return handleFileUploadValidationAndData(session, inputStream,
+                streamReceiver, filename, mimeType, contentLength, node, null);
+    }
+
+    private boolean handleFileUploadValidationAndData(VaadinSession session,
+            InputStream inputStream, StreamReceiver streamReceiver,
+            String filename, String mimeType, long contentLength,
+            StateNode node, ContentRange range) throws UploadException {
         session.lock();
         try {
             if (node == null) {
@@ -414,9 +541,16 @@ public class StreamReceiverHandler implements Serializable {
         try (InputStream handledStream = inputStream) {
             // Store ui reference so we can do cleanup even if node is
             // detached in some event handler
-            Pair<Boolean, UploadStatus> result = streamToReceiver(session,
-                    handledStream, streamReceiver, filename, mimeType,
-                    contentLength);
+            Pair<Boolean, UploadStatus> result;
+            if (streamReceiver
+                    .getStreamVariable() instanceof ChannelStreamVariable channelVariable) {
+                result = streamToChannel(session, handledStream,
+                        streamReceiver, channelVariable, filename, mimeType,
+                        contentLength, range);
+            } else {
+                result = streamToReceiver(session, handledStream,
+                        streamReceiver, filename, mimeType, contentLength);
+            }
             if (result.getFirst()) {
                 cleanStreamVariable(session, streamReceiver);
             }
@@ -587,6 +721,171 @@ public class StreamReceiverHandler implements Serializable {
                 success ? UploadStatus.OK : UploadStatus.ERROR);
     }
 
+    private Pair<Boolean, UploadStatus> streamToChannel(VaadinSession session,
+            InputStream in, StreamReceiver streamReceiver,
+            ChannelStreamVariable streamVariable, String filename, String type,
+            long contentLength, ContentRange range) throws UploadException {
+        long offset = range == null ? 0 : range.start();
+        long totalLength = range == null ? contentLength : range.total();
+        boolean lastChunk = range == null || range.isLast();
+
+        WritableByteChannel channel = null;
+        long receivedBytes = 0;
+        StreamingStartEventImpl startedEvent = new StreamingStartEventImpl(
+                filename, type, totalLength);
+        boolean dispose = false;
+        boolean success = false;
+        try {
+            boolean listenProgress;
+            session.lock();
+            try {
+                if (offset == 0) {
+                    streamVariable.streamingStarted(startedEvent);
+                }
+                channel = streamVariable.getChannel(offset);
+                listenProgress = streamVariable.listenProgress();
+            } finally {
+                session.unlock();
+            }
+            dispose = startedEvent.isDisposed()
+                    || (lastChunk && getDisposeAfterLastChunk()
+                            .remove(streamReceiver));
+            if (dispose && !lastChunk) {
+                getDisposeAfterLastChunk().add(streamReceiver);
+                dispose = false;
+            }
+
+            if (channel == null) {
+                throw new NoOutputStreamException();
+            }
+            if (null == in) {
+                throw new NoInputStreamException();
+            }
+
+            long startTime = System.nanoTime();
+            FileChannel fileChannel = channel instanceof FileChannel file
+                    ? file
+                    : null;
+            final byte[] buffer = new byte[CHANNEL_UPLOAD_BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            long lastStreamingEvent = 0;
+            boolean endOfStream;
+            do {
+                int bytesReadToBuffer = in.readNBytes(buffer, 0,
+                        buffer.length);
+                // readNBytes only returns less than requested at the end
+                endOfStream = bytesReadToBuffer < buffer.length;
+                if (bytesReadToBuffer > 0) {
+                    byteBuffer.clear().limit(bytesReadToBuffer);
+                    while (byteBuffer.hasRemaining()) {
+                        if (fileChannel != null) {
+                            fileChannel.write(byteBuffer, offset + receivedBytes
+                                    + byteBuffer.position());
+                        } else {
+                            channel.write(byteBuffer);
+                        }
+                    }
+                    receivedBytes += bytesReadToBuffer;
+                }
+                if (listenProgress) {
+                    StreamingProgressEventImpl progressEvent = new StreamingProgressEventImpl(
+                            filename, type, totalLength,
+                            offset + receivedBytes);
+                    lastStreamingEvent = updateProgress(session, streamVariable,
+                            progressEvent, lastStreamingEvent,
+                            endOfStream ? 0 : bytesReadToBuffer);
+                }
+                if (streamVariable.isInterrupted()) {
+                    throw new UploadInterruptedException();
+                }
+            } while (!endOfStream);
+
+            if (range != null && receivedBytes != range.length()) {
+                throw new IOException("Received " + receivedBytes
+                        + " bytes for an upload chunk of " + range.length()
+                        + " bytes");
+            }
+            channel.close();
+            logThroughput(receivedBytes, System.nanoTime() - startTime);
+
+            if (lastChunk) {
+                StreamVariable.StreamingEndEvent event = new StreamingEndEventImpl(
+                        filename, type, offset + receivedBytes);
+                session.lock();
+                try {
+                    streamVariable.streamingFinished(event);
+                } finally {
+                    session.unlock();
+                }
+            }
+            success = true;
+        } catch (IOException e) {
+            if (range == null) {
+                onStreamingFailed(session, filename, type, totalLength,
+                        streamVariable, channel, offset + receivedBytes, e);
+            } else {
+                // The client may resume the upload from the committed offset
+                tryToCloseChannel(channel);
+                getLogger().debug("Upload chunk interrupted at offset {}",
+                        offset + receivedBytes, e);
+            }
+        } catch (UploadInterruptedException e) {
+            getDisposeAfterLastChunk().remove(streamReceiver);
+            onStreamingFailed(session, filename, type, totalLength,
+                    streamVariable, channel, offset + receivedBytes, e);
+        } catch (final Exception e) {
+            getDisposeAfterLastChunk().remove(streamReceiver);
+            onStreamingFailed(session, filename, type, totalLength,
+                    streamVariable, channel, offset + receivedBytes, e);
+            throw new UploadException(e);
+        }
+        return new Pair<>(dispose,
+                success ? UploadStatus.OK : UploadStatus.ERROR);
+    }
+
+    private Set<StreamReceiver> getDisposeAfterLastChunk() {
+        return disposeAfterLastChunk;
+    }
+
+    private static Set<StreamReceiver> createDisposeAfterLastChunk() {
+        return Collections.synchronizedSet(
+                Collections.newSetFromMap(new WeakHashMap<>()));
+    }
+
+    private void onStreamingFailed(VaadinSession session, String filename,
+            String type, long contentLength, StreamVariable streamVariable,
+            WritableByteChannel channel, long totalBytes,
+            final Exception exception) {
+        tryToCloseChannel(channel);
+        session.lock();
+        try {
+            streamVariable.streamingFailed(new StreamingErrorEventImpl(filename,
+                    type, contentLength, totalBytes, exception));
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private static void tryToCloseChannel(WritableByteChannel channel) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ioe) {
+            getLogger().debug("Exception closing channel", ioe);
+        }
+    }
+
+    private static void logThroughput(long bytes, long nanos) {
+        if (getLogger().isDebugEnabled()) {
+            double seconds = Math.max(nanos, 1) / 1_000_000_000d;
+            getLogger().debug("Received {} bytes in {} ms ({} MB/s)", bytes,
+                    nanos / 1_000_000,
+                    String.format(Locale.ENGLISH, "%.1f",
+                            bytes / seconds / (1024 * 1024)));
+        }
+    }
+
     private void onStreamingFailed(VaadinSession session, String filename,
             String type, long contentLength, StreamVariable streamVariable,
             OutputStream out, long totalBytes, final Exception exception) {
@@ -663,6 +962,12 @@ public class StreamReceiverHandler implements Serializable {
         this.fileCountMax = fileCountMax;
     }
 
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        disposeAfterLastChunk = createDisposeAfterLastChunk();
+    }
+
     private static Logger getLogger() {
         return LoggerFactory.getLogger(StreamReceiverHandler.class.getName());
     }
@@ -39,6 +39,7 @@ import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.SessionExpiredHandler;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
+import com.vaadin.flow.server.VaadinMetrics;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
@@ -179,6 +180,11 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         String responseString = "for(;;);[" + uidl + "]";
         ui.getInternals().setLastRequestResponse(responseString);
         writer.write(responseString);
+
+        VaadinMetrics metrics = VaadinMetrics.get(ui.getSession().getService());
+        if (metrics.isEnabled()) {
+            metrics.uidlResponseWritten(responseString.length());
+        }
     }
 
     ObjectNode createUidl(UI ui, boolean resync) {
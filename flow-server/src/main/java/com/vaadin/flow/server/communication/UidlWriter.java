@@ -25,6 +25,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +55,8 @@ import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.change.MapPutTemplateChange;
 import com.vaadin.flow.internal.change.NodeAttachChange;
 import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
@@ -59,6 +64,7 @@ import com.vaadin.flow.internal.nodefeature.ReturnChannelMap;
 import com.vaadin.flow.internal.nodefeature.ReturnChannelRegistration;
 import com.vaadin.flow.server.DependencyFilter;
 import com.vaadin.flow.server.SystemMessages;
+import com.vaadin.flow.server.VaadinMetrics;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.WebBrowser;
@@ -182,6 +188,11 @@ public class UidlWriter implements Serializable {
         if (!stateChanges.isEmpty()) {
             response.set("changes", stateChanges);
         }
+        VaadinMetrics metrics = VaadinMetrics.get(service);
+        if (metrics.isEnabled()) {
+            metrics.uidlCreated(stateChanges.size(),
+                    uiInternals.getStateTree().getNodeCount());
+        }
 
         List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
                 .dumpPendingJavaScriptInvocations();
@@ -425,6 +436,8 @@ public class UidlWriter implements Serializable {
             // Encode the actual change
             stateChanges.add(change.toJson(uiInternals.getConstantPool()));
         };
+        PutTemplateCollector templateCollector = new PutTemplateCollector(
+                changesCollector);
         // A collectChanges round may add additional changes that needs to be
         // collected.
         // For example NodeList.generateChangesFromEmpty adds a ListClearChange
@@ -433,7 +446,8 @@ public class UidlWriter implements Serializable {
         // five attempts to avoid infinite loops in case of bugs.
         int attempts = 5;
         while (stateTree.hasDirtyNodes() && attempts-- > 0) {
-            stateTree.collectChanges(changesCollector);
+            stateTree.collectChanges(templateCollector);
+            templateCollector.flush();
         }
         if (stateTree.hasDirtyNodes()) {
             getLogger().warn("UI still dirty after collecting changes, "
@@ -444,6 +458,87 @@ public class UidlWriter implements Serializable {
                 .forEach(uiInternals::addComponentDependencies);
     }
 
+    /**
+     * Combines the put changes of a map of a newly attached node into a single
+     * {@link MapPutTemplateChange} when another node attached in the same round
+     * gets identical values, so that the values of repeated components are
+     * sent only once through the constant pool. Values which are not repeated
+     * are sent as regular put changes, since neither the server nor the client
+     * ever forget a constant. Per-instance values would otherwise make the
+     * constant pools grow with every attached node.
+     */
+    private static class PutTemplateCollector implements Consumer<NodeChange> {
+
+        private final Consumer<NodeChange> collector;
+        private final Set<StateNode> attachedNodes = new HashSet<>();
+        private final List<MapPutChange> pending = new ArrayList<>();
+        // The changes of the current round, with candidate templates in place
+        // of the put changes they combine
+        private final List<NodeChange> changes = new ArrayList<>();
+        private final Map<NodeChange, List<MapPutChange>> candidates = new IdentityHashMap<>();
+        private final Map<List<Object>, Integer> occurrences = new HashMap<>();
+
+        private PutTemplateCollector(Consumer<NodeChange> collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void accept(NodeChange change) {
+            if (change instanceof NodeAttachChange) {
+                attachedNodes.add(change.getNode());
+            } else if (change instanceof MapPutChange put
+                    && attachedNodes.contains(put.getNode())
+                    && MapPutTemplateChange.isTemplateValue(put.getValue())) {
+                if (!pending.isEmpty()
+                        && (pending.get(0).getNode() != put.getNode()
+                                || pending.get(0).getFeature() != put
+                                        .getFeature())) {
+                    closeCandidate();
+                }
+                pending.add(put);
+                return;
+            }
+            closeCandidate();
+            changes.add(change);
+        }
+
+        private void closeCandidate() {
+            if (pending.size() > 1) {
+                MapPutChange first = pending.get(0);
+                MapPutTemplateChange template = new MapPutTemplateChange(
+                        first.getNode().getFeature(first.getFeature()),
+                        pending);
+                candidates.put(template, new ArrayList<>(pending));
+                occurrences.merge(getTemplateKey(template), 1, Integer::sum);
+                changes.add(template);
+            } else {
+                changes.addAll(pending);
+            }
+            pending.clear();
+        }
+
+        private void flush() {
+            closeCandidate();
+            for (NodeChange change : changes) {
+                List<MapPutChange> puts = candidates.get(change);
+                if (puts == null || occurrences.get(getTemplateKey(
+                        (MapPutTemplateChange) change)) > 1) {
+                    collector.accept(change);
+                } else {
+                    puts.forEach(collector);
+                }
+            }
+            changes.clear();
+            candidates.clear();
+            occurrences.clear();
+        }
+
+        private static List<Object> getTemplateKey(
+                MapPutTemplateChange template) {
+            return List.of(template.getFeature(), template.getValues());
+        }
+    }
+
     private static boolean attachesComponent(NodeChange change) {
         return change instanceof NodeAttachChange
                 && change.getNode().hasFeature(ComponentMapping.class);
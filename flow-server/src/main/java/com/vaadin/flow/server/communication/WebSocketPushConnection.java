@@ -0,0 +1,382 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.server.VaadinMetrics;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.AtmospherePushConnection.State;
+import com.vaadin.flow.shared.communication.PushConstants;
+
+/**
+ * A {@link PushConnection} implementation writing directly to a Jakarta
+ * WebSocket {@link Session}, without Atmosphere.
+ * <p>
+ * Messages use the same framing as the Atmosphere based connection, i.e. each
+ * message is prefixed with its length and
+ * {@value PushConstants#MESSAGE_DELIMITER}, so the client side does not need to
+ * know which implementation is used. Messages are sent asynchronously in the
+ * order they were pushed, so a slow client never blocks the thread holding the
+ * session lock.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class WebSocketPushConnection implements PushConnection {
+
+    private static final String UIDL_PREFIX = "for(;;);[";
+
+    /**
+     * The maximum number of messages waiting to be sent to a client before the
+     * client is considered too slow. The connection is then closed and the
+     * client resynchronizes its state when it reconnects.
+     */
+    static final int MAX_QUEUED_MESSAGES = 1000;
+
+    private UI ui;
+    private transient State state = State.DISCONNECTED;
+    private transient Session session;
+    private transient Object lock = new Object();
+    private transient Object sendLock = new Object();
+    private transient Deque<String> outgoingMessages = new ArrayDeque<>();
+    private transient boolean sending;
+    private volatile boolean disconnecting;
+
+    /**
+     * Creates an instance connected to the given UI.
+     *
+     * @param ui
+     *            the UI to which this connection belongs
+     */
+    public WebSocketPushConnection(UI ui) {
+        this.ui = ui;
+
+        UsageStatistics.markAsUsed("flow/WebSocketPushConnection", null);
+    }
+
+    @Override
+    public void push() {
+        push(true);
+    }
+
+    /**
+     * Pushes pending state changes and client RPC calls to the client. If
+     * {@code isConnected()} is false, defers the push until a connection is
+     * established.
+     *
+     * @param async
+     *            True if this push asynchronously originates from the server,
+     *            false if it is a response to a client request.
+     */
+    public void push(boolean async) {
+        if (disconnecting || !isConnected()) {
+            if (disconnecting) {
+                getLogger().debug(
+                        "Disconnection in progress, ignoring push request");
+            }
+            if (async && state != State.RESPONSE_PENDING) {
+                state = State.PUSH_PENDING;
+            } else {
+                state = State.RESPONSE_PENDING;
+            }
+        } else {
+            synchronized (lock) {
+                try {
+                    String json = new UidlWriter().createUidl(getUI(), async)
+                            .toString();
+                    // Write the length prefix and the UIDL wrapper in one go
+                    // instead of concatenating the message twice
+                    int length = UIDL_PREFIX.length() + json.length() + 1;
+                    StringBuilder message = new StringBuilder(length + 11);
+                    message.append(length)
+                            .append(PushConstants.MESSAGE_DELIMITER)
+                            .append(UIDL_PREFIX).append(json).append(']');
+                    send(message.toString());
+                } catch (Exception e) {
+                    throw new RuntimeException("Push failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the given message to the current client. Cannot be called if
+     * {@link #isConnected()} returns false.
+     *
+     * @param message
+     *            The message to send, without the length prefix
+     */
+    protected void sendMessage(String message) {
+        send(frame(message));
+    }
+
+    /**
+     * Prefixes the given message with its length, as expected by the client
+     * when message length tracking is enabled.
+     *
+     * @param message
+     *            the message to frame
+     * @return the framed message
+     */
+    static String frame(String message) {
+        return message.length()
+                + String.valueOf(PushConstants.MESSAGE_DELIMITER) + message;
+    }
+
+    private void send(String frame) {
+        assert isConnected();
+        VaadinSession vaadinSession = ui.getSession();
+        VaadinMetrics metrics = VaadinMetrics.get(
+                vaadinSession == null ? null : vaadinSession.getService());
+        if (metrics.isEnabled()) {
+            metrics.pushMessageSent(frame.length());
+        }
+        Session target = session;
+        boolean overflow;
+        synchronized (sendLock) {
+            if (!sending) {
+                sending = true;
+                overflow = false;
+            } else if (outgoingMessages.size() < MAX_QUEUED_MESSAGES) {
+                outgoingMessages.add(frame);
+                return;
+            } else {
+                // The rest of the queue is useless once a message is dropped
+                outgoingMessages.clear();
+                overflow = true;
+            }
+        }
+        if (overflow) {
+            closeSlowClient(target);
+        } else {
+            sendNext(target, frame);
+        }
+    }
+
+    private void closeSlowClient(Session target) {
+        getLogger().warn(
+                "More than {} push messages are waiting to be sent to the "
+                        + "client, closing the connection so that the client "
+                        + "resynchronizes when it reconnects",
+                MAX_QUEUED_MESSAGES);
+        try {
+            target.close(new CloseReason(CloseCodes.TRY_AGAIN_LATER,
+                    "Too many pending messages"));
+        } catch (IOException e) {
+            getLogger().debug("Error when closing push connection", e);
+        }
+    }
+
+    private void sendNext(Session target, String frame) {
+        try {
+            target.getAsyncRemote().sendText(frame,
+                    result -> messageSent(target, result));
+        } catch (RuntimeException e) {
+            // The session was closed while messages were queued
+            getLogger().debug("Unable to send push message", e);
+            synchronized (sendLock) {
+                outgoingMessages.clear();
+                sending = false;
+                sendLock.notifyAll();
+            }
+        }
+    }
+
+    private void messageSent(Session target, SendResult result) {
+        if (!result.isOK()) {
+            getLogger().debug("Failed to send push message",
+                    result.getException());
+        }
+        String next;
+        synchronized (sendLock) {
+            next = outgoingMessages.poll();
+            if (next == null) {
+                sending = false;
+                sendLock.notifyAll();
+                return;
+            }
+        }
+        sendNext(target, next);
+    }
+
+    private boolean awaitOutgoingMessages(long timeoutMillis) {
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (sendLock) {
+            try {
+                while (sending) {
+                    long remaining = TimeUnit.NANOSECONDS
+                            .toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    sendLock.wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        assert state != null;
+        assert (state == State.CONNECTED) ^ (session == null);
+        return state == State.CONNECTED;
+    }
+
+    /**
+     * Associates this {@code WebSocketPushConnection} with the given websocket
+     * session representing an established push connection. If already
+     * connected, calls {@link #disconnect()} first. If there is a deferred
+     * push, carries it out via the new connection.
+     *
+     * @param session
+     *            the websocket session to associate this connection with
+     */
+    public void connect(Session session) {
+        assert session != null;
+        assert session != this.session;
+
+        if (isConnected()) {
+            disconnect();
+        }
+
+        this.session = session;
+        State oldState = state;
+        state = State.CONNECTED;
+
+        if (oldState == State.PUSH_PENDING
+                || oldState == State.RESPONSE_PENDING) {
+            // Sending a "response" message (async=false) also takes care of a
+            // pending push, but not vice versa
+            push(oldState == State.PUSH_PENDING);
+        }
+    }
+
+    /**
+     * @return the UI associated with this connection.
+     */
+    protected UI getUI() {
+        return ui;
+    }
+
+    /**
+     * @return The websocket session associated with this connection or null
+     *         if connection not open.
+     */
+    protected Session getSession() {
+        return session;
+    }
+
+    @Override
+    public void disconnect() {
+        // Same reasoning as in AtmospherePushConnection: skip if another
+        // thread is already closing the connection to avoid deadlocks
+        if (disconnecting) {
+            getLogger().debug(
+                    "Disconnection already in progress, ignoring request");
+            return;
+        }
+
+        synchronized (lock) {
+            if (!isConnected() || session == null) {
+                getLogger().debug(
+                        "Disconnection already happened, ignoring request");
+                return;
+            }
+            try {
+                disconnecting = true;
+                if (!awaitOutgoingMessages(1000)) {
+                    getLogger().debug(
+                            "Timeout waiting for messages to be sent to client before disconnect");
+                }
+                try {
+                    session.close();
+                } catch (IOException e) {
+                    getLogger().info("Error when closing push connection", e);
+                }
+                connectionLost();
+            } finally {
+                disconnecting = false;
+            }
+        }
+    }
+
+    /**
+     * Called when the connection to the client has been lost.
+     */
+    public void connectionLost() {
+        session = null;
+        if (state == State.CONNECTED) {
+            state = State.DISCONNECTED;
+        }
+    }
+
+    /**
+     * Returns the state of this connection.
+     *
+     * @return the state of this connection
+     */
+    protected State getState() {
+        return state;
+    }
+
+    /**
+     * Reinitializes this PushConnection after deserialization. The connection
+     * is initially in disconnected state; the client will handle the
+     * reconnecting.
+     *
+     * @param stream
+     *            the object to read
+     * @throws IOException
+     *             if an IO error occurred
+     * @throws ClassNotFoundException
+     *             if the class of the stream object could not be found
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        state = State.DISCONNECTED;
+        disconnecting = false;
+        lock = new Object();
+        sendLock = new Object();
+        outgoingMessages = new ArrayDeque<>();
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(WebSocketPushConnection.class);
+    }
+}
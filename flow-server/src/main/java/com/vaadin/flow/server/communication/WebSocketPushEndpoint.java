@@ -0,0 +1,158 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.InitParameters;
+import com.vaadin.flow.server.communication.WebSocketPushRequest.Handshake;
+
+/**
+ * A Jakarta WebSocket endpoint serving push connections without Atmosphere.
+ * <p>
+ * The endpoint is deployed by {@link JSR356WebsocketInitializer} at the push
+ * path of a Vaadin servlet when
+ * {@link InitParameters#SERVLET_PARAMETER_PUSH_NATIVE_WEBSOCKET} is enabled.
+ * Messages are forwarded to the {@link WebSocketPushHandler} of the servlet's
+ * service, which is made available by {@link PushRequestHandler} once the
+ * service has been initialized. Compression (permessage-deflate) is negotiated
+ * by the container.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class WebSocketPushEndpoint extends Endpoint {
+
+    private static final String SERVLET_CONTEXT = "servletContext";
+    private static final String SERVLET_NAME = "servletName";
+    private static final String HANDSHAKE = "handshake";
+    private static final String PUSH_HANDLER = "pushHandler";
+
+    /**
+     * Captures the data of the upgrade request, as the request itself is not
+     * available once the connection has been opened.
+     */
+    private static class HandshakeConfigurator
+            extends ServerEndpointConfig.Configurator {
+
+        @Override
+        public void modifyHandshake(ServerEndpointConfig config,
+                HandshakeRequest request, HandshakeResponse response) {
+            config.getUserProperties().put(HANDSHAKE, Handshake.of(request));
+        }
+    }
+
+    /**
+     * Deploys the endpoint for the given servlet. Must be called in the
+     * servlet context initialization phase.
+     *
+     * @param servletConfig
+     *            the configuration of the Vaadin servlet
+     * @param pushPath
+     *            the push path of the servlet, or <code>null</code> to use the
+     *            root mapping
+     * @return <code>true</code> if the endpoint was deployed,
+     *         <code>false</code> if the container does not support websockets
+     * @throws DeploymentException
+     *             if the container fails to deploy the endpoint
+     */
+    static boolean deploy(ServletConfig servletConfig, String pushPath)
+            throws DeploymentException {
+        ServletContext servletContext = servletConfig.getServletContext();
+        ServerContainer container = (ServerContainer) servletContext
+                .getAttribute(ServerContainer.class.getName());
+        if (container == null) {
+            getLogger().debug("No websocket container available for {}",
+                    servletConfig.getServletName());
+            return false;
+        }
+        String path = pushPath == null ? "/" + Constants.PUSH_MAPPING
+                : pushPath;
+        ServerEndpointConfig endpointConfig = ServerEndpointConfig.Builder
+                .create(WebSocketPushEndpoint.class, path)
+                .configurator(new HandshakeConfigurator()).build();
+        endpointConfig.getUserProperties().put(SERVLET_CONTEXT,
+                servletContext);
+        endpointConfig.getUserProperties().put(SERVLET_NAME,
+                servletConfig.getServletName());
+        container.addEndpoint(endpointConfig);
+        getLogger().debug("Deployed websocket push endpoint at {} for {}",
+                path, servletConfig.getServletName());
+        return true;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        ServletContext servletContext = (ServletContext) config
+                .getUserProperties().get(SERVLET_CONTEXT);
+        String servletName = (String) config.getUserProperties()
+                .get(SERVLET_NAME);
+        Handshake handshake = (Handshake) config.getUserProperties()
+                .get(HANDSHAKE);
+        Object handler = servletContext.getAttribute(JSR356WebsocketInitializer
+                .getNativeWebSocketAttributeName(servletName));
+        if (handshake == null
+                || !(handler instanceof WebSocketPushHandler pushHandler)) {
+            // The servlet has not been initialized yet or is being destroyed
+            try {
+                session.close(new CloseReason(CloseCodes.TRY_AGAIN_LATER,
+                        "Push is not available"));
+            } catch (IOException e) {
+                getLogger().debug("Error closing connection", e);
+            }
+            return;
+        }
+        session.getUserProperties().put(PUSH_HANDLER, pushHandler);
+        pushHandler.onOpen(session, handshake);
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        Object handler = session.getUserProperties().get(PUSH_HANDLER);
+        if (handler instanceof WebSocketPushHandler pushHandler) {
+            pushHandler.onClose(session);
+        }
+    }
+
+    @Override
+    public void onError(Session session, Throwable error) {
+        getLogger().debug("Error on websocket push connection {}",
+                session.getId(), error);
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(WebSocketPushEndpoint.class);
+    }
+}
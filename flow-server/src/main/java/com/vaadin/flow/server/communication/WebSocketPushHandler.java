@@ -0,0 +1,421 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.PushConfiguration;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.ErrorEvent;
+import com.vaadin.flow.server.HandlerHelper;
+import com.vaadin.flow.server.SessionExpiredException;
+import com.vaadin.flow.server.SessionLockStatistics;
+import com.vaadin.flow.server.SessionLockStatistics.Category;
+import com.vaadin.flow.server.SystemMessages;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.WebSocketPushRequest.Handshake;
+import com.vaadin.flow.server.dau.DAUUtils;
+import com.vaadin.flow.server.dau.DauEnforcementException;
+import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.communication.PushConstants;
+import com.vaadin.flow.shared.ui.Transport;
+
+import elemental.json.JsonException;
+
+/**
+ * Handles push connections and messages received through a
+ * {@link WebSocketPushEndpoint} and dispatches them to the correct {@link UI}/
+ * {@link WebSocketPushConnection}.
+ * <p>
+ * This is the counterpart of {@link PushHandler} for websocket connections
+ * which are not served by Atmosphere.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class WebSocketPushHandler {
+
+    /**
+     * Interval in milliseconds for the client side heartbeat, announced in the
+     * protocol handshake.
+     */
+    static final int HEARTBEAT_INTERVAL = 60000;
+
+    /**
+     * The message sent by the client as heartbeat.
+     */
+    static final String HEARTBEAT_PADDING = "X";
+
+    private static final int IDLE_TIMEOUT = 300000;
+
+    /**
+     * Callback interface used internally to process an event with the
+     * corresponding UI properly locked.
+     */
+    @FunctionalInterface
+    private interface PushEventCallback {
+        void run(VaadinSession session, UI ui) throws IOException;
+    }
+
+    private final VaadinServletService service;
+
+    /**
+     * Creates an instance connected to the given service.
+     *
+     * @param service
+     *            the service this handler belongs to
+     */
+    public WebSocketPushHandler(VaadinServletService service) {
+        this.service = service;
+    }
+
+    /**
+     * Called when the client has opened a new websocket connection.
+     *
+     * @param session
+     *            the websocket session
+     * @param handshake
+     *            the data captured from the upgrade request
+     */
+    void onOpen(Session session, Handshake handshake) {
+        if (handshake.parameters()
+                .containsKey(ApplicationConstants.DEBUG_WINDOW_CONNECTION)) {
+            // Development tools are only available through Atmosphere
+            close(session, CloseCodes.CANNOT_ACCEPT,
+                    "Debug window connections are not supported");
+            return;
+        }
+        session.setMaxIdleTimeout(IDLE_TIMEOUT);
+        session.setMaxTextMessageBufferSize(
+                PushConstants.WEBSOCKET_BUFFER_SIZE);
+
+        // The client expects the Atmosphere protocol handshake as the first
+        // message: tracking id, heartbeat interval and heartbeat padding
+        String protocolMessage = UUID.randomUUID().toString()
+                + PushConstants.MESSAGE_DELIMITER + HEARTBEAT_INTERVAL
+                + PushConstants.MESSAGE_DELIMITER + HEARTBEAT_PADDING
+                + PushConstants.MESSAGE_DELIMITER;
+        try {
+            session.getBasicRemote().sendText(
+                    WebSocketPushConnection.frame(protocolMessage));
+        } catch (IOException e) {
+            getLogger().debug("Unable to send the protocol handshake", e);
+            return;
+        }
+
+        MessageReceiver receiver = new MessageReceiver(session, handshake);
+        session.addMessageHandler(String.class, receiver);
+        callWithUi(session, handshake, receiver::establish, false);
+    }
+
+    /**
+     * Called when a websocket connection has been closed, either by the client
+     * or by the server.
+     *
+     * @param session
+     *            the websocket session
+     */
+    void onClose(Session session) {
+        for (MessageHandler handler : session.getMessageHandlers()) {
+            if (handler instanceof MessageReceiver receiver) {
+                receiver.connectionLost();
+            }
+        }
+    }
+
+    /**
+     * Find the UI for the connection, lock it and invoke the callback.
+     */
+    private void callWithUi(Session wsSession, Handshake handshake,
+            PushEventCallback callback, boolean trackable) {
+        WebSocketPushRequest request = new WebSocketPushRequest(handshake,
+                service);
+        if (trackable) {
+            // Allow DAU tracking only for received messages, as websocket
+            // connection is not considered a user interaction
+            DAUUtils.TrackableOperation.INSTANCE
+                    .execute(() -> service.requestStart(request, null));
+        } else {
+            service.requestStart(request, null);
+        }
+        VaadinSession session = null;
+        try {
+            try {
+                session = service.findVaadinSession(request);
+            } catch (SessionExpiredException | IllegalStateException e) {
+                // An invalidated HTTP session throws IllegalStateException
+                sendNotificationAndClose(wsSession,
+                        VaadinService.createSessionExpiredJSON(true));
+                return;
+            }
+
+            session.lock();
+            try {
+                UI ui = service.findUI(request);
+                if (ui == null) {
+                    sendNotificationAndClose(wsSession,
+                            VaadinService.createUINotFoundJSON(true));
+                } else {
+                    callback.run(session, ui);
+                }
+            } catch (final IOException e) {
+                callErrorHandler(session, e);
+            } catch (final Exception e) {
+                SystemMessages msg = service.getSystemMessages(
+                        HandlerHelper.findLocale(null, request), request);
+                sendNotificationAndClose(wsSession,
+                        VaadinService.createCriticalNotificationJSON(
+                                msg.getInternalErrorCaption(),
+                                msg.getInternalErrorMessage(), null,
+                                msg.getInternalErrorURL()));
+                callErrorHandler(session, e);
+            } finally {
+                try {
+                    session.unlock();
+                } catch (Exception e) {
+                    getLogger().warn("Error while unlocking session", e);
+                }
+            }
+        } finally {
+            try {
+                service.requestEnd(request, null, session);
+            } catch (Exception e) {
+                getLogger().warn("Error while ending request", e);
+            }
+        }
+    }
+
+    private static void callErrorHandler(VaadinSession session, Exception e) {
+        session.getErrorHandler().error(new ErrorEvent(e));
+    }
+
+    private static void sendRefreshAndClose(Session session) {
+        sendNotificationAndClose(session, VaadinService
+                .createCriticalNotificationJSON(null, null, null, null));
+    }
+
+    /**
+     * Tries to send a critical notification to the client and close the
+     * connection. Does nothing if the connection is already closed.
+     */
+    private static void sendNotificationAndClose(Session session,
+            String notificationJson) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.getBasicRemote()
+                    .sendText(WebSocketPushConnection.frame(notificationJson));
+        } catch (Exception e) {
+            getLogger().trace("Failed to send critical notification to client",
+                    e);
+        }
+        close(session, CloseCodes.NORMAL_CLOSURE, null);
+    }
+
+    private static void close(Session session, CloseCodes code,
+            String reason) {
+        try {
+            session.close(new CloseReason(code, reason));
+        } catch (IOException e) {
+            getLogger().debug("Error when closing push connection", e);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(WebSocketPushHandler.class);
+    }
+
+    /**
+     * Receives the messages of a single websocket connection and keeps track
+     * of the push connection it is bound to.
+     * <p>
+     * Messages are prefixed by their length, like with Atmosphere. A message
+     * arriving in a single part is handled without copying it to a buffer.
+     */
+    private final class MessageReceiver
+            implements MessageHandler.Partial<String> {
+
+        private final Session wsSession;
+        private final Handshake handshake;
+        private volatile WebSocketPushConnection connection;
+        private StringBuilder partialMessage;
+
+        private MessageReceiver(Session wsSession, Handshake handshake) {
+            this.wsSession = wsSession;
+            this.handshake = handshake;
+        }
+
+        private void establish(VaadinSession session, UI ui) {
+            getLogger().debug("New websocket push connection {}",
+                    wsSession.getId());
+            String requestToken = handshake.parameters()
+                    .containsKey(ApplicationConstants.PUSH_ID_PARAMETER)
+                            ? handshake.parameters().get(
+                                    ApplicationConstants.PUSH_ID_PARAMETER)[0]
+                            : null;
+            if (!PushHandler.isPushIdValid(session, requestToken)) {
+                getLogger().warn(
+                        "Invalid identifier in new websocket connection {}",
+                        wsSession.getId());
+                sendRefreshAndClose(wsSession);
+                return;
+            }
+
+            PushConnection current = ui.getInternals().getPushConnection();
+            if (current == null) {
+                getLogger().debug(
+                        "Push is not enabled for the UI, closing connection {}",
+                        wsSession.getId());
+                close(wsSession, CloseCodes.NORMAL_CLOSURE, null);
+                return;
+            }
+            if (current instanceof WebSocketPushConnection webSocketConnection) {
+                connection = webSocketConnection;
+            } else {
+                // Replaces a fallback connection, e.g. when the UI was
+                // initialized with a custom connection factory
+                connection = new WebSocketPushConnection(ui);
+                ui.getInternals().setPushConnection(connection);
+            }
+            PushConfiguration pushConfiguration = ui.getPushConfiguration();
+            boolean useXhr = handshake.principal() != null
+                    && pushConfiguration.getTransport() == Transport.WEBSOCKET;
+            if (useXhr) {
+                // Role checks need the servlet request, which is not available
+                // for messages received through the websocket. Tell the client
+                // to send its messages as regular requests instead.
+                getLogger().debug(
+                        "Authenticated user on connection {}, switching to {}",
+                        wsSession.getId(), Transport.WEBSOCKET_XHR);
+                pushConfiguration.setTransport(Transport.WEBSOCKET_XHR);
+            }
+            connection.connect(wsSession);
+            if (useXhr && connection.isConnected()) {
+                connection.push();
+            }
+        }
+
+        @Override
+        public void onMessage(String part, boolean last) {
+            String message;
+            if (partialMessage == null) {
+                if (!last) {
+                    partialMessage = new StringBuilder(part);
+                    return;
+                }
+                message = part;
+            } else {
+                partialMessage.append(part);
+                if (!last) {
+                    return;
+                }
+                message = partialMessage.toString();
+                partialMessage = null;
+            }
+
+            if (HEARTBEAT_PADDING.equals(message)) {
+                return;
+            }
+            int delimiter = message
+                    .indexOf(PushConstants.MESSAGE_DELIMITER);
+            String body = delimiter < 0 ? null
+                    : message.substring(delimiter + 1);
+            if (body == null || !String.valueOf(body.length())
+                    .equals(message.substring(0, delimiter))) {
+                getLogger().warn("Invalid message received on connection {}",
+                        wsSession.getId());
+                sendRefreshAndClose(wsSession);
+                return;
+            }
+            callWithUi(wsSession, handshake,
+                    (session, ui) -> receive(ui, body), true);
+        }
+
+        private void receive(UI ui, String body) {
+            getLogger().debug("Received message from connection {}",
+                    wsSession.getId());
+            WebSocketPushConnection pushConnection = connection;
+            if (pushConnection == null || ui.getInternals()
+                    .getPushConnection() != pushConnection) {
+                getLogger().debug(
+                        "Got push from the client even though the connection "
+                                + "is not bound to the UI, ignoring");
+                return;
+            }
+            try {
+                new ServerRpcHandler().handleRpc(ui, body,
+                        VaadinService.getCurrentRequest());
+                pushConnection.push(false);
+            } catch (JsonException e) {
+                getLogger().error("Error writing JSON to response", e);
+                sendRefreshAndClose(wsSession);
+            } catch (InvalidUIDLSecurityKeyException e) {
+                getLogger().warn(
+                        "Invalid security key received on connection {}",
+                        wsSession.getId());
+                sendRefreshAndClose(wsSession);
+            } catch (DauEnforcementException e) {
+                getLogger().warn(
+                        "Daily Active User limit reached. Blocking new user request");
+                sendNotificationAndClose(wsSession,
+                        DAUUtils.jsonEnforcementResponse(
+                                VaadinService.getCurrentRequest(), e));
+            }
+        }
+
+        private void connectionLost() {
+            WebSocketPushConnection pushConnection = connection;
+            if (pushConnection == null) {
+                return;
+            }
+            connection = null;
+            VaadinSession session = pushConnection.getUI().getSession();
+            if (session == null) {
+                pushConnection.connectionLost();
+                return;
+            }
+            Category previousCategory = SessionLockStatistics
+                    .setCurrentCategory(Category.PUSH);
+            session.lock();
+            try {
+                // The connection may already be bound to a new websocket
+                if (pushConnection.getSession() == wsSession) {
+                    getLogger().debug("Connection {} closed",
+                            wsSession.getId());
+                    pushConnection.connectionLost();
+                }
+            } finally {
+                session.unlock();
+                SessionLockStatistics.setCurrentCategory(previousCategory);
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.server.HandshakeRequest;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.WrappedHttpSession;
+import com.vaadin.flow.server.WrappedSession;
+
+/**
+ * A {@link VaadinRequest} representing a message received through a
+ * {@link WebSocketPushEndpoint} connection.
+ * <p>
+ * The HTTP request that opened the connection is no longer available once the
+ * handshake has completed, so the request only exposes the data captured
+ * during the handshake. There is no request body, and
+ * {@link #isUserInRole(String)} always returns <code>false</code> since roles
+ * cannot be enumerated from the handshake.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+final class WebSocketPushRequest implements VaadinRequest {
+
+    /**
+     * The data of the HTTP upgrade request, captured during the websocket
+     * handshake.
+     *
+     * @param parameters
+     *            the query parameters
+     * @param headers
+     *            the headers, with case insensitive names
+     * @param httpSession
+     *            the HTTP session, or <code>null</code> if there is none
+     * @param principal
+     *            the authenticated user, or <code>null</code>
+     * @param requestUri
+     *            the request URI
+     */
+    record Handshake(Map<String, String[]> parameters,
+            Map<String, List<String>> headers, HttpSession httpSession,
+            Principal principal, URI requestUri) {
+
+        static Handshake of(HandshakeRequest request) {
+            Map<String, String[]> parameters = new HashMap<>();
+            request.getParameterMap().forEach((name, values) -> parameters
+                    .put(name, values.toArray(String[]::new)));
+            Map<String, List<String>> headers = new TreeMap<>(
+                    String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(request.getHeaders());
+            Object httpSession = request.getHttpSession();
+            return new Handshake(Collections.unmodifiableMap(parameters),
+                    Collections.unmodifiableMap(headers),
+                    httpSession instanceof HttpSession session ? session
+                            : null,
+                    request.getUserPrincipal(), request.getRequestURI());
+        }
+    }
+
+    private final Handshake handshake;
+    private final VaadinService service;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    /**
+     * Creates a request for the given handshake data.
+     *
+     * @param handshake
+     *            the handshake data of the connection
+     * @param service
+     *            the service handling the connection
+     */
+    WebSocketPushRequest(Handshake handshake, VaadinService service) {
+        this.handshake = handshake;
+        this.service = service;
+    }
+
+    @Override
+    public String getParameter(String parameter) {
+        String[] values = handshake.parameters().get(parameter);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return handshake.parameters();
+    }
+
+    @Override
+    public int getContentLength() {
+        return 0;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getContextPath() {
+        HttpSession httpSession = handshake.httpSession();
+        return httpSession == null ? ""
+                : httpSession.getServletContext().getContextPath();
+    }
+
+    @Override
+    public WrappedSession getWrappedSession() {
+        return getWrappedSession(true);
+    }
+
+    @Override
+    public WrappedSession getWrappedSession(boolean allowSessionCreation) {
+        // A session cannot be created once the handshake has completed
+        HttpSession httpSession = handshake.httpSession();
+        return httpSession == null ? null : new WrappedHttpSession(httpSession);
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return getLocales().nextElement();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return null;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return "wss".equalsIgnoreCase(handshake.requestUri().getScheme())
+                || "https".equalsIgnoreCase(handshake.requestUri().getScheme());
+    }
+
+    @Override
+    public String getHeader(String headerName) {
+        List<String> values = handshake.headers().get(headerName);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public VaadinService getService() {
+        return service;
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        List<Cookie> cookies = new ArrayList<>();
+        for (String header : handshake.headers().getOrDefault("Cookie",
+                List.of())) {
+            for (String pair : header.split(";")) {
+                int index = pair.indexOf('=');
+                if (index > 0) {
+                    cookies.add(new Cookie(pair.substring(0, index).trim(),
+                            pair.substring(index + 1).trim()));
+                }
+            }
+        }
+        return cookies.toArray(Cookie[]::new);
+    }
+
+    @Override
+    public String getAuthType() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        Principal principal = handshake.principal();
+        return principal == null ? null : principal.getName();
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return handshake.principal();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The roles of the user cannot be resolved once the upgrade request has
+     * completed, so this always returns <code>false</code>. Connections of
+     * authenticated users are switched to
+     * {@link com.vaadin.flow.shared.ui.Transport#WEBSOCKET_XHR} when they are
+     * opened, so that their messages are sent as regular requests where the
+     * roles are available.
+     */
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        String acceptLanguage = getHeader("Accept-Language");
+        List<Locale> locales = new ArrayList<>();
+        if (acceptLanguage != null) {
+            try {
+                Locale.LanguageRange.parse(acceptLanguage)
+                        .forEach(range -> locales
+                                .add(Locale.forLanguageTag(range.getRange())));
+            } catch (IllegalArgumentException e) {
+                // Malformed header, use the default locale
+            }
+        }
+        if (locales.isEmpty()) {
+            locales.add(Locale.getDefault());
+        }
+        return Collections.enumeration(locales);
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return null;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return -1;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return -1;
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(handshake.headers().keySet());
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(
+                handshake.headers().getOrDefault(name, List.of()));
+    }
+}
@@ -16,12 +16,16 @@
 package com.vaadin.flow.server.communication.rpc;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +43,7 @@ import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.ClientCallableHandlers;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
@@ -67,6 +72,83 @@ public class PublishedServerEventHandlerRpcHandler
 
     private static final Collection<RpcDecoder> DECODERS = loadDecoders();
 
+    private static final MethodInvoker CONFLICTING_METHODS = new MethodInvoker();
+
+    static final ReflectionCache<Object, Map<String, MethodInvoker>> invokers = new ReflectionCache<>(
+            PublishedServerEventHandlerRpcHandler::collectInvokers);
+
+    /**
+     * Invokes an event handler method with decoded arguments. The method is
+     * resolved and made accessible once per class, and invoked through a
+     * method handle when possible, falling back to reflection otherwise.
+     */
+    static final class MethodInvoker {
+        private final Method method;
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final boolean allowInert;
+
+        private MethodInvoker() {
+            method = null;
+            handle = null;
+            parameterTypes = new Class<?>[0];
+            allowInert = false;
+        }
+
+        MethodInvoker(Method method) {
+            this(method, createHandle(method));
+        }
+
+        MethodInvoker(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+            parameterTypes = method.getParameterTypes();
+            allowInert = method.isAnnotationPresent(AllowInert.class);
+        }
+
+        private static MethodHandle createHandle(Method method) {
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                        .asFixedArity();
+                return handle.asType(handle.type().generic())
+                        .asSpreader(Object[].class, method.getParameterCount());
+            } catch (IllegalAccessException | RuntimeException e) {
+                getLogger().debug(
+                        "Unable to create a method handle for '{}', "
+                                + "falling back to reflection",
+                        method, e);
+                return null;
+            }
+        }
+
+        /**
+         * Invokes the method on the given instance.
+         *
+         * @param instance
+         *            the instance to invoke the method on
+         * @param args
+         *            the decoded arguments
+         * @return the return value of the method, or <code>null</code> for a
+         *         void method
+         * @throws Throwable
+         *             anything thrown by the method itself, or an
+         *             {@link IllegalAccessException} if the method is not
+         *             accessible
+         */
+        Object invoke(Component instance, Object[] args) throws Throwable {
+            if (handle != null) {
+                return handle.invokeExact((Object) instance, args);
+            }
+            try {
+                method.setAccessible(true);
+                return method.invoke(instance, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
     @Override
     public String getRpcType() {
         return JsonConstants.RPC_PUBLISHED_SERVER_EVENT_HANDLER;
@@ -145,9 +227,16 @@ public class PublishedServerEventHandlerRpcHandler
     static void invokeMethod(Component instance, Class<?> clazz,
             String methodName, JsonArray args, int promiseId, boolean inert) {
         assert instance != null;
-        Optional<Method> method = findMethod(instance, clazz, methodName);
-        if (method.isPresent()) {
-            invokeMethod(instance, method.get(), args, promiseId, inert);
+        MethodInvoker invoker = invokers.get(clazz).get(methodName);
+        if (invoker == CONFLICTING_METHODS) {
+            getLogger().error(String.format(
+                    "Method conflict in event handler. Class '%s' contains "
+                            + "several event handler methods with the same name '%s'",
+                    instance.getClass().getName(), methodName));
+            throw new IllegalStateException(
+                    "Method conflict in event handler with multiple methods with same name. See server log for more details.");
+        } else if (invoker != null) {
+            invokeMethod(instance, invoker, args, promiseId, inert);
         } else if (instance instanceof Composite) {
             Component compositeContent = ((Composite<?>) instance).getContent();
             invokeMethod(compositeContent, compositeContent.getClass(),
@@ -162,26 +251,32 @@ public class PublishedServerEventHandlerRpcHandler
         }
     }
 
-    private static Optional<Method> findMethod(Component instance,
-            Class<?> clazz, String methodName) {
-        List<Method> methods = Stream.of(clazz.getDeclaredMethods())
-                .filter(method -> methodName.equals(method.getName()))
-                .filter(method -> hasMethodAnnotation(method))
-                .collect(Collectors.toList());
-        if (methods.size() > 1) {
-            getLogger().error(String.format(
-                    "Method conflict in event handler. Class '%s' contains "
-                            + "several event handler methods with the same name '%s'",
-                    instance.getClass().getName(), methodName));
-            throw new IllegalStateException(
-                    "Method conflict in event handler with multiple methods with same name. See server log for more details.");
-        } else if (methods.size() == 1) {
-            return Optional.of(methods.get(0));
-        } else if (!Component.class.equals(clazz)) {
-            return findMethod(instance, clazz.getSuperclass(), methodName);
-        } else {
-            return Optional.empty();
+    /**
+     * Collects the invokers for the event handler methods of the given class
+     * and its super classes up to {@link Component}, by method name. A method
+     * declared in a sub class hides methods with the same name in its super
+     * classes. Names declared by several methods of the same class are mapped
+     * to {@link #CONFLICTING_METHODS}.
+     */
+    private static Map<String, MethodInvoker> collectInvokers(Class<?> type) {
+        Map<String, MethodInvoker> result = new HashMap<>();
+        for (Class<?> clazz = type; clazz != null; clazz = clazz
+                .getSuperclass()) {
+            Map<String, List<Method>> methodsByName = Stream
+                    .of(clazz.getDeclaredMethods())
+                    .filter(method -> hasMethodAnnotation(method))
+                    .collect(Collectors.groupingBy(Method::getName));
+            methodsByName.forEach((name, methods) -> {
+                if (!result.containsKey(name)) {
+                    result.put(name, methods.size() > 1 ? CONFLICTING_METHODS
+                            : new MethodInvoker(methods.get(0)));
+                }
+            });
+            if (Component.class.equals(clazz)) {
+                break;
+            }
         }
+        return result;
     }
 
     private static boolean hasMethodAnnotation(Method method) {
@@ -192,17 +287,17 @@ public class PublishedServerEventHandlerRpcHandler
                 || method.isAnnotationPresent(ClientCallable.class);
     }
 
-    private static void invokeMethod(Component instance, Method method,
+    private static void invokeMethod(Component instance, MethodInvoker invoker,
             JsonArray args, int promiseId, boolean inert) {
-        if (inert && !method.isAnnotationPresent(AllowInert.class)) {
+        if (inert && !invoker.allowInert) {
             return;
         }
         if (promiseId == -1) {
-            invokeMethod(instance, method, args);
+            invokeMethod(instance, invoker, args);
         } else {
             try {
                 Serializable returnValue = (Serializable) invokeMethod(instance,
-                        method, args);
+                        invoker, args);
 
                 instance.getElement()
                         .executeJs("this.$server['"
@@ -220,23 +315,24 @@ public class PublishedServerEventHandlerRpcHandler
         }
     }
 
-    private static Object invokeMethod(Component instance, Method method,
-            JsonArray args) {
+    private static Object invokeMethod(Component instance,
+            MethodInvoker invoker, JsonArray args) {
+        Object[] decodedArgs = decodeArgs(instance, invoker, args);
         try {
-            method.setAccessible(true);
-            return method.invoke(instance, decodeArgs(instance, method, args));
+            return invoker.invoke(instance, decodedArgs);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
+        } catch (Throwable e) { // NOSONAR
             LoggerFactory.getLogger(
                     PublishedServerEventHandlerRpcHandler.class.getName())
                     .debug(null, e);
-            throw new RuntimeException(e.getCause());
+            throw new RuntimeException(e);
         }
     }
 
-    private static Object[] decodeArgs(Component instance, Method method,
-            JsonArray argsFromClient) {
+    private static Object[] decodeArgs(Component instance,
+            MethodInvoker invoker, JsonArray argsFromClient) {
+        Method method = invoker.method;
         int methodArgs = method.getParameterCount();
         int clientValuesCount = argsFromClient.length();
         JsonArray argValues;
@@ -267,7 +363,7 @@ public class PublishedServerEventHandlerRpcHandler
             }
         }
         List<Object> decoded = new ArrayList<>(method.getParameterCount());
-        Class<?>[] methodParameterTypes = method.getParameterTypes();
+        Class<?>[] methodParameterTypes = invoker.parameterTypes;
         for (int i = 0; i < argValues.length(); i++) {
             Class<?> type = methodParameterTypes[i];
             decoded.add(decodeArg(instance, method, type, i, argValues.get(i)));
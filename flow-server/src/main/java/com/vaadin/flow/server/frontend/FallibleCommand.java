@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.server.frontend;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 import com.vaadin.flow.server.ExecutionFailedException;
 
 /**
@@ -52,4 +55,32 @@ public interface FallibleCommand {
     default void setGeneratedFileSupport(GeneratedFilesSupport support) {
     }
 
+    /**
+     * Gets the files and folders read by this command.
+     * <p>
+     * </p>
+     * Together with {@link #getOutputs()} this allows {@link NodeTasks} to
+     * execute commands that do not touch each other's files concurrently. A
+     * folder covers all files beneath it. Commands that do not declare their
+     * inputs and outputs are always executed after all preceding commands and
+     * before all following commands.
+     *
+     * @return the paths read by this command, or {@literal null} if not
+     *         declared
+     */
+    default Set<Path> getInputs() {
+        return null;
+    }
+
+    /**
+     * Gets the files and folders written by this command.
+     *
+     * @return the paths written by this command, or {@literal null} if not
+     *         declared
+     * @see #getInputs()
+     */
+    default Set<Path> getOutputs() {
+        return null;
+    }
+
 }
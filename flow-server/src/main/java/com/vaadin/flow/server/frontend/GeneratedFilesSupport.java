@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,7 +38,8 @@ import java.util.stream.Collectors;
  */
 public final class GeneratedFilesSupport {
 
-    private final Set<Path> fileList = new HashSet<>();
+    // Tasks may be executed concurrently
+    private final Set<Path> fileList = ConcurrentHashMap.newKeySet();
 
     /**
      * Writes the given content into the given file unless the file already
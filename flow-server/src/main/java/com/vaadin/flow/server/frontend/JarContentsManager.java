@@ -21,23 +21,38 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipEntry;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 
+import com.vaadin.flow.server.Constants;
+
 /**
  * Shared code for managing contents of jar files.
  * <p>
+ * The frontend resource entries of each jar file are indexed the first time
+ * the jar is accessed and the index is reused by subsequent lookups from the
+ * same instance, as long as the jar file is not modified. Lookups outside of
+ * the frontend directories scan the jar without caching the result.
+ * <p>
  * For internal use only. May be renamed or removed in a future release.
  *
  * @author Vaadin Ltd
@@ -46,6 +61,34 @@ import org.apache.commons.io.IOUtils;
 public class JarContentsManager {
     private static final String JAR_PATH_SEPARATOR = "/";
 
+    /*
+     * Lower case prefixes of the entries that are indexed.
+     */
+    private static final List<String> INDEXED_DIRECTORIES = List.of(
+            (Constants.COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT
+                    + JAR_PATH_SEPARATOR).toLowerCase(Locale.ENGLISH),
+            (Constants.RESOURCES_FRONTEND_DEFAULT + JAR_PATH_SEPARATOR)
+                    .toLowerCase(Locale.ENGLISH));
+
+    /*
+     * Scoped to this instance so that the index does not outlive the task
+     * using it. Entries are validated against the modification time and size
+     * of the jar on each access.
+     */
+    private final Map<File, JarIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Jar entries by name, in the order they are stored in the jar.
+     */
+    private record JarIndex(long lastModified, long length,
+            Map<String, ZipEntry> entries) {
+
+        private boolean isUpToDate(File jar) {
+            return lastModified == jar.lastModified()
+                    && length == jar.length();
+        }
+    }
+
     /**
      * Checks if a jar file contains a path specified (case sensitive).
      *
@@ -67,14 +110,16 @@ public class JarContentsManager {
         requireFileExistence(jar);
         Objects.requireNonNull(filePath);
 
-        try (JarFile jarFile = new JarFile(jar, false)) {
-            boolean containsEntry = jarFile.getJarEntry(filePath) != null;
+        try {
+            Map<String, ZipEntry> entries = getEntries(jar, filePath);
+            boolean containsEntry = entries.containsKey(filePath)
+                    || entries.containsKey(filePath + JAR_PATH_SEPARATOR);
             // in case #6241, the directory structure is omitted from the
             // jar's metadata, and the entry point cannot be found. Thus we
             // scan files just in case
             if (!containsEntry) {
-                containsEntry = jarFile.stream().anyMatch(
-                        entry -> entry.getName().startsWith(filePath));
+                containsEntry = entries.keySet().stream()
+                        .anyMatch(name -> name.startsWith(filePath));
             }
 
             return containsEntry;
@@ -107,8 +152,16 @@ public class JarContentsManager {
         requireFileExistence(jar);
         Objects.requireNonNull(filePath);
 
-        try (JarFile jarFile = new JarFile(jar, false)) {
-            return getJarEntryContents(jarFile, jarFile.getJarEntry(filePath));
+        try {
+            Map<String, ZipEntry> entries = getEntries(jar, filePath);
+            if (!entries.containsKey(filePath) && !entries
+                    .containsKey(filePath + JAR_PATH_SEPARATOR)) {
+                return null;
+            }
+            try (JarFile jarFile = new JarFile(jar, false)) {
+                return getJarEntryContents(jarFile,
+                        jarFile.getJarEntry(filePath));
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(
                     String.format("Failed to retrieve file '%s' from jar '%s'",
@@ -143,8 +196,9 @@ public class JarContentsManager {
         Objects.requireNonNull(baseDirectoryName);
         Objects.requireNonNull(fileName);
 
-        try (JarFile jarFile = new JarFile(jar, false)) {
-            return jarFile.stream().filter(entry -> !entry.isDirectory())
+        try {
+            return getEntries(jar, baseDirectoryName).values().stream()
+                    .filter(entry -> !entry.isDirectory())
                     .map(ZipEntry::getName)
                     .filter(path -> path.startsWith(baseDirectoryName))
                     .filter(path -> path
@@ -155,6 +209,48 @@ public class JarContentsManager {
         }
     }
 
+    /**
+     * Gets the jar entries, which include at least all entries under the given
+     * paths. The index is used when all paths are in an indexed directory,
+     * otherwise all entries are read from the jar.
+     */
+    private Map<String, ZipEntry> getEntries(File jar, String... paths)
+            throws IOException {
+        if (!Stream.of(paths).allMatch(JarContentsManager::isIndexed)) {
+            return readEntries(jar, false);
+        }
+        File key = jar.getAbsoluteFile();
+        JarIndex index = indexes.get(key);
+        if (index == null || !index.isUpToDate(jar)) {
+            long lastModified = jar.lastModified();
+            long length = jar.length();
+            index = new JarIndex(lastModified, length, readEntries(jar, true));
+            indexes.put(key, index);
+        }
+        return index.entries();
+    }
+
+    private static boolean isIndexed(String path) {
+        if (path == null) {
+            return false;
+        }
+        String directory = path.toLowerCase(Locale.ENGLISH)
+                + JAR_PATH_SEPARATOR;
+        return INDEXED_DIRECTORIES.stream().anyMatch(directory::startsWith);
+    }
+
+    private static Map<String, ZipEntry> readEntries(File jar,
+            boolean indexedOnly) throws IOException {
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        try (JarFile jarFile = new JarFile(jar, false)) {
+            jarFile.stream()
+                    .filter(entry -> !indexedOnly || isIndexed(entry.getName()))
+                    .forEach(entry -> entries.putIfAbsent(entry.getName(),
+                            new ZipEntry(entry)));
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
     private void requireFileExistence(File jar) {
         if (!Objects.requireNonNull(jar).isFile()) {
             throw new IllegalArgumentException(
@@ -215,17 +311,24 @@ public class JarContentsManager {
 
         String basePath = normalizeJarBasePath(jarDirectoryToCopyFrom);
 
-        try (JarFile jarFile = new JarFile(jar, false)) {
-            Set<String> handledFiles = jarFile.stream()
+        try {
+            List<ZipEntry> entriesToCopy = getEntries(jar, basePath).values()
+                    .stream()
                     .filter(file -> !file.isDirectory())
                     .filter(file -> file.getName().toLowerCase(Locale.ENGLISH)
                             .startsWith(basePath.toLowerCase(Locale.ENGLISH)))
                     .filter(file -> isFileIncluded(file,
                             wildcardPathExclusions))
-                    .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
-                            jarEntry, basePath, outputDirectory))
-                    .collect(Collectors.toSet());
-            return handledFiles;
+                    .toList();
+            if (entriesToCopy.isEmpty()) {
+                return new HashSet<>();
+            }
+            try (JarFile jarFile = new JarFile(jar, false)) {
+                return entriesToCopy.stream()
+                        .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
+                                jarEntry, basePath, outputDirectory))
+                        .collect(Collectors.toSet());
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
                     "Failed to extract files from jarFile '%s' to directory '%s'",
@@ -271,17 +374,94 @@ public class JarContentsManager {
                             outputDirectory));
         }
 
-        String basePath = normalizeJarBasePath(jarDirectoryToCopyFrom);
+        Map<String, String[]> inclusions = new LinkedHashMap<>();
+        inclusions.put(jarDirectoryToCopyFrom, wildcardPathInclusions);
+        return copyIncludedFilesFromJarTrimmingBasePath(jar, inclusions,
+                outputDirectory);
+    }
 
-        try (JarFile jarFile = new JarFile(jar, false)) {
-            Set<String> handledFiles = jarFile.stream()
-                    .filter(file -> !file.isDirectory())
-                    .filter(file -> file.getName().toLowerCase(Locale.ENGLISH)
-                            .startsWith(basePath.toLowerCase(Locale.ENGLISH)))
-                    .filter(file -> includeFile(file, wildcardPathInclusions))
-                    .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
-                            jarEntry, basePath, outputDirectory))
-                    .collect(Collectors.toSet());
+    /**
+     * Copies files matching the inclusion filters from several directories of
+     * the jar file to the output directory, reading the jar only once.
+     * <p>
+     * Directories are handled in the iteration order of the given map, so
+     * files copied from a later directory replace files with the same relative
+     * path copied from an earlier one.
+     *
+     * @param jar
+     *            jar file to look for files in, not {@code null}
+     * @param wildcardPathInclusionsByJarDirectory
+     *            wildcard inclusions keyed by the path relative to jar root to
+     *            copy files from, a {@code null} or empty path is treated as a
+     *            root of the jar. Files will be copied relative to this path
+     *            (i.e. only path part after this path is preserved in output
+     *            directory)
+     * @param outputDirectory
+     *            the directory to copy files to, not {@code null}
+     * @return names of the files that were either copied or already existed in
+     *         the output directory
+     * @throws IllegalArgumentException
+     *             if jar file specified is not a file or does not exist or if
+     *             output directory is not a directory or does not exist
+     * @throws NullPointerException
+     *             if jar file or output directory is {@code null}
+     * @throws UncheckedIOException
+     *             if {@link IOException} occurs during the operation, for
+     *             instance, when jar file specified is not a jar file
+     */
+    public Set<String> copyIncludedFilesFromJarTrimmingBasePath(File jar,
+            Map<String, String[]> wildcardPathInclusionsByJarDirectory,
+            File outputDirectory) {
+        requireFileExistence(jar);
+
+        if (!Objects.requireNonNull(outputDirectory).isDirectory()) {
+            throw new IllegalArgumentException(
+                    String.format("Expect '%s' to be an existing directory",
+                            outputDirectory));
+        }
+
+        List<String> basePaths = new ArrayList<>();
+        List<String[]> inclusions = new ArrayList<>();
+        wildcardPathInclusionsByJarDirectory.forEach((directory, included) -> {
+            basePaths.add(normalizeJarBasePath(directory));
+            inclusions.add(included);
+        });
+
+        try {
+            // Single pass over the entries collecting the files to copy from
+            // each directory
+            List<List<ZipEntry>> entriesToCopy = new ArrayList<>();
+            basePaths.forEach(basePath -> entriesToCopy.add(new ArrayList<>()));
+            boolean copyNeeded = false;
+            for (ZipEntry file : getEntries(jar,
+                    basePaths.toArray(String[]::new)).values()) {
+                if (file.isDirectory()) {
+                    continue;
+                }
+                String lowerCaseName = file.getName()
+                        .toLowerCase(Locale.ENGLISH);
+                for (int i = 0; i < basePaths.size(); i++) {
+                    if (lowerCaseName.startsWith(
+                            basePaths.get(i).toLowerCase(Locale.ENGLISH))
+                            && includeFile(file, inclusions.get(i))) {
+                        entriesToCopy.get(i).add(file);
+                        copyNeeded = true;
+                    }
+                }
+            }
+            Set<String> handledFiles = new HashSet<>();
+            if (!copyNeeded) {
+                return handledFiles;
+            }
+            try (JarFile jarFile = new JarFile(jar, false)) {
+                for (int i = 0; i < basePaths.size(); i++) {
+                    String basePath = basePaths.get(i);
+                    for (ZipEntry jarEntry : entriesToCopy.get(i)) {
+                        handledFiles.add(copyJarEntryTrimmingBasePath(jarFile,
+                                jarEntry, basePath, outputDirectory));
+                    }
+                }
+            }
             return handledFiles;
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
@@ -321,8 +501,7 @@ public class JarContentsManager {
         File target = new File(outputDirectory, relativePath);
         try {
             if (!target.exists()
-                    || !hasSameContent(jarFile.getInputStream(jarEntry),
-                            target)) {
+                    || !hasSameContent(jarFile, jarEntry, target)) {
                 FileUtils.copyInputStreamToFile(
                         jarFile.getInputStream(jarEntry), target);
             }
@@ -334,13 +513,30 @@ public class JarContentsManager {
         }
     }
 
-    private boolean hasSameContent(InputStream jarContent, File existingContent)
-            throws IOException {
-        try (InputStream existingContentStream = new FileInputStream(
-                existingContent)) {
+    private boolean hasSameContent(JarFile jarFile, ZipEntry jarEntry,
+            File existingContent) throws IOException {
+        long size = jarEntry.getSize();
+        long crc = jarEntry.getCrc();
+        if (size != -1 && size != existingContent.length()) {
+            return false;
+        }
+        if (crc != -1) {
+            // Compare checksums so that the jar entry does not need to be
+            // inflated when the file is up to date
+            return crc == getCrc(existingContent);
+        }
+        try (InputStream jarContent = jarFile.getInputStream(jarEntry);
+                InputStream existingContentStream = new FileInputStream(
+                        existingContent)) {
             return IOUtils.contentEquals(jarContent, existingContentStream);
-        } finally {
-            IOUtils.closeQuietly(jarContent);
+        }
+    }
+
+    private static long getCrc(File file) throws IOException {
+        try (CheckedInputStream stream = new CheckedInputStream(
+                new FileInputStream(file), new CRC32())) {
+            IOUtils.consume(stream);
+            return stream.getChecksum().getValue();
         }
     }
 
@@ -28,8 +28,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
@@ -97,6 +103,8 @@ public class NodeTasks implements FallibleCommand {
 
     private Path lockFile;
 
+    private final boolean parallelTasks;
+
     /**
      * Initialize tasks with the given options.
      *
@@ -114,6 +122,8 @@ public class NodeTasks implements FallibleCommand {
 
         ClassFinder classFinder = options.getClassFinder();
 
+        parallelTasks = options.isParallelTasks();
+
         Set<String> webComponentTags = new HashSet<>();
 
         if (options.isFrontendHotdeploy()) {
@@ -340,21 +350,158 @@ public class NodeTasks implements FallibleCommand {
         try {
             sortCommands(commands);
             GeneratedFilesSupport generatedFilesSupport = new GeneratedFilesSupport();
-            for (FallibleCommand command : commands) {
-                long startTime = System.nanoTime();
-                command.setGeneratedFileSupport(generatedFilesSupport);
-                command.execute();
-                Duration durationInNs = Duration
-                        .ofNanos(System.nanoTime() - startTime);
-                getLogger().debug("Task [ {} ] completed in {} ms",
-                        command.getClass().getSimpleName(),
-                        durationInNs.toMillis());
+            commands.forEach(command -> command
+                    .setGeneratedFileSupport(generatedFilesSupport));
+            Map<FallibleCommand, Duration> durations = new ConcurrentHashMap<>();
+            long startTime = System.nanoTime();
+            List<Set<Integer>> dependencies = computeDependencies(commands);
+            if (parallelTasks && !isSequential(dependencies)) {
+                executeConcurrently(dependencies, durations);
+            } else {
+                for (FallibleCommand command : commands) {
+                    executeCommand(command, durations);
+                }
             }
+            logTimingReport(durations,
+                    Duration.ofNanos(System.nanoTime() - startTime));
         } finally {
             releaseLock();
         }
     }
 
+    private void executeCommand(FallibleCommand command,
+            Map<FallibleCommand, Duration> durations)
+            throws ExecutionFailedException {
+        long startTime = System.nanoTime();
+        command.execute();
+        Duration durationInNs = Duration.ofNanos(System.nanoTime() - startTime);
+        durations.put(command, durationInNs);
+        getLogger().debug("Task [ {} ] completed in {} ms",
+                command.getClass().getSimpleName(), durationInNs.toMillis());
+    }
+
+    private void executeConcurrently(List<Set<Integer>> dependencies,
+            Map<FallibleCommand, Duration> durations)
+            throws ExecutionFailedException {
+        // Tasks mostly wait for the file system and external processes, so
+        // use at least two threads also on a single processor
+        int threads = Math.max(2, Math.min(commands.size(),
+                Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                FallibleCommand command = commands.get(i);
+                CompletableFuture<?>[] preceding = dependencies.get(i).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+                futures.add(CompletableFuture.allOf(preceding)
+                        .thenRunAsync(() -> {
+                            try {
+                                executeCommand(command, durations);
+                            } catch (ExecutionFailedException e) {
+                                throw new CompletionException(e);
+                            }
+                        }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ExecutionFailedException executionFailed) {
+                throw executionFailed;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ExecutionFailedException(cause);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Computes for each command the indexes of preceding commands that must be
+     * completed before it can be executed. The order given by
+     * {@link #commandOrder} is preserved between all commands that touch the
+     * same files, or that do not declare their inputs and outputs.
+     *
+     * @param commandList
+     *            the sorted commands
+     * @return list of dependency indexes for each command
+     */
+    static List<Set<Integer>> computeDependencies(
+            List<FallibleCommand> commandList) {
+        List<Set<Integer>> dependencies = new ArrayList<>(commandList.size());
+        for (int i = 0; i < commandList.size(); i++) {
+            Set<Integer> preceding = new HashSet<>();
+            for (int j = 0; j < i; j++) {
+                if (conflicts(commandList.get(j), commandList.get(i))) {
+                    preceding.add(j);
+                }
+            }
+            dependencies.add(preceding);
+        }
+        return dependencies;
+    }
+
+    private static boolean isSequential(List<Set<Integer>> dependencies) {
+        for (int i = 1; i < dependencies.size(); i++) {
+            if (!dependencies.get(i).contains(i - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean conflicts(FallibleCommand first,
+            FallibleCommand second) {
+        Set<Path> firstInputs = first.getInputs();
+        Set<Path> firstOutputs = first.getOutputs();
+        Set<Path> secondInputs = second.getInputs();
+        Set<Path> secondOutputs = second.getOutputs();
+        if (firstInputs == null || firstOutputs == null || secondInputs == null
+                || secondOutputs == null) {
+            return true;
+        }
+        return overlaps(firstOutputs, secondInputs)
+                || overlaps(firstOutputs, secondOutputs)
+                || overlaps(firstInputs, secondOutputs);
+    }
+
+    private static boolean overlaps(Set<Path> paths, Set<Path> otherPaths) {
+        for (Path path : paths) {
+            Path normalized = path.toAbsolutePath().normalize();
+            for (Path other : otherPaths) {
+                Path otherNormalized = other.toAbsolutePath().normalize();
+                if (normalized.startsWith(otherNormalized)
+                        || otherNormalized.startsWith(normalized)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void logTimingReport(Map<FallibleCommand, Duration> durations,
+            Duration total) {
+        if (!getLogger().isDebugEnabled()) {
+            return;
+        }
+        long sum = durations.values().stream().mapToLong(Duration::toMillis)
+                .sum();
+        String report = durations.entrySet().stream()
+                .sorted(Map.Entry.<FallibleCommand, Duration> comparingByValue()
+                        .reversed())
+                .map(entry -> String.format("%n  %-40s %6d ms",
+                        entry.getKey().getClass().getSimpleName(),
+                        entry.getValue().toMillis()))
+                .collect(Collectors.joining());
+        getLogger().debug(
+                "Executed {} tasks in {} ms (sum of task durations {} ms):{}",
+                durations.size(), total.toMillis(), sum, report);
+    }
+
     private void getLock() {
         boolean loggedWaiting = false;
 
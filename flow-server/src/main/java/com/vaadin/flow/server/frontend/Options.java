@@ -139,6 +139,8 @@ public class Options implements Serializable {
 
     private boolean frontendIgnoreVersionChecks = false;
 
+    private boolean parallelTasks = true;
+
     /**
      * Creates a new instance.
      *
@@ -989,6 +991,36 @@ public class Options implements Serializable {
         return cleanOldGeneratedFiles;
     }
 
+    /**
+     * Sets whether frontend tasks that declare independent inputs and outputs
+     * may be executed concurrently.
+     * <p>
+     * </p>
+     * By default, independent tasks are executed concurrently.
+     *
+     * @param parallelTasks
+     *            {@literal true} to run independent tasks concurrently,
+     *            {@literal false} to run all tasks sequentially
+     * @return this builder
+     * @see FallibleCommand#getInputs()
+     * @see FallibleCommand#getOutputs()
+     */
+    public Options withParallelTasks(boolean parallelTasks) {
+        this.parallelTasks = parallelTasks;
+        return this;
+    }
+
+    /**
+     * Gets whether frontend tasks that declare independent inputs and outputs
+     * may be executed concurrently.
+     *
+     * @return {@literal true} if independent tasks run concurrently, otherwise
+     *         {@literal false}
+     */
+    public boolean isParallelTasks() {
+        return parallelTasks;
+    }
+
     /**
      * Sets the extra file extensions used in the project.
      *
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +47,15 @@ public class TaskCopyFrontendFiles
             "**/*.ts.map", "**/*.tsx", "**/*.tsx.map", "**/*.jsx",
             "**/*.jsx.map" };
     private static final String WILDCARD_INCLUSION_APP_THEME_JAR = "**/themes/**/*";
+    private static final Map<String, String[]> JAR_INCLUSIONS = new LinkedHashMap<>();
+
+    static {
+        JAR_INCLUSIONS.put(RESOURCES_FRONTEND_DEFAULT, WILDCARD_INCLUSIONS);
+        JAR_INCLUSIONS.put(COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
+                WILDCARD_INCLUSIONS);
+        JAR_INCLUSIONS.put(RESOURCES_JAR_DEFAULT,
+                new String[] { WILDCARD_INCLUSION_APP_THEME_JAR });
+    }
     private final Options options;
     private Set<File> resourceLocations = null;
 
@@ -96,16 +107,7 @@ public class TaskCopyFrontendFiles
             } else {
                 handledFiles.addAll(jarContentsManager
                         .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                RESOURCES_FRONTEND_DEFAULT, targetDirectory,
-                                WILDCARD_INCLUSIONS));
-                handledFiles.addAll(jarContentsManager
-                        .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
-                                targetDirectory, WILDCARD_INCLUSIONS));
-                handledFiles.addAll(jarContentsManager
-                        .copyIncludedFilesFromJarTrimmingBasePath(location,
-                                RESOURCES_JAR_DEFAULT, targetDirectory,
-                                WILDCARD_INCLUSION_APP_THEME_JAR));
+                                JAR_INCLUSIONS, targetDirectory));
             }
         }
         existingFiles.removeAll(handledFiles);
@@ -118,6 +120,17 @@ public class TaskCopyFrontendFiles
                 .resolve(relativePath).toFile()).toList());
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        return resourceLocations.stream().map(File::toPath)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(options.getJarFrontendResourcesFolder().toPath());
+    }
+
     static Set<String> getFilesInDirectory(File targetDirectory,
             String... relativePathExclusions) throws IOException {
         try (Stream<Path> stream = Files.walk(targetDirectory.toPath())) {
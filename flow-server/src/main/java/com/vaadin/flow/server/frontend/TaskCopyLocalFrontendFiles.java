@@ -80,6 +80,16 @@ public class TaskCopyLocalFrontendFiles
         }
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        return Set.of(options.getLocalResourcesFolder().toPath());
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(options.getJarFrontendResourcesFolder().toPath());
+    }
+
     /**
      * Copies the local resources from specified source directory to within the
      * specified target directory ignoring the file exclusions defined as a
@@ -17,16 +17,29 @@ package com.vaadin.flow.server.frontend;
 
 import java.io.File;
 import java.io.IOException;
-
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.component.template.internal.LitTemplateSourceParser;
+import com.vaadin.flow.component.template.internal.TemplateMetadataIndex;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.Pair;
 import com.vaadin.flow.internal.Template;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.ExecutionFailedException;
@@ -36,10 +49,16 @@ import com.vaadin.flow.server.frontend.scanner.ClassFinder;
  * Copies template files to the target folder so as to be available for parsing
  * at runtime in production mode.
  * <p>
+ * For production builds, the id, tag and attribute metadata of Lit templates
+ * is also parsed and stored in a {@link TemplateMetadataIndex}, so that the
+ * templates don't need to be parsed at runtime.
+ * <p>
  * For internal use only. May be renamed or removed in a future release.
  */
 public class TaskCopyTemplateFiles implements FallibleCommand {
 
+    private static final String LIT_TEMPLATE_CLASS = "com.vaadin.flow.component.littemplate.LitTemplate";
+
     private final ClassFinder classFinder;
     private final Options options;
 
@@ -53,17 +72,22 @@ public class TaskCopyTemplateFiles implements FallibleCommand {
         Set<Class<?>> classes = new HashSet<>(
                 classFinder.getSubTypesOf(Template.class));
         Class<? extends Annotation> jsModuleAnnotationClass;
+        Class<? extends Annotation> tagAnnotationClass;
         try {
             jsModuleAnnotationClass = classFinder
                     .loadClass(JsModule.class.getName());
+            tagAnnotationClass = classFinder.loadClass(Tag.class.getName());
         } catch (ClassNotFoundException e) {
             throw new ExecutionFailedException(e);
         }
+        Class<?> litTemplateClass = getLitTemplateClass();
+        TemplateMetadataIndex index = new TemplateMetadataIndex();
 
         for (Class<?> clazz : classes) {
+            List<Pair<String, File>> modules = new ArrayList<>();
             for (Annotation jsmAnnotation : clazz
                     .getAnnotationsByType(jsModuleAnnotationClass)) {
-                String path = getJsModuleAnnotationValue(jsmAnnotation);
+                String path = getAnnotationValue(jsmAnnotation);
                 File source = FrontendUtils.resolveFrontendPath(
                         options.getNpmFolder(), path,
                         options.getFrontendDirectory());
@@ -72,35 +96,134 @@ public class TaskCopyTemplateFiles implements FallibleCommand {
                             "Unable to locate file " + path);
                 }
 
-                File templateDirectory;
-                if (options.isDevBundleBuild()) {
-                    templateDirectory = new File(
-                            DevBundleUtils.getDevBundleFolder(
-                                    options.getNpmFolder(),
-                                    options.getBuildDirectoryName()),
-                            Constants.TEMPLATE_DIRECTORY);
-                } else {
-
-                    templateDirectory = new File(
-                            options.getResourceOutputDirectory(),
-                            Constants.TEMPLATE_DIRECTORY);
-                }
-                File target = new File(templateDirectory, path).getParentFile();
+                File target = new File(getTemplateDirectory(), path)
+                        .getParentFile();
                 target.mkdirs();
                 try {
                     FileUtils.copyFileToDirectory(source, target);
                 } catch (IOException e) {
                     throw new ExecutionFailedException(e);
                 }
+                modules.add(new Pair<>(path, source));
+            }
+            if (litTemplateClass != null
+                    && litTemplateClass.isAssignableFrom(clazz)) {
+                Annotation tag = clazz.getAnnotation(tagAnnotationClass);
+                if (tag != null) {
+                    addToIndex(index, clazz, getAnnotationValue(tag), modules);
+                }
             }
         }
+
+        if (!options.isDevBundleBuild()) {
+            writeIndex(index);
+        }
+    }
+
+    /**
+     * Adds the template of the given Lit template class to the index, choosing
+     * the module the same way as {@code LitTemplateParserImpl} does at runtime:
+     * the first module, unless some module is named after the tag.
+     */
+    private void addToIndex(TemplateMetadataIndex index, Class<?> clazz,
+            String tag, List<Pair<String, File>> modules)
+            throws ExecutionFailedException {
+        Pair<String, File> chosen = null;
+        for (Pair<String, File> module : modules) {
+            if (chosen == null) {
+                chosen = module;
+            }
+            String name = FilenameUtils.removeExtension(module.getFirst())
+                    .toLowerCase(Locale.ENGLISH);
+            if (name.endsWith("/" + tag)) {
+                chosen = module;
+                break;
+            }
+        }
+        if (chosen == null) {
+            return;
+        }
+        try {
+            String source = FileUtils.readFileToString(chosen.getSecond(),
+                    StandardCharsets.UTF_8);
+            Element templateRoot = LitTemplateSourceParser
+                    .parseTemplateElement(chosen.getFirst(), source);
+            if (templateRoot != null) {
+                index.addTemplate(clazz.getName(), chosen.getFirst(),
+                        templateRoot);
+            }
+        } catch (IOException e) {
+            throw new ExecutionFailedException(e);
+        }
+    }
+
+    private void writeIndex(TemplateMetadataIndex index)
+            throws ExecutionFailedException {
+        File indexFile = getIndexFile();
+        try {
+            if (index.isEmpty()) {
+                Files.deleteIfExists(indexFile.toPath());
+            } else {
+                indexFile.getParentFile().mkdirs();
+                FileIOUtils.writeIfChanged(indexFile,
+                        JacksonUtils.toFileJson(index.toJson()));
+            }
+        } catch (IOException e) {
+            throw new ExecutionFailedException(e);
+        }
+    }
+
+    private Class<?> getLitTemplateClass() {
+        try {
+            return classFinder.loadClass(LIT_TEMPLATE_CLASS);
+        } catch (ClassNotFoundException e) {
+            // Lit templates are not in use
+            return null;
+        }
+    }
+
+    @Override
+    public Set<Path> getInputs() {
+        Set<Path> inputs = new HashSet<>();
+        inputs.add(options.getFrontendDirectory().toPath());
+        inputs.add(new File(options.getNpmFolder(), FrontendUtils.NODE_MODULES)
+                .toPath());
+        if (options.getJarFrontendResourcesFolder() != null) {
+            inputs.add(options.getJarFrontendResourcesFolder().toPath());
+        }
+        return inputs;
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        if (options.isDevBundleBuild()) {
+            return Set.of(getTemplateDirectory().toPath());
+        }
+        return Set.of(getTemplateDirectory().toPath(),
+                getIndexFile().toPath());
+    }
+
+    private File getIndexFile() {
+        return new File(options.getResourceOutputDirectory(),
+                Constants.TEMPLATE_INDEX);
+    }
+
+    private File getTemplateDirectory() {
+        if (options.isDevBundleBuild()) {
+            return new File(
+                    DevBundleUtils.getDevBundleFolder(options.getNpmFolder(),
+                            options.getBuildDirectoryName()),
+                    Constants.TEMPLATE_DIRECTORY);
+        }
+        return new File(options.getResourceOutputDirectory(),
+                Constants.TEMPLATE_DIRECTORY);
     }
 
-    private String getJsModuleAnnotationValue(Annotation jsmAnnotation)
+    private String getAnnotationValue(Annotation annotation)
             throws ExecutionFailedException {
         try {
-            Object value = jsmAnnotation.getClass().getDeclaredMethod("value")
-                    .invoke(jsmAnnotation);
+            Object value = annotation.getClass().getDeclaredMethod("value")
+                    .invoke(annotation);
             return (String) value;
         } catch (IllegalAccessException | InvocationTargetException
                 | NoSuchMethodException e) {
@@ -16,8 +16,10 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.vaadin.experimental.Feature;
 
@@ -87,6 +89,16 @@ public class TaskGenerateFeatureFlags extends AbstractTaskClientGenerator {
         return new File(frontendGeneratedDirectory, FEATURE_FLAGS_FILE_NAME);
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(getGeneratedFile().toPath());
+    }
+
     @Override
     protected boolean shouldGenerate() {
         return true;
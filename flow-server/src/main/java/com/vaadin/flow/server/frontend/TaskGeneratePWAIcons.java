@@ -26,6 +26,7 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -126,6 +127,17 @@ public class TaskGeneratePWAIcons implements FallibleCommand {
         LOGGER.info("PWA icons generated");
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        // the base icon is read from the class path
+        return Set.of();
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(generatedIconsPath);
+    }
+
     private void createGeneratedIconsFolder() throws ExecutionFailedException {
         try {
             Path generatedPath = generatedIconsPath
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -169,6 +171,16 @@ public class TaskGenerateTsConfig extends AbstractTaskClientGenerator {
         return new File(options.getNpmFolder(), TSCONFIG_JSON);
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        return Set.of(getGeneratedFile().toPath());
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(getGeneratedFile().toPath());
+    }
+
     @Override
     protected boolean shouldGenerate() {
         return !getGeneratedFile().exists();
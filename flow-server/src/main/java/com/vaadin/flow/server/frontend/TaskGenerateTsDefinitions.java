@@ -19,7 +19,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.apache.commons.io.IOUtils;
@@ -105,6 +107,18 @@ public class TaskGenerateTsDefinitions extends AbstractTaskClientGenerator {
         return new File(options.getNpmFolder(), TS_DEFINITIONS);
     }
 
+    @Override
+    public Set<Path> getInputs() {
+        return Set.of(getGeneratedFile().toPath(),
+                new File(options.getNpmFolder(),
+                        TaskGenerateTsConfig.TSCONFIG_JSON).toPath());
+    }
+
+    @Override
+    public Set<Path> getOutputs() {
+        return Set.of(getGeneratedFile().toPath());
+    }
+
     @Override
     protected boolean shouldGenerate() {
         File tsDefinitionsFile = getGeneratedFile();
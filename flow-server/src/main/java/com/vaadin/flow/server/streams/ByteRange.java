@@ -0,0 +1,142 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.vaadin.flow.server.streams;
+
+import java.io.Serializable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A range of bytes of a resource with a known length, as requested using a
+ * single range <code>Range</code> header.
+ *
+ * @param start
+ *            the index of the first byte of the range
+ * @param end
+ *            the index of the last byte of the range, inclusive
+ * @param length
+ *            the length of the whole resource
+ */
+record ByteRange(long start, long end, long length) implements Serializable {
+
+    private static final Pattern SINGLE_RANGE_PATTERN = Pattern
+            .compile("^bytes=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$");
+
+    /**
+     * Gets the range covering the whole resource.
+     *
+     * @param length
+     *            the length of the resource
+     * @return the range of the whole resource
+     */
+    static ByteRange full(long length) {
+        return new ByteRange(0, length - 1, length);
+    }
+
+    /**
+     * Parses a <code>Range</code> header for a resource with the given
+     * length.
+     * <p>
+     * Only a single byte range is supported. The whole resource is served for
+     * requests with multiple ranges or a malformed header, which is allowed by
+     * RFC 9110 as servers may ignore the <code>Range</code> header.
+     *
+     * @param header
+     *            the value of the header, or <code>null</code> if there is none
+     * @param length
+     *            the length of the resource
+     * @return the requested range, the {@link #full(long) full} range, or an
+     *         {@link #isSatisfiable() unsatisfiable} range
+     */
+    static ByteRange parse(String header, long length) {
+        if (header == null) {
+            return full(length);
+        }
+        Matcher matcher = SINGLE_RANGE_PATTERN.matcher(header);
+        if (!matcher.matches()) {
+            return full(length);
+        }
+        String startGroup = matcher.group(1);
+        String endGroup = matcher.group(2);
+        try {
+            if (startGroup.isEmpty() && endGroup.isEmpty()) {
+                return full(length);
+            } else if (startGroup.isEmpty()) {
+                // Suffix range: the last n bytes
+                long suffix = Long.parseLong(endGroup);
+                if (suffix == 0) {
+                    return new ByteRange(length, length - 1, length);
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1,
+                        length);
+            }
+            long start = Long.parseLong(startGroup);
+            long end = endGroup.isEmpty() ? length - 1
+                    : Math.min(Long.parseLong(endGroup), length - 1);
+            if (!endGroup.isEmpty() && Long.parseLong(endGroup) < start) {
+                // Invalid range, to be ignored
+                return full(length);
+            }
+            return new ByteRange(start, end, length);
+        } catch (NumberFormatException e) {
+            // Too large to be a position in the resource
+            return full(length);
+        }
+    }
+
+    /**
+     * Gets the number of bytes in this range.
+     *
+     * @return the number of bytes
+     */
+    long size() {
+        return Math.max(0, end - start + 1);
+    }
+
+    /**
+     * Checks whether this range covers the whole resource.
+     *
+     * @return <code>true</code> if the range covers the whole resource
+     */
+    boolean isFull() {
+        return start == 0 && end == length - 1;
+    }
+
+    /**
+     * Checks whether any bytes of the resource are within this range.
+     *
+     * @return <code>true</code> if the range can be served,
+     *         <code>false</code> if the response should be 416 Range Not
+     *         Satisfiable
+     */
+    boolean isSatisfiable() {
+        return start < length && start <= end;
+    }
+
+    /**
+     * Creates the value of the <code>Content-Range</code> header for this
+     * range.
+     *
+     * @return the header value
+     */
+    String toContentRange() {
+        if (!isSatisfiable()) {
+            return "bytes */" + length;
+        }
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
@@ -17,23 +17,53 @@
 package com.vaadin.flow.server.streams;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 
 import com.vaadin.flow.server.DownloadRequest;
 import com.vaadin.flow.server.HttpStatusCode;
+import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
-import com.vaadin.flow.server.VaadinSession;
 
 /**
  * Download handler for use with a given File that will be read and written as
  * binary data to the response.
+ * <p>
+ * The handler supports conditional and partial requests: an
+ * <code>ETag</code> and <code>Last-Modified</code> header are sent for the
+ * file, <code>If-None-Match</code> is answered with 304 Not Modified and a
+ * single range <code>Range</code> header, optionally guarded by
+ * <code>If-Range</code>, is answered with 206 Partial Content. This allows
+ * browsers to resume interrupted downloads and to seek in media files.
+ * <p>
+ * The file is transferred without copying it through the heap where
+ * possible: if the servlet container supports the Tomcat sendfile extension,
+ * the transfer is delegated to the container, otherwise the file is written
+ * using {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
  *
  * @since 24.8
  */
 public class FileDownloadHandler extends AbstractDownloadHandler {
 
+    /*
+     * Request attributes of the Tomcat sendfile extension, also supported by
+     * some other containers.
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /*
+     * Smaller files are cheaper to write directly than to hand over to the
+     * container. Same threshold as the default of the Tomcat DefaultServlet.
+     */
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
     private final File file;
     private final String name;
 
@@ -63,24 +93,154 @@ public class FileDownloadHandler extends AbstractDownloadHandler {
 
     @Override
     public void handleDownloadRequest(DownloadRequest event) {
-        VaadinSession session = event.getSession();
+        VaadinRequest request = event.getRequest();
         VaadinResponse response = event.getResponse();
 
-        final int BUFFER_SIZE = 1024;
-        try (OutputStream outputStream = event.getOutputStream();
-                FileInputStream inputStream = new FileInputStream(file)) {
-            byte[] buf = new byte[BUFFER_SIZE];
-            int n;
-            while ((n = read(session, inputStream, buf)) >= 0) {
-                outputStream.write(buf, 0, n);
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String eTag = createETag(length, lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("ETag", eTag);
+        if (lastModified > 0) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+
+        if (matchesETag(request.getHeader("If-None-Match"), eTag)) {
+            response.setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+            return;
+        }
+
+        ByteRange range = ByteRange.full(length);
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader != null
+                && isRangeApplicable(request, eTag, lastModified)) {
+            range = ByteRange.parse(rangeHeader, length);
+            if (!range.isSatisfiable()) {
+                response.setHeader("Content-Range", range.toContentRange());
+                response.setStatus(
+                        HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE
+                                .getCode());
+                return;
             }
+        }
+
+        response.setContentType(event.getContentType());
+        if (!range.isFull()) {
+            response.setStatus(HttpStatusCode.PARTIAL_CONTENT.getCode());
+            response.setHeader("Content-Range", range.toContentRange());
+        }
+        setContentLength(response, range.size());
+
+        if (range.size() >= SENDFILE_THRESHOLD && sendFile(request, range)) {
+            return;
+        }
+        try (OutputStream outputStream = event.getOutputStream();
+                FileChannel channel = FileChannel.open(file.toPath(),
+                        StandardOpenOption.READ)) {
+            transfer(channel, range, Channels.newChannel(outputStream));
         } catch (IOException ioe) {
             // Set status before output is closed (see #8740)
             response.setStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.getCode());
             throw new RuntimeException(ioe);
         }
-        response.setContentType(event.getContentType());
-        response.setContentLength(Math.toIntExact(file.length()));
+    }
+
+    private static void transfer(FileChannel channel, ByteRange range,
+            WritableByteChannel target) throws IOException {
+        long position = range.start();
+        long remaining = range.size();
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                throw new IOException(
+                        "File was truncated during the download");
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    /**
+     * Hands over the transfer of the file to the servlet container if it
+     * supports the Tomcat sendfile extension. The container then writes the
+     * file directly from the file system to the socket after the request has
+     * been handled, without occupying the request thread.
+     */
+    private boolean sendFile(VaadinRequest request, ByteRange range) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            return false;
+        }
+        try {
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+        } catch (IOException e) {
+            return false;
+        }
+        request.setAttribute(SENDFILE_START, range.start());
+        // The end is exclusive for sendfile
+        request.setAttribute(SENDFILE_END, range.end() + 1);
+        return true;
+    }
+
+    /**
+     * Checks whether the <code>Range</code> header of the request should be
+     * honored, i.e. whether the <code>If-Range</code> header, if present,
+     * matches the current version of the file.
+     */
+    private static boolean isRangeApplicable(VaadinRequest request,
+            String eTag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Strong comparison, weak validators never match
+            return ifRange.equals(eTag);
+        }
+        try {
+            long date = request.getDateHeader("If-Range");
+            return date >= 0 && date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether an <code>If-None-Match</code> header matches the given
+     * entity tag using weak comparison.
+     */
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a strong entity tag for a file from its length and modification
+     * time, which change whenever the content of the file is replaced.
+     */
+    private static String createETag(long length, long lastModified) {
+        return "\"" + Long.toHexString(length) + "-"
+                + Long.toHexString(lastModified) + "\"";
+    }
+
+    private static void setContentLength(VaadinResponse response,
+            long length) {
+        if (length <= Integer.MAX_VALUE) {
+            response.setContentLength((int) length);
+        } else {
+            response.setHeader("Content-Length", Long.toString(length));
+        }
     }
 
     @Override
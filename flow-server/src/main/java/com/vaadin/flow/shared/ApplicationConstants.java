@@ -226,4 +226,12 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String UNLOAD_BEACON = "UNLOAD";
 
+    /**
+     * The name of the parameter used to transmit the time the client spent
+     * handling previous responses. Each entry is an array of the server sync
+     * id, the round trip time, the JSON parse time, the state tree change
+     * processing time, the DOM update time and the total time.
+     */
+    public static final String CLIENT_RENDER_TIMINGS = "clientTimings";
+
 }
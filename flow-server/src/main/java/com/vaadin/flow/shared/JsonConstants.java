@@ -79,6 +79,12 @@ public class JsonConstants implements Serializable {
      */
     public static final String CHANGE_TYPE_CLEAR = "clear";
 
+    /**
+     * Change type for map put changes which put all values of a template from
+     * the constant pool.
+     */
+    public static final String CHANGE_TYPE_PUT_TEMPLATE = "putTemplate";
+
     /**
      * Key holding the feature of a change.
      */
@@ -124,6 +130,12 @@ public class JsonConstants implements Serializable {
      */
     public static final String CHANGE_PUT_NODE_VALUE = "nodeValue";
 
+    /**
+     * Key holding the constant pool id of the template of a put template
+     * change.
+     */
+    public static final String CHANGE_PUT_TEMPLATE = "template";
+
     /**
      * Key holding the type in of messages sent from the client.
      */
@@ -23,6 +23,9 @@ import org.junit.Test;
 import com.vaadin.flow.component.ComponentTest.TestComponent;
 import com.vaadin.flow.internal.ReflectionCache;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
 public class ComponentEventBusUtilTest {
 
     @DomEvent("dom-event")
@@ -104,4 +107,37 @@ public class ComponentEventBusUtilTest {
                     exception.getMessage());
         }
     }
+
+    @Test
+    public void domEvent_decodersAndConstructorHandleCached() {
+        ComponentEventBusUtil.cache.clear();
+        ComponentEventBusUtil.EventDataDecoder[] decoders = ComponentEventBusUtil
+                .getEventDataDecoders(MappedToDomEvent.class);
+        Assert.assertEquals(4, decoders.length);
+        Assert.assertSame(decoders,
+                ComponentEventBusUtil
+                        .getEventDataDecoders(MappedToDomEvent.class));
+        Assert.assertNotNull(ComponentEventBusUtil
+                .getEventConstructorHandle(MappedToDomEvent.class));
+    }
+
+    @Test
+    public void domEvent_decodersFollowConstructorParameterOrder() {
+        TestComponent component = new TestComponent();
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.someData", 42);
+        eventData.put("event.moreData", "foo");
+        eventData.put("event.primitiveBoolean", true);
+        com.vaadin.flow.dom.DomEvent domEvent = new com.vaadin.flow.dom.DomEvent(
+                component.getElement(), "dom-event", eventData);
+
+        ComponentEventBusUtil.EventDataDecoder[] decoders = ComponentEventBusUtil
+                .getEventDataDecoders(MappedToDomEvent.class);
+        ComponentEventBus bus = component.getEventBus();
+        Assert.assertEquals(Integer.valueOf(42),
+                decoders[0].decode(bus, domEvent));
+        Assert.assertEquals("foo", decoders[1].decode(bus, domEvent));
+        Assert.assertEquals(Boolean.TRUE, decoders[2].decode(bus, domEvent));
+        Assert.assertNull(decoders[3].decode(bus, domEvent));
+    }
 }
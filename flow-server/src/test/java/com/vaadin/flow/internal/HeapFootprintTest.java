@@ -0,0 +1,136 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.nodefeature.ElementAttributeMap;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+public class HeapFootprintTest {
+
+    @Tag("div")
+    private static class Heavy extends Component {
+        Heavy(int children) {
+            for (int i = 0; i < children; i++) {
+                Element child = new Element("span");
+                child.setAttribute("title", "Child number " + i);
+                getElement().appendChild(child);
+            }
+            getElement().addEventListener("click", event -> {
+            });
+        }
+    }
+
+    @Tag("div")
+    private static class Light extends Component {
+    }
+
+    @Test
+    public void estimate_nodesAttributedToClosestComponent() {
+        UI ui = new UI();
+        int uiNodes = HeapFootprint.estimate(ui).getNodeCount();
+        ui.add(new Heavy(10), new Light());
+
+        HeapFootprint footprint = HeapFootprint.estimate(ui);
+
+        // Heavy with its 10 children and light
+        Assert.assertEquals(uiNodes + 12, footprint.getNodeCount());
+        long heavy = footprint.getBytesByComponentType().get(Heavy.class);
+        long light = footprint.getBytesByComponentType().get(Light.class);
+        Assert.assertTrue(heavy > 5 * light);
+        Assert.assertTrue(footprint.getTotalBytes() > heavy + light);
+        Assert.assertEquals(footprint.getTotalBytes(),
+                footprint.getBytesByComponentType().values().stream()
+                        .mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void estimate_featureBytesAttributedToOwningComponent() {
+        UI ui = new UI();
+        Light light = new Light();
+        ui.add(light);
+        long before = HeapFootprint.estimate(ui).getBytesByComponentType()
+                .get(Light.class);
+
+        light.getElement().setAttribute("title", "a".repeat(1000));
+        long after = HeapFootprint.estimate(ui).getBytesByComponentType()
+                .get(Light.class);
+
+        Assert.assertTrue(after > before + 1000);
+    }
+
+    @Test
+    public void estimateAsync_detachedUI_completedExceptionally() {
+        UI ui = new UI();
+
+        CompletableFuture<HeapFootprint> future = HeapFootprint
+                .estimateAsync(ui);
+
+        Assert.assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void estimate_featureSizesGrowWithValues() {
+        UI ui = new UI();
+        ui.add(new Heavy(1));
+        HeapFootprint small = HeapFootprint.estimate(ui);
+
+        ui.add(new Heavy(20));
+        HeapFootprint large = HeapFootprint.estimate(ui);
+
+        Assert.assertTrue(
+                large.getBytesByFeature().get(ElementAttributeMap.class) > small
+                        .getBytesByFeature().get(ElementAttributeMap.class));
+        Assert.assertTrue(
+                large.getBytesByFeature().get(ElementListenerMap.class) > small
+                        .getBytesByFeature().get(ElementListenerMap.class));
+    }
+
+    @Test
+    public void estimate_contributorsIncluded() {
+        UI ui = new UI();
+        Light light = new Light();
+        ui.add(light);
+        long withoutContributor = HeapFootprint.estimate(ui)
+                .getBytesByComponentType().get(Light.class);
+
+        ComponentUtil.setData(light, HeapFootprint.Contributor.class,
+                () -> 1000L);
+        long withContributor = HeapFootprint.estimate(ui)
+                .getBytesByComponentType().get(Light.class);
+
+        Assert.assertEquals(withoutContributor + 1000, withContributor);
+    }
+
+    @Test
+    public void estimateValueSize_stringsGrowWithLength() {
+        Assert.assertEquals(0, HeapFootprint.estimateValueSize(null));
+        Assert.assertEquals(0, HeapFootprint.estimateValueSize(Boolean.TRUE));
+        Assert.assertTrue(HeapFootprint.estimateValueSize("a".repeat(100)) > 100);
+        Assert.assertTrue(HeapFootprint
+                .estimateValueSize("a".repeat(100)) > HeapFootprint
+                        .estimateValueSize("a"));
+    }
+}
@@ -41,6 +41,7 @@ import org.junit.Test;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
+import com.vaadin.flow.internal.change.ListAddChange;
 import com.vaadin.flow.internal.change.MapPutChange;
 import com.vaadin.flow.internal.change.NodeAttachChange;
 import com.vaadin.flow.internal.change.NodeChange;
@@ -430,6 +431,77 @@ public class StateNodeTest {
                 triggered.get());
     }
 
+    @Test
+    public void isAttached_subtreeMovedBetweenTrees_stateFollowsRoot() {
+        StateNode parent = createParentNode("parent");
+        StateNode child = createParentNode("child");
+        StateNode grandChild = createEmptyNode("grandChild");
+        setParent(grandChild, child);
+        setParent(child, parent);
+        Assert.assertFalse(grandChild.isAttached());
+
+        StateTree tree = createStateTree();
+        setParent(parent, tree.getRootNode());
+        Assert.assertTrue(child.isAttached());
+        Assert.assertTrue(grandChild.isAttached());
+
+        setParent(child, null);
+        Assert.assertTrue(parent.isAttached());
+        Assert.assertFalse(child.isAttached());
+        Assert.assertFalse(grandChild.isAttached());
+
+        setParent(child, tree.getRootNode());
+        Assert.assertTrue(grandChild.isAttached());
+    }
+
+    @Test
+    public void isEnabled_ancestorStateChanged_descendantsUpdated() {
+        StateNode parent = createParentNode("parent");
+        StateNode child = createParentNode("child");
+        StateNode grandChild = createEmptyNode("grandChild");
+        setParent(grandChild, child);
+        setParent(child, parent);
+
+        parent.setEnabled(false);
+        Assert.assertFalse(child.isEnabled());
+        Assert.assertFalse(grandChild.isEnabled());
+        Assert.assertTrue(grandChild.isEnabledSelf());
+
+        child.setEnabled(false);
+        parent.setEnabled(true);
+        Assert.assertFalse(grandChild.isEnabled());
+
+        child.setEnabled(true);
+        Assert.assertTrue(grandChild.isEnabled());
+
+        parent.setEnabled(false);
+        setParent(child, null);
+        Assert.assertTrue(child.isEnabled());
+        Assert.assertTrue(grandChild.isEnabled());
+    }
+
+    @Test
+    public void isInactive_nodeMovedUnderInactiveParent_descendantsInactive() {
+        StateNode inactiveParent = createTestNode("inactive",
+                ElementChildrenList.class, ElementData.class);
+        inactiveParent.getFeature(ElementData.class).setVisible(false);
+        inactiveParent.updateActiveState();
+        Assert.assertTrue(inactiveParent.isInactive());
+
+        StateNode child = createParentNode("child");
+        StateNode grandChild = createEmptyNode("grandChild");
+        setParent(grandChild, child);
+        Assert.assertFalse(grandChild.isInactive());
+
+        setParent(child, inactiveParent);
+        Assert.assertTrue(child.isInactive());
+        Assert.assertTrue(grandChild.isInactive());
+
+        inactiveParent.getFeature(ElementData.class).setVisible(true);
+        inactiveParent.updateActiveState();
+        Assert.assertFalse(grandChild.isInactive());
+    }
+
     public static StateNode createEmptyNode() {
         return createEmptyNode("Empty node");
     }
@@ -651,6 +723,35 @@ public class StateNodeTest {
                 });
     }
 
+    @Test
+    public void collectChanges_severalFeaturesChanged_collectedInFeatureOrderAndCleared() {
+        StateNode stateNode = createTestNode("Node", ElementPropertyMap.class,
+                ElementClassList.class);
+        TestStateTree tree = new TestStateTree();
+        tree.getRootNode().getFeature(ElementChildrenList.class).add(0,
+                stateNode);
+        stateNode.collectChanges(change -> {
+        });
+
+        stateNode.getFeature(ElementClassList.class).getClassList()
+                .add("foo");
+        stateNode.getFeature(ElementPropertyMap.class).setProperty("bar",
+                "baz");
+
+        List<NodeChange> changes = new ArrayList<>();
+        stateNode.collectChanges(changes::add);
+
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(ElementPropertyMap.class,
+                ((MapPutChange) changes.get(0)).getFeature());
+        Assert.assertEquals(ElementClassList.class,
+                ((ListAddChange<?>) changes.get(1)).getFeature());
+
+        changes.clear();
+        stateNode.collectChanges(changes::add);
+        Assert.assertEquals(0, changes.size());
+    }
+
     @Test
     public void collectChanges_inertElement_inertChangesCollected() {
         StateNode parent = createTestNode("Parent node",
@@ -19,6 +19,7 @@ package com.vaadin.flow.internal;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -291,6 +292,49 @@ public class StateTreeTest {
                 tree.collectDirtyNodes().toArray());
     }
 
+    @Test
+    public void markAsDirty_nodeMarkedAgain_orderOfFirstMarkKept() {
+        StateNode rootNode = tree.getRootNode();
+        StateNode node1 = StateNodeTest.createEmptyNode("node1");
+        StateNode node2 = StateNodeTest.createEmptyNode("node2");
+        StateNodeTest.setParent(node1, rootNode);
+        StateNodeTest.setParent(node2, rootNode);
+
+        tree.collectChanges(change -> {
+        });
+
+        node1.markAsDirty();
+        node2.markAsDirty();
+        node1.markAsDirty();
+
+        Assert.assertArrayEquals(new Object[] { node1, node2 },
+                tree.collectDirtyNodes().toArray());
+    }
+
+    @Test
+    public void markAsDirty_nodeMovedToOtherTreeWhileDirty_dirtyInOtherTree() {
+        StateNode node = StateNodeTest.createEmptyNode();
+        StateNodeTest.setParent(node, tree.getRootNode());
+        Assert.assertTrue(tree.collectDirtyNodes().contains(node));
+
+        node.removeFromTree();
+
+        StateTree anotherTree = new StateTree(new UI().getInternals(),
+                ElementChildrenList.class);
+        StateNodeTest.setParent(node, anotherTree.getRootNode());
+
+        Assert.assertTrue(anotherTree.collectDirtyNodes().contains(node));
+
+        // Collecting the old tree doesn't unmark the node in the other tree
+        tree.collectChanges(change -> {
+        });
+        anotherTree.collectChanges(change -> {
+        });
+        node.markAsDirty();
+        Assert.assertEquals(Collections.singleton(node),
+                anotherTree.collectDirtyNodes());
+    }
+
     @Test
     public void testDetachInChanges() {
         StateNode node1 = tree.getRootNode();
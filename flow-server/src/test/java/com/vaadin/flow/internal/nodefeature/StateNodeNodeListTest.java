@@ -19,6 +19,7 @@ package com.vaadin.flow.internal.nodefeature;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Assert;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateNodeTest;
 import com.vaadin.flow.internal.change.ListAddChange;
+import com.vaadin.flow.internal.change.ListClearChange;
 import com.vaadin.flow.internal.change.ListRemoveChange;
 import com.vaadin.flow.internal.change.NodeChange;
 
@@ -99,6 +101,124 @@ public class StateNodeNodeListTest
                 change.getNewItems());
     }
 
+    @Test
+    public void reverseLargeList_changesReplayToSameOrder() {
+        int count = 10000;
+        List<StateNode> client = addNodes(count);
+
+        for (int i = 0; i < count; i++) {
+            StateNode node = nodeList.remove(count - 1);
+            nodeList.add(i, node);
+        }
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        // Everything but one node is moved
+        Assert.assertTrue(changes.size() <= 2 * (count - 1));
+        applyChanges(client, changes);
+        assertItems(client);
+    }
+
+    @Test
+    public void moveSingleItemInLargeList_minimalChanges() {
+        List<StateNode> client = addNodes(1000);
+
+        // Move the last node to the front in a roundabout way
+        for (int i = 0; i < 200; i++) {
+            nodeList.add(0, nodeList.remove(nodeList.size() - 1));
+            nodeList.add(nodeList.remove(0));
+        }
+        nodeList.add(0, nodeList.remove(nodeList.size() - 1));
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        Assert.assertEquals(2, changes.size());
+        Assert.assertTrue(changes.get(0) instanceof ListRemoveChange<?>);
+        Assert.assertTrue(changes.get(1) instanceof ListAddChange<?>);
+        applyChanges(client, changes);
+        assertItems(client);
+    }
+
+    @Test
+    public void randomChangesToLargeList_changesReplayToSameOrder() {
+        Random random = new Random(42);
+        List<StateNode> client = addNodes(2000);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5000; i++) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || nodeList.size() == 0) {
+                    nodeList.add(random.nextInt(nodeList.size() + 1),
+                            StateNodeTest.createEmptyNode());
+                } else if (operation == 1) {
+                    nodeList.remove(random.nextInt(nodeList.size()));
+                } else {
+                    StateNode node = nodeList
+                            .remove(random.nextInt(nodeList.size()));
+                    nodeList.add(random.nextInt(nodeList.size() + 1), node);
+                }
+            }
+
+            applyChanges(client, collectChanges(nodeList));
+            assertItems(client);
+        }
+    }
+
+    @Test
+    public void clearAndAddToLargeList_clearIsKept() {
+        List<StateNode> client = addNodes(500);
+
+        nodeList.clear();
+        for (int i = 0; i < 300; i++) {
+            nodeList.add(StateNodeTest.createEmptyNode());
+        }
+        for (int i = 0; i < 300; i++) {
+            nodeList.add(StateNodeTest.createEmptyNode());
+            nodeList.remove(0);
+        }
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        Assert.assertTrue(changes.get(0) instanceof ListClearChange<?>);
+        applyChanges(client, changes);
+        assertItems(client);
+    }
+
+    private List<StateNode> addNodes(int count) {
+        List<StateNode> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StateNode node = StateNodeTest.createEmptyNode();
+            nodes.add(node);
+            nodeList.add(node);
+        }
+        collectChanges(nodeList);
+        return nodes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void applyChanges(List<StateNode> client,
+            List<NodeChange> changes) {
+        for (NodeChange change : changes) {
+            if (change instanceof ListClearChange<?>) {
+                client.clear();
+            } else if (change instanceof ListRemoveChange<?> remove) {
+                Assert.assertSame(remove.getRemovedItem(),
+                        client.remove(remove.getIndex()));
+            } else if (change instanceof ListAddChange<?> add) {
+                add.getNewItems().forEach(item -> Assert
+                        .assertTrue(item instanceof StateNode));
+                client.addAll(add.getIndex(),
+                        (List<StateNode>) add.getNewItems());
+            } else {
+                Assert.fail("Unexpected change " + change);
+            }
+        }
+    }
+
+    private void assertItems(List<StateNode> expected) {
+        Assert.assertEquals(expected.size(), nodeList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(expected.get(i), nodeList.get(i));
+        }
+    }
+
     @Test
     public void testAttachDetachChildren() {
         StateNode child = StateNodeTest.createEmptyNode("child");
@@ -16,6 +16,7 @@
 package com.vaadin.flow.router;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1856,6 +1857,8 @@ public class RouterTest extends RoutingTestBase {
         CurrentInstance.clearAll();
         ForwardWithQueryParams.clear();
         RerouteWithQueryParams.clear();
+        AfterNavigationChild.events.clear();
+        AfterNavigationWithinSameParent.events.clear();
     }
 
     @Rule
@@ -3270,6 +3273,48 @@ public class RouterTest extends RoutingTestBase {
                 AfterNavigationWithinSameParent.events.get(0).getClass());
     }
 
+    @Test
+    public void navigateWithinOneParent_navigationMetricsReported()
+            throws InvalidRouteConfigurationException {
+        setNavigationTargets(AfterNavigationChild.class,
+                AfterNavigationWithinSameParent.class, LoneRoute.class);
+        List<NavigationMetricsEvent> events = new ArrayList<>();
+        ui.getSession().getService().addNavigationMetricsListener(events::add);
+
+        router.navigate(ui, new Location("parent/after-navigation-child"),
+                NavigationTrigger.PROGRAMMATIC);
+        router.navigate(ui,
+                new Location("parent/after-navigation-within-same-parent"),
+                NavigationTrigger.PROGRAMMATIC);
+
+        Assert.assertEquals(2, events.size());
+
+        NavigationMetricsEvent first = events.get(0);
+        Assert.assertEquals(AfterNavigationChild.class,
+                first.getNavigationTarget());
+        Assert.assertEquals("parent/after-navigation-child",
+                first.getRouteTemplate());
+        Assert.assertEquals(HttpStatusCode.OK.getCode(),
+                first.getStatusCode());
+        Assert.assertEquals(2, first.getInstantiatedComponentCount());
+        Assert.assertFalse(first.isLayoutReused());
+
+        NavigationMetricsEvent second = events.get(1);
+        Assert.assertEquals(AfterNavigationWithinSameParent.class,
+                second.getNavigationTarget());
+        Assert.assertEquals(1, second.getInstantiatedComponentCount());
+        Assert.assertEquals(1, second.getReusedLayoutCount());
+
+        Assert.assertTrue(second.getPhaseTimes().keySet().containsAll(
+                List.of(NavigationMetricsEvent.Phase.RESOLVE,
+                        NavigationMetricsEvent.Phase.ATTACH)));
+        Duration phaseTotal = second.getPhaseTimes().values().stream()
+                .reduce(Duration.ZERO, Duration::plus);
+        Assert.assertTrue(
+                phaseTotal.compareTo(second.getTotalTime()) <= 0);
+        Assert.assertNull(ui.getInternals().getNavigationMetricsRecorder());
+    }
+
     @Test // #2754
     public void manually_registered_listeners_should_fire_for_every_navigation()
             throws InvalidRouteConfigurationException {
@@ -1044,6 +1044,30 @@ public class NavigationStateRendererTest {
 
     }
 
+    @Test
+    public void hasPreservedChain_onlyUIWithPreservedComponents() {
+        MockVaadinServletService service = createMockServiceWithInstantiator();
+        MockVaadinSession session = new AlwaysLockedVaadinSession(service);
+
+        MockUI preservingUI = new MockUI(session);
+        Component preserved = new PreservedView();
+        preservingUI.add(preserved);
+        MockUI otherUI = new MockUI(session);
+        otherUI.add(new PreservedView());
+
+        Assert.assertFalse(
+                AbstractNavigationStateRenderer.hasPreservedChain(preservingUI));
+
+        AbstractNavigationStateRenderer.setPreservedChain(session, "WINDOW",
+                new Location("preserved"),
+                new ArrayList<>(Collections.singletonList(preserved)));
+
+        Assert.assertTrue(
+                AbstractNavigationStateRenderer.hasPreservedChain(preservingUI));
+        Assert.assertFalse(
+                AbstractNavigationStateRenderer.hasPreservedChain(otherUI));
+    }
+
     @Test
     public void getRouteTarget_usageStatistics() {
         DeploymentConfiguration configuration = Mockito
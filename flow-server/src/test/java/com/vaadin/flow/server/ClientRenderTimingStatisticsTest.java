@@ -0,0 +1,86 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.ClientRenderTimingStatistics.Histogram;
+
+public class ClientRenderTimingStatisticsTest {
+
+    private final UI ui = Mockito.mock(UI.class);
+    private final ClientRenderTimingStatistics statistics = new ClientRenderTimingStatistics();
+
+    @Test
+    public void timingsRecorded_histogramPerRoute() {
+        record("orders", 10);
+        record("orders", 20);
+        record("orders", 3000);
+        record("customers", 100);
+
+        Histogram orders = statistics.getHistogram("orders").get();
+        Assert.assertEquals(3, orders.getCount());
+        Assert.assertEquals(3000, orders.getMax());
+        Assert.assertEquals(1010, orders.getMean(), 0.001);
+        long[] counts = orders.getBucketCounts();
+        Assert.assertEquals(orders.getBucketLimits().length + 1,
+                counts.length);
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertEquals(1, counts[1]);
+
+        Assert.assertEquals(1, statistics.getHistogram("customers").get()
+                .getCount());
+        Assert.assertFalse(statistics.getHistogram("other").isPresent());
+        Assert.assertEquals(2, statistics.getHistograms().size());
+    }
+
+    @Test
+    public void getPercentile_returnsBucketUpperBound() {
+        for (int i = 0; i < 99; i++) {
+            record("orders", 10);
+        }
+        record("orders", 20000);
+
+        Histogram histogram = statistics.getHistogram("orders").get();
+        Assert.assertEquals(16, histogram.getPercentile(50));
+        Assert.assertEquals(16, histogram.getPercentile(99));
+        Assert.assertEquals(20000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void unknownTotalTime_notRecorded() {
+        record("orders", -1);
+
+        Assert.assertFalse(statistics.getHistogram("orders").isPresent());
+    }
+
+    @Test
+    public void reset_timingsRemoved() {
+        record("orders", 10);
+        statistics.reset();
+
+        Assert.assertTrue(statistics.getHistograms().isEmpty());
+    }
+
+    private void record(String route, int totalTime) {
+        statistics.clientRenderTiming(new ClientRenderTimingEvent(ui, route, 1,
+                -1, 1, 1, 1, totalTime));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationMetricsEvent;
+import com.vaadin.flow.router.NavigationMetricsEvent.Phase;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.server.NavigationMetricsStatistics.RouteStatistics;
+
+public class NavigationMetricsStatisticsTest {
+
+    private static class View extends Component {
+    }
+
+    private final UI ui = Mockito.mock(UI.class);
+    private final NavigationMetricsStatistics statistics = new NavigationMetricsStatistics();
+
+    @Test
+    public void navigationsRecorded_statisticsPerRouteTemplate() {
+        record("orders/:id", 40, 10, 2, 0);
+        record("orders/:id", 100, 70, 1, 1);
+        record("customers", 5, 1, 2, 0);
+
+        RouteStatistics orders = statistics.getStatistics("orders/:id").get();
+        Assert.assertEquals(2, orders.getNavigationCount());
+        Assert.assertEquals(100, orders.getTotalTime().getMax());
+        Assert.assertEquals(70, orders.getPhaseTime(Phase.ATTACH).getMax());
+        Assert.assertEquals(0,
+                orders.getPhaseTime(Phase.BEFORE_LEAVE).getMax());
+        Assert.assertEquals(3, orders.getInstantiatedComponentCount());
+        Assert.assertEquals(1, orders.getLayoutReuseCount());
+
+        Assert.assertEquals(1, statistics.getStatistics("customers").get()
+                .getNavigationCount());
+        Assert.assertEquals(2, statistics.getStatistics().size());
+    }
+
+    @Test
+    public void noRouteTemplate_recordedByViewClassName() {
+        record(null, 10, 5, 1, 0);
+
+        Assert.assertTrue(
+                statistics.getStatistics(View.class.getName()).isPresent());
+    }
+
+    @Test
+    public void noViewShown_notRecorded() {
+        statistics.navigationCompleted(new NavigationMetricsEvent(ui,
+                new Location("orders"), NavigationTrigger.PROGRAMMATIC, null,
+                null, 200, Map.of(), Duration.ofMillis(10), 0, 0));
+
+        Assert.assertTrue(statistics.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void reset_statisticsRemoved() {
+        record("orders", 10, 5, 1, 0);
+        statistics.reset();
+
+        Assert.assertTrue(statistics.getStatistics().isEmpty());
+    }
+
+    private void record(String template, int totalTime, int attachTime,
+            int instantiated, int reusedLayouts) {
+        statistics.navigationCompleted(new NavigationMetricsEvent(ui,
+                new Location("path"), NavigationTrigger.PROGRAMMATIC,
+                View.class, template, 200,
+                Map.of(Phase.ATTACH, Duration.ofMillis(attachTime)),
+                Duration.ofMillis(totalTime), instantiated, reusedLayouts));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.SessionLockStatistics.Category;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+public class SessionLockStatisticsTest {
+
+    private final WrappedSession wrappedSession = createWrappedSession();
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void profilingDisabled_plainLockAndNoStatistics() {
+        VaadinService service = createService(false);
+
+        Lock lock = service.lockSession(wrappedSession);
+        service.unlockSession(wrappedSession, lock);
+
+        Assert.assertSame(ReentrantLock.class, lock.getClass());
+        Assert.assertFalse(service.getSessionLockStatistics().isPresent());
+    }
+
+    @Test
+    public void profilingEnabled_outermostHoldRecordedPerCategory() {
+        VaadinService service = createService(true);
+        SessionLockStatistics statistics = service.getSessionLockStatistics()
+                .get();
+
+        Lock lock = service.lockSession(wrappedSession);
+        service.lockSession(wrappedSession);
+        service.unlockSession(wrappedSession, lock);
+        Assert.assertEquals(0,
+                statistics.getHoldTime(Category.ACCESS_TASK).getCount());
+        service.unlockSession(wrappedSession, lock);
+
+        Assert.assertTrue(lock instanceof ProfiledSessionLock);
+        Assert.assertEquals(1,
+                statistics.getWaitTime(Category.ACCESS_TASK).getCount());
+        Assert.assertEquals(1,
+                statistics.getHoldTime(Category.ACCESS_TASK).getCount());
+        Assert.assertEquals(0, statistics.getHoldTime(Category.UIDL).getCount());
+    }
+
+    @Test
+    public void categorySet_lockRecordedInCategory() {
+        VaadinService service = createService(true);
+        SessionLockStatistics statistics = service.getSessionLockStatistics()
+                .get();
+
+        Category previous = SessionLockStatistics
+                .setCurrentCategory(Category.UPLOAD);
+        try {
+            service.unlockSession(wrappedSession,
+                    service.lockSession(wrappedSession));
+        } finally {
+            SessionLockStatistics.setCurrentCategory(previous);
+        }
+
+        Assert.assertNull(previous);
+        Assert.assertEquals(1,
+                statistics.getHoldTime(Category.UPLOAD).getCount());
+        Assert.assertEquals(0,
+                statistics.getHoldTime(Category.ACCESS_TASK).getCount());
+    }
+
+    @Test
+    public void reset_timingsRemoved() {
+        VaadinService service = createService(true);
+        SessionLockStatistics statistics = service.getSessionLockStatistics()
+                .get();
+        service.unlockSession(wrappedSession,
+                service.lockSession(wrappedSession));
+
+        statistics.reset();
+
+        Assert.assertEquals(0,
+                statistics.getHoldTime(Category.ACCESS_TASK).getCount());
+    }
+
+    private static VaadinService createService(boolean profiling) {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_LOCK_PROFILING,
+                String.valueOf(profiling));
+        return new MockVaadinServletService(configuration);
+    }
+
+    private static WrappedSession createWrappedSession() {
+        Map<String, Object> attributes = new HashMap<>();
+        WrappedSession session = Mockito.mock(WrappedSession.class);
+        Mockito.when(session.getId()).thenReturn("session-id");
+        Mockito.when(session.getAttribute(ArgumentMatchers.anyString()))
+                .then(i -> attributes.get(i.getArgument(0, String.class)));
+        Mockito.doAnswer(i -> attributes.put(i.getArgument(0),
+                i.getArgument(1))).when(session).setAttribute(
+                        ArgumentMatchers.anyString(), ArgumentMatchers.any());
+        return session;
+    }
+}
@@ -1115,6 +1115,33 @@ public class SessionRouteRegistryTest {
 
     }
 
+    @Test
+    public void getRegisteredRoutes_eitherRegistryChanges_changesAreReflected() {
+        SessionRouteRegistry sessionRegistry = getRegistry(session);
+        sessionRegistry.setRoute("session", MyRoute.class,
+                Collections.emptyList());
+        Assert.assertEquals(Collections.singletonList("session"),
+                getTemplates(sessionRegistry));
+
+        registry.setRoute("global", Secondary.class, Collections.emptyList());
+        Assert.assertEquals(Arrays.asList("session", "global"),
+                getTemplates(sessionRegistry));
+
+        sessionRegistry.removeRoute("session");
+        Assert.assertEquals(Collections.singletonList("global"),
+                getTemplates(sessionRegistry));
+
+        // Modifying the returned list doesn't affect the registry
+        sessionRegistry.getRegisteredRoutes().clear();
+        Assert.assertEquals(Collections.singletonList("global"),
+                getTemplates(sessionRegistry));
+    }
+
+    private static List<String> getTemplates(RouteRegistry registry) {
+        return registry.getRegisteredRoutes().stream()
+                .map(RouteData::getTemplate).collect(Collectors.toList());
+    }
+
     private <T> T serializeAndDeserialize(T instance) throws Throwable {
         ByteArrayOutputStream bs = new ByteArrayOutputStream();
         ObjectOutputStream out = new ObjectOutputStream(bs);
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.internal.AbstractNavigationStateRenderer;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+public class UISpillTest {
+
+    private static final AtomicInteger detachCount = new AtomicInteger();
+
+    private MockVaadinServletService service;
+    private MockVaadinSession session;
+    private final List<String> measurements = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_UI_SPILL_TIMEOUT, "0");
+        service = new MockVaadinServletService(configuration);
+        service.setMetrics(new VaadinMetrics() {
+            @Override
+            public void uiSpilled(int bytes) {
+                measurements.add("spilled");
+            }
+
+            @Override
+            public void uiRestored(long nanos) {
+                measurements.add("restored");
+            }
+        });
+        session = new MockVaadinSession(service);
+        session.lock();
+        session.setConfiguration(configuration);
+        detachCount.set(0);
+    }
+
+    @After
+    public void tearDown() {
+        session.unlock();
+        service.destroy();
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void spillUI_removedFromSessionAndRestoredOnGetUIById() {
+        UI ui = createUI(new UI());
+        ui.getElement().setAttribute("title", "spilled");
+
+        Assert.assertTrue(session.spillUI(ui));
+        Assert.assertTrue(session.getUIs().isEmpty());
+
+        UI restored = session.getUIById(ui.getUIId());
+        Assert.assertNotSame(ui, restored);
+        Assert.assertSame(session, restored.getSession());
+        Assert.assertEquals("spilled",
+                restored.getElement().getAttribute("title"));
+        Assert.assertSame(restored, session.getUIById(ui.getUIId()));
+        Assert.assertEquals(List.of("spilled", "restored"), measurements);
+    }
+
+    @Test(expected = UIDetachedException.class)
+    public void spillUI_spilledInstanceAccessed_throws() {
+        UI ui = createUI(new UI());
+        ui.addDetachListener(event -> detachCount.incrementAndGet());
+        session.spillUI(ui);
+
+        Assert.assertEquals("Spilling should not detach the UI", 0,
+                detachCount.get());
+        ui.access(() -> {
+        });
+    }
+
+    @Test
+    public void heartbeatSpilledUI_keptAliveWithoutRestoring() {
+        UI ui = createUI(new UI());
+        session.spillUI(ui);
+
+        Assert.assertTrue(session.heartbeatSpilledUI(ui.getUIId()));
+        Assert.assertFalse(session.heartbeatSpilledUI(ui.getUIId() + 1));
+        Assert.assertTrue(session.getUIs().isEmpty());
+
+        session.discardInactiveSpilledUIs(System.currentTimeMillis() - 1000);
+        Assert.assertNotNull(session.getUIById(ui.getUIId()));
+    }
+
+    @Test
+    public void discardInactiveSpilledUIs_noHeartbeat_notRestored() {
+        UI ui = createUI(new UI());
+        session.spillUI(ui);
+
+        session.discardInactiveSpilledUIs(Long.MAX_VALUE);
+
+        Assert.assertNull(session.getUIById(ui.getUIId()));
+        Assert.assertEquals(List.of("spilled"), measurements);
+    }
+
+    @Test
+    public void discardInactiveSpilledUIs_detachListenersRun() {
+        UI ui = createUI(new UI());
+        ui.addDetachListener(event -> {
+            Assert.assertTrue(event.getUI().isClosing());
+            detachCount.incrementAndGet();
+        });
+        session.spillUI(ui);
+
+        session.discardInactiveSpilledUIs(Long.MAX_VALUE);
+
+        Assert.assertEquals(1, detachCount.get());
+        Assert.assertTrue(session.getUIs().isEmpty());
+    }
+
+    @Test
+    public void discardSpilledUIs_detachListenersRun() {
+        UI ui = createUI(new UI());
+        ui.addDetachListener(event -> detachCount.incrementAndGet());
+        session.spillUI(ui);
+
+        session.discardSpilledUIs();
+
+        Assert.assertEquals(1, detachCount.get());
+        Assert.assertNull(session.getUIById(ui.getUIId()));
+    }
+
+    @Test
+    public void spillUI_referencesSessionAttribute_keptInSession() {
+        UI ui = createUI(new UI());
+        ArrayList<String> shared = new ArrayList<>();
+        session.setAttribute("shared", shared);
+        ComponentUtil.setData(ui, "shared", shared);
+
+        Assert.assertFalse(session.spillUI(ui));
+        Assert.assertSame(ui, session.getUIById(ui.getUIId()));
+    }
+
+    @Test
+    public void spillUI_referencesOtherUI_keptInSession() {
+        UI other = createUI(new UI());
+        UI ui = createUI(new UI());
+        ComponentUtil.setData(ui, "other", other);
+
+        Assert.assertFalse(session.spillUI(ui));
+        Assert.assertSame(ui, session.getUIById(ui.getUIId()));
+    }
+
+    @Test
+    public void spillUI_preservedOnRefresh_keptInSession() throws Exception {
+        UI ui = createUI(new UI());
+        Text view = new Text("preserved");
+        ui.add(view);
+        // The chain is stored in a session attribute that is not visible
+        // outside of the router
+        Method setPreservedChain = AbstractNavigationStateRenderer.class
+                .getDeclaredMethod("setPreservedChain", VaadinSession.class,
+                        String.class, Location.class, ArrayList.class);
+        setPreservedChain.setAccessible(true);
+        setPreservedChain.invoke(null, session, "window",
+                new Location("preserved"),
+                new ArrayList<HasElement>(List.of(view)));
+
+        Assert.assertFalse(session.spillUI(ui));
+        Assert.assertSame(ui, session.getUIById(ui.getUIId()));
+        Assert.assertTrue(measurements.isEmpty());
+    }
+
+    @Test
+    public void readSpilledUIs_writtenWithoutSpilledUIs_empty()
+            throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new ObjectOutputStream(bytes).close();
+
+        Assert.assertTrue(VaadinSession
+                .readSpilledUIs(new ObjectInputStream(
+                        new ByteArrayInputStream(bytes.toByteArray())))
+                .isEmpty());
+    }
+
+    @Test
+    public void spillUI_notSerializable_keptInSession() {
+        UI ui = createUI(new UI() {
+            private final Object notSerializable = new Object();
+        });
+
+        Assert.assertFalse(session.spillUI(ui));
+        Assert.assertSame(ui, session.getUIById(ui.getUIId()));
+        Assert.assertTrue(measurements.isEmpty());
+    }
+
+    private UI createUI(UI ui) {
+        ui.getInternals().setSession(session);
+        ui.doInit(Mockito.mock(VaadinRequest.class), session.getNextUIid(),
+                "ROOT");
+        session.addUI(ui);
+        return ui;
+    }
+}
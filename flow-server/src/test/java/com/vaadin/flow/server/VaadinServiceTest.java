@@ -627,6 +627,52 @@ public class VaadinServiceTest {
                 "Original value", CurrentInstance.get(String.class));
     }
 
+    @Test
+    public void metricsSet_pendingAccessTasksAndSessionDestroyReported() {
+        VaadinService service = createService();
+        List<String> measurements = new ArrayList<>();
+        service.setMetrics(new VaadinMetrics() {
+            @Override
+            public void pendingAccessTasks(int depth) {
+                measurements.add("access " + depth);
+            }
+
+            @Override
+            public void sessionDestroyed() {
+                measurements.add("destroyed");
+            }
+        });
+
+        MockVaadinSession session = new MockVaadinSession(service);
+        session.lock();
+        service.accessSession(session, () -> {
+        });
+        service.accessSession(session, () -> {
+        });
+        service.runPendingAccessTasks(session);
+        // Nothing to run
+        service.runPendingAccessTasks(session);
+        session.unlock();
+
+        // Destroying runs the cleanup as an access task of its own
+        service.fireSessionDestroy(session);
+
+        Assert.assertEquals(List.of("access 2", "access 1", "destroyed"),
+                measurements);
+    }
+
+    @Test
+    public void metricsNotSet_noOpMetricsUsed() {
+        VaadinService service = createService();
+        Assert.assertSame(VaadinMetrics.NO_OP, service.getMetrics());
+        Assert.assertFalse(service.getMetrics().isEnabled());
+
+        service.setMetrics(new VaadinMetrics() {
+        });
+        service.setMetrics(null);
+        Assert.assertSame(VaadinMetrics.NO_OP, service.getMetrics());
+    }
+
     @Test
     public void testServiceInitListener_accessApplicationRouteRegistry_registryAvailable() {
 
@@ -434,6 +434,28 @@ public class NavigationAccessControlTest {
 
     }
 
+    @Test
+    public void beforeEnter_checkersInvoked_timingsRecordedPerCheckerType() {
+        mockCheckerResult(checker1, AccessCheckDecision.ALLOW);
+        mockCheckerResult(checker2, AccessCheckDecision.NEUTRAL);
+        mockCheckerResult(checker3, AccessCheckDecision.NEUTRAL);
+        Assert.assertTrue(accessControl.getCheckerTimings().isEmpty());
+
+        checkAccess(false, false);
+
+        Map<Class<? extends NavigationAccessChecker>, NavigationAccessControl.CheckerTiming> timings = accessControl
+                .getCheckerTimings();
+        Assert.assertEquals(1, timings.size());
+        NavigationAccessControl.CheckerTiming timing = timings
+                .get(checker1.getClass());
+        Assert.assertNotNull(timing);
+        Assert.assertEquals(3, timing.getCount());
+        Assert.assertTrue(timing.getMaxTime()
+                .compareTo(timing.getAverageTime()) >= 0);
+        Assert.assertTrue(
+                timing.getTotalTime().compareTo(timing.getMaxTime()) >= 0);
+    }
+
     @Test
     public void beforeEnter_noCheckersConfigured_alwaysPasses() {
         accessControl = new NavigationAccessControl(List.of());
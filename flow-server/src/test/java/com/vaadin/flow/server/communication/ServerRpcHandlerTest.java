@@ -2,27 +2,38 @@ package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.component.ClientRenderTimingEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Text;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.Router;
 import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.RouteRegistry;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.WrappedSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.rpc.RpcInvocationHandler;
 import com.vaadin.flow.server.dau.DAUUtils;
 import com.vaadin.flow.server.dau.DauEnforcementException;
 import com.vaadin.flow.shared.ApplicationConstants;
@@ -253,6 +264,147 @@ public class ServerRpcHandlerTest {
         handler.handleRpc(ui, reader, request);
     }
 
+    @Test
+    public void handleRpc_clientRenderTimings_eventsFired()
+            throws InvalidUIDLSecurityKeyException {
+        Mockito.when(deploymentConfiguration.isClientRenderTiming())
+                .thenReturn(true);
+        Mockito.when(uiInternals.getActiveViewLocation())
+                .thenReturn(new Location("orders"));
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS
+                + "\":[[3,120,4,30,60,110],[4,-1,2,5,8,20]]}";
+
+        serverRpcHandler.handleRpc(ui, msg, request);
+
+        ArgumentCaptor<ClientRenderTimingEvent> captor = ArgumentCaptor
+                .forClass(ClientRenderTimingEvent.class);
+        Mockito.verify(uiInternals, Mockito.times(2))
+                .fireClientRenderTiming(captor.capture());
+        ClientRenderTimingEvent first = captor.getAllValues().get(0);
+        Assert.assertEquals("orders", first.getRoute());
+        Assert.assertEquals(3, first.getSyncId());
+        Assert.assertEquals(120, first.getRoundTripTime());
+        Assert.assertEquals(4, first.getParseTime());
+        Assert.assertEquals(30, first.getChangeProcessingTime());
+        Assert.assertEquals(60, first.getDomUpdateTime());
+        Assert.assertEquals(110, first.getTotalTime());
+        Assert.assertEquals(-1,
+                captor.getAllValues().get(1).getRoundTripTime());
+    }
+
+    @Test
+    public void handleRpc_clientRenderTimingsForRegisteredRoute_routeTemplateUsed()
+            throws InvalidUIDLSecurityKeyException {
+        Mockito.when(deploymentConfiguration.isClientRenderTiming())
+                .thenReturn(true);
+        Mockito.when(uiInternals.getActiveViewLocation())
+                .thenReturn(new Location("orders/42"));
+        Component view = new Text("");
+        Mockito.when(uiInternals.getActiveRouterTargetsChain())
+                .thenReturn(List.of(view));
+        Router router = Mockito.mock(Router.class);
+        RouteRegistry registry = Mockito.mock(RouteRegistry.class);
+        Mockito.when(uiInternals.getRouter()).thenReturn(router);
+        Mockito.when(router.getRegistry()).thenReturn(registry);
+        Mockito.when(registry.getTemplate(Text.class))
+                .thenReturn(Optional.of("orders/:id"));
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS
+                + "\":[[3,120,4,30,60,110]]}";
+
+        serverRpcHandler.handleRpc(ui, msg, request);
+
+        ArgumentCaptor<ClientRenderTimingEvent> captor = ArgumentCaptor
+                .forClass(ClientRenderTimingEvent.class);
+        Mockito.verify(uiInternals).fireClientRenderTiming(captor.capture());
+        Assert.assertEquals("orders/:id", captor.getValue().getRoute());
+    }
+
+    @Test
+    public void handleRpc_malformedClientRenderTimings_ignored()
+            throws InvalidUIDLSecurityKeyException {
+        Mockito.when(deploymentConfiguration.isClientRenderTiming())
+                .thenReturn(true);
+        Mockito.when(uiInternals.getActiveViewLocation())
+                .thenReturn(new Location("orders"));
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS
+                + "\":[[3,120,4],\"foo\",null,[3,\"120\",4,30,60,110],"
+                + "{\"syncId\":3},[4,120,4,30,60,110]]}";
+
+        serverRpcHandler.handleRpc(ui, msg, request);
+
+        ArgumentCaptor<ClientRenderTimingEvent> captor = ArgumentCaptor
+                .forClass(ClientRenderTimingEvent.class);
+        Mockito.verify(uiInternals).fireClientRenderTiming(captor.capture());
+        Assert.assertEquals(4, captor.getValue().getSyncId());
+    }
+
+    @Test
+    public void handleRpc_clientRenderTimingsNotAnArray_ignored()
+            throws InvalidUIDLSecurityKeyException {
+        Mockito.when(deploymentConfiguration.isClientRenderTiming())
+                .thenReturn(true);
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS + "\":\"foo\"}";
+
+        serverRpcHandler.handleRpc(ui, msg, request);
+
+        Mockito.verify(uiInternals, Mockito.never())
+                .fireClientRenderTiming(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRpc_clientRenderTimingListenerThrows_invocationsHandled()
+            throws InvalidUIDLSecurityKeyException {
+        Mockito.when(deploymentConfiguration.isClientRenderTiming())
+                .thenReturn(true);
+        Mockito.when(uiInternals.getActiveViewLocation())
+                .thenReturn(new Location("orders"));
+        Mockito.doThrow(new IllegalStateException("listener failed"))
+                .when(uiInternals)
+                .fireClientRenderTiming(ArgumentMatchers.any());
+        RpcInvocationHandler invocationHandler = Mockito
+                .mock(RpcInvocationHandler.class);
+        Mockito.when(invocationHandler.handle(ArgumentMatchers.any(),
+                ArgumentMatchers.any())).thenReturn(Optional.empty());
+        ServerRpcHandler handler = new ServerRpcHandler() {
+            @Override
+            protected Map<String, RpcInvocationHandler> getInvocationHandlers() {
+                return Map.of("test", invocationHandler);
+            }
+        };
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[{\"type\": \"test\", \"node\": 1}], "
+                + "\"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS
+                + "\":[[3,120,4,30,60,110]]}";
+
+        handler.handleRpc(ui, msg, request);
+
+        Mockito.verify(invocationHandler).handle(ArgumentMatchers.eq(ui),
+                ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRpc_clientRenderTimingsNotEnabled_eventsNotFired()
+            throws InvalidUIDLSecurityKeyException {
+        String msg = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_RENDER_TIMINGS
+                + "\":[[3,120,4,30,60,110]]}";
+
+        serverRpcHandler.handleRpc(ui, msg, request);
+
+        Mockito.verify(uiInternals, Mockito.never())
+                .fireClientRenderTiming(ArgumentMatchers.any());
+    }
+
     private void enableDau() {
         Mockito.when(deploymentConfiguration.isProductionMode())
                 .thenReturn(true);
@@ -7,10 +7,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,7 +24,9 @@ import java.util.Optional;
 import org.apache.commons.fileupload2.jakarta.JakartaServletFileUpload;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -30,6 +36,7 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.ChannelStreamVariable;
 import com.vaadin.flow.server.ErrorHandler;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.MockVaadinServletService;
@@ -49,6 +56,9 @@ import static org.mockito.Mockito.when;
 
 public class StreamReceiverHandlerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private StreamReceiverHandler handler;
     @Mock
     private VaadinResponse response;
@@ -90,6 +100,7 @@ public class StreamReceiverHandlerTest {
 
     private boolean isGetContentLengthLongCalled;
     private String requestCharacterEncoding;
+    private String contentRange;
 
     @Before
     public void setup() throws Exception {
@@ -165,6 +176,9 @@ public class StreamReceiverHandlerTest {
                 if ("content-length".equals(name.toLowerCase())) {
                     return contentLength;
                 }
+                if ("content-range".equals(name.toLowerCase())) {
+                    return contentRange;
+                }
                 return super.getHeader(name);
             }
 
@@ -478,4 +492,99 @@ public class StreamReceiverHandlerTest {
         Mockito.verifyNoInteractions(errorHandler);
     }
 
+    @Test
+    public void doHandleXhrFilePost_channelStreamVariable_dataWrittenToFileChannel()
+            throws IOException {
+        File target = temporaryFolder.newFile();
+        ChannelStreamVariable channelVariable = mockChannelStreamVariable(
+                target);
+
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 6);
+
+        Assert.assertEquals("foobar", Files.readString(target.toPath()));
+        Mockito.verify(channelVariable).streamingStarted(Mockito.any());
+        Mockito.verify(channelVariable).streamingFinished(Mockito.any());
+        Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void doHandleXhrFilePost_channelStreamVariable_chunksAppendedUntilLastChunk()
+            throws IOException {
+        File target = temporaryFolder.newFile();
+        ChannelStreamVariable channelVariable = mockChannelStreamVariable(
+                target);
+
+        inputStream = createInputStream("foo");
+        contentRange = "bytes 0-2/6";
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 3);
+
+        Assert.assertEquals("foo", Files.readString(target.toPath()));
+        Mockito.verify(channelVariable).streamingStarted(Mockito.any());
+        Mockito.verify(channelVariable, Mockito.never())
+                .streamingFinished(Mockito.any());
+        Mockito.verify(response).setHeader("Range", "bytes=0-2");
+
+        inputStream = createInputStream("bar");
+        contentRange = "bytes 3-5/6";
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 3);
+
+        Assert.assertEquals("foobar", Files.readString(target.toPath()));
+        Mockito.verify(channelVariable).streamingStarted(Mockito.any());
+        ArgumentCaptor<StreamVariable.StreamingEndEvent> endEvent = ArgumentCaptor
+                .forClass(StreamVariable.StreamingEndEvent.class);
+        Mockito.verify(channelVariable).streamingFinished(endEvent.capture());
+        Assert.assertEquals(6, endEvent.getValue().getBytesReceived());
+        Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void doHandleXhrFilePost_chunkNotAtCommittedOffset_rangeNotSatisfiable()
+            throws IOException {
+        File target = temporaryFolder.newFile();
+        Files.writeString(target.toPath(), "foo");
+        ChannelStreamVariable channelVariable = mockChannelStreamVariable(
+                target);
+
+        inputStream = createInputStream("ar");
+        contentRange = "bytes 4-5/6";
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 2);
+
+        Mockito.verify(response).setStatus(
+                HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE.getCode());
+        Mockito.verify(response).setHeader("Range", "bytes=0-2");
+        Mockito.verify(channelVariable, Mockito.never())
+                .getChannel(Mockito.anyLong());
+        Assert.assertEquals("foo", Files.readString(target.toPath()));
+    }
+
+    @Test
+    public void doHandleXhrFilePost_malformedContentRange_badRequest()
+            throws IOException {
+        mockChannelStreamVariable(temporaryFolder.newFile());
+
+        contentRange = "bytes */6";
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 6);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.BAD_REQUEST.getCode());
+    }
+
+    private ChannelStreamVariable mockChannelStreamVariable(File target)
+            throws IOException {
+        ChannelStreamVariable channelVariable = mock(
+                ChannelStreamVariable.class);
+        when(channelVariable.getCommittedOffset())
+                .thenAnswer(invocation -> target.length());
+        when(channelVariable.getChannel(Mockito.anyLong()))
+                .thenAnswer(invocation -> FileChannel.open(target.toPath(),
+                        StandardOpenOption.WRITE));
+        when(streamReceiver.getStreamVariable()).thenReturn(channelVariable);
+        return channelVariable;
+    }
+
 }
@@ -48,6 +48,8 @@ import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.internal.nodefeature.ElementAttributeMap;
+import com.vaadin.flow.internal.nodefeature.NodeFeatureRegistry;
 import com.vaadin.flow.router.ParentLayout;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteConfiguration;
@@ -60,6 +62,7 @@ import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.frontend.BundleUtils;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -69,6 +72,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -396,6 +400,77 @@ public class UidlWriterTest {
                 ui.getInternals().isDirty());
     }
 
+    @Test
+    public void createUidl_identicalElementsAttached_attributesSentAsSharedTemplate()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        uidlWriter.createUidl(ui, false);
+
+        Element first = createInput();
+        Element second = createInput();
+        ui.getElement().appendChild(first, second);
+
+        ObjectNode response = uidlWriter.createUidl(ui, false);
+
+        String firstTemplate = getPutTemplateId(response, first);
+        String secondTemplate = getPutTemplateId(response, second);
+        assertNotNull(firstTemplate);
+        assertEquals(firstTemplate, secondTemplate);
+
+        ObjectNode template = (ObjectNode) response.get("constants")
+                .get(firstTemplate);
+        assertEquals("text", template.get("type").textValue());
+        assertEquals("Name", template.get("placeholder").textValue());
+    }
+
+    @Test
+    public void createUidl_elementsWithDifferentAttributesAttached_attributesSentAsPutChanges()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        UidlWriter uidlWriter = new UidlWriter();
+        uidlWriter.createUidl(ui, false);
+
+        Element first = createInput();
+        first.setAttribute("id", "first");
+        Element second = createInput();
+        second.setAttribute("id", "second");
+        ui.getElement().appendChild(first, second);
+
+        ObjectNode response = uidlWriter.createUidl(ui, false);
+
+        assertNull(getPutTemplateId(response, first));
+        assertNull(getPutTemplateId(response, second));
+        assertFalse("Values which are not repeated should not be pooled",
+                response.has("constants"));
+    }
+
+    private static Element createInput() {
+        Element input = new Element("input");
+        input.setAttribute("type", "text");
+        input.setAttribute("placeholder", "Name");
+        return input;
+    }
+
+    private static String getPutTemplateId(ObjectNode response,
+            Element element) {
+        int featureId = NodeFeatureRegistry.getId(ElementAttributeMap.class);
+        ArrayNode changes = (ArrayNode) response.get("changes");
+        for (int i = 0; i < changes.size(); i++) {
+            ObjectNode change = (ObjectNode) changes.get(i);
+            if (change.get(JsonConstants.CHANGE_NODE).intValue() == element
+                    .getNode().getId()
+                    && JsonConstants.CHANGE_TYPE_PUT_TEMPLATE.equals(
+                            change.get(JsonConstants.CHANGE_TYPE).textValue())
+                    && change.get(JsonConstants.CHANGE_FEATURE)
+                            .intValue() == featureId) {
+                return change.get(JsonConstants.CHANGE_PUT_TEMPLATE)
+                        .textValue();
+            }
+        }
+        return null;
+    }
+
     private void assertInlineDependencies(List<ObjectNode> inlineDependencies) {
         assertThat("Should have an inline dependency", inlineDependencies,
                 hasSize(1));
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.MockVaadinSession;
+import com.vaadin.flow.server.communication.AtmospherePushConnection.State;
+
+public class WebSocketPushConnectionTest {
+
+    private MockVaadinSession vaadinSession;
+    private Session session;
+    private List<String> sent = new ArrayList<>();
+    private List<SendHandler> pendingHandlers = new ArrayList<>();
+    private WebSocketPushConnection connection;
+
+    @Before
+    public void setup() throws Exception {
+        UI ui = Mockito.spy(new UI());
+        vaadinSession = new MockVaadinSession();
+        Mockito.when(ui.getSession()).thenReturn(vaadinSession);
+
+        session = Mockito.mock(Session.class);
+        RemoteEndpoint.Async remote = Mockito.mock(RemoteEndpoint.Async.class);
+        Mockito.when(session.getAsyncRemote()).thenReturn(remote);
+        Mockito.doAnswer(i -> {
+            sent.add(i.getArgument(0));
+            pendingHandlers.add(i.getArgument(1));
+            return null;
+        }).when(remote).sendText(ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(SendHandler.class));
+
+        connection = new WebSocketPushConnection(ui);
+        connection.connect(session);
+    }
+
+    @Test
+    public void push_messageIsPrefixedWithLength() throws Exception {
+        vaadinSession.runWithLock(() -> {
+            connection.push();
+            return null;
+        });
+
+        Assert.assertEquals(1, sent.size());
+        String message = sent.get(0);
+        int delimiter = message.indexOf('|');
+        String body = message.substring(delimiter + 1);
+        Assert.assertEquals(String.valueOf(body.length()),
+                message.substring(0, delimiter));
+        Assert.assertTrue(body.startsWith("for(;;);[{"));
+        Assert.assertTrue(body.endsWith("}]"));
+    }
+
+    @Test
+    public void sendMessage_previousMessageNotSent_messagesQueuedInOrder() {
+        connection.sendMessage("first");
+        connection.sendMessage("second");
+        connection.sendMessage("third");
+
+        Assert.assertEquals(List.of("5|first"), sent);
+
+        completeNextSend();
+        Assert.assertEquals(List.of("5|first", "6|second"), sent);
+
+        completeNextSend();
+        completeNextSend();
+        Assert.assertEquals(List.of("5|first", "6|second", "5|third"), sent);
+    }
+
+    @Test
+    public void sendMessage_tooManyQueuedMessages_sessionClosedAndQueueDropped()
+            throws Exception {
+        for (int i = 0; i <= WebSocketPushConnection.MAX_QUEUED_MESSAGES; i++) {
+            connection.sendMessage("message");
+        }
+        Mockito.verify(session, Mockito.never())
+                .close(ArgumentMatchers.any(CloseReason.class));
+
+        connection.sendMessage("overflow");
+        Mockito.verify(session).close(ArgumentMatchers.argThat(reason -> reason
+                .getCloseCode() == CloseReason.CloseCodes.TRY_AGAIN_LATER));
+
+        completeNextSend();
+        Assert.assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void disconnect_sessionClosedAndStateDisconnected()
+            throws Exception {
+        connection.disconnect();
+
+        Mockito.verify(session).close();
+        Assert.assertEquals(State.DISCONNECTED, connection.getState());
+        Assert.assertFalse(connection.isConnected());
+    }
+
+    @Test
+    public void pushWhileDisconnected_pushedOnConnect() throws Exception {
+        connection.disconnect();
+        vaadinSession.runWithLock(() -> {
+            connection.push();
+            return null;
+        });
+        Assert.assertEquals(State.PUSH_PENDING, connection.getState());
+        Assert.assertTrue(sent.isEmpty());
+
+        vaadinSession.runWithLock(() -> {
+            connection.connect(session);
+            return null;
+        });
+        Assert.assertEquals(State.CONNECTED, connection.getState());
+        Assert.assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ObjectOutputStream(baos)
+                .writeObject(new WebSocketPushConnection(new UI()));
+
+        WebSocketPushConnection deserialized = (WebSocketPushConnection) new ObjectInputStream(
+                new ByteArrayInputStream(baos.toByteArray())).readObject();
+
+        Assert.assertEquals(State.DISCONNECTED, deserialized.getState());
+    }
+
+    private void completeNextSend() {
+        SendHandler handler = pendingHandlers.remove(0);
+        handler.onResult(new SendResult());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.communication.WebSocketPushRequest.Handshake;
+
+public class WebSocketPushEndpointTest {
+
+    private static final String SERVLET_NAME = "vaadinServlet";
+
+    private ServletConfig servletConfig;
+    private ServletContext servletContext;
+    private ServerContainer container;
+    private Session session;
+
+    @Before
+    public void setup() {
+        servletContext = Mockito.mock(ServletContext.class);
+        servletConfig = Mockito.mock(ServletConfig.class);
+        Mockito.when(servletConfig.getServletContext())
+                .thenReturn(servletContext);
+        Mockito.when(servletConfig.getServletName()).thenReturn(SERVLET_NAME);
+        container = Mockito.mock(ServerContainer.class);
+
+        session = Mockito.mock(Session.class);
+        Mockito.when(session.getUserProperties()).thenReturn(new HashMap<>());
+    }
+
+    @Test
+    public void deploy_noContainer_notDeployed() throws Exception {
+        Assert.assertFalse(WebSocketPushEndpoint.deploy(servletConfig, null));
+    }
+
+    @Test
+    public void deploy_noPushPath_deployedAtDefaultPushMapping()
+            throws Exception {
+        Assert.assertEquals("/" + Constants.PUSH_MAPPING,
+                deploy(null).getPath());
+    }
+
+    @Test
+    public void deploy_pushPath_deployedAtPushPath() throws Exception {
+        Assert.assertEquals("/app/VAADIN/push",
+                deploy("/app/VAADIN/push").getPath());
+    }
+
+    @Test
+    public void onOpen_handlerAvailable_handshakePassedToHandler()
+            throws Exception {
+        WebSocketPushHandler handler = Mockito
+                .mock(WebSocketPushHandler.class);
+        Mockito.when(servletContext.getAttribute(JSR356WebsocketInitializer
+                .getNativeWebSocketAttributeName(SERVLET_NAME)))
+                .thenReturn(handler);
+        ServerEndpointConfig config = deploy(null);
+        Principal principal = Mockito.mock(Principal.class);
+        HandshakeRequest request = Mockito.mock(HandshakeRequest.class);
+        Mockito.when(request.getParameterMap())
+                .thenReturn(Map.of("v-pushId", List.of("id")));
+        Mockito.when(request.getHeaders())
+                .thenReturn(Map.of("Accept-Language", List.of("fi")));
+        Mockito.when(request.getUserPrincipal()).thenReturn(principal);
+        Mockito.when(request.getRequestURI())
+                .thenReturn(URI.create("/VAADIN/push"));
+        config.getConfigurator().modifyHandshake(config, request,
+                Mockito.mock(HandshakeResponse.class));
+
+        new WebSocketPushEndpoint().onOpen(session, config);
+
+        ArgumentCaptor<Handshake> handshake = ArgumentCaptor
+                .forClass(Handshake.class);
+        Mockito.verify(handler).onOpen(ArgumentMatchers.same(session),
+                handshake.capture());
+        Assert.assertArrayEquals(new String[] { "id" },
+                handshake.getValue().parameters().get("v-pushId"));
+        Assert.assertEquals(List.of("fi"),
+                handshake.getValue().headers().get("accept-language"));
+        Assert.assertSame(principal, handshake.getValue().principal());
+        Assert.assertNull(handshake.getValue().httpSession());
+
+        new WebSocketPushEndpoint().onClose(session,
+                new CloseReason(CloseCodes.NORMAL_CLOSURE, null));
+        Mockito.verify(handler).onClose(session);
+    }
+
+    @Test
+    public void onOpen_handlerNotAvailable_closedWithTryAgainLater()
+            throws Exception {
+        ServerEndpointConfig config = deploy(null);
+        config.getConfigurator().modifyHandshake(config,
+                Mockito.mock(HandshakeRequest.class),
+                Mockito.mock(HandshakeResponse.class));
+
+        new WebSocketPushEndpoint().onOpen(session, config);
+
+        Mockito.verify(session).close(ArgumentMatchers.argThat(
+                reason -> reason.getCloseCode() == CloseCodes.TRY_AGAIN_LATER));
+    }
+
+    @Test
+    public void onClose_notOpened_ignored() {
+        new WebSocketPushEndpoint().onClose(session,
+                new CloseReason(CloseCodes.NORMAL_CLOSURE, null));
+
+        Assert.assertTrue(session.getUserProperties().isEmpty());
+    }
+
+    private ServerEndpointConfig deploy(String pushPath) throws Exception {
+        Mockito.when(servletContext
+                .getAttribute(ServerContainer.class.getName()))
+                .thenReturn(container);
+        Assert.assertTrue(
+                WebSocketPushEndpoint.deploy(servletConfig, pushPath));
+        ArgumentCaptor<ServerEndpointConfig> config = ArgumentCaptor
+                .forClass(ServerEndpointConfig.class);
+        Mockito.verify(container).addEndpoint(config.capture());
+        Assert.assertEquals(WebSocketPushEndpoint.class,
+                config.getValue().getEndpointClass());
+        return config.getValue();
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.Session;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.MockVaadinServletService;
+import com.vaadin.flow.server.MockVaadinSession;
+import com.vaadin.flow.server.SessionExpiredException;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.WebSocketPushRequest.Handshake;
+import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.communication.PushConstants;
+import com.vaadin.flow.shared.communication.PushMode;
+import com.vaadin.flow.shared.ui.Transport;
+
+public class WebSocketPushHandlerTest {
+
+    private MockVaadinSession vaadinSession;
+    private String pushId;
+    private UI ui;
+    private boolean sessionExpired;
+    private WebSocketPushHandler handler;
+
+    private Session session;
+    private RemoteEndpoint.Basic basicRemote;
+    private final List<String> sent = new ArrayList<>();
+    private final Set<MessageHandler> messageHandlers = new HashSet<>();
+
+    @Before
+    public void setup() throws Exception {
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            public VaadinSession findVaadinSession(VaadinRequest request)
+                    throws SessionExpiredException {
+                if (sessionExpired) {
+                    throw new SessionExpiredException();
+                }
+                VaadinSession.setCurrent(vaadinSession);
+                return vaadinSession;
+            }
+
+            @Override
+            public UI findUI(VaadinRequest request) {
+                return ui;
+            }
+        };
+        vaadinSession = new MockVaadinSession(service);
+        ui = new UI();
+        vaadinSession.runWithLock(() -> {
+            ui.getInternals().setSession(vaadinSession);
+            ui.getPushConfiguration().setPushMode(PushMode.AUTOMATIC);
+            pushId = vaadinSession.getPushId();
+            return null;
+        });
+        handler = new WebSocketPushHandler(service);
+
+        session = Mockito.mock(Session.class);
+        Mockito.when(session.getId()).thenReturn("1");
+        Mockito.when(session.isOpen()).thenReturn(true);
+        Mockito.when(session.getMessageHandlers()).thenReturn(messageHandlers);
+        Mockito.doAnswer(i -> messageHandlers.add(i.getArgument(1)))
+                .when(session).addMessageHandler(
+                        ArgumentMatchers.eq(String.class),
+                        ArgumentMatchers.any(MessageHandler.Partial.class));
+
+        basicRemote = Mockito.mock(RemoteEndpoint.Basic.class);
+        Mockito.when(session.getBasicRemote()).thenReturn(basicRemote);
+        RemoteEndpoint.Async asyncRemote = Mockito
+                .mock(RemoteEndpoint.Async.class);
+        Mockito.when(session.getAsyncRemote()).thenReturn(asyncRemote);
+        Mockito.doAnswer(i -> {
+            sent.add(i.getArgument(0));
+            return null;
+        }).when(asyncRemote).sendText(ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(SendHandler.class));
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void onOpen_validPushId_protocolHandshakeSentAndConnected()
+            throws Exception {
+        handler.onOpen(session, handshake(pushId, null));
+
+        String heartbeat = "" + PushConstants.MESSAGE_DELIMITER
+                + WebSocketPushHandler.HEARTBEAT_INTERVAL
+                + PushConstants.MESSAGE_DELIMITER
+                + WebSocketPushHandler.HEARTBEAT_PADDING
+                + PushConstants.MESSAGE_DELIMITER;
+        Mockito.verify(basicRemote).sendText(ArgumentMatchers
+                .argThat(message -> message.endsWith(heartbeat)));
+        Assert.assertTrue(ui.getInternals()
+                .getPushConnection() instanceof WebSocketPushConnection);
+        Assert.assertTrue(ui.getInternals().getPushConnection().isConnected());
+        Mockito.verify(session, Mockito.never())
+                .close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onOpen_invalidPushId_closedWithoutConnecting()
+            throws Exception {
+        handler.onOpen(session, handshake("invalid", null));
+
+        Assert.assertFalse(ui.getInternals().getPushConnection().isConnected());
+        Mockito.verify(session).close(ArgumentMatchers.argThat(
+                reason -> reason.getCloseCode() == CloseCodes.NORMAL_CLOSURE));
+    }
+
+    @Test
+    public void onOpen_sessionExpired_notificationSentAndClosed()
+            throws Exception {
+        sessionExpired = true;
+
+        handler.onOpen(session, handshake(pushId, null));
+
+        Mockito.verify(basicRemote).sendText(ArgumentMatchers
+                .argThat(message -> message.contains("sessionExpired")));
+        Mockito.verify(session).close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onOpen_debugWindowConnection_rejected() throws Exception {
+        Map<String, String[]> parameters = new HashMap<>();
+        parameters.put(ApplicationConstants.DEBUG_WINDOW_CONNECTION,
+                new String[] { "" });
+
+        handler.onOpen(session, new Handshake(parameters, Map.of(), null,
+                null, URI.create("/VAADIN/push")));
+
+        Mockito.verify(session).close(ArgumentMatchers.argThat(
+                reason -> reason.getCloseCode() == CloseCodes.CANNOT_ACCEPT));
+        Mockito.verify(basicRemote, Mockito.never())
+                .sendText(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    public void onOpen_authenticatedUserWithWebsocketTransport_switchedToXhr()
+            throws Exception {
+        vaadinSession.runWithLock(() -> {
+            ui.getPushConfiguration().setTransport(Transport.WEBSOCKET);
+            return null;
+        });
+
+        handler.onOpen(session, handshake(pushId,
+                Mockito.mock(Principal.class)));
+
+        Assert.assertEquals(Transport.WEBSOCKET_XHR,
+                ui.getPushConfiguration().getTransport());
+        Assert.assertEquals(1, sent.size());
+        Assert.assertTrue("The client should be told to use XHR",
+                sent.get(0).contains("alwaysXhrToServer"));
+        Mockito.verify(session, Mockito.never())
+                .close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onOpen_anonymousUserWithWebsocketTransport_transportKept()
+            throws Exception {
+        vaadinSession.runWithLock(() -> {
+            ui.getPushConfiguration().setTransport(Transport.WEBSOCKET);
+            return null;
+        });
+
+        handler.onOpen(session, handshake(pushId, null));
+
+        Assert.assertEquals(Transport.WEBSOCKET,
+                ui.getPushConfiguration().getTransport());
+        Assert.assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void onMessage_heartbeat_ignored() throws Exception {
+        handler.onOpen(session, handshake(pushId, null));
+
+        receiver().onMessage(WebSocketPushHandler.HEARTBEAT_PADDING, true);
+
+        Assert.assertTrue(sent.isEmpty());
+        Mockito.verify(session, Mockito.never())
+                .close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onMessage_invalidLengthPrefix_refreshSentAndClosed()
+            throws Exception {
+        handler.onOpen(session, handshake(pushId, null));
+
+        receiver().onMessage("10|{}", true);
+
+        Mockito.verify(session).close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onMessage_partialMessage_handledWhenComplete()
+            throws Exception {
+        handler.onOpen(session, handshake(pushId, null));
+        String body = "{\"" + ApplicationConstants.CSRF_TOKEN + "\":\""
+                + ui.getCsrfToken() + "\",\""
+                + ApplicationConstants.RPC_INVOCATIONS + "\":[],\""
+                + ApplicationConstants.SERVER_SYNC_ID
+                + "\":0,\"" + ApplicationConstants.CLIENT_TO_SERVER_ID
+                + "\":0}";
+        String message = WebSocketPushConnection.frame(body);
+        int split = message.length() / 2;
+
+        receiver().onMessage(message.substring(0, split), false);
+        Assert.assertTrue(sent.isEmpty());
+        receiver().onMessage(message.substring(split), true);
+
+        Assert.assertEquals("The response should be pushed", 1, sent.size());
+        Mockito.verify(session, Mockito.never())
+                .close(ArgumentMatchers.any(CloseReason.class));
+    }
+
+    @Test
+    public void onClose_connectionLost() throws Exception {
+        handler.onOpen(session, handshake(pushId, null));
+        PushConnection connection = ui.getInternals().getPushConnection();
+        Assert.assertTrue(connection.isConnected());
+
+        handler.onClose(session);
+
+        Assert.assertFalse(connection.isConnected());
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageHandler.Partial<String> receiver() {
+        Assert.assertEquals(1, messageHandlers.size());
+        return (MessageHandler.Partial<String>) messageHandlers.iterator()
+                .next();
+    }
+
+    private static Handshake handshake(String pushId, Principal principal) {
+        Map<String, String[]> parameters = new HashMap<>();
+        parameters.put(ApplicationConstants.PUSH_ID_PARAMETER,
+                new String[] { pushId });
+        return new Handshake(parameters, Map.of(), null, principal,
+                URI.create("/VAADIN/push"));
+    }
+}
@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.server.communication.rpc;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import net.jcip.annotations.NotThreadSafe;
@@ -41,6 +43,7 @@ import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.rpc.PublishedServerEventHandlerRpcHandler.MethodInvoker;
 import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
 import com.vaadin.tests.util.MockUI;
@@ -514,6 +517,43 @@ public class PublishedServerEventHandlerRpcHandlerTest {
         Assert.assertFalse(component.booleanArg);
     }
 
+    @Test
+    public void invokeMethod_invokersResolvedOncePerClass() {
+        PublishedServerEventHandlerRpcHandler.invokers.clear();
+        ComponentWithCompute component = new ComponentWithCompute();
+        PublishedServerEventHandlerRpcHandler.invokeMethod(component,
+                component.getClass(), "method", Json.createArray(), -1);
+
+        Assert.assertTrue(PublishedServerEventHandlerRpcHandler.invokers
+                .contains(ComponentWithCompute.class));
+        Map<String, MethodInvoker> invokers = PublishedServerEventHandlerRpcHandler.invokers
+                .get(ComponentWithCompute.class);
+        Assert.assertTrue(invokers.containsKey("compute"));
+        Assert.assertTrue(
+                invokers.containsKey("methodThatCanBeCalledWhenInert"));
+        Assert.assertFalse(invokers.containsKey("intMethod"));
+    }
+
+    @Test
+    public void methodInvoker_reflectionFallback_sameResultAsMethodHandle()
+            throws Throwable {
+        Method compute = ComponentWithCompute.class
+                .getDeclaredMethod("compute", int.class);
+        ComponentWithCompute component = new ComponentWithCompute();
+
+        for (MethodInvoker invoker : List.of(new MethodInvoker(compute),
+                new MethodInvoker(compute, null))) {
+            Assert.assertEquals(4,
+                    invoker.invoke(component, new Object[] { 16 }));
+            try {
+                invoker.invoke(component, new Object[] { -1 });
+                Assert.fail("Exception should be thrown");
+            } catch (ArithmeticException e) {
+                // The exception of the method is not wrapped
+            }
+        }
+    }
+
     @Test(expected = IllegalStateException.class)
     public void noClientCallableMethodException() {
         ComponentWithNoClientCallableMethod component = new ComponentWithNoClientCallableMethod();
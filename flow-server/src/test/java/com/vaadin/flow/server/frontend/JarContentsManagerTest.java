@@ -20,8 +20,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.jar.JarFile;
@@ -498,6 +502,90 @@ public class JarContentsManagerTest {
                         .collect(Collectors.joining("")));
     }
 
+    @Test
+    public void copyIncludedFilesFromJar_multipleDirectories_sameAsSeparateCopies()
+            throws IOException {
+        File testJar = TestUtils.getTestJar("paper-button-2.0.0.jar");
+        String firstDirectory = "META-INF/resources/webjars/paper-button/2.0.0/.github";
+        String secondDirectory = "META-INF/maven";
+
+        File separateDirectory = testDirectory.newFolder("separate");
+        Set<String> separateFiles = new HashSet<>();
+        separateFiles.addAll(
+                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
+                        testJar, firstDirectory, separateDirectory, "**/*.md"));
+        separateFiles.addAll(
+                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
+                        testJar, secondDirectory, separateDirectory, "**/*"));
+
+        Map<String, String[]> inclusions = new LinkedHashMap<>();
+        inclusions.put(firstDirectory, new String[] { "**/*.md" });
+        inclusions.put(secondDirectory, new String[] { "**/*" });
+        File combinedDirectory = testDirectory.newFolder("combined");
+        Set<String> combinedFiles = jarContentsManager
+                .copyIncludedFilesFromJarTrimmingBasePath(testJar, inclusions,
+                        combinedDirectory);
+
+        assertFalse(combinedFiles.isEmpty());
+        assertEquals(separateFiles, combinedFiles);
+        assertEquals(TestUtils.listFilesRecursively(separateDirectory),
+                TestUtils.listFilesRecursively(combinedDirectory));
+    }
+
+    @Test
+    public void copyFilesFromJar_sameSizeDifferentContent_fileUpdated()
+            throws IOException {
+        File outputDirectory = testDirectory.getRoot();
+        String jarDirectory = "META-INF/resources/webjars/paper-button";
+        File testJar = TestUtils.getTestJar("paper-button-2.0.0.jar");
+        File jsonFile = copyFilesFromJar(outputDirectory, jarDirectory,
+                testJar);
+        byte[] originalContent = Files.readAllBytes(jsonFile.toPath());
+
+        byte[] modifiedContent = originalContent.clone();
+        modifiedContent[0] = (byte) (modifiedContent[0] == 'x' ? 'y' : 'x');
+        Files.write(jsonFile.toPath(), modifiedContent);
+
+        jarContentsManager.copyFilesFromJarTrimmingBasePath(testJar,
+                jarDirectory, outputDirectory);
+
+        Assert.assertArrayEquals(originalContent,
+                Files.readAllBytes(jsonFile.toPath()));
+    }
+
+    @Test
+    public void containsPath_jarReplaced_indexRefreshed() throws IOException {
+        File jar = new File(testDirectory.getRoot(), "replaced.jar");
+        Files.copy(TestUtils.getTestJar("paper-button-2.0.0.jar").toPath(),
+                jar.toPath());
+        String path = "META-INF/resources/webjars/paper-button/";
+        assertTrue(jarContentsManager.containsPath(jar, path));
+
+        Files.copy(TestUtils.getTestJar("test-jar-issue-6241.jar").toPath(),
+                jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(jar.setLastModified(jar.lastModified() + 10000));
+
+        assertFalse(jarContentsManager.containsPath(jar, path));
+    }
+
+    @Test
+    public void containsPath_frontendPath_jarReplaced_indexRefreshed()
+            throws IOException {
+        File jar = new File(testDirectory.getRoot(), "replaced.jar");
+        Files.copy(TestUtils.getTestJar("jar-with-frontend-resources.jar")
+                .toPath(), jar.toPath());
+        String path = "META-INF/resources/frontend/example.ts";
+        assertTrue(jarContentsManager.containsPath(jar, path));
+
+        Files.copy(TestUtils.getTestJar("paper-button-2.0.0.jar").toPath(),
+                jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(jar.setLastModified(jar.lastModified() + 10000));
+
+        assertFalse(jarContentsManager.containsPath(jar, path));
+        assertTrue(jarContentsManager.containsPath(jar,
+                "META-INF/resources/webjars/paper-button/"));
+    }
+
     private File copyFilesFromJar(File outputDirectory, String jarDirectory,
             File testJar) {
         List<String> originalFiles = listFilesInJar(testJar, jarDirectory);
@@ -11,6 +11,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.file.AccumulatorPathVisitor;
 import org.junit.Assert;
@@ -66,6 +69,9 @@ public class NodeTasksExecutionTest {
         options = new MockOptions(finder, null).withBuildDirectory(TARGET)
                 .withFrontendDirectory(temporaryFolder.getRoot());
         options.withProductionMode(false);
+        // Mocked commands declare empty inputs and outputs, so they would be
+        // executed concurrently
+        options.withParallelTasks(false);
 
         nodeTasks = new NodeTasks(options);
         commandsOrder = getCommandOrder(nodeTasks);
@@ -187,6 +193,128 @@ public class NodeTasksExecutionTest {
                 commandsOrder, executionOrder);
     }
 
+    @Test
+    public void nodeTasks_independentTasks_executedConcurrently()
+            throws Exception {
+        options.withParallelTasks(true);
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Boolean> metOther = new CopyOnWriteArrayList<>();
+        NodeTasks spiedNodeTasks = spyWithIndependentOrder();
+        getCommands(spiedNodeTasks).add(
+                new DeclaredTask(Set.of(), Set.of(Path.of("a")), () -> {
+                    latch.countDown();
+                    metOther.add(awaitLatch(latch));
+                }));
+        getCommands(spiedNodeTasks).add(
+                new DeclaredTask(Set.of(), Set.of(Path.of("b")), () -> {
+                    latch.countDown();
+                    metOther.add(awaitLatch(latch));
+                }));
+
+        spiedNodeTasks.execute();
+
+        // Run sequentially, the first task would time out waiting for the
+        // second one to start
+        Assert.assertEquals("Both tasks should run at the same time",
+                List.of(true, true), metOther);
+    }
+
+    @Test
+    public void nodeTasks_overlappingOutputs_executedInDefinedOrder()
+            throws Exception {
+        options.withParallelTasks(true);
+        List<String> result = new CopyOnWriteArrayList<>();
+        NodeTasks spiedNodeTasks = spyWithIndependentOrder();
+        getCommands(spiedNodeTasks).add(new DeclaredTask(Set.of(),
+                Set.of(Path.of("folder")), () -> sleepAndAdd(result, "1")));
+        getCommands(spiedNodeTasks)
+                .add(new DeclaredTask(Set.of(Path.of("folder", "file")),
+                        Set.of(Path.of("other")), () -> result.add("2")));
+        getCommands(spiedNodeTasks)
+                .add(new DeclaredTask(Set.of(), Set.of(Path.of("other")),
+                        () -> result.add("3")));
+
+        spiedNodeTasks.execute();
+
+        Assert.assertEquals(List.of("1", "2", "3"), result);
+    }
+
+    @Test
+    public void nodeTasks_undeclaredTask_waitsForPrecedingTasks()
+            throws Exception {
+        options.withParallelTasks(true);
+        List<String> result = new CopyOnWriteArrayList<>();
+        NodeTasks spiedNodeTasks = spyWithIndependentOrder();
+        getCommands(spiedNodeTasks).add(new DeclaredTask(Set.of(),
+                Set.of(Path.of("a")), () -> sleepAndAdd(result, "1")));
+        getCommands(spiedNodeTasks).add(() -> result.add("2"));
+        getCommands(spiedNodeTasks).add(new DeclaredTask(Set.of(),
+                Set.of(Path.of("b")), () -> result.add("3")));
+
+        spiedNodeTasks.execute();
+
+        Assert.assertEquals(List.of("1", "2", "3"), result);
+    }
+
+    @Test
+    public void nodeTasks_concurrentTaskFails_exceptionRethrown()
+            throws Exception {
+        options.withParallelTasks(true);
+        List<String> result = new CopyOnWriteArrayList<>();
+        NodeTasks spiedNodeTasks = spyWithIndependentOrder();
+        getCommands(spiedNodeTasks).add(new FallibleCommand() {
+            @Override
+            public void execute() throws ExecutionFailedException {
+                throw new ExecutionFailedException("Task failed");
+            }
+
+            @Override
+            public Set<Path> getInputs() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<Path> getOutputs() {
+                return Set.of(Path.of("a"));
+            }
+        });
+        getCommands(spiedNodeTasks).add(new DeclaredTask(Set.of(Path.of("a")),
+                Set.of(), () -> result.add("dependent")));
+        getCommands(spiedNodeTasks).add(new DeclaredTask(Set.of(),
+                Set.of(Path.of("b")), () -> result.add("independent")));
+
+        ExecutionFailedException exception = Assert.assertThrows(
+                ExecutionFailedException.class, spiedNodeTasks::execute);
+
+        Assert.assertEquals("Task failed", exception.getMessage());
+        Assert.assertFalse(result.contains("dependent"));
+    }
+
+    private NodeTasks spyWithIndependentOrder() {
+        NodeTasks spiedNodeTasks = Mockito.spy(new NodeTasks(options));
+        Mockito.doReturn(1).when(spiedNodeTasks)
+                .getIndex(ArgumentMatchers.any());
+        return spiedNodeTasks;
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleepAndAdd(List<String> result, String value) {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        result.add(value);
+    }
+
     @Test
     public void nodeTasksContainsUnlistedCommand_throwsUnknownTaskException() {
         // Assemble the command list with random order
@@ -280,6 +408,34 @@ public class NodeTasksExecutionTest {
         }
     }
 
+    private static class DeclaredTask implements FallibleCommand {
+
+        private final Set<Path> inputs;
+        private final Set<Path> outputs;
+        private final Runnable action;
+
+        DeclaredTask(Set<Path> inputs, Set<Path> outputs, Runnable action) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.action = action;
+        }
+
+        @Override
+        public void execute() throws ExecutionFailedException {
+            action.run();
+        }
+
+        @Override
+        public Set<Path> getInputs() {
+            return inputs;
+        }
+
+        @Override
+        public Set<Path> getOutputs() {
+            return outputs;
+        }
+    }
+
     private class NewTask implements FallibleCommand {
         @Override
         public void execute() throws ExecutionFailedException {
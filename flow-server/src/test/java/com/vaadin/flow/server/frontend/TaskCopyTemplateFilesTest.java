@@ -19,9 +19,12 @@ package com.vaadin.flow.server.frontend;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.jsoup.nodes.Element;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -31,7 +34,9 @@ import org.mockito.Mockito;
 
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.component.template.internal.TemplateMetadataIndex;
 import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.Template;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
@@ -79,6 +84,62 @@ public class TaskCopyTemplateFilesTest {
         executeTaskCopyTemplateFiles("frontend-custom");
     }
 
+    @Test
+    public void litTemplate_templateMetadataIndexWritten() throws Exception {
+        // Use Template to stand in for LitTemplate, which is not available
+        Class clazz = Template.class;
+        Mockito.when(finder
+                .loadClass("com.vaadin.flow.component.littemplate.LitTemplate"))
+                .thenReturn(clazz);
+        Class tagClass = Tag.class;
+        Mockito.when(finder.loadClass(Tag.class.getName()))
+                .thenReturn(tagClass);
+        File frontendDirectory = new File(projectDirectory,
+                FrontendUtils.FRONTEND);
+        frontendDirectory.mkdirs();
+        Files.writeString(
+                new File(frontendDirectory, "my-lit-element-view.js").toPath(),
+                """
+                        class MyLitElementView extends LitElement {
+                          render() {
+                            return html`
+                              <div><vaadin-button id="save" disabled>Save</vaadin-button></div>
+                            `;
+                          }
+                        }
+                        """);
+        Options options = new Options(Mockito.mock(Lookup.class),
+                projectDirectory)
+                .withBuildResultFolders(frontendDirectory,
+                        resourceOutputDirectory)
+                .withFrontendDirectory(frontendDirectory);
+
+        new TaskCopyTemplateFiles(finder, options).execute();
+
+        File indexFile = new File(resourceOutputDirectory,
+                Constants.TEMPLATE_INDEX);
+        Assert.assertTrue("Template index should have been written",
+                indexFile.exists());
+        TemplateMetadataIndex index = TemplateMetadataIndex.fromJson(
+                JacksonUtils.readTree(Files.readString(indexFile.toPath())));
+        Assert.assertEquals(Optional.of("./my-lit-element-view.js"),
+                index.getModulePath(MyLitElementView.class.getName()));
+        Element button = index
+                .createTemplateElement(MyLitElementView.class.getName()).get()
+                .getElementById("save");
+        Assert.assertEquals("vaadin-button", button.tagName());
+        Assert.assertTrue(button.hasAttr("disabled"));
+    }
+
+    @Test
+    public void noLitTemplates_templateMetadataIndexNotWritten()
+            throws Exception {
+        executeTaskCopyTemplateFiles(FrontendUtils.FRONTEND);
+
+        Assert.assertFalse(new File(resourceOutputDirectory,
+                Constants.TEMPLATE_INDEX).exists());
+    }
+
     private void executeTaskCopyTemplateFiles(String frontedDirectoryName)
             throws Exception {
         // prepare frontend resource
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.vaadin.flow.server.streams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.server.DownloadRequest;
+import com.vaadin.flow.server.HttpStatusCode;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinSession;
+
+public class FileDownloadHandlerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File file;
+    private VaadinRequest request;
+    private VaadinResponse response;
+    private ByteArrayOutputStream output;
+
+    @Before
+    public void setUp() throws IOException {
+        file = temporaryFolder.newFile("data.txt");
+        Files.writeString(file.toPath(), "0123456789");
+        request = Mockito.mock(VaadinRequest.class);
+        response = Mockito.mock(VaadinResponse.class);
+        output = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+    }
+
+    @Test
+    public void noRange_wholeFileWritten() {
+        handle();
+
+        Assert.assertEquals("0123456789", written());
+        Mockito.verify(response).setContentLength(10);
+        Mockito.verify(response).setHeader("Accept-Ranges", "bytes");
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void singleRange_partialContentWritten() {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+
+        handle();
+
+        Assert.assertEquals("2345", written());
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.PARTIAL_CONTENT.getCode());
+        Mockito.verify(response).setHeader("Content-Range", "bytes 2-5/10");
+        Mockito.verify(response).setContentLength(4);
+    }
+
+    @Test
+    public void suffixRange_lastBytesWritten() {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=-3");
+
+        handle();
+
+        Assert.assertEquals("789", written());
+        Mockito.verify(response).setHeader("Content-Range", "bytes 7-9/10");
+    }
+
+    @Test
+    public void rangeBeyondFile_notSatisfiable() {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=10-");
+
+        handle();
+
+        Assert.assertEquals("", written());
+        Mockito.verify(response).setStatus(
+                HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE.getCode());
+        Mockito.verify(response).setHeader("Content-Range", "bytes */10");
+    }
+
+    @Test
+    public void multipleRanges_wholeFileWritten() {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=0-1,4-5");
+
+        handle();
+
+        Assert.assertEquals("0123456789", written());
+    }
+
+    @Test
+    public void ifRangeWithOtherETag_wholeFileWritten() {
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+        Mockito.when(request.getHeader("If-Range")).thenReturn("\"other\"");
+
+        handle();
+
+        Assert.assertEquals("0123456789", written());
+    }
+
+    @Test
+    public void ifRangeWithCurrentETag_partialContentWritten()
+            throws IOException {
+        handle();
+        String eTag = captureETag();
+
+        Mockito.reset(response);
+        output.reset();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+        Mockito.when(request.getHeader("If-Range")).thenReturn(eTag);
+        handle();
+
+        Assert.assertEquals("2345", written());
+    }
+
+    @Test
+    public void ifNoneMatchWithCurrentETag_notModified()
+            throws IOException {
+        handle();
+        String eTag = captureETag();
+
+        Mockito.reset(response);
+        output.reset();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+        Mockito.when(request.getHeader("If-None-Match")).thenReturn(eTag);
+        handle();
+
+        Assert.assertEquals("", written());
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+    }
+
+    @Test
+    public void sendfileSupported_largeFileHandedOverToContainer()
+            throws IOException {
+        Files.write(file.toPath(), new byte[64 * 1024]);
+        Mockito.when(request
+                .getAttribute("org.apache.tomcat.sendfile.support"))
+                .thenReturn(Boolean.TRUE);
+
+        handle();
+
+        Assert.assertEquals("", written());
+        Mockito.verify(request).setAttribute(
+                "org.apache.tomcat.sendfile.filename",
+                file.getCanonicalPath());
+        Mockito.verify(request)
+                .setAttribute("org.apache.tomcat.sendfile.start", 0L);
+        Mockito.verify(request).setAttribute("org.apache.tomcat.sendfile.end",
+                64L * 1024);
+        Mockito.verify(response).setContentLength(64 * 1024);
+    }
+
+    private void handle() {
+        new FileDownloadHandler(file).handleDownloadRequest(
+                new DownloadRequest(request, response,
+                        Mockito.mock(VaadinSession.class), file.getName()));
+    }
+
+    private String captureETag() {
+        ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"),
+                eTag.capture());
+        Assert.assertTrue(eTag.getValue().startsWith("\""));
+        return eTag.getValue();
+    }
+
+    private String written() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
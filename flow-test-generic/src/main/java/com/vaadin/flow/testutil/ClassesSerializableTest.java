@@ -98,6 +98,7 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.base\\.devserver\\.util\\.net\\.EphemeralPortRangeDetector",
                 "com\\.vaadin\\.base\\.devserver\\.util\\.net\\.LinuxEphemeralPortRangeDetector",
                 "com\\.vaadin\\.flow\\.data\\.provider\\.InMemoryDataProviderHelpers",
+                "com\\.vaadin\\.flow\\.data\\.provider\\.ReadAheadCache(\\$.*)?",
                 "com\\.vaadin\\.flow\\.di\\.InstantiatorFactory",
                 "com\\.vaadin\\.flow\\.di\\.Lookup(\\$.*)?",
                 "com\\.vaadin\\.flow\\.di\\.ResourceProvider",
@@ -128,7 +129,7 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.internal\\.JacksonCodec",
                 "com\\.vaadin\\.flow\\.internal\\.ReflectionCacheHotswapper",
                 "com\\.vaadin\\.flow\\.internal\\.UsageStatistics(\\$.*)?",
-                "com\\.vaadin\\.flow\\.internal\\.nodefeature\\.NodeFeatureRegistry",
+                "com\\.vaadin\\.flow\\.internal\\.nodefeature\\.NodeFeatureRegistry(\\$.*)?",
                 "com\\.vaadin\\.flow\\.internal\\.nodefeature\\.NodeFeatures",
                 "com\\.vaadin\\.flow\\.internal\\.CustomElementNameValidator",
                 "com\\.vaadin\\.flow\\.router\\.HighlightActions",
@@ -145,6 +146,7 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.server\\.dau\\.FlowDauIntegration",
                 "com\\.vaadin\\.flow\\.server\\.dau\\.FlowDauIntegration\\$TrackingDetails",
                 "com\\.vaadin\\.flow\\.server\\.communication\\.ServerRpcHandler\\$LazyInvocationHandlers",
+                "com\\.vaadin\\.flow\\.server\\.communication\\.rpc\\.PublishedServerEventHandlerRpcHandler\\$MethodInvoker",
                 "com\\.vaadin\\.flow\\.server\\.VaadinServletRequest",
                 "com\\.vaadin\\.flow\\.server\\.VaadinServletResponse",
                 "com\\.vaadin\\.flow\\.server\\.auth\\.NavigationContext",
@@ -154,6 +156,7 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.server\\.startup\\.ApplicationRouteRegistry\\$RouteRegistryServletContextListener",
                 "com\\.vaadin\\.flow\\.server\\.startup\\.ApplicationRouteRegistry\\$OSGiRouteRegistry",
                 "com\\.vaadin\\.flow\\.server\\.startup\\.ApplicationRouteRegistry\\$OSGiDataCollector",
+                "com\\.vaadin\\.flow\\.server\\.auth\\.AccessAnnotationChecker\\$AccessRule",
                 "com\\.vaadin\\.flow\\.server\\.startup\\.ClassLoaderAwareServletContainerInitializer",
                 "com\\.vaadin\\.flow\\.server\\.startup\\.VaadinServletContextStartupInitializer",
                 "com\\.vaadin\\.flow\\.server\\.startup\\.VaadinContextStartupInitializer",
@@ -165,11 +168,16 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.server\\.startup\\.LookupServletContainerInitializer(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.communication.JSR356WebsocketInitializer(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.BootstrapHandler(\\$.*)?",
+                "com\\.vaadin\\.flow\\.server\\.SessionRouteRegistry\\$(RouteLayers|SegmentTree)",
                 "com\\.vaadin\\.flow\\.server\\.InlineTargets",
                 "com\\.vaadin\\.flow\\.server\\.AppShellSettings",
                 "com\\.vaadin\\.flow\\.server\\.communication\\.IndexHtmlResponse",
+                "com\\.vaadin\\.flow\\.server\\.communication\\.UidlWriter\\$PutTemplateCollector",
                 "com\\.vaadin\\.flow\\.server\\.communication\\.PushHandler(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.communication\\.PushRequestHandler(\\$.*)?",
+                "com\\.vaadin\\.flow\\.server\\.communication\\.WebSocketPushEndpoint(\\$.*)?",
+                "com\\.vaadin\\.flow\\.server\\.communication\\.WebSocketPushHandler(\\$.*)?",
+                "com\\.vaadin\\.flow\\.server\\.communication\\.WebSocketPushRequest(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.communication\\.JavaScriptBootstrapHandler(\\$.*)?",
                 "com\\.vaadin\\.flow\\.internal\\.menu\\.MenuRegistry(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.menu\\.MenuConfiguration(\\$.*)?",
@@ -192,6 +200,8 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.AttributeInitializationStrategy",
                 "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.PropertyInitializationStrategy",
                 "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.ElementInitializationStrategy",
+                "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.LitTemplateSourceParser",
+                "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.TemplateMetadataIndex(\\$.*)?",
                 "com\\.vaadin\\.flow\\.component\\.template\\.internal\\.AbstractInjectableElementInitializer",
                 "com\\.vaadin\\.flow\\.dom\\.impl\\.ThemeListImpl\\$ThemeListIterator",
                 "com\\.vaadin\\.flow\\.templatemodel\\.PropertyMapBuilder(\\$.*)?",
@@ -207,6 +217,8 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.templatemodel\\.PropertyFilter",
                 "com\\.vaadin\\.flow\\.internal\\.ReflectTools(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.FutureAccess",
+                "com\\.vaadin\\.flow\\.server\\.UISpillStore",
+                "com\\.vaadin\\.flow\\.server\\.UISpillStore\\$Placeholder(In|Out)putStream",
                 "com\\.vaadin\\.flow\\.internal\\.nodefeature\\.ElementPropertyMap\\$PutResult",
                 "com\\.vaadin\\.flow\\.client\\.osgi\\.OSGiClientStaticResource(\\$.*)?",
                 "com\\.vaadin\\.flow\\.osgi\\.support\\.OsgiVaadinContributor(\\$.*)?",
@@ -225,7 +237,7 @@ public abstract class ClassesSerializableTest extends ClassFinder {
                 "com\\.vaadin\\.flow\\.server\\.frontend\\.scanner\\..*",
                 "com\\.vaadin\\.flow\\.server\\.frontend\\.CssBundler",
                 "com\\.vaadin\\.flow\\.server\\.frontend\\.FrontendTools",
-                "com\\.vaadin\\.flow\\.server\\.frontend\\.JarContentsManager",
+                "com\\.vaadin\\.flow\\.server\\.frontend\\.JarContentsManager(\\$.*)?",
                 "com\\.vaadin\\.flow\\.server\\.frontend\\.VersionsJsonConverter",
                 "com\\.vaadin\\.flow\\.server\\.frontend\\.VersionsJsonFilter",
 
@@ -23,6 +23,14 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.Security;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import nl.martijndwars.webpush.Notification;
 import nl.martijndwars.webpush.PushService;
@@ -55,6 +63,21 @@ import elemental.json.JsonValue;
  */
 public class WebPush {
 
+    /**
+     * The default maximum number of notifications sent at the same time by
+     * {@link #sendNotifications(Collection, WebPushMessage)}.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    /**
+     * The maximum number of times sending a notification is retried by
+     * {@link #sendNotifications(Collection, WebPushMessage, int)}.
+     */
+    public static final int MAX_RETRIES = 3;
+
+    private static final long INITIAL_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
     private PushService pushService;
 
     private String publicKey;
@@ -107,19 +130,7 @@ public class WebPush {
         int statusCode = -1;
         HttpResponse<String> response = null;
         try {
-            Subscription.Keys keys = null;
-            if (subscription.keys() != null) {
-                keys = new Subscription.Keys(subscription.keys().p256dh(),
-                        subscription.keys().auth());
-            }
-            Subscription nativeSubscription = new Subscription(
-                    subscription.endpoint(), keys);
-            Notification notification = Notification.builder()
-                    .subscription(nativeSubscription).payload(message.toJson())
-                    .build();
-            response = pushService.send(notification,
-                    PushService.DEFAULT_ENCODING,
-                    HttpResponse.BodyHandlers.ofString());
+            response = send(subscription, message.toJson());
             statusCode = response.statusCode();
         } catch (Exception e) {
             getLogger().error("Failed to send notification.", e);
@@ -137,6 +148,193 @@ public class WebPush {
         }
     }
 
+    /**
+     * Sends the same Web Push Notification to several clients/browsers
+     * concurrently, using at most {@value #DEFAULT_PARALLELISM} parallel
+     * requests.
+     *
+     * @param subscriptions
+     *            web push subscriptions of the clients
+     * @param message
+     *            notification message containing data to be shown, e.g.
+     *            <code>title</code> and <code>body</code>
+     * @return the outcome of sending
+     * @see #sendNotifications(Collection, WebPushMessage, int)
+     */
+    public WebPushBulkResult sendNotifications(
+            Collection<WebPushSubscription> subscriptions,
+            WebPushMessage message) {
+        return sendNotifications(subscriptions, message, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Sends the same Web Push Notification to several clients/browsers
+     * concurrently.
+     * <p>
+     * The payload is encrypted separately for each subscription, and the
+     * requests are sent from a pool of at most {@code parallelism} threads.
+     * Requests that are rate limited (status code 429), fail on the push
+     * service (5xx) or fail due to a network error are retried up to
+     * {@value #MAX_RETRIES} times with exponential backoff, respecting the
+     * <code>Retry-After</code> header sent by the push service. Subscriptions
+     * which no longer exist (status code 404 or 410) are reported in
+     * {@link WebPushBulkResult#expired()} so that they can be removed from
+     * storage.
+     * <p>
+     * Unlike {@link #sendNotification(WebPushSubscription, WebPushMessage)},
+     * failures are not thrown but reported in the result. The method blocks
+     * until all notifications have been sent.
+     *
+     * @param subscriptions
+     *            web push subscriptions of the clients
+     * @param message
+     *            notification message containing data to be shown, e.g.
+     *            <code>title</code> and <code>body</code>
+     * @param parallelism
+     *            the maximum number of notifications to send at the same time
+     * @return the outcome of sending
+     */
+    public WebPushBulkResult sendNotifications(
+            Collection<WebPushSubscription> subscriptions,
+            WebPushMessage message, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism must be at least 1, was " + parallelism);
+        }
+        if (subscriptions.isEmpty()) {
+            return new WebPushBulkResult(0, 0, List.of(), List.of());
+        }
+        String payload = message.toJson();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, subscriptions.size()), runnable -> {
+                    Thread thread = new Thread(runnable, "webpush-sender-"
+                            + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<CompletableFuture<BulkOutcome>> outcomes = subscriptions
+                    .stream()
+                    .map(subscription -> CompletableFuture.supplyAsync(
+                            () -> sendWithRetry(subscription, payload),
+                            executor))
+                    .toList();
+
+            int sent = 0;
+            int retries = 0;
+            List<WebPushSubscription> expired = new ArrayList<>();
+            List<WebPushSubscription> failed = new ArrayList<>();
+            for (CompletableFuture<BulkOutcome> future : outcomes) {
+                BulkOutcome outcome = future.join();
+                retries += outcome.retries();
+                switch (outcome.status()) {
+                case SENT -> sent++;
+                case EXPIRED -> expired.add(outcome.subscription());
+                case FAILED -> failed.add(outcome.subscription());
+                }
+            }
+            if (!failed.isEmpty()) {
+                getLogger().warn(
+                        "Failed to send web push notification to {} of {} subscriptions",
+                        failed.size(), subscriptions.size());
+            }
+            return new WebPushBulkResult(sent, retries, expired, failed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private enum BulkStatus {
+        SENT, EXPIRED, FAILED
+    }
+
+    private record BulkOutcome(WebPushSubscription subscription,
+            BulkStatus status, int retries) {
+    }
+
+    private BulkOutcome sendWithRetry(WebPushSubscription subscription,
+            String payload) {
+        int attempt = 0;
+        while (true) {
+            int statusCode;
+            long retryAfter = 0;
+            try {
+                HttpResponse<String> response = send(subscription, payload);
+                statusCode = response.statusCode();
+                retryAfter = getRetryAfterMillis(response);
+            } catch (IOException e) {
+                getLogger().debug("Failed to send notification to {}",
+                        subscription.endpoint(), e);
+                // Network errors are retried
+                statusCode = -1;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                getLogger().debug("Failed to send notification to {}",
+                        subscription.endpoint(), e);
+                return new BulkOutcome(subscription, BulkStatus.FAILED,
+                        attempt);
+            }
+
+            if (statusCode == 201) {
+                return new BulkOutcome(subscription, BulkStatus.SENT, attempt);
+            }
+            if (statusCode == 404 || statusCode == 410) {
+                return new BulkOutcome(subscription, BulkStatus.EXPIRED,
+                        attempt);
+            }
+            boolean retryable = statusCode == -1 || statusCode == 429
+                    || statusCode >= 500;
+            if (!retryable || attempt >= MAX_RETRIES) {
+                getLogger().debug(
+                        "Giving up sending notification to {}, last status code {}",
+                        subscription.endpoint(), statusCode);
+                return new BulkOutcome(subscription, BulkStatus.FAILED,
+                        attempt);
+            }
+
+            long backoff = Math.min(INITIAL_BACKOFF_MILLIS << attempt,
+                    MAX_BACKOFF_MILLIS);
+            try {
+                Thread.sleep(Math.min(Math.max(backoff, retryAfter),
+                        MAX_BACKOFF_MILLIS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new BulkOutcome(subscription, BulkStatus.FAILED,
+                        attempt);
+            }
+            attempt++;
+        }
+    }
+
+    private static long getRetryAfterMillis(HttpResponse<?> response) {
+        // Only the delta-seconds form is used by push services
+        return response.headers().firstValue("Retry-After").map(value -> {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }).orElse(0L);
+    }
+
+    private HttpResponse<String> send(WebPushSubscription subscription,
+            String payload) throws Exception {
+        Subscription.Keys keys = null;
+        if (subscription.keys() != null) {
+            keys = new Subscription.Keys(subscription.keys().p256dh(),
+                    subscription.keys().auth());
+        }
+        Subscription nativeSubscription = new Subscription(
+                subscription.endpoint(), keys);
+        Notification notification = Notification.builder()
+                .subscription(nativeSubscription).payload(payload).build();
+        return pushService.send(notification, PushService.DEFAULT_ENCODING,
+                HttpResponse.BodyHandlers.ofString());
+    }
+
     /**
      * Check if there is a web push subscription registered to the serviceWorker
      * on the client.
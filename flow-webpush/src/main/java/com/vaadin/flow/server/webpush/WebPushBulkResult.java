@@ -0,0 +1,59 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.webpush;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The outcome of sending a notification to several subscriptions using
+ * {@link WebPush#sendNotifications(java.util.Collection, WebPushMessage)}.
+ *
+ * @param sent
+ *            the number of notifications accepted by the push services
+ * @param retries
+ *            the number of attempts that were retried because the push
+ *            service was unavailable or rate limited the requests
+ * @param expired
+ *            the subscriptions that no longer exist on the push service, i.e.
+ *            the push service responded with status code 404 or 410. These
+ *            should be removed from storage.
+ * @param failed
+ *            the subscriptions to which sending failed for some other reason,
+ *            including when all retries were used up
+ * @since
+ */
+public record WebPushBulkResult(int sent, int retries,
+        List<WebPushSubscription> expired,
+        List<WebPushSubscription> failed) implements Serializable {
+
+    /**
+     * Creates a new result.
+     */
+    public WebPushBulkResult {
+        expired = List.copyOf(expired);
+        failed = List.copyOf(failed);
+    }
+
+    /**
+     * Gets the total number of subscriptions notifications were sent to.
+     *
+     * @return the number of subscriptions
+     */
+    public int total() {
+        return sent + expired.size() + failed.size();
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.vaadin.flow.server.webpush;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WebPushBulkTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WebPush webPush;
+    private WebPushKeys clientKeys;
+
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        KeyPair vapid = generateKeyPair();
+        webPush = new WebPush(encodePublicKey(vapid),
+                encode(toUnsigned(
+                        ((ECPrivateKey) vapid.getPrivate()).getS())),
+                "mailto:test@example.com");
+
+        byte[] auth = new byte[16];
+        new SecureRandom().nextBytes(auth);
+        clientKeys = new WebPushKeys(encodePublicKey(generateKeyPair()),
+                encode(auth));
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void created_countedAsSent() {
+        WebPushBulkResult result = webPush.sendNotifications(
+                List.of(subscription("created/1"), subscription("created/2")),
+                message());
+
+        Assert.assertEquals(2, result.sent());
+        Assert.assertEquals(0, result.retries());
+        Assert.assertTrue(result.expired().isEmpty());
+        Assert.assertTrue(result.failed().isEmpty());
+    }
+
+    @Test
+    public void notFoundAndGone_reportedAsExpired() {
+        WebPushSubscription notFound = subscription("not-found");
+        WebPushSubscription gone = subscription("gone");
+
+        WebPushBulkResult result = webPush
+                .sendNotifications(List.of(notFound, gone), message());
+
+        Assert.assertEquals(0, result.sent());
+        Assert.assertEquals(List.of(notFound, gone), result.expired());
+        Assert.assertTrue(result.failed().isEmpty());
+        Assert.assertEquals(1, requestCount("not-found"));
+        Assert.assertEquals(1, requestCount("gone"));
+    }
+
+    @Test
+    public void rateLimited_retriedAfterRetryAfter() {
+        long start = System.nanoTime();
+
+        WebPushBulkResult result = webPush.sendNotifications(
+                List.of(subscription("rate-limited")), message());
+
+        Assert.assertEquals(1, result.sent());
+        Assert.assertEquals(1, result.retries());
+        Assert.assertEquals(2, requestCount("rate-limited"));
+        // Retry-After is one second, longer than the initial backoff
+        Assert.assertTrue((System.nanoTime() - start) / 1_000_000 >= 1000);
+    }
+
+    @Test
+    public void serverError_retriedUpToMaxRetries_reportedAsFailed() {
+        WebPushSubscription unavailable = subscription("unavailable");
+
+        WebPushBulkResult result = webPush
+                .sendNotifications(List.of(unavailable), message());
+
+        Assert.assertEquals(0, result.sent());
+        Assert.assertEquals(List.of(unavailable), result.failed());
+        Assert.assertEquals(WebPush.MAX_RETRIES, result.retries());
+        Assert.assertEquals(WebPush.MAX_RETRIES + 1,
+                requestCount("unavailable"));
+    }
+
+    @Test
+    public void clientError_notRetried_reportedAsFailed() {
+        WebPushSubscription badRequest = subscription("bad-request");
+
+        WebPushBulkResult result = webPush
+                .sendNotifications(List.of(badRequest), message());
+
+        Assert.assertEquals(List.of(badRequest), result.failed());
+        Assert.assertEquals(0, result.retries());
+        Assert.assertEquals(1, requestCount("bad-request"));
+    }
+
+    @Test
+    public void parallelism_concurrentRequestsBounded() {
+        List<WebPushSubscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            subscriptions.add(subscription("slow/" + i));
+        }
+
+        WebPushBulkResult result = webPush.sendNotifications(subscriptions,
+                message(), 3);
+
+        Assert.assertEquals(12, result.sent());
+        Assert.assertTrue("Expected at most 3 concurrent requests, got "
+                + maxInFlight.get(), maxInFlight.get() <= 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelismBelowOne_throws() {
+        webPush.sendNotifications(List.of(subscription("created/1")),
+                message(), 0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getPath().substring(1);
+            int count = requestCounts
+                    .computeIfAbsent(path, key -> new AtomicInteger())
+                    .incrementAndGet();
+            int status;
+            if (path.startsWith("created/")) {
+                status = 201;
+            } else if (path.startsWith("slow/")) {
+                Thread.sleep(100);
+                status = 201;
+            } else if (path.equals("not-found")) {
+                status = 404;
+            } else if (path.equals("gone")) {
+                status = 410;
+            } else if (path.equals("rate-limited")) {
+                if (count == 1) {
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                    status = 429;
+                } else {
+                    status = 201;
+                }
+            } else if (path.equals("unavailable")) {
+                status = 503;
+            } else {
+                status = 400;
+            }
+            exchange.sendResponseHeaders(status, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private WebPushSubscription subscription(String path) {
+        InetSocketAddress address = server.getAddress();
+        return new WebPushSubscription("http://"
+                + address.getAddress().getHostAddress() + ":"
+                + address.getPort() + "/" + path, clientKeys);
+    }
+
+    private static WebPushMessage message() {
+        return new WebPushMessage("Title", "Body");
+    }
+
+    private static KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    // Uncompressed point format used by browsers and VAPID
+    private static String encodePublicKey(KeyPair keyPair) {
+        ECPublicKey key = (ECPublicKey) keyPair.getPublic();
+        byte[] point = new byte[65];
+        point[0] = 4;
+        System.arraycopy(toUnsigned(key.getW().getAffineX()), 0, point, 1,
+                32);
+        System.arraycopy(toUnsigned(key.getW().getAffineY()), 0, point, 33,
+                32);
+        return encode(point);
+    }
+
+    private static byte[] toUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, result, 32 - length,
+                length);
+        return result;
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
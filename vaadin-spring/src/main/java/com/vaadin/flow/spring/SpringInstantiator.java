@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.spring;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
@@ -23,12 +25,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.boot.SpringBootVersion;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.SpringVersion;
 import org.springframework.util.ClassUtils;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.di.DefaultInstantiator;
 import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.internal.UsageStatistics;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServiceInitListener;
@@ -45,6 +50,38 @@ public class SpringInstantiator extends DefaultInstantiator {
     private ApplicationContext context;
     private AtomicBoolean loggingEnabled = new AtomicBoolean(true);
 
+    private final Map<Class<?>, BeanResolution> resolutions = new ConcurrentHashMap<>();
+
+    /*
+     * Capture the action in a field to prevent garbage collection, since
+     * clear all actions are stored with weak references.
+     */
+    private final Runnable clearResolutionsAction = resolutions::clear;
+
+    /**
+     * The way a type requested through {@link #getOrCreate(Class)} is
+     * resolved, computed once per type since looking up bean names by type is
+     * expensive in large application contexts.
+     */
+    private enum Strategy {
+        /**
+         * Exactly one bean of the type exists in the context.
+         */
+        BEAN,
+        /**
+         * No bean of the type exists, a new instance is created.
+         */
+        CREATE,
+        /**
+         * Multiple beans of the type exist, a new instance is created and a
+         * hint is added to instantiation failures.
+         */
+        CREATE_WITH_HINT
+    }
+
+    private record BeanResolution(Strategy strategy, String beanName) {
+    }
+
     /**
      * Creates a new spring instantiator instance.
      *
@@ -65,6 +102,17 @@ public class SpringInstantiator extends DefaultInstantiator {
             UsageStatistics.markAsUsed("SpringBoot",
                     SpringBootVersion.getVersion());
         }
+
+        // Bean definitions may change on context refresh (e.g. devtools
+        // reload) and on class hotswap
+        if (context instanceof ConfigurableApplicationContext configurable) {
+            configurable.addApplicationListener(event -> {
+                if (event instanceof ContextRefreshedEvent) {
+                    resolutions.clear();
+                }
+            });
+        }
+        ReflectionCache.addClearAllAction(clearResolutionsAction);
     }
 
     /**
@@ -137,12 +185,17 @@ public class SpringInstantiator extends DefaultInstantiator {
      * "use" a bean but have multiple in the context. So the hint helps them
      * find the problem.</li>
      * </ul>
+     * The outcome of the bean lookup is cached per type and reset when the
+     * application context is refreshed or classes are reloaded.
      */
     @Override
     public <T> T getOrCreate(Class<T> type) {
-        if (context.getBeanNamesForType(type).length == 1) {
-            return context.getBean(type);
-        } else if (context.getBeanNamesForType(type).length > 1) {
+        BeanResolution resolution = resolutions.computeIfAbsent(type,
+                this::resolve);
+        switch (resolution.strategy()) {
+        case BEAN:
+            return context.getBean(resolution.beanName(), type);
+        case CREATE_WITH_HINT:
             try {
                 return context.getAutowireCapableBeanFactory().createBean(type);
             } catch (BeanInstantiationException e) {
@@ -150,12 +203,22 @@ public class SpringInstantiator extends DefaultInstantiator {
                         "[HINT] This could be caused by more than one suitable beans for autowiring in the context.",
                         e);
             }
-        } else {
+        default:
             // If there is no bean, try to instantiate one
             return context.getAutowireCapableBeanFactory().createBean(type);
         }
     }
 
+    private BeanResolution resolve(Class<?> type) {
+        String[] beanNames = context.getBeanNamesForType(type);
+        if (beanNames.length == 1) {
+            return new BeanResolution(Strategy.BEAN, beanNames[0]);
+        } else if (beanNames.length > 1) {
+            return new BeanResolution(Strategy.CREATE_WITH_HINT, null);
+        }
+        return new BeanResolution(Strategy.CREATE, null);
+    }
+
     @Override
     public Class<?> getApplicationClass(Class<?> clazz) {
         return ClassUtils.getUserClass(clazz);
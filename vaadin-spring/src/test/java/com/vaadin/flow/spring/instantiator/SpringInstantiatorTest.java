@@ -29,16 +29,21 @@ import org.atmosphere.cpr.AtmosphereFramework;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -49,6 +54,7 @@ import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.di.ResourceProvider;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.server.ServiceInitEvent;
 import com.vaadin.flow.server.StaticFileHandlerFactory;
 import com.vaadin.flow.server.StaticFileServer;
@@ -321,7 +327,7 @@ public class SpringInstantiatorTest {
         ApplicationContext context = Mockito.mock(ApplicationContext.class);
         Mockito.when(context.getBeanNamesForType(Number.class))
                 .thenReturn(new String[] { "one" });
-        Mockito.when(context.getBean(Number.class)).thenReturn(0);
+        Mockito.when(context.getBean("one", Number.class)).thenReturn(0);
         SpringInstantiator instantiator = new SpringInstantiator(null, context);
 
         Number bean = instantiator.getOrCreate(Number.class);
@@ -329,6 +335,61 @@ public class SpringInstantiatorTest {
         Assert.assertEquals(0, bean);
     }
 
+    @Test
+    public void getOrCreateBean_calledMultipleTimes_beanNamesResolvedOnce() {
+        ApplicationContext context = Mockito.mock(ApplicationContext.class);
+        Mockito.when(context.getBeanNamesForType(Number.class))
+                .thenReturn(new String[] { "one" });
+        Mockito.when(context.getBean("one", Number.class)).thenReturn(0);
+        SpringInstantiator instantiator = new SpringInstantiator(null, context);
+
+        instantiator.getOrCreate(Number.class);
+        instantiator.getOrCreate(Number.class);
+        instantiator.getOrCreate(Number.class);
+
+        Mockito.verify(context, Mockito.times(1))
+                .getBeanNamesForType(Number.class);
+        Mockito.verify(context, Mockito.times(3)).getBean("one", Number.class);
+    }
+
+    @Test
+    public void getOrCreateBean_reflectionCachesCleared_beanNamesResolvedAgain() {
+        ApplicationContext context = Mockito.mock(ApplicationContext.class);
+        Mockito.when(context.getBeanNamesForType(Number.class))
+                .thenReturn(new String[] { "one" });
+        Mockito.when(context.getBean("one", Number.class)).thenReturn(0);
+        SpringInstantiator instantiator = new SpringInstantiator(null, context);
+
+        instantiator.getOrCreate(Number.class);
+        ReflectionCache.clearAll();
+        instantiator.getOrCreate(Number.class);
+
+        Mockito.verify(context, Mockito.times(2))
+                .getBeanNamesForType(Number.class);
+    }
+
+    @Test
+    public void getOrCreateBean_contextRefreshed_beanNamesResolvedAgain() {
+        ConfigurableApplicationContext context = Mockito
+                .mock(ConfigurableApplicationContext.class);
+        Mockito.when(context.getBeanNamesForType(Number.class))
+                .thenReturn(new String[] { "one" });
+        Mockito.when(context.getBean("one", Number.class)).thenReturn(0);
+        SpringInstantiator instantiator = new SpringInstantiator(null, context);
+
+        ArgumentCaptor<ApplicationListener<ApplicationEvent>> listener = ArgumentCaptor
+                .forClass(ApplicationListener.class);
+        Mockito.verify(context).addApplicationListener(listener.capture());
+
+        instantiator.getOrCreate(Number.class);
+        listener.getValue().onApplicationEvent(new ContextRefreshedEvent(
+                Mockito.mock(ApplicationContext.class)));
+        instantiator.getOrCreate(Number.class);
+
+        Mockito.verify(context, Mockito.times(2))
+                .getBeanNamesForType(Number.class);
+    }
+
     @Test
     public void getOrCreateBean_multipleBeansGivenButCanInstantiate_noException() {
         ApplicationContext context = Mockito.mock(ApplicationContext.class,